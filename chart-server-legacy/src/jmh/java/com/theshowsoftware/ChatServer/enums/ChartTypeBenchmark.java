@@ -0,0 +1,75 @@
+package com.theshowsoftware.ChatServer.enums;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캔들 경계 계산 벤치마크
+ * - bucketStart(epoch millis) 와 기존 Instant / java.time 기반 계산 비교
+ * - 실행: gradle jmh (결과: build/reports/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChartTypeBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    @Param({"ONE_MINUTE", "ONE_WEEK", "ONE_MONTH"})
+    private ChartType chartType;
+
+    private final long[] timestamps = new long[SAMPLES];
+
+    @Setup
+    public void setUp() {
+        long base = 1_700_000_000_000L;
+        for (int i = 0; i < SAMPLES; i++) {
+            timestamps[i] = base + i * 7_919_113L; // 약 3개월 범위에 흩어진 시간
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void bucketStart(Blackhole blackhole) {
+        for (long timestamp : timestamps) {
+            blackhole.consume(chartType.bucketStart(timestamp));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void bucketEnd(Blackhole blackhole) {
+        for (long timestamp : timestamps) {
+            blackhole.consume(chartType.bucketEnd(timestamp));
+        }
+    }
+
+    /**
+     * 비교 기준: Instant / ZonedDateTime 으로 경계 계산
+     */
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void javaTimeTruncate(Blackhole blackhole) {
+        for (long timestamp : timestamps) {
+            Instant time = Instant.ofEpochMilli(timestamp);
+            Instant start = switch (chartType) {
+                case ONE_MONTH -> time.atZone(ZoneOffset.UTC).toLocalDate()
+                        .withDayOfMonth(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+                case ONE_WEEK -> time.atZone(ZoneOffset.UTC).toLocalDate()
+                        .with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY))
+                        .atStartOfDay(ZoneOffset.UTC).toInstant();
+                default -> time.truncatedTo(ChronoUnit.MINUTES);
+            };
+            blackhole.consume(start.toEpochMilli());
+        }
+    }
+}
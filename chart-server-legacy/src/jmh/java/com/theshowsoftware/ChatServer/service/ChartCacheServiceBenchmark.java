@@ -0,0 +1,179 @@
+package com.theshowsoftware.ChatServer.service;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChartCacheService 수집 / 조회 벤치마크
+ * - fillLevel : 측정 전 캐시에 채워 둔 전체 Tick 수 (심볼 수로 나누어 채움, 1ms 간격으로 현재 시간까지)
+ * - symbolCount : 쓰기 / 조회 대상 심볼 수 (호출마다 순환)
+ * - readWrite* 그룹 : 쓰기 / 조회 스레드 비율 (쓰기 1 : 조회 3, 쓰기 3 : 조회 1)
+ * - getTicksParallel : 8 스레드 조회 (getTicks 1 스레드 처리량과 비교해 심볼 간 조회 확장성 확인)
+ * - 할당량은 gc 프로파일러(gc.alloc.rate.norm) 로 함께 기록
+ * - 실행: gradle jmh -PjmhIncludes=ChartCacheServiceBenchmark (결과: build/reports/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ChartCacheServiceBenchmark {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final int CANDLE_COUNT = 200;
+    private static final int TICK_COUNT = 100;
+    private static final long RANGE_MILLIS = 60_000; // 범위 조회 기간 (최근 1분)
+
+    @Param({"1000", "1000000", "20000000"})
+    private int fillLevel;
+
+    @Param({"1", "8"})
+    private int symbolCount;
+
+    private ChartCacheService chartCache;
+    private SymbolType[] symbols;
+
+    // 쓰기 스레드 공용 시계 (심볼별 타임스탬프 오름차순 유지)
+    private final AtomicLong clock = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void fill() {
+        chartCache = new ChartCacheService();
+        symbols = new SymbolType[symbolCount];
+        int next = 0;
+        for (SymbolType symbol : SymbolType.values()) {
+            if (symbol != SymbolType.USDT && next < symbolCount) {
+                symbols[next++] = symbol;
+            }
+        }
+
+        int perSymbol = Math.max(1, fillLevel / symbolCount);
+        long now = Instant.now().toEpochMilli();
+        long start = now - perSymbol;
+        for (SymbolType symbol : symbols) {
+            List<TickPacketDTO> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < perSymbol; i++) {
+                batch.add(tick(start + i, i));
+                if (batch.size() == BATCH_SIZE) {
+                    chartCache.applyOwnedTicks(symbol, batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                chartCache.applyOwnedTicks(symbol, batch);
+            }
+        }
+        clock.set(now);
+    }
+
+    /**
+     * 스레드별 심볼 순환 위치와 쓰기용 묶음
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+        private final List<TickPacketDTO> batch = new ArrayList<>(BATCH_SIZE);
+
+        private SymbolType next(SymbolType[] symbols) {
+            SymbolType symbol = symbols[index];
+            index = index + 1 == symbols.length ? 0 : index + 1;
+            return symbol;
+        }
+    }
+
+    @Benchmark
+    public void addTick(Cursor cursor) {
+        long timestamp = clock.incrementAndGet();
+        chartCache.addTick(cursor.next(symbols), tick(timestamp, timestamp));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void addTicks(Cursor cursor) {
+        long first = clock.getAndAdd(BATCH_SIZE) + 1;
+        cursor.batch.clear();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            cursor.batch.add(tick(first + i, i));
+        }
+        chartCache.addTicks(cursor.next(symbols), cursor.batch);
+    }
+
+    @Benchmark
+    public Object getTicks(Cursor cursor) {
+        return chartCache.getTicks(cursor.next(symbols), TICK_COUNT);
+    }
+
+    /**
+     * 8 스레드 동시 조회 (getTicks 1 스레드 처리량과 비교해 조회 경로의 전역 직렬화 여부 확인)
+     */
+    @Benchmark
+    @Threads(8)
+    public Object getTicksParallel(Cursor cursor) {
+        return getTicks(cursor);
+    }
+
+    @Benchmark
+    public Object getCandles(Cursor cursor) {
+        return chartCache.getCandles(cursor.next(symbols), ChartType.ONE_MINUTE, CANDLE_COUNT);
+    }
+
+    @Benchmark
+    public Object getCandlesBetween(Cursor cursor) {
+        long now = clock.get();
+        return chartCache.getCandlesBetween(cursor.next(symbols), ChartType.ONE_SECOND,
+                Instant.ofEpochMilli(now - RANGE_MILLIS), Instant.ofEpochMilli(now));
+    }
+
+    @Benchmark
+    public Object getTicksBetween(Cursor cursor) {
+        long now = clock.get();
+        return chartCache.getTicksBetween(cursor.next(symbols),
+                Instant.ofEpochMilli(now - RANGE_MILLIS), Instant.ofEpochMilli(now));
+    }
+
+    // ==========================================================
+    //              쓰기 / 조회 스레드 비율별 동시 실행
+    // ==========================================================
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyWriter(Cursor cursor) {
+        addTick(cursor);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public Object readHeavyReader(Cursor cursor) {
+        return getCandles(cursor);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyWriter(Cursor cursor) {
+        addTick(cursor);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public Object writeHeavyReader(Cursor cursor) {
+        return getCandles(cursor);
+    }
+
+    private static TickPacketDTO tick(long timestamp, long seed) {
+        return new TickPacketDTO(BigInteger.valueOf(50_000_000_000_000L + seed % 1_000_000L), 1L + seed % 100, timestamp);
+    }
+}
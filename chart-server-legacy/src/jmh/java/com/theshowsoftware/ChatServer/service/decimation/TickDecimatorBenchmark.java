@@ -0,0 +1,73 @@
+package com.theshowsoftware.ChatServer.service.decimation;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.DecimationMode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.cache.TickRingBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TickDecimator 축약 벤치마크 (전체 보관 범위를 points 개로 축약)
+ * - tickCount : 측정 전 버퍼에 채워 둔 Tick 수 (1ms 간격 랜덤 워크)
+ * - parallel : 조각 단위 병렬 집계 여부
+ * - rangeCopy : 축약 없이 범위 전체를 DTO 로 복사하는 기준값
+ * - 실행: gradle jmh -PjmhIncludes=TickDecimatorBenchmark (결과: build/reports/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class TickDecimatorBenchmark {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Param({"1000000", "10000000"})
+    private int tickCount;
+
+    @Param({"true", "false"})
+    private boolean parallel;
+
+    @Param({"2000"})
+    private int points;
+
+    private TickRingBuffer ticks;
+    private long end;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        ticks = new TickRingBuffer(tickCount);
+        SplittableRandom random = new SplittableRandom(42);
+        long price = 50_000_000_000L;
+        for (int i = 0; i < tickCount; i++) {
+            price += random.nextInt(2_001) - 1_000;
+            ticks.add(START + i, price, 1 + random.nextInt(10));
+        }
+        end = START + tickCount - 1;
+    }
+
+    @Benchmark
+    public DecimationResult lttb() {
+        return TickDecimator.decimate(SymbolType.BTC, ticks, START, end, points, DecimationMode.LTTB, parallel);
+    }
+
+    @Benchmark
+    public DecimationResult minMax() {
+        return TickDecimator.decimate(SymbolType.BTC, ticks, START, end, points, DecimationMode.MIN_MAX, parallel);
+    }
+
+    @Benchmark
+    public DecimationResult ohlc() {
+        return TickDecimator.decimate(SymbolType.BTC, ticks, START, end, points, DecimationMode.OHLC, parallel);
+    }
+
+    @Benchmark
+    public List<TickPacketDTO> rangeCopy() {
+        return ticks.between(START, end);
+    }
+}
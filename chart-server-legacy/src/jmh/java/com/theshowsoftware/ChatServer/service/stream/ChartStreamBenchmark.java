@@ -0,0 +1,182 @@
+package com.theshowsoftware.ChatServer.service.stream;
+
+import com.theshowsoftware.ChatServer.ChatServerApplication;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.PacketSenderService;
+import com.theshowsoftware.ChatServer.utils.BinaryPacketCodec;
+import com.theshowsoftware.ChatServer.utils.PacketManager;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 바이너리 스트림(/udws-raw) 과 STOMP(/udws-native) 비교 벤치마크
+ * - *RoundTrip : 서버에서 발행 → 클라이언트 수신까지의 지연 (서버 / 클라이언트 동일 프로세스)
+ *   rawRoundTrip 은 캐시 반영과 시퀀스 부여(ChartStreamHub.applyTick) 포함
+ * - *Frame : 구독 세션 하나에 보내는 프레임을 만드는 서버 측 비용
+ * - 실행: gradle jmh -PjmhIncludes=ChartStreamBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChartStreamBenchmark {
+
+    private static final SymbolType SYMBOL = SymbolType.ETH;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+        private ConfigurableApplicationContext context;
+        private PacketSenderService packetSenderService;
+        private ChartStreamHandler chartStreamHandler;
+        private ChartStreamHub chartStreamHub;
+        private WebSocketStompClient stompClient;
+        private StompSession stompSession;
+        private RawClient rawClient;
+        private final BlockingQueue<Object> stompFrames = new LinkedBlockingQueue<>();
+        private long sequence;
+
+        @Setup(Level.Trial)
+        public void start() throws Exception {
+            context = SpringApplication.run(ChatServerApplication.class,
+                    "--server.port=0", "--chart.delivery.mode=topic", "--logging.level.root=WARN");
+            packetSenderService = context.getBean(PacketSenderService.class);
+            chartStreamHandler = context.getBean(ChartStreamHandler.class);
+            chartStreamHub = context.getBean(ChartStreamHub.class);
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+            stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+            stompSession = stompClient.connectAsync("ws://localhost:" + port + "/udws-native", new StompSessionHandlerAdapter() {
+            }).get(5, TimeUnit.SECONDS);
+            stompSession.subscribe(PacketSenderService.chartTopic(SYMBOL, ChartType.TICK), new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    stompFrames.add(payload);
+                }
+            });
+
+            rawClient = new RawClient(URI.create("ws://localhost:" + port + "/udws-raw"));
+            rawClient.connectBlocking(5, TimeUnit.SECONDS);
+            rawClient.send(ByteBuffer.allocate(ChartStreamHandler.CONTROL_SIZE)
+                    .put(ChartStreamHandler.OP_SUBSCRIBE)
+                    .putShort((short) SYMBOL.getCode())
+                    .put((byte) ChartType.TICK.getCode())
+                    .array());
+            while (!chartStreamHandler.hasSubscribers(SYMBOL, ChartType.TICK)) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200); // STOMP 구독 반영 대기
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws Exception {
+            rawClient.closeBlocking();
+            stompSession.disconnect();
+            stompClient.stop();
+            context.close();
+        }
+
+        private TickPacketDTO nextTick() {
+            sequence++;
+            return new TickPacketDTO(BigInteger.valueOf(3_000_000_000_000L + sequence), 1L, 1_700_000_000_000L + sequence);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Frames {
+        private final StompEncoder stompEncoder = new StompEncoder();
+        private final TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(3_000_123_456_789L), 7L, 1_700_000_000_000L);
+    }
+
+    @Benchmark
+    public Object stompRoundTrip(Server server) throws InterruptedException {
+        server.packetSenderService.broadcastTick(SYMBOL, server.nextTick());
+        return server.stompFrames.take();
+    }
+
+    @Benchmark
+    public Object rawRoundTrip(Server server) throws InterruptedException {
+        server.chartStreamHub.applyTick(SYMBOL, server.nextTick());
+        return server.rawClient.frames.take();
+    }
+
+    /**
+     * STOMP MESSAGE 프레임 (텍스트 패킷 + STOMP 헤더)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public byte[] stompFrame(Frames frames) {
+        byte[] payload = PacketManager.createTickPacket(SYMBOL, frames.tick).getBytes(StandardCharsets.UTF_8);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(PacketSenderService.chartTopic(SYMBOL, ChartType.TICK));
+        accessor.setSubscriptionId("0");
+        accessor.setMessageId("1");
+        accessor.setContentType(org.springframework.util.MimeTypeUtils.TEXT_PLAIN);
+        accessor.setHeader(SimpMessageHeaderAccessor.MESSAGE_TYPE_HEADER, SimpMessageType.MESSAGE);
+        return frames.stompEncoder.encode(accessor.getMessageHeaders(), payload);
+    }
+
+    /**
+     * 바이너리 스트림 프레임 (BinaryPacketCodec 페이로드 그대로)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public byte[] rawFrame(Frames frames) {
+        return BinaryPacketCodec.encodeTick(SYMBOL, frames.tick);
+    }
+
+    private static class RawClient extends WebSocketClient {
+        private final BlockingQueue<ByteBuffer> frames = new LinkedBlockingQueue<>();
+
+        private RawClient(URI uri) {
+            super(uri);
+        }
+
+        @Override
+        public void onOpen(ServerHandshake handshake) {
+        }
+
+        @Override
+        public void onMessage(String message) {
+        }
+
+        @Override
+        public void onMessage(ByteBuffer bytes) {
+            frames.add(bytes);
+        }
+
+        @Override
+        public void onClose(int code, String reason, boolean remote) {
+        }
+
+        @Override
+        public void onError(Exception ex) {
+        }
+    }
+}
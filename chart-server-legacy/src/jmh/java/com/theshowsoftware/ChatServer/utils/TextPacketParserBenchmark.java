@@ -0,0 +1,59 @@
+package com.theshowsoftware.ChatServer.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 텍스트 패킷 파싱 벤치마크
+ * - 재사용 Record 로 파싱 (CharSequence / ByteBuffer) 과 DTO 를 만드는 PacketManager 비교
+ * - 실행: gradle jmh (결과: build/reports/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextPacketParserBenchmark {
+
+    private static final String TICK_PACKET = "!0x0000;0x000A;0x00;105123456789000;37;1700000000123#";
+    private static final String CANDLE_PACKET =
+            "!0x0000;0x002E;0x08;1633018400000;1633018700000;55000000000;56000000000;57000000000;54000000000;120000;10#";
+
+    private final TextPacketParser.TickRecord tick = new TextPacketParser.TickRecord();
+    private final TextPacketParser.CandleRecord candle = new TextPacketParser.CandleRecord();
+    private final ByteBuffer tickBytes = ByteBuffer.wrap(TICK_PACKET.getBytes(StandardCharsets.US_ASCII));
+
+    @Benchmark
+    public long parseTickRecord() {
+        TextPacketParser.parseTick(TICK_PACKET, tick);
+        return tick.getPrice();
+    }
+
+    @Benchmark
+    public long parseTickRecordFromBytes() {
+        tickBytes.rewind();
+        TextPacketParser.parseTick(tickBytes, tick);
+        return tick.getPrice();
+    }
+
+    @Benchmark
+    public long parseCandleRecord() {
+        TextPacketParser.parseCandle(CANDLE_PACKET, candle);
+        return candle.getHighPrice();
+    }
+
+    @Benchmark
+    public void parseTickDTO(Blackhole blackhole) {
+        blackhole.consume(PacketManager.parseTickPacket(TICK_PACKET));
+    }
+
+    @Benchmark
+    public void parseCandleDTO(Blackhole blackhole) {
+        blackhole.consume(PacketManager.parseCandlePacket(CANDLE_PACKET));
+    }
+}
@@ -0,0 +1,261 @@
+package com.theshowsoftware.ChatServer.loadtest;
+
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.utils.TextPacketParser;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 종단 간 WebSocket 팬아웃 부하 측정 도구
+ * - sessions 개의 STOMP 세션(기본 SockJS, /udws)을 열고 /sub/chart/{심볼}/{차트타입} 을 구독
+ * - 틱 패킷은 TickPacketDTO.timestamp(서버 발행 시간) 와 수신 시간의 차이를 HDR 히스토그램에 기록 (µs)
+ * - 캔들 패킷은 수신 개수만 집계
+ * - report 초마다 구간 p50 / p99 / p99.9 / 최대값, 종료 시 전체 분포를 출력하고 파일로 저장
+ * - 서버는 chart.delivery.mode=topic (또는 both) 로 실행해야 공개 경로로 발행됨
+ * <p>
+ * 옵션 (--이름=값)
+ * - url : 접속 주소 (기본 http://localhost:8080/udws, transport=websocket 이면 ws://localhost:8080/udws-native)
+ * - transport : sockjs | websocket
+ * - sessions : 세션 수 (기본 1000)
+ * - symbols : 구독 심볼 (기본 BTC, 쉼표 구분)
+ * - chart-types : 구독 차트타입 label (기본 TICK,1m, 쉼표 구분)
+ * - ramp : 모든 세션을 여는 데 걸리는 시간 (초, 기본 10)
+ * - duration : 측정 시간 (초, 기본 60, 세션 연결 이후부터)
+ * - report : 구간 보고 주기 (초, 기본 5)
+ * - output : 전체 분포 저장 경로 (기본 build/reports/loadtest/latency.hgrm)
+ */
+@Slf4j
+public class FanOutLoadHarness {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, String> options;
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+    private final LongAdder tickCount = new LongAdder();
+    private final LongAdder candleCount = new LongAdder();
+    private final LongAdder invalidCount = new LongAdder();
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger disconnected = new AtomicInteger();
+    private final ThreadLocal<TextPacketParser.TickRecord> tickRecord = ThreadLocal.withInitial(TextPacketParser.TickRecord::new);
+
+    private FanOutLoadHarness(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        new FanOutLoadHarness(options).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        boolean sockJs = !"websocket".equalsIgnoreCase(option("transport", "sockjs"));
+        String url = option("url", sockJs ? "http://localhost:8080/udws" : "ws://localhost:8080/udws-native");
+        int sessions = Integer.parseInt(option("sessions", "1000"));
+        long rampMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(option("ramp", "10")));
+        long durationMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(option("duration", "60")));
+        long reportMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(option("report", "5")));
+        Path output = Path.of(option("output", "build/reports/loadtest/latency.hgrm"));
+        List<String> destinations = destinations(option("symbols", "BTC"), option("chart-types", "TICK,1m"));
+
+        WebSocketClient webSocketClient = new StandardWebSocketClient();
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                sockJs ? new SockJsClient(List.of(new WebSocketTransport(webSocketClient))) : webSocketClient);
+        stompClient.setMessageConverter(new SimpleMessageConverter()); // 페이로드 byte 배열 그대로 전달 (content-type 무관)
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        log.info("[LoadTest] 시작 (주소: {}, 세션: {}, 구독: {}, 측정: {}초)", url, sessions, destinations, durationMillis / 1000);
+
+        // 세션 연결 (ramp 동안 고르게 분산)
+        List<StompSession> opened = new ArrayList<>(sessions);
+        List<CompletableFuture<StompSession>> pending = new ArrayList<>(sessions);
+        long rampStart = System.nanoTime();
+        for (int i = 0; i < sessions; i++) {
+            long due = rampStart + TimeUnit.MILLISECONDS.toNanos(rampMillis * i / sessions);
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            pending.add(stompClient.connectAsync(url, new SessionHandler(destinations)));
+        }
+        for (CompletableFuture<StompSession> future : pending) {
+            try {
+                opened.add(future.get(30, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                failed.incrementAndGet();
+            }
+        }
+        log.info("[LoadTest] 세션 연결 완료 (성공: {}, 실패: {}, 소요: {}ms)",
+                opened.size(), failed.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - rampStart));
+
+        // 측정 (연결 중 수신분은 버림)
+        recorder.reset();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        long lastTicks = tickCount.sum();
+        Histogram interval = null;
+        while (System.nanoTime() < end) {
+            TimeUnit.MILLISECONDS.sleep(Math.min(reportMillis, TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime()) + 1));
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            long ticks = tickCount.sum();
+            log.info("[LoadTest] {}초 | 세션 {} (끊김 {}) | 틱 {}/s, 캔들 누적 {} | p50 {}ms, p99 {}ms, p99.9 {}ms, 최대 {}ms",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), connected.get() - disconnected.get(), disconnected.get(),
+                    Math.round((ticks - lastTicks) * 1000.0 / reportMillis), candleCount.sum(),
+                    millis(interval, 50), millis(interval, 99), millis(interval, 99.9), millis(interval.getMaxValue()));
+            lastTicks = ticks;
+        }
+
+        for (StompSession session : opened) {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+        stompClient.stop();
+        report(output);
+    }
+
+    private void report(Path output) throws IOException {
+        log.info("[LoadTest] 종료 | 틱 {}, 캔들 {}, 해석 실패 {} | p50 {}ms, p99 {}ms, p99.9 {}ms, 최대 {}ms",
+                total.getTotalCount(), candleCount.sum(), invalidCount.sum(),
+                millis(total, 50), millis(total, 99), millis(total, 99.9), millis(total.getMaxValue()));
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(output))) {
+            total.outputPercentileDistribution(out, MICROS_PER_MILLI); // ms 단위
+        }
+        log.info("[LoadTest] 지연 분포 저장: {}", output.toAbsolutePath());
+    }
+
+    /**
+     * 틱 패킷의 발행 시간과 현재 시간 차이를 기록
+     */
+    private void recordTick(byte[] payload) {
+        Instant now = Instant.now();
+        TextPacketParser.TickRecord record = tickRecord.get();
+        try {
+            TextPacketParser.parseTick(ByteBuffer.wrap(payload), record);
+        } catch (RuntimeException e) {
+            invalidCount.increment();
+            return;
+        }
+        long nowMicros = now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+        recorder.recordValue(Math.max(0, nowMicros - record.getTimestamp() * 1_000L)); // 시계 역행은 0 으로 기록
+        tickCount.increment();
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static List<String> destinations(String symbols, String chartTypes) {
+        Map<String, ChartType> byLabel = new HashMap<>();
+        for (ChartType chartType : ChartType.values()) {
+            byLabel.put(chartType.getLabel(), chartType);
+        }
+        List<String> destinations = new ArrayList<>();
+        for (String symbol : symbols.split(",")) {
+            SymbolType symbolType = SymbolType.valueOf(symbol.trim().toUpperCase());
+            for (String label : chartTypes.split(",")) {
+                ChartType chartType = byLabel.get(label.trim());
+                if (chartType == null) {
+                    throw new IllegalArgumentException("알 수 없는 차트타입입니다: " + label);
+                }
+                destinations.add("/sub/chart/" + symbolType.getSymbol() + "/" + chartType.getLabel());
+            }
+        }
+        return destinations;
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return millis(histogram.getValueAtPercentile(percentile));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / MICROS_PER_MILLI);
+    }
+
+    /**
+     * 세션 연결 / 구독 / 수신 처리
+     */
+    private class SessionHandler extends StompSessionHandlerAdapter {
+        private final List<String> destinations;
+        private volatile boolean up;
+
+        private SessionHandler(List<String> destinations) {
+            this.destinations = destinations;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            connected.incrementAndGet();
+            up = true;
+            for (String destination : destinations) {
+                boolean tick = destination.endsWith("/" + ChartType.TICK.getLabel());
+                session.subscribe(destination, new StompFrameHandler() {
+                    @Override
+                    public Type getPayloadType(StompHeaders headers) {
+                        return byte[].class;
+                    }
+
+                    @Override
+                    public void handleFrame(StompHeaders headers, Object payload) {
+                        if (tick) {
+                            recordTick((byte[]) payload);
+                        } else {
+                            candleCount.increment();
+                        }
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            // 연결 이후 끊긴 세션만 집계 (연결 실패는 connectAsync 결과로 집계)
+            if (up && !session.isConnected()) {
+                up = false;
+                disconnected.incrementAndGet();
+            }
+        }
+    }
+}
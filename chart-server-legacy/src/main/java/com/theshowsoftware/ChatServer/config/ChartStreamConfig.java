@@ -0,0 +1,25 @@
+package com.theshowsoftware.ChatServer.config;
+
+import com.theshowsoftware.ChatServer.service.stream.ChartStreamHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class ChartStreamConfig implements WebSocketConfigurer {
+
+    private final ChartStreamHandler chartStreamHandler;
+
+    /**
+     바이너리 차트 스트림 Endpoint 설정 (STOMP / SockJS 미사용)
+     **/
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chartStreamHandler, "/udws-raw")
+                .setAllowedOriginPatterns("https://*", "http://*");
+    }
+}
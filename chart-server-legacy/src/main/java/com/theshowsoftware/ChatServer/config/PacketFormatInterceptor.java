@@ -0,0 +1,123 @@
+package com.theshowsoftware.ChatServer.config;
+
+import com.theshowsoftware.ChatServer.enums.PacketFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션별 패킷 형식 협상
+ * - CONNECT 의 packet-format 헤더로 형식 요청 (text | binary, 기본 text)
+ * - binary 는 바이너리 프레임을 보낼 수 있는 엔드포인트(SockJS 미사용)에서만 허용, 그 외는 text 로 처리
+ * - binary 세션의 SUBSCRIBE 경로에는 ".bin" 을 붙여 바이너리 전용 경로로 구독
+ */
+@Slf4j
+@Component
+public class PacketFormatInterceptor implements ChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "packet-format";
+    static final String FORMAT_ATTRIBUTE = "packetFormat";
+    static final String BINARY_TRANSPORT_ATTRIBUTE = "binaryTransport";
+
+    // 바이너리 형식으로 협상된 세션 ID
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> negotiate(accessor);
+            case SUBSCRIBE -> {
+                return routeSubscription(message, accessor);
+            }
+            case DISCONNECT -> binarySessions.remove(accessor.getSessionId());
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    /**
+     * 바이너리 형식으로 협상된 세션이 있는지 여부 (없으면 바이너리 인코딩 생략)
+     */
+    public boolean hasBinarySessions() {
+        return !binarySessions.isEmpty();
+    }
+
+    public int getBinarySessionCount() {
+        return binarySessions.size();
+    }
+
+    /**
+     * 바이너리 프레임 전송이 가능한 엔드포인트에 등록하는 핸드셰이크 인터셉터
+     */
+    public HandshakeInterceptor binaryTransportHandshake() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                           WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                attributes.put(BINARY_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
+    }
+
+    private void negotiate(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return;
+        }
+
+        PacketFormat requested = PacketFormat.fromHeader(accessor.getFirstNativeHeader(FORMAT_HEADER));
+        PacketFormat format = requested == PacketFormat.BINARY && Boolean.TRUE.equals(attributes.get(BINARY_TRANSPORT_ATTRIBUTE))
+                ? PacketFormat.BINARY
+                : PacketFormat.TEXT;
+        if (requested != format) {
+            log.warn("[PacketFormat] 바이너리 전송을 지원하지 않는 연결이므로 텍스트 형식으로 처리합니다. (세션: {})", accessor.getSessionId());
+        }
+
+        attributes.put(FORMAT_ATTRIBUTE, format);
+        if (format == PacketFormat.BINARY) {
+            binarySessions.add(accessor.getSessionId());
+        }
+    }
+
+    private Message<?> routeSubscription(Message<?> message, StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        String destination = accessor.getDestination();
+        if (attributes == null || destination == null || attributes.get(FORMAT_ATTRIBUTE) != PacketFormat.BINARY) {
+            return message;
+        }
+
+        String suffix = PacketFormat.BINARY.getDestinationSuffix();
+        if (destination.endsWith(suffix)) {
+            return message;
+        }
+
+        StompHeaderAccessor routed = StompHeaderAccessor.wrap(message);
+        routed.setDestination(destination + suffix);
+        return MessageBuilder.createMessage(message.getPayload(), routed.getMessageHeaders());
+    }
+}
@@ -1,8 +1,10 @@
 package com.theshowsoftware.ChatServer.config;
 
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -11,8 +13,11 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final PacketFormatInterceptor packetFormatInterceptor;
+
     /**
      WebSocket 연결 Endpoint 설정
      **/
@@ -21,6 +26,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/udws")
                 .setAllowedOriginPatterns("https://*", "http://*")
                 .withSockJS();
+
+        // SockJS 없는 순수 WebSocket (바이너리 패킷 형식 협상 가능)
+        registry.addEndpoint("/udws-native")
+                .setAllowedOriginPatterns("https://*", "http://*")
+                .addInterceptors(packetFormatInterceptor.binaryTransportHandshake());
     }
 
     /**
@@ -32,4 +42,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/pub"); // 발행
         registry.setUserDestinationPrefix("/user"); // User Destination Prefix
     }
-}
\ No newline at end of file
+
+    /**
+     클라이언트 수신 채널 설정 (세션별 패킷 형식 협상)
+     **/
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(packetFormatInterceptor);
+    }
+}
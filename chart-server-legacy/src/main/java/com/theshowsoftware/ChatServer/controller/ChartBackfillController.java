@@ -0,0 +1,30 @@
+package com.theshowsoftware.ChatServer.controller;
+
+import com.theshowsoftware.ChatServer.dto.CommonResponseDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.backfill.BackfillResult;
+import com.theshowsoftware.ChatServer.service.backfill.ChartBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과거 Tick 대량 적재 (POST /chart/backfill)
+ * - 요청 본문: 심볼명 → Tick 목록 ({"BTC": [{"price": ..., "quantity": ..., "timestamp": ...}, ...], ...})
+ */
+@RestController
+@RequiredArgsConstructor
+public class ChartBackfillController {
+
+    private final ChartBackfillService chartBackfillService;
+
+    @PostMapping("/chart/backfill")
+    public CommonResponseDTO<BackfillResult> backfill(@RequestBody Map<SymbolType, List<TickPacketDTO>> ticksBySymbol) {
+        return CommonResponseDTO.successHasData(chartBackfillService.backfill(ticksBySymbol), "과거 데이터 적재 성공");
+    }
+}
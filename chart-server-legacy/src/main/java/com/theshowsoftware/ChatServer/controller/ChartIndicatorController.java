@@ -0,0 +1,68 @@
+package com.theshowsoftware.ChatServer.controller;
+
+import com.theshowsoftware.ChatServer.dto.CommonResponseDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.indicator.IndicatorSpec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 기술 지표 등록 / 조회
+ * - 공통 파라미터: symbol, chartType (예: ONE_MINUTE), indicator (예: SMA(20), EMA(12), RSI(14), BOLLINGER(20), VWAP(20))
+ * - POST /chart/indicators : 지표 등록 (보관 중인 캔들로 값을 채운 뒤 이후 증분 계산)
+ * - DELETE /chart/indicators : 지표 등록 해제
+ * - GET /chart/indicators : 최근 count 개 값 (시간순, 마지막은 활성 캔들 미리보기 값일 수 있음)
+ * - GET /chart/indicators/registered : (symbol, chartType) 에 등록된 지표 목록
+ */
+@RestController
+@RequiredArgsConstructor
+public class ChartIndicatorController {
+
+    private final ChartCacheService chartCacheService;
+
+    @PostMapping("/chart/indicators")
+    public CommonResponseDTO<List<IndicatorPacketDTO>> register(@RequestParam SymbolType symbol,
+                                                                @RequestParam ChartType chartType,
+                                                                @RequestParam String indicator) {
+        IndicatorSpec spec = IndicatorSpec.parse(indicator);
+        chartCacheService.registerIndicator(symbol, chartType, spec);
+        return CommonResponseDTO.successHasData(chartCacheService.getIndicators(symbol, chartType, spec, 1), "지표 등록 성공");
+    }
+
+    @DeleteMapping("/chart/indicators")
+    public CommonResponseDTO<Void> unregister(@RequestParam SymbolType symbol,
+                                              @RequestParam ChartType chartType,
+                                              @RequestParam String indicator) {
+        if (!chartCacheService.unregisterIndicator(symbol, chartType, IndicatorSpec.parse(indicator))) {
+            throw new CustomException(ErrorCode.INDICATOR_NOT_REGISTERED);
+        }
+        return CommonResponseDTO.successNoData("지표 등록 해제 성공");
+    }
+
+    @GetMapping("/chart/indicators")
+    public CommonResponseDTO<List<IndicatorPacketDTO>> getIndicators(@RequestParam SymbolType symbol,
+                                                                     @RequestParam ChartType chartType,
+                                                                     @RequestParam String indicator,
+                                                                     @RequestParam(defaultValue = "200") int count) {
+        List<IndicatorPacketDTO> values = chartCacheService.getIndicators(symbol, chartType, IndicatorSpec.parse(indicator), count);
+        return CommonResponseDTO.successHasData(values, "지표 조회 성공");
+    }
+
+    @GetMapping("/chart/indicators/registered")
+    public CommonResponseDTO<List<String>> getRegistered(@RequestParam SymbolType symbol,
+                                                         @RequestParam ChartType chartType) {
+        List<String> specs = chartCacheService.getRegisteredIndicators(symbol, chartType).stream().map(IndicatorSpec::toString).toList();
+        return CommonResponseDTO.successHasData(specs, "등록 지표 조회 성공");
+    }
+}
@@ -0,0 +1,63 @@
+package com.theshowsoftware.ChatServer.controller;
+
+import com.theshowsoftware.ChatServer.dto.CommonResponseDTO;
+import com.theshowsoftware.ChatServer.metrics.ChartMetrics;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.ingest.ChartIngestLoop;
+import com.theshowsoftware.ChatServer.service.journal.TickJournal;
+import com.theshowsoftware.ChatServer.service.snapshot.ChartSnapshotService;
+import com.theshowsoftware.ChatServer.service.stream.ChartStreamHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 차트 서버 운영 지표 조회 (GET /metrics/chart)
+ * - 수집 속도, 잠금 대기 / 보유 시간, 차트타입별 캔들 마감 수, 브로커 전달 시간 (ChartMetrics)
+ * - 큐 적체: 수집 루프 큐(loop 모드), 메시지 채널 실행기 대기 작업 수
+ * - 캐시 메모리 예산 / 사용량, 심볼별 Tick 과 ChartType 별 캔들의 개수 / 바이트
+ * - 스냅샷 기록 / 복원 상태, Tick 저널 상태
+ */
+@RestController
+@RequiredArgsConstructor
+public class ChartMetricsController {
+
+    private final ChartMetrics chartMetrics;
+    private final ChartCacheService chartCacheService;
+    private final ChartStreamHandler chartStreamHandler;
+    private final ChartSnapshotService chartSnapshotService;
+    private final TickJournal tickJournal;
+    private final ObjectProvider<ChartIngestLoop> chartIngestLoop;
+    private final Map<String, Executor> executors;
+
+    @GetMapping("/metrics/chart")
+    public CommonResponseDTO<Map<String, Object>> getMetrics() {
+        Map<String, Object> result = chartMetrics.snapshot();
+        result.put("queues", queues());
+        result.put("rawStreamSessions", chartStreamHandler.getSessionCount());
+        result.put("cache", chartCacheService.getMemoryUsage());
+        result.put("snapshot", chartSnapshotService.getStatus());
+        result.put("journal", tickJournal.getStatus());
+        return CommonResponseDTO.successHasData(result, "차트 지표 조회 성공");
+    }
+
+    private Map<String, Integer> queues() {
+        Map<String, Integer> queues = new TreeMap<>();
+        ChartIngestLoop ingestLoop = chartIngestLoop.getIfAvailable();
+        if (ingestLoop != null) {
+            queues.put("ingestLoop", ingestLoop.pendingCount());
+        }
+        executors.forEach((name, executor) -> {
+            if (executor instanceof ThreadPoolTaskExecutor pool) {
+                queues.put(name, pool.getQueueSize());
+            }
+        });
+        return queues;
+    }
+}
@@ -0,0 +1,49 @@
+package com.theshowsoftware.ChatServer.controller;
+
+import com.theshowsoftware.ChatServer.dto.CommonResponseDTO;
+import com.theshowsoftware.ChatServer.enums.DecimationMode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.cache.TickPage;
+import com.theshowsoftware.ChatServer.service.decimation.DecimationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+/**
+ * Tick 범위 조회
+ * - GET /chart/ticks : 페이지 조회
+ *   - 요청 파라미터: symbol, from / to (epoch millis, 양 끝 포함), limit (최대 ChartCacheService.MAX_TICK_PAGE_SIZE), cursor
+ *   - 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지 조회 (null 이면 범위 끝)
+ * - GET /chart/ticks/decimated : 목표 점 수로 축약한 조회
+ *   - 요청 파라미터: symbol, from / to, points (2 ~ TickDecimator.MAX_POINTS), mode (LTTB / MIN_MAX / OHLC)
+ */
+@RestController
+@RequiredArgsConstructor
+public class ChartTickController {
+
+    private final ChartCacheService chartCacheService;
+
+    @GetMapping("/chart/ticks")
+    public CommonResponseDTO<TickPage> getTicks(@RequestParam SymbolType symbol,
+                                                @RequestParam long from,
+                                                @RequestParam long to,
+                                                @RequestParam(defaultValue = "1000") int limit,
+                                                @RequestParam(required = false) String cursor) {
+        TickPage page = chartCacheService.getTicksPage(symbol, Instant.ofEpochMilli(from), Instant.ofEpochMilli(to), cursor, limit);
+        return CommonResponseDTO.successHasData(page, "Tick 조회 성공");
+    }
+
+    @GetMapping("/chart/ticks/decimated")
+    public CommonResponseDTO<DecimationResult> getDecimatedTicks(@RequestParam SymbolType symbol,
+                                                                 @RequestParam long from,
+                                                                 @RequestParam long to,
+                                                                 @RequestParam(defaultValue = "2000") int points,
+                                                                 @RequestParam(defaultValue = "LTTB") DecimationMode mode) {
+        DecimationResult result = chartCacheService.getDecimatedTicks(symbol, Instant.ofEpochMilli(from), Instant.ofEpochMilli(to), points, mode);
+        return CommonResponseDTO.successHasData(result, "Tick 축약 조회 성공");
+    }
+}
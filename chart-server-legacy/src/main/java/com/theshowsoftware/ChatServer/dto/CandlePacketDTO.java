@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigInteger;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CandlePacketDTO {
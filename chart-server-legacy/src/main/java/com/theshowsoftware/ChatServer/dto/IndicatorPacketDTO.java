@@ -0,0 +1,31 @@
+package com.theshowsoftware.ChatServer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캔들 하나에 대한 기술 지표 값 (바이너리 직렬화는 BinaryPacketCodec 사용)
+ * - 클라이언트는 (지표 유형, 기간, 캔들 시작 시간) 기준 갱신(upsert)으로 적용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IndicatorPacketDTO {
+    private SymbolType symbolType;      // 심볼
+    private ChartType chartType;        // 차트 유형
+    private IndicatorType indicatorType; // 지표 유형
+    private int period;                 // 기간 (캔들 수)
+    private Long candleStartTime;       // 캔들 시작 시간 (epoch millis)
+    private boolean closed;             // 마감된 캔들 값 여부 (false 면 활성 캔들 기준 미리보기)
+    private double value;               // 지표 값 (볼린저 밴드는 중심선)
+    private Double upper;               // 볼린저 밴드 상단 (그 외 null)
+    private Double lower;               // 볼린저 밴드 하단 (그 외 null)
+}
@@ -1,8 +1,11 @@
 package com.theshowsoftware.ChatServer.enums;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 
 @Getter
@@ -27,45 +30,167 @@ public enum ChartType {
     ONE_WEEK("0x11", "1w", 7, ChronoUnit.DAYS), // 1주 봉
     ONE_MONTH("0x12", "1M", 1, ChronoUnit.MONTHS); // 1달 봉
 
+    // ISO 주간(월요일 00:00 UTC) 기준점: 1970-01-01(목) 이전 월요일
+    private static final long ISO_WEEK_ORIGIN_MILLIS = -3 * 86_400_000L;
+
+    // 숫자 코드 → 차트 유형 (바이너리 패킷 디코딩용)
+    private static final ChartType[] BY_CODE;
+
+    static {
+        int maxCode = 0;
+        for (ChartType type : values()) {
+            maxCode = Math.max(maxCode, type.code);
+        }
+        BY_CODE = new ChartType[maxCode + 1];
+        for (ChartType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
     private final String hexCode;
+    private final int code; // hexCode 의 숫자 값
     private final String label; // 캔들 종류
     private final long amount; // 단위 시간 크기
     private final ChronoUnit unit; // 시간 단위
     private final Duration duration;
+    @Getter(AccessLevel.NONE)
+    private final long intervalMillis; // 캔들 간격 (달력 기준 인터벌은 평균 길이)
 
     ChartType(String hexCode, String label, long amount, ChronoUnit unit) {
         this.hexCode = hexCode;
+        this.code = Integer.decode(hexCode);
         this.label = label;
         this.amount = amount;
         this.unit = unit;
-        if (unit != null && unit.isTimeBased()) {
+        // DAYS 는 시간 기반 단위가 아니지만 고정 길이(24시간)로 계산 가능
+        if (unit != null && (unit.isTimeBased() || unit == ChronoUnit.DAYS)) {
             this.duration = Duration.of(amount, unit);
+            this.intervalMillis = duration.toMillis();
         } else {
             this.duration = null;
+            this.intervalMillis = unit.getDuration().multipliedBy(amount).toMillis();
         }
     }
 
+    /**
+     * hexCode 로 차트 유형 조회 ("0x" + 16진수 2자리, 대소문자 무시, 알 수 없는 코드는 null)
+     */
+    public static ChartType fromHexCode(String hexCode) {
+        return fromCode(HexCodes.parse(hexCode, 2));
+    }
+
+    /**
+     * 숫자 코드로 차트 유형 조회 (알 수 없는 코드는 null)
+     */
+    public static ChartType fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+
     /**
      * 캔들 간격을 밀리초 단위로 반환
+     * - 달력 기준 인터벌(1달)은 평균 길이이므로 경계 계산에는 bucketStart / bucketEnd 사용
      */
     public long getIntervalInMillis() {
-        return duration.toMillis();
+        return intervalMillis;
+    }
+
+    /**
+     * 달력 기준(가변 길이) 인터벌 여부
+     */
+    public boolean isCalendarBased() {
+        return unit == ChronoUnit.MONTHS;
+    }
+
+    /**
+     * epoch millis 가 속한 캔들의 시작 시간 (UTC, 객체 생성 없음)
+     * - 1주 봉은 ISO 주간(월요일 시작) 기준
+     * - 1달 봉은 미리 계산한 월 경계 테이블에서 이진 탐색
+     */
+    public long bucketStart(long epochMillis) {
+        if (unit == ChronoUnit.MONTHS) {
+            return MonthBoundaries.bucketStart(epochMillis, (int) amount);
+        }
+        if (this == ONE_WEEK) {
+            return Math.floorDiv(epochMillis - ISO_WEEK_ORIGIN_MILLIS, intervalMillis) * intervalMillis + ISO_WEEK_ORIGIN_MILLIS;
+        }
+        return Math.floorDiv(epochMillis, intervalMillis) * intervalMillis;
+    }
+
+    /**
+     * epoch millis 가 속한 캔들의 종료 시간 (= 다음 캔들 시작 시간)
+     */
+    public long bucketEnd(long epochMillis) {
+        if (unit == ChronoUnit.MONTHS) {
+            return MonthBoundaries.bucketEnd(epochMillis, (int) amount);
+        }
+        return bucketStart(epochMillis) + intervalMillis;
     }
 
     /**
      * 주어진 시간을 캔들 간격으로 자름
      */
     public static Instant truncateTime(Instant time, ChartType chartType) {
-        long epochSeconds = time.getEpochSecond();
-        long intervalSeconds = chartType.getDuration().getSeconds();
-        long truncatedSeconds = (epochSeconds / intervalSeconds) * intervalSeconds;
-        return Instant.ofEpochSecond(truncatedSeconds);
+        return Instant.ofEpochMilli(chartType.bucketStart(time.toEpochMilli()));
     }
 
     /**
      * 주어진 시간의 다음 캔들 시간을 계산
      */
     public Instant getNext(Instant time) {
-        return time.plus(duration);
+        return Instant.ofEpochMilli(bucketEnd(time.toEpochMilli()));
+    }
+
+    /**
+     * 월 시작 시간(UTC) 경계 테이블
+     * - 1970-01 ~ 2199-12 범위는 이진 탐색, 범위 밖은 java.time 으로 계산
+     */
+    private static final class MonthBoundaries {
+        private static final YearMonth FIRST_MONTH = YearMonth.of(1970, 1);
+        private static final int MONTH_COUNT = (2200 - 1970) * 12;
+        private static final long[] STARTS = new long[MONTH_COUNT + 1];
+
+        static {
+            for (int i = 0; i <= MONTH_COUNT; i++) {
+                STARTS[i] = FIRST_MONTH.plusMonths(i).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            }
+        }
+
+        private static long bucketStart(long epochMillis, int months) {
+            long index = monthIndex(epochMillis);
+            return startOf(index - Math.floorMod(index, months));
+        }
+
+        private static long bucketEnd(long epochMillis, int months) {
+            long index = monthIndex(epochMillis);
+            return startOf(index - Math.floorMod(index, months) + months);
+        }
+
+        /**
+         * 1970-01 기준 월 순번
+         */
+        private static long monthIndex(long epochMillis) {
+            if (epochMillis < STARTS[0] || epochMillis >= STARTS[MONTH_COUNT]) {
+                YearMonth month = YearMonth.from(Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC));
+                return ChronoUnit.MONTHS.between(FIRST_MONTH, month);
+            }
+            int low = 0;
+            int high = MONTH_COUNT;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (STARTS[mid] <= epochMillis) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        private static long startOf(long index) {
+            if (index >= 0 && index <= MONTH_COUNT) {
+                return STARTS[(int) index];
+            }
+            return FIRST_MONTH.plusMonths(index).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        }
     }
-}
\ No newline at end of file
+}
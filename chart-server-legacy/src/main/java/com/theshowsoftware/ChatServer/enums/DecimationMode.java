@@ -0,0 +1,10 @@
+package com.theshowsoftware.ChatServer.enums;
+
+/**
+ * Tick 범위 조회 축약 방식 (목표 점 수에 맞춰 서버에서 축약)
+ */
+public enum DecimationMode {
+    LTTB, // Largest-Triangle-Three-Buckets (구간마다 모양을 가장 잘 유지하는 Tick 1개)
+    MIN_MAX, // 구간마다 최저 / 최고가 Tick (시간순 최대 2개)
+    OHLC // 구간마다 시가 / 고가 / 저가 / 종가 캔들
+}
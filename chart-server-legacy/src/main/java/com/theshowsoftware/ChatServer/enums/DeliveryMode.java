@@ -0,0 +1,10 @@
+package com.theshowsoftware.ChatServer.enums;
+
+/**
+ * 패킷 전송 방식 (chart.delivery.mode)
+ */
+public enum DeliveryMode {
+    USER, // 사용자 경로 (/user/topic/tick, /user/topic/candle)
+    TOPIC, // 심볼 / 차트 타입별 공개 경로 (/sub/chart/{심볼}/{차트타입})
+    BOTH // 둘 다
+}
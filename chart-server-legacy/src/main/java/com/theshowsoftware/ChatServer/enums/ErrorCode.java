@@ -12,12 +12,19 @@ public enum ErrorCode {
     CACHE_FLUSH_ERROR(104, "Tick 데이터를 비우는 중 오류가 발생했습니다."),
     CACHE_RETRIEVE_ERROR(105, "캐시 데이터 조회 중 오류가 발생했습니다."),
     INVALID_TICK_PRICE(106, "틱 가격이 유효하지 않습니다."),
+    INGEST_LOOP_STOPPED(107, "Tick 수집 루프가 종료되었습니다."),
+    BACKFILL_FAILED(108, "과거 데이터를 적재하는 중 오류가 발생했습니다."),
+    INVALID_PAGE_CURSOR(109, "페이지 커서가 올바르지 않습니다."),
+    INVALID_DECIMATION_POINTS(110, "축약 점 수가 허용 범위를 벗어났습니다."),
+    INVALID_INDICATOR_SPEC(111, "지표 설정이 올바르지 않습니다."),
+    INDICATOR_NOT_REGISTERED(112, "등록되지 않은 지표입니다."),
 
     // ChartScheduler
     SCHEDULER_TICK_ERROR(200, "Tick 데이터를 생성하는 중 오류가 발생했습니다."),
     SCHEDULER_CANDLE_ERROR(201, "Candle 데이터를 생성하는 중 오류가 발생했습니다."),
     SCHEDULER_START_ERROR(202, "스케줄러를 시작하는 중 오류가 발생했습니다."),
     SCHEDULER_SHUTDOWN_ERROR(203, "스케줄러를 종료하는 중 오류가 발생했습니다."),
+    GENERATOR_REPLAY_LOAD_ERROR(204, "재생할 틱 패킷 파일을 읽는 중 오류가 발생했습니다."),
 
     // PacketManager
     INVAILD_PACKET_STRUCTURE(249, "유효하지 않은 패킷 구조체입니다."),
@@ -28,7 +35,9 @@ public enum ErrorCode {
     FAILED_TICK_PARSE_ERROR(254, "틱 패킷 패키징에 실패했습니다."),
     INVALID_PACKET_FORMAT(255, "패킷 형식이 올바르지 않습니다."),
     PACKET_INVALID_PARTS_COUNT(256, "패킷의 파트 개수가 올바르지 않습니다."),
-    PACKET_BASE_SYMBOL_INVALID(257, "패킷의 기준 심볼이 올바르지 않습니다.");
+    PACKET_BASE_SYMBOL_INVALID(257, "패킷의 기준 심볼이 올바르지 않습니다."),
+    INVALID_BINARY_PACKET(258, "유효하지 않은 바이너리 패킷입니다."),
+    UNSUPPORTED_PACKET_VERSION(259, "지원하지 않는 패킷 버전입니다.");
 
     private final Integer code;
     private final String message;
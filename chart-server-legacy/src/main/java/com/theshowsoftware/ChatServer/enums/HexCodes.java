@@ -0,0 +1,43 @@
+package com.theshowsoftware.ChatServer.enums;
+
+/**
+ * "0x" 로 시작하는 고정 자릿수 hexCode 해석 (객체 생성 없음)
+ */
+public final class HexCodes {
+
+    private HexCodes() {
+    }
+
+    /**
+     * "0x" + 16진수 digits 자리를 숫자로 변환 (형식이 다르면 -1)
+     */
+    public static int parse(CharSequence hexCode, int digits) {
+        if (hexCode == null || hexCode.length() != digits + 2
+                || hexCode.charAt(0) != '0' || (hexCode.charAt(1) | 0x20) != 'x') {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 2; i < hexCode.length(); i++) {
+            int digit = digit(hexCode.charAt(i));
+            if (digit < 0) {
+                return -1;
+            }
+            code = (code << 4) | digit;
+        }
+        return code;
+    }
+
+    /**
+     * 16진수 한 글자의 값 (16진수가 아니면 -1)
+     */
+    public static int digit(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        int lower = c | 0x20;
+        if (lower >= 'a' && lower <= 'f') {
+            return lower - 'a' + 10;
+        }
+        return -1;
+    }
+}
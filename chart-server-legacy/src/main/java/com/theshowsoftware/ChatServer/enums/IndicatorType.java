@@ -0,0 +1,43 @@
+package com.theshowsoftware.ChatServer.enums;
+
+import lombok.Getter;
+
+/**
+ * 서버에서 계산하는 기술 지표 유형
+ * - 가격 지표 값은 캔들 가격과 같은 배율 (10^9 곱해진 값), RSI 는 0 ~ 100
+ */
+@Getter
+public enum IndicatorType {
+    SMA(1), // 단순 이동 평균 (종가)
+    EMA(2), // 지수 이동 평균 (종가, 첫 값은 SMA)
+    RSI(3), // 상대 강도 지수 (Wilder 평활)
+    BOLLINGER(4), // 볼린저 밴드 (종가 SMA ± 2 표준편차)
+    VWAP(5); // 거래량 가중 평균 가격 (최근 period 개 캔들, 대표 가격 (고가 + 저가 + 종가) / 3)
+
+    // 숫자 코드 → 지표 유형 (바이너리 패킷 디코딩용)
+    private static final IndicatorType[] BY_CODE;
+
+    static {
+        int maxCode = 0;
+        for (IndicatorType type : values()) {
+            maxCode = Math.max(maxCode, type.code);
+        }
+        BY_CODE = new IndicatorType[maxCode + 1];
+        for (IndicatorType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    IndicatorType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * 숫자 코드로 조회 (없으면 null)
+     */
+    public static IndicatorType fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.theshowsoftware.ChatServer.enums;
+
+/**
+ * 합성 시세 생성 방식 (chart.generator.profile)
+ */
+public enum MarketProfile {
+    RANDOM_WALK, // 심볼별 가격 랜덤 워크, 일정한 속도
+    REPLAY, // 기록된 틱 패킷 파일을 심볼별로 반복 재생 (기록이 없는 심볼은 랜덤 워크)
+    BURSTY // 랜덤 워크, 매 초 앞부분 burst-millis 동안 burst-factor 배 속도
+}
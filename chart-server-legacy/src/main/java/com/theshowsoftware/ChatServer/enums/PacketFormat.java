@@ -0,0 +1,29 @@
+package com.theshowsoftware.ChatServer.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세션별 패킷 전송 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PacketFormat {
+    TEXT("text", ""), // !...# 텍스트 패킷
+    BINARY("binary", ".bin"); // BinaryPacketCodec 바이너리 패킷
+
+    private final String headerValue; // STOMP CONNECT packet-format 헤더 값
+    private final String destinationSuffix; // 구독 경로 접미사
+
+    /**
+     * 헤더 값으로 형식 조회 (없거나 알 수 없는 값은 TEXT)
+     */
+    public static PacketFormat fromHeader(String headerValue) {
+        for (PacketFormat format : values()) {
+            if (format.headerValue.equalsIgnoreCase(headerValue)) {
+                return format;
+            }
+        }
+        return TEXT;
+    }
+}
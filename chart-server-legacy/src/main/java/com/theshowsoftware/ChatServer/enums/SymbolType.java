@@ -1,10 +1,8 @@
 package com.theshowsoftware.ChatServer.enums;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor
 public enum SymbolType {
 
     USDT("USDT", "0x0000"),
@@ -72,8 +70,29 @@ public enum SymbolType {
     WLD("WLD", "0x003E"),
     ;
 
+    // 숫자 코드 → 심볼 (바이너리 패킷 디코딩용)
+    private static final SymbolType[] BY_CODE;
+
+    static {
+        int maxCode = 0;
+        for (SymbolType s : values()) {
+            maxCode = Math.max(maxCode, s.code);
+        }
+        BY_CODE = new SymbolType[maxCode + 1];
+        for (SymbolType s : values()) {
+            BY_CODE[s.code] = s;
+        }
+    }
+
     private final String symbol;
     private final String hexCode;
+    private final int code; // hexCode 의 숫자 값
+
+    SymbolType(String symbol, String hexCode) {
+        this.symbol = symbol;
+        this.hexCode = hexCode;
+        this.code = Integer.decode(hexCode);
+    }
 
     @Override
     public String toString() {
@@ -84,13 +103,22 @@ public enum SymbolType {
         return hexCode;
     }
 
+    /**
+     * hexCode 로 심볼 조회 ("0x" + 16진수 4자리, 대소문자 무시, 테이블 조회)
+     */
     public static SymbolType fromHexCode(String hexCode) {
-        for (SymbolType s : values()) {
-            if (s.getHexCodeString().equalsIgnoreCase(hexCode)) {
-                return s;
-            }
+        SymbolType symbolType = fromCode(HexCodes.parse(hexCode, 4));
+        if (symbolType == null) {
+            throw new IllegalArgumentException("Unknown hexCode: " + hexCode);
         }
-        throw new IllegalArgumentException("Unknown hexCode: " + hexCode);
+        return symbolType;
+    }
+
+    /**
+     * 숫자 코드로 심볼 조회 (알 수 없는 코드는 null)
+     */
+    public static SymbolType fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
     }
 
     public static SymbolType fromSymbol(String symbol) {
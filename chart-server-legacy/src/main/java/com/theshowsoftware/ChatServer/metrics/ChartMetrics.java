@@ -0,0 +1,214 @@
+package com.theshowsoftware.ChatServer.metrics;
+
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 수집 / 발행 경로 지표
+ * - 기록 메서드는 LongAdder / 원자 배열 / 스트라이프 히스토그램만 사용하므로 잠금과 객체 할당이 없음
+ *   (잠금 대기 / 보유 시간은 쓰기마다 기록되므로 스레드별 스트라이프에 나누어 심볼 간 캐시 라인 경합 방지)
+ * - 수집 속도는 1초마다 누적 Tick 수 차이로 계산
+ * - 조회(snapshot)는 /metrics/chart 에서만 호출
+ */
+@Component
+public class ChartMetrics {
+
+    private static final ChartType[] CHART_TYPES = ChartType.values();
+
+    private final LongAdder ticksIngested = new LongAdder();
+    private final LongAdder ticksRejected = new LongAdder();
+    private final LongAdder ticksEvicted = new LongAdder();
+    private final LongAdder candlesEvicted = new LongAdder();
+    private final LongAdder lateTicksApplied = new LongAdder();
+    private final LongAdder lateTicksDropped = new LongAdder();
+    private final LongAdder candlesCorrected = new LongAdder();
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LatencyHistogram lockHold = new LatencyHistogram();
+    private final AtomicLongArray candleCloses = new AtomicLongArray(CHART_TYPES.length);
+    private final LatencyHistogram broadcast = new LatencyHistogram();
+
+    // 수집 속도 계산용 (샘플러 스레드 전용)
+    private long lastIngested;
+    private long lastSampleNanos = System.nanoTime();
+    private volatile double ticksPerSecond;
+
+    // ==========================================================
+    //                         기록
+    // ==========================================================
+
+    public void tickIngested() {
+        ticksIngested.increment();
+    }
+
+    public void ticksIngested(int count) {
+        ticksIngested.add(count);
+    }
+
+    public void tickRejected() {
+        ticksRejected.increment();
+    }
+
+    public void ticksRejected(int count) {
+        ticksRejected.add(count);
+    }
+
+    /**
+     * 메모리 예산 초과로 해제된 Tick 수
+     */
+    public void ticksEvicted(int count) {
+        ticksEvicted.add(count);
+    }
+
+    /**
+     * 메모리 예산 초과로 제거된 캔들
+     */
+    public void candleEvicted() {
+        candlesEvicted.increment();
+    }
+
+    /**
+     * 허용 지연 안에 도착해 마감된 캔들을 수정한 지연 Tick
+     */
+    public void lateTickApplied() {
+        lateTicksApplied.increment();
+    }
+
+    /**
+     * 워터마크보다 과거라 버린 지연 Tick
+     */
+    public void lateTickDropped() {
+        lateTicksDropped.increment();
+    }
+
+    /**
+     * 지연 Tick 으로 수정된 완료 캔들
+     */
+    public void candleCorrected() {
+        candlesCorrected.increment();
+    }
+
+    /**
+     * 심볼 쓰기 잠금 획득 대기 시간
+     */
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos);
+    }
+
+    /**
+     * 심볼 쓰기 잠금 보유 시간
+     */
+    public void recordLockHold(long nanos) {
+        lockHold.record(nanos);
+    }
+
+    /**
+     * 캔들 마감 (롤업에서 완료 목록으로 이동)
+     */
+    public void candleClosed(ChartType chartType) {
+        candleCloses.getAndIncrement(chartType.ordinal());
+    }
+
+    /**
+     * 패킷 한 건을 브로커 채널로 넘기는 데 걸린 시간
+     */
+    public void recordBroadcast(long nanos) {
+        broadcast.record(nanos);
+    }
+
+    // ==========================================================
+    //                         조회
+    // ==========================================================
+
+    @Scheduled(fixedRate = 1000)
+    public void sample() {
+        long now = System.nanoTime();
+        long ingested = ticksIngested.sum();
+        long elapsed = now - lastSampleNanos;
+        if (elapsed > 0) {
+            ticksPerSecond = (ingested - lastIngested) * 1_000_000_000.0 / elapsed;
+        }
+        lastIngested = ingested;
+        lastSampleNanos = now;
+    }
+
+    public long getTicksIngested() {
+        return ticksIngested.sum();
+    }
+
+    public long getTicksRejected() {
+        return ticksRejected.sum();
+    }
+
+    public long getTicksEvicted() {
+        return ticksEvicted.sum();
+    }
+
+    public long getCandlesEvicted() {
+        return candlesEvicted.sum();
+    }
+
+    public long getLateTicksApplied() {
+        return lateTicksApplied.sum();
+    }
+
+    public long getLateTicksDropped() {
+        return lateTicksDropped.sum();
+    }
+
+    public long getCandlesCorrected() {
+        return candlesCorrected.sum();
+    }
+
+    public long getCandleCloses(ChartType chartType) {
+        return candleCloses.get(chartType.ordinal());
+    }
+
+    public LatencyHistogram getLockWait() {
+        return lockWait;
+    }
+
+    public LatencyHistogram getLockHold() {
+        return lockHold;
+    }
+
+    public LatencyHistogram getBroadcast() {
+        return broadcast;
+    }
+
+    /**
+     * 지표 요약 (시간 값은 마이크로초)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> ingest = new LinkedHashMap<>();
+        ingest.put("ticks", ticksIngested.sum());
+        ingest.put("rejected", ticksRejected.sum());
+        ingest.put("ticksPerSecond", Math.round(ticksPerSecond));
+        ingest.put("lateApplied", lateTicksApplied.sum());
+        ingest.put("lateDropped", lateTicksDropped.sum());
+        ingest.put("candlesCorrected", candlesCorrected.sum());
+        ingest.put("lockWaitMicros", lockWait.snapshot());
+        ingest.put("lockHoldMicros", lockHold.snapshot());
+
+        Map<String, Long> closes = new LinkedHashMap<>();
+        for (ChartType chartType : CHART_TYPES) {
+            closes.put(chartType.getLabel(), candleCloses.get(chartType.ordinal()));
+        }
+
+        Map<String, Long> evictions = new LinkedHashMap<>();
+        evictions.put("ticks", ticksEvicted.sum());
+        evictions.put("candles", candlesEvicted.sum());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ingest", ingest);
+        result.put("candleCloses", closes);
+        result.put("evictions", evictions);
+        result.put("broadcastMicros", broadcast.snapshot());
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+package com.theshowsoftware.ChatServer.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 로그-선형 히스토그램 (단위: 나노초)
+ * - 2의 거듭제곱 구간을 8 단계로 나누어 기록 (상대 오차 12.5% 이하)
+ * - 스레드별로 나뉜 스트라이프에 기록하고 조회 시 합산 (서로 다른 심볼 / 스레드의 기록이 같은 캐시 라인을 다투지 않음)
+ * - record 는 자기 스트라이프의 배열 원소 증가만 수행하고, 최대값은 갱신될 때만 CAS (객체 할당 없음)
+ * - 조회는 기록과 동시에 수행 가능하며 약간의 불일치(기록 중인 값)는 허용
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    // 스트라이프 최대 개수 (스트라이프당 약 4KB)
+    private static final int MAX_STRIPES = 64;
+
+    // 스트라이프별 [구간 개수..., 합계, 최대값] (스트라이프 사이에 패딩을 두어 캐시 라인 공유 방지)
+    private static final int SUM = BUCKET_COUNT;
+    private static final int MAX = BUCKET_COUNT + 1;
+    private static final int PADDING = 16;
+    private static final int STRIDE = BUCKET_COUNT + 2 + PADDING;
+
+    private final int stripeMask;
+    private final AtomicLongArray stripes;
+
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param concurrency 동시에 기록하는 스레드 수 예상값 (2의 거듭제곱으로 올림, 최대 MAX_STRIPES)
+     */
+    public LatencyHistogram(int concurrency) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(concurrency, MAX_STRIPES)) * 2 - 1);
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new AtomicLongArray(stripeCount * STRIDE);
+    }
+
+    /**
+     * 값 기록 (음수는 0 으로 기록)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int base = stripe();
+        stripes.getAndIncrement(base + indexOf(value));
+        stripes.getAndAdd(base + SUM, value);
+        long current;
+        while (value > (current = stripes.get(base + MAX)) && !stripes.compareAndSet(base + MAX, current, value)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int base = 0; base < stripes.length(); base += STRIDE) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                count += stripes.get(base + i);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 백분위 값 (해당 구간의 상한, 나노초)
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = merge();
+        return valueAt(snapshot, count(snapshot), percentile);
+    }
+
+    /**
+     * 조회용 요약 (마이크로초)
+     */
+    public Snapshot snapshot() {
+        long[] snapshot = merge();
+        long count = count(snapshot);
+        double mean = count == 0 ? 0 : snapshot[SUM] / (double) count / NANOS_PER_MICRO;
+        return new Snapshot(count, mean,
+                valueAt(snapshot, count, 50) / NANOS_PER_MICRO,
+                valueAt(snapshot, count, 99) / NANOS_PER_MICRO,
+                valueAt(snapshot, count, 99.9) / NANOS_PER_MICRO,
+                snapshot[MAX] / NANOS_PER_MICRO);
+    }
+
+    /**
+     * 스레드 id 로 고른 스트라이프 시작 위치
+     */
+    private int stripe() {
+        long id = Thread.currentThread().threadId();
+        return ((int) (id ^ id >>> 32) & stripeMask) * STRIDE;
+    }
+
+    /**
+     * 전체 스트라이프 합산 ([구간 개수..., 합계, 최대값])
+     */
+    private long[] merge() {
+        long[] merged = new long[BUCKET_COUNT + 2];
+        for (int base = 0; base < stripes.length(); base += STRIDE) {
+            for (int i = 0; i <= SUM; i++) {
+                merged[i] += stripes.get(base + i);
+            }
+            merged[MAX] = Math.max(merged[MAX], stripes.get(base + MAX));
+        }
+        return merged;
+    }
+
+    private static long count(long[] snapshot) {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += snapshot[i];
+        }
+        return count;
+    }
+
+    private static long valueAt(long[] snapshot, long count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(upperBound(i), snapshot[MAX]);
+            }
+        }
+        return snapshot[MAX];
+    }
+
+    /**
+     * 값이 속한 구간 번호 (0 ~ 7 은 값 그대로, 이후는 지수 * 8 + 상위 3 bit)
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * 구간에 속하는 가장 큰 값
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        int sub = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1; // 마지막 구간은 Long.MAX_VALUE 로 순환
+    }
+
+    /**
+     * 히스토그램 요약 (시간 값은 마이크로초)
+     */
+    public record Snapshot(long count, double mean, double p50, double p99, double p999, double max) {
+    }
+}
@@ -1,41 +1,108 @@
 package com.theshowsoftware.ChatServer.service;
 
 import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
 import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
 import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.DecimationMode;
 import com.theshowsoftware.ChatServer.enums.SymbolType;
 import com.theshowsoftware.ChatServer.enums.ErrorCode;
 import com.theshowsoftware.ChatServer.exception.CustomException;
+import com.theshowsoftware.ChatServer.metrics.ChartMetrics;
+import com.theshowsoftware.ChatServer.service.backfill.BackfillResult;
+import com.theshowsoftware.ChatServer.service.cache.CacheMemoryBudget;
+import com.theshowsoftware.ChatServer.service.cache.CandleRollup;
+import com.theshowsoftware.ChatServer.service.cache.CandleSeries;
+import com.theshowsoftware.ChatServer.service.cache.TickCursor;
+import com.theshowsoftware.ChatServer.service.cache.TickPage;
+import com.theshowsoftware.ChatServer.service.cache.TickRingBuffer;
+import com.theshowsoftware.ChatServer.service.decimation.DecimationResult;
+import com.theshowsoftware.ChatServer.service.decimation.TickDecimator;
+import com.theshowsoftware.ChatServer.service.indicator.IndicatorEngine;
+import com.theshowsoftware.ChatServer.service.indicator.IndicatorSeries;
+import com.theshowsoftware.ChatServer.service.indicator.IndicatorSpec;
+import com.theshowsoftware.ChatServer.service.journal.TickJournal;
+import com.theshowsoftware.ChatServer.service.snapshot.SymbolSnapshot;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @Slf4j
 public class ChartCacheService {
 
-    // Tick 데이터 캐시
-    private final Map<SymbolType, TreeMap<Instant, TickPacketDTO>> tickCache = new ConcurrentHashMap<>();
+    // Tick 데이터 캐시 (심볼별 컬럼형 원형 버퍼)
+    private final Map<SymbolType, TickRingBuffer> tickCache = new ConcurrentHashMap<>();
 
-    // Candle 데이터 캐시
-    private final Map<SymbolType, Map<ChartType, TreeMap<Instant, CandlePacketDTO>>> candleCache = new ConcurrentHashMap<>();
+    // Candle 데이터 캐시 (완료된 캔들, 잠금 없이 조회)
+    private final Map<SymbolType, Map<ChartType, CandleSeries>> candleCache = new ConcurrentHashMap<>();
 
-    // 활성 캔들 데이터
-    private final Map<SymbolType, Map<ChartType, CandlePacketDTO>> activeCandles = new ConcurrentHashMap<>();
+    // 활성 캔들 롤업 (쓰기 스레드 전용, 조회는 발행된 스냅샷 사용)
+    private final Map<SymbolType, CandleRollup> activeCandles = new ConcurrentHashMap<>();
 
-    // 심볼별 읽기/쓰기 잠금
-    private final Map<SymbolType, ReadWriteLock> symbolLocks = new ConcurrentHashMap<>();
+    // 기술 지표 (심볼별 엔진, 계산은 쓰기 스레드 전용, 조회는 잠금 없이 수행)
+    private final Map<SymbolType, IndicatorEngine> indicatorCache = new ConcurrentHashMap<>();
 
-    // Tick 데이터 크기 제한
-    private static final int TICK_CACHE_LIMIT = 20_000_000;
+    // 심볼별 쓰기 잠금 (쓰기 스레드 / 수집 루프 소유 스레드와 관리 작업 간 직렬화, 조회는 잠금을 사용하지 않음)
+    private final Map<SymbolType, Lock> symbolLocks = new ConcurrentHashMap<>();
 
-    // Candle 데이터 인터벌 별 최대 크기 제한
+    // 수집 경로 지표 (잠금 대기 / 보유 시간, 수집 / 거부 Tick 수, 캔들 마감 수)
+    private final ChartMetrics metrics;
+
+    // 캐시 전체 메모리 예산 (초과 시 심볼 구분 없이 가장 오래된 데이터부터 회수)
+    private final CacheMemoryBudget memoryBudget;
+
+    // 원시 Tick 저널 (재시작 시 마지막 스냅샷 이후 Tick 재생)
+    private final TickJournal journal;
+
+    // 복원한 스냅샷의 Tick 블록에 이미 포함된 저널 위치 이후 Tick 수 (저널 재생 시 Tick 버퍼에 다시 넣지 않음)
+    private final Map<SymbolType, Long> restoredTicksAhead = new ConcurrentHashMap<>();
+
+    // 예산 회수 작업 직렬화 (회수 중이면 다른 쓰기 스레드는 기다리지 않고 넘어감)
+    private final Lock evictionLock = new ReentrantLock();
+
+    // 지연 Tick 허용 시간 (심볼별 최대 Tick 시간 - 허용 지연 = 워터마크, 워터마크보다 과거의 Tick 은 버림)
+    private final long allowedLatenessMillis;
+
+    // 지연 Tick 으로 수정된 완료 캔들 수신 (심볼 쓰기 잠금 밖에서 호출)
+    private final List<CandleCorrectionListener> correctionListeners = new CopyOnWriteArrayList<>();
+
+    // 갱신된 지표 값 수신 (심볼 쓰기 잠금 밖에서 호출)
+    private final List<IndicatorListener> indicatorListeners = new CopyOnWriteArrayList<>();
+
+    // 반영된 Tick / Candle 을 쓰기 순서대로 수신 (심볼 쓰기 잠금 안에서 호출, afterWrite 만 잠금 밖에서 호출)
+    private final List<WriteListener> writeListeners = new CopyOnWriteArrayList<>();
+
+    // Tick 범위 페이지 조회 최대 건수
+    public static final int MAX_TICK_PAGE_SIZE = 10_000;
+
+    // 지연 Tick 허용 시간 기본값
+    public static final long DEFAULT_ALLOWED_LATENESS_MILLIS = 5_000;
+
+    // 지표별 보관하는 마감 캔들 값 개수
+    public static final int INDICATOR_HISTORY_LIMIT = 1_000;
+
+    // 메모리 예산 미지정 시 최대 힙 대비 사용 비율
+    private static final double DEFAULT_HEAP_SHARE = 0.5;
+
+    // 캔들이 사용할 수 있는 메모리 예산 비율 기본값
+    private static final double DEFAULT_CANDLE_SHARE = 0.25;
+
+    // Candle 데이터 인터벌 별 최대 보관 기간 (개수, 메모리 예산과 별개로 적용)
     private static final Map<ChartType, Integer> CANDLE_LIMITS = Map.ofEntries(
             Map.entry(ChartType.TICK, 604800), // 틱
             Map.entry(ChartType.ONE_SECOND, 604800), // 1초 - 1주
@@ -59,19 +126,63 @@ public class ChartCacheService {
     );
 
     public ChartCacheService() {
+        this(new ChartMetrics());
+    }
+
+    public ChartCacheService(ChartMetrics metrics) {
+        this(metrics, defaultMemoryBudget(), DEFAULT_CANDLE_SHARE);
+    }
+
+    @Autowired
+    public ChartCacheService(ChartMetrics metrics,
+                             @Value("${chart.cache.memory-budget:}") String memoryBudget,
+                             @Value("${chart.cache.candle-share:0.25}") double candleShare,
+                             TickJournal journal,
+                             @Value("${chart.ingest.allowed-lateness-ms:5000}") long allowedLatenessMillis,
+                             @Value("${chart.indicator.defaults:}") String indicatorDefaults) {
+        this(metrics, StringUtils.hasText(memoryBudget) ? DataSize.parse(memoryBudget.trim()).toBytes() : defaultMemoryBudget(), candleShare, journal, allowedLatenessMillis);
+        registerDefaultIndicators(indicatorDefaults);
+    }
+
+    public ChartCacheService(ChartMetrics metrics, long memoryBudgetBytes, double candleShare) {
+        this(metrics, memoryBudgetBytes, candleShare, TickJournal.disabled());
+    }
+
+    public ChartCacheService(ChartMetrics metrics, long memoryBudgetBytes, double candleShare, TickJournal journal) {
+        this(metrics, memoryBudgetBytes, candleShare, journal, DEFAULT_ALLOWED_LATENESS_MILLIS);
+    }
+
+    public ChartCacheService(ChartMetrics metrics, long memoryBudgetBytes, double candleShare, TickJournal journal, long allowedLatenessMillis) {
+        if (allowedLatenessMillis < 0) {
+            throw new IllegalArgumentException("allowedLatenessMillis must not be negative");
+        }
+        this.metrics = metrics;
+        this.journal = journal;
+        this.allowedLatenessMillis = allowedLatenessMillis;
+        this.memoryBudget = new CacheMemoryBudget(memoryBudgetBytes, candleShare);
+
+        // 오래된 Tick 은 압축되어 건당 크기가 일정하지 않으므로 버퍼 최대 용량은 두지 않고 예산으로만 제한
+        int tickCapacity = Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE;
         for (SymbolType symbol : SymbolType.values()) {
-            tickCache.put(symbol, new TreeMap<>());
-            candleCache.put(symbol, new TreeMap<>());
+            tickCache.put(symbol, new TickRingBuffer(tickCapacity, memoryBudget::addTickBytes));
 
             // ChartType 초기화
-            Map<ChartType, TreeMap<Instant, CandlePacketDTO>> intervalMap = new ConcurrentHashMap<>();
+            Map<ChartType, CandleSeries> intervalMap = new EnumMap<>(ChartType.class);
             for (ChartType chartType : ChartType.values()) {
-                intervalMap.put(chartType, new TreeMap<>());
+                intervalMap.put(chartType, new CandleSeries(memoryBudget::addCandleBytes));
             }
             candleCache.put(symbol, intervalMap);
 
-            activeCandles.put(symbol, new ConcurrentHashMap<>());
-            symbolLocks.put(symbol, new ReentrantReadWriteLock());
+            IndicatorEngine indicators = new IndicatorEngine(symbol,
+                    (chartType, before, count) -> closedCandles(intervalMap.get(chartType), before, count), INDICATOR_HISTORY_LIMIT);
+            indicatorCache.put(symbol, indicators);
+
+            activeCandles.put(symbol, new CandleRollup(symbol, (chartType, candle) -> {
+                closeCandle(intervalMap, chartType, candle);
+                indicators.onCandleClosed(chartType, candle);
+                notifyCandleWritten(symbol, candle);
+            }));
+            symbolLocks.put(symbol, new ReentrantLock());
         }
     }
 
@@ -87,42 +198,39 @@ public class ChartCacheService {
             throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
 
-        if (tick.getPrice() == null || tick.getPrice().compareTo(BigInteger.ZERO) <= 0) {
-            throw new CustomException(ErrorCode.INVALID_TICK_PRICE);
-        }
-
-        Instant tickTimestamp = Instant.ofEpochMilli(tick.getTimestamp());
-        if (tickTimestamp.isAfter(Instant.now().plusSeconds(60))) {
-            log.warn("[ChartCache] 미래 타임스탬프 감지: {}", tickTimestamp);
+        if (!validateTick(tick)) {
             return;
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.writeLock().lock();
+        long price = toFixedPrice(tick.getPrice());
+        List<CandlePacketDTO> corrections = new ArrayList<>(0);
+        List<IndicatorPacketDTO> indicators = List.of();
+
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
 
         try {
             // Tick 데이터 추가
-            TreeMap<Instant, TickPacketDTO> ticks = tickCache.get(symbol);
+            TickRingBuffer ticks = tickCache.get(symbol);
 
             if (ticks == null) {
                 log.error("[ChartCache] 심볼 [{}] 초기화가 안 되어 있습니다.", symbol);
                 throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
             }
 
-            // Tick 캐시 크기 제한 확인
-            if (ticks.size() > TICK_CACHE_LIMIT) {
-                ticks.pollFirstEntry();
-                log.debug("[ChartCache] 오래된 Tick 데이터를 삭제했습니다. (심볼: {}, 현재 캐시 크기: {})", symbol, ticks.size());
+            // Tick 버퍼 / 저널 / 모든 ChartType 캔들에 반영 (워터마크보다 과거이면 버림)
+            if (ingest(symbol, tick.getTimestamp(), price, toFixedQuantity(tick.getQuantity()), corrections)) {
+                indicators = publish(symbol);
+                metrics.tickIngested();
             }
-            ticks.put(tickTimestamp, tick);
-
-            // 모든 ChartType에 대해 업데이트
-            updateCandlesForAllIntervals(symbol, tick);
 
         } finally {
-            lock.writeLock().unlock();
+            unlock(lock, holdStart);
         }
-
+        notifyAfterWrite(symbol);
+        notifyCorrections(symbol, corrections);
+        notifyIndicators(symbol, indicators);
+        enforceMemoryBudget();
     }
 
     /**
@@ -133,93 +241,197 @@ public class ChartCacheService {
             throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.writeLock().lock();
+        List<CandlePacketDTO> corrections = new ArrayList<>(0);
+        List<IndicatorPacketDTO> indicators;
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
         try {
             List<TickPacketDTO> sortedTicks = ticks.stream()
                     .filter(p -> p != null
                             && p.getTimestamp() != null
                             && p.getPrice() != null
-                            && p.getPrice().compareTo(BigInteger.ZERO) > 0)
+                            && p.getPrice().compareTo(BigInteger.ZERO) > 0
+                            && p.getPrice().bitLength() < Long.SIZE)
                     .sorted(Comparator.comparing(TickPacketDTO::getTimestamp)) // 시간순 정렬
                     .toList();
 
-            TreeMap<Instant, TickPacketDTO> symbolTicks = tickCache.get(symbol);
-
-            for (TickPacketDTO tick : sortedTicks) {
-                symbolTicks.put(Instant.ofEpochMilli(tick.getTimestamp()), tick);
-                updateCandlesForAllIntervals(symbol, tick);
-            }
+            int ingested = ingestSorted(symbol, sortedTicks, corrections);
+            indicators = publish(symbol);
+            metrics.ticksIngested(ingested);
+            metrics.ticksRejected(ticks.size() - sortedTicks.size());
+        } finally {
+            unlock(lock, holdStart);
+        }
+        notifyAfterWrite(symbol);
+        notifyCorrections(symbol, corrections);
+        notifyIndicators(symbol, indicators);
+        enforceMemoryBudget();
+    }
 
-            // 크기 제한 초과 시 오래된 데이터 삭제
-            if (symbolTicks.size() > TICK_CACHE_LIMIT) {
-                int removeCount = symbolTicks.size() - TICK_CACHE_LIMIT;
-                Iterator<Instant> iterator = symbolTicks.keySet().iterator();
+    /**
+     * 단일 쓰기 스레드(ChartIngestLoop)가 소유한 심볼의 Tick 묶음을 반영
+     * - Tick 은 소유 스레드만 쓰지만, 지표 등록 / 과거 데이터 적재 / 스냅샷 복원 등 관리 작업과 직렬화하기 위해
+     *   묶음마다 심볼 쓰기 잠금을 한 번 잡음 (평상시에는 경합이 없어 비용이 작음)
+     * - 활성 캔들 스냅샷은 묶음 단위로 한 번만 발행
+     */
+    public void applyOwnedTicks(SymbolType symbol, List<TickPacketDTO> batch) {
+        if (symbol == null || batch == null || batch.isEmpty()) {
+            return;
+        }
 
-                for (int i = 0; i < removeCount && iterator.hasNext(); i++) {
-                    iterator.next();
-                    iterator.remove();
+        List<CandlePacketDTO> corrections = new ArrayList<>(0);
+        List<IndicatorPacketDTO> indicators;
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
+        try {
+            for (TickPacketDTO tick : batch) {
+                try {
+                    if (validateTick(tick)
+                            && ingest(symbol, tick.getTimestamp(), toFixedPrice(tick.getPrice()), toFixedQuantity(tick.getQuantity()), corrections)) {
+                        metrics.tickIngested();
+                    }
+                } catch (CustomException e) {
+                    log.warn("[ChartCache] 유효하지 않은 Tick 을 건너뜁니다. (심볼: {}, 사유: {})", symbol, e.getMessage());
                 }
-                log.debug("[ChartCache] 초과된 Tick 데이터를 삭제했습니다. (심볼: {}, 삭제된 개수: {})", symbol, removeCount);
             }
+            indicators = publish(symbol);
         } finally {
-            lock.writeLock().unlock();
+            unlock(lock, holdStart);
         }
+        notifyAfterWrite(symbol);
+        notifyCorrections(symbol, corrections);
+        notifyIndicators(symbol, indicators);
+        enforceMemoryBudget();
     }
 
     /**
-     * 최근 Tick 데이터를 반환
+     * 심볼 쓰기와 직렬화하여 action 수행
+     * - WriteListener 가 받는 쓰기 순서와 어긋나지 않는 조회가 필요할 때 사용 (예: 스트림 구독 시 스냅샷과 시퀀스 일치)
+     * - action 안에서 캐시에 쓰지 않아야 함
      */
-    public synchronized List<TickPacketDTO> getTicks(SymbolType symbol, int count) {
-        if (symbol == null || count <= 0) {
+    public <T> T withWriteLock(SymbolType symbol, Supplier<T> action) {
+        if (symbol == null || action == null) {
             throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.readLock().lock();
-
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
         try {
-            TreeMap<Instant, TickPacketDTO> symbolTicks = tickCache.get(symbol);
-            if (symbolTicks == null) {
-                throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
-            }
-
-            List<TickPacketDTO> result = new ArrayList<>();
-            Iterator<Map.Entry<Instant, TickPacketDTO>> it = symbolTicks.descendingMap().entrySet().iterator();
-
-            for (int i = 0; i < count && it.hasNext(); i++) {
-                result.add(it.next().getValue());
-            }
+            return action.get();
+        } finally {
+            unlock(lock, holdStart);
+        }
+    }
 
-            Collections.reverse(result); // 시간순으로 정렬
-            return result;
+    /**
+     * 최근 Tick 데이터를 반환
+     */
+    public List<TickPacketDTO> getTicks(SymbolType symbol, int count) {
+        if (symbol == null || count <= 0) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
 
-        } finally {
-            lock.readLock().unlock();
+        // 잠금 없이 Tick 버퍼의 낙관적 읽기로 조회
+        TickRingBuffer symbolTicks = tickCache.get(symbol);
+        if (symbolTicks == null) {
+            throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
         }
+
+        return symbolTicks.latest(count); // 시간순으로 정렬된 결과
     }
 
     /**
      * 특정 시간 범위 내의 Tick 데이터를 반환
+     * - 범위 전체를 한 번에 복사하므로 긴 범위는 getTicksPage / streamTicksBetween 사용
      */
-    public synchronized List<TickPacketDTO> getTicksBetween(SymbolType symbol, Instant startTime, Instant endTime) {
+    public List<TickPacketDTO> getTicksBetween(SymbolType symbol, Instant startTime, Instant endTime) {
         if (symbol == null || startTime == null || endTime == null || startTime.isAfter(endTime)) {
             throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.readLock().lock();
-        try {
-            TreeMap<Instant, TickPacketDTO> symbolTicks = tickCache.get(symbol);
-            if (symbolTicks == null) {
-                throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
+        // 잠금 없이 Tick 버퍼의 낙관적 읽기로 조회
+        TickRingBuffer symbolTicks = tickCache.get(symbol);
+        if (symbolTicks == null) {
+            throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
+        }
+
+        return symbolTicks.between(startTime.toEpochMilli(), endTime.toEpochMilli());
+    }
+
+    /**
+     * 특정 시간 범위의 Tick 을 최대 limit 건씩 나누어 반환
+     * - cursor 는 이전 페이지의 nextCursor (첫 페이지는 null)
+     * - 페이지마다 Tick 버퍼의 낙관적 읽기로 limit 건만 복사하므로 심볼 쓰기 잠금을 잡지 않고 메모리는 페이지 크기로 제한
+     */
+    public TickPage getTicksPage(SymbolType symbol, Instant startTime, Instant endTime, String cursor, int limit) {
+        if (symbol == null || startTime == null || endTime == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        if (startTime.isAfter(endTime) || limit <= 0) {
+            throw new CustomException(ErrorCode.CACHE_INVALID_TIME_RANGE);
+        }
+
+        TickRingBuffer symbolTicks = tickCache.get(symbol);
+        if (symbolTicks == null) {
+            throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
+        }
+
+        return symbolTicks.page(startTime.toEpochMilli(), endTime.toEpochMilli(), TickCursor.parse(cursor), Math.min(limit, MAX_TICK_PAGE_SIZE));
+    }
+
+    /**
+     * 특정 시간 범위의 Tick 을 순차 스트림으로 반환 (내보내기 등 긴 범위 순회용)
+     * - 소비하는 만큼 pageSize 건씩 getTicksPage 로 가져오므로 메모리는 한 페이지로 제한
+     * - 순회 중 추가된 Tick 도 아직 읽지 않은 위치이면 포함 (약한 일관성)
+     */
+    public Stream<TickPacketDTO> streamTicksBetween(SymbolType symbol, Instant startTime, Instant endTime, int pageSize) {
+        TickPage first = getTicksPage(symbol, startTime, endTime, null, pageSize);
+        Iterator<TickPacketDTO> pages = new Iterator<>() {
+            private TickPage page = first;
+            private Iterator<TickPacketDTO> current = first.ticks().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && page.hasNext()) {
+                    page = getTicksPage(symbol, startTime, endTime, page.nextCursor(), pageSize);
+                    current = page.ticks().iterator();
+                }
+                return current.hasNext();
             }
 
-            return new ArrayList<>(symbolTicks.subMap(startTime, true, endTime, true).values());
+            @Override
+            public TickPacketDTO next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
 
-        } finally {
-            lock.readLock().unlock();
+    /**
+     * 특정 시간 범위의 Tick 을 목표 점 수(points)로 축약해 반환 (넓은 범위 차트용)
+     * - LTTB / MIN_MAX 는 원본 Tick 중 일부를, OHLC 는 구간 캔들을 반환
+     * - Tick 버퍼를 페이지 단위로 순회하며 집계하므로 범위 전체를 복사하지 않음 (보관 Tick 이 많으면 병렬 집계)
+     */
+    public DecimationResult getDecimatedTicks(SymbolType symbol, Instant startTime, Instant endTime, int points, DecimationMode mode) {
+        if (symbol == null || startTime == null || endTime == null || mode == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        if (startTime.isAfter(endTime)) {
+            throw new CustomException(ErrorCode.CACHE_INVALID_TIME_RANGE);
+        }
+        if (points < 2 || points > TickDecimator.MAX_POINTS) {
+            throw new CustomException(ErrorCode.INVALID_DECIMATION_POINTS);
         }
+
+        TickRingBuffer symbolTicks = tickCache.get(symbol);
+        if (symbolTicks == null) {
+            throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
+        }
+
+        return TickDecimator.decimate(symbol, symbolTicks, startTime.toEpochMilli(), endTime.toEpochMilli(), points, mode);
     }
 
     /**
@@ -230,86 +442,346 @@ public class ChartCacheService {
             return null;
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.readLock().lock();
-        try {
-            TreeMap<Instant, TickPacketDTO> ticks = tickCache.get(symbol); // 심볼에 해당하는 Tick 데이터 조회
-            if (ticks == null || ticks.isEmpty()) {
-                return null;
-            }
-            return ticks.lastEntry().getValue(); // 가장 최신 Tick 반환
-        } finally {
-            lock.readLock().unlock();
+        TickRingBuffer ticks = tickCache.get(symbol); // 심볼에 해당하는 Tick 데이터 조회
+        if (ticks == null) {
+            return null;
         }
+        return ticks.latest(); // 가장 최신 Tick 반환 (없으면 null)
+    }
+
+    /**
+     * Tick 유효성 검사
+     * - 미래 타임스탬프는 경고 후 무시 (false 반환)
+     */
+    private boolean validateTick(TickPacketDTO tick) {
+        if (tick == null || tick.getTimestamp() == null) {
+            metrics.tickRejected();
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+
+        if (tick.getPrice() == null || tick.getPrice().compareTo(BigInteger.ZERO) <= 0) {
+            metrics.tickRejected();
+            throw new CustomException(ErrorCode.INVALID_TICK_PRICE);
+        }
+
+        Instant tickTimestamp = Instant.ofEpochMilli(tick.getTimestamp());
+        if (tickTimestamp.isAfter(Instant.now().plusSeconds(60))) {
+            log.warn("[ChartCache] 미래 타임스탬프 감지: {}", tickTimestamp);
+            metrics.tickRejected();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 심볼 쓰기 잠금 획득 (대기 시간 기록, 보유 시작 시간 반환)
+     */
+    private long lock(Lock lock) {
+        long waitStart = System.nanoTime();
+        lock.lock();
+        long holdStart = System.nanoTime();
+        metrics.recordLockWait(holdStart - waitStart);
+        return holdStart;
+    }
+
+    /**
+     * 심볼 쓰기 잠금 해제 (보유 시간 기록)
+     */
+    private void unlock(Lock lock, long holdStart) {
+        lock.unlock();
+        metrics.recordLockHold(System.nanoTime() - holdStart);
+    }
+
+    /**
+     * Tick 가격(10^9 곱해진 값)을 long 고정 소수점 값으로 변환
+     */
+    private static long toFixedPrice(BigInteger price) {
+        if (price == null || price.signum() <= 0 || price.bitLength() >= Long.SIZE) {
+            throw new CustomException(ErrorCode.INVALID_TICK_PRICE);
+        }
+        return price.longValue();
+    }
+
+    /**
+     * Tick 거래량을 저장용 long 값으로 변환 (null 보존)
+     */
+    private static long toFixedQuantity(Long quantity) {
+        return quantity != null ? quantity : TickRingBuffer.NO_QUANTITY;
     }
 
     // ==========================================================
     //                   Candle 데이터 관련 메서드
     // ==========================================================
     /**
-     * 모든 인터벌에 대해 캔들을 업데이트
+     * 반영된 Tick / Candle 수신 등록
+     * - Tick / 활성 캔들은 addTick / addTicks / applyOwnedTicks 경로만 전달 (과거 데이터 적재와 저널 재생은 제외)
+     * - 캔들은 addCandle 과 롤업에서 마감된 캔들을 전달
+     * - 지연 Tick 으로 수정된 캔들은 수집 경로에서만 전달 (저널 재생 제외)
      */
-    private void updateCandlesForAllIntervals(SymbolType symbol, TickPacketDTO tick) {
-        Map<ChartType, CandlePacketDTO> symbolActiveCandles = activeCandles.get(symbol);
-        Map<ChartType, TreeMap<Instant, CandlePacketDTO>> symbolCandleCache = candleCache.get(symbol);
+    public void addWriteListener(WriteListener listener) {
+        writeListeners.add(listener);
+    }
 
-        for (ChartType chartType : ChartType.values()) {
-            updateCandleForInterval(symbol, chartType, tick, symbolActiveCandles, symbolCandleCache);
+    /**
+     * 지연 Tick 으로 수정된 완료 캔들 수신 등록
+     * - 잠금 밖에서 호출되므로 여러 쓰기 스레드 간 전달 순서는 보장하지 않음 (순서가 필요하면 WriteListener 사용)
+     */
+    public void addCorrectionListener(CandleCorrectionListener listener) {
+        correctionListeners.add(listener);
+    }
+
+    /**
+     * Tick 한 건을 Tick 버퍼 / 저널 / 캔들 롤업에 반영 (심볼 쓰기 잠금 안에서 호출)
+     * - 활성 1초 캔들 이후 Tick: 1초 캔들만 갱신하고, 상위 인터벌은 마감된 하위 캔들로부터 누적
+     * - 그보다 과거지만 워터마크 이후 Tick: 이미 마감된 캔들을 수정하여 corrections 에 추가하고 누적분에 반영
+     * - 워터마크보다 과거의 Tick: 저장하지 않고 버림
+     *
+     * @return 반영 여부
+     */
+    private boolean ingest(SymbolType symbol, long timestamp, long price, long quantity, List<CandlePacketDTO> corrections) {
+        int corrected = corrections.size();
+        if (!applyTick(symbol, timestamp, price, quantity, corrections)) {
+            return false;
         }
+        journal.append(symbol, timestamp, price, quantity);
+        for (int i = corrected; i < corrections.size(); i++) {
+            notifyCandleCorrected(symbol, corrections.get(i));
+        }
+        notifyTickWritten(symbol, timestamp, price, quantity);
+        return true;
     }
 
     /**
-     * 단일 인터벌에 대해 활성 캔들과 완료된 캔들 업데이트
+     * 시간순 정렬된 Tick 묶음 반영 (심볼 쓰기 잠금에서 호출)
+     * - 활성 1초 캔들보다 과거의 Tick 은 정렬상 앞부분에만 있으므로 한 건씩 지연 Tick 경로로 반영
+     * - 나머지는 캔들 롤업 / 저널에 한 건씩 반영하고 Tick 버퍼에는 한 번에 추가 (같은 밀리초의 Tick 도 모두 보관)
+     *
+     * @return 반영한 Tick 수
      */
-    private void updateCandleForInterval(SymbolType symbol, ChartType chartType, TickPacketDTO tick,
-                                         Map<ChartType, CandlePacketDTO> activeCandleMap,
-                                         Map<ChartType, TreeMap<Instant, CandlePacketDTO>> candleCacheMap) {
+    private int ingestSorted(SymbolType symbol, List<TickPacketDTO> sortedTicks, List<CandlePacketDTO> corrections) {
+        CandleRollup rollup = activeCandles.get(symbol);
+        int ingested = 0;
+        int index = 0;
+        for (; index < sortedTicks.size() && rollup.isLate(sortedTicks.get(index).getTimestamp()); index++) {
+            TickPacketDTO tick = sortedTicks.get(index);
+            if (ingest(symbol, tick.getTimestamp(), toFixedPrice(tick.getPrice()), toFixedQuantity(tick.getQuantity()), corrections)) {
+                ingested++;
+            }
+        }
 
-        Instant candleStart = ChartType.truncateTime(Instant.ofEpochSecond(tick.getTimestamp()), chartType);
-        Instant candleEnd = candleStart.plusMillis(chartType.getIntervalInMillis());
+        int length = sortedTicks.size() - index;
+        if (length == 0) {
+            return ingested;
+        }
+        long[] timestamps = new long[length];
+        long[] prices = new long[length];
+        long[] quantities = new long[length];
+        for (int i = 0; i < length; i++) {
+            TickPacketDTO tick = sortedTicks.get(index + i);
+            timestamps[i] = tick.getTimestamp();
+            prices[i] = toFixedPrice(tick.getPrice());
+            quantities[i] = toFixedQuantity(tick.getQuantity());
+            rollup.onTick(timestamps[i], prices[i], quantities[i] != TickRingBuffer.NO_QUANTITY ? quantities[i] : 0L);
+            journal.append(symbol, timestamps[i], prices[i], quantities[i]);
+        }
+        // 용량 초과 시 가장 오래된 Tick 은 버퍼에서 덮어씀
+        tickCache.get(symbol).addAll(timestamps, prices, quantities, 0, length);
+        for (int i = 0; i < length; i++) {
+            notifyTickWritten(symbol, timestamps[i], prices[i], quantities[i]);
+        }
+        return ingested + length;
+    }
 
-        // 활성 캔들 가져오기
-        CandlePacketDTO activeCandle = activeCandleMap.get(chartType);
+    /**
+     * ingest 에서 저널 기록을 제외한 반영 (저널 재생에서도 사용)
+     */
+    private boolean applyTick(SymbolType symbol, long timestamp, long price, long quantity, List<CandlePacketDTO> corrections) {
+        return applyTick(symbol, timestamp, price, quantity, corrections, true);
+    }
 
-        if (activeCandle == null || !activeCandle.getCandleStartTime().equals(candleStart)) {
-            // 기존 활성 캔들을 완성된 캔들로 마감
-            if (activeCandle != null) {
-                TreeMap<Instant, CandlePacketDTO> intervalCandles = candleCacheMap.get(chartType);
-                intervalCandles.put(Instant.ofEpochMilli(activeCandle.getCandleStartTime()), activeCandle);
+    /**
+     * @param storeTick false 이면 캔들에만 반영 (스냅샷 Tick 블록에 이미 포함된 Tick 재생용)
+     */
+    private boolean applyTick(SymbolType symbol, long timestamp, long price, long quantity, List<CandlePacketDTO> corrections, boolean storeTick) {
+        TickRingBuffer ticks = tickCache.get(symbol);
+        CandleRollup rollup = activeCandles.get(symbol);
+        long candleQuantity = quantity != TickRingBuffer.NO_QUANTITY ? quantity : 0L;
+        if (!rollup.isLate(timestamp)) {
+            // 용량 초과 시 가장 오래된 Tick 은 버퍼에서 덮어씀
+            if (storeTick) {
+                ticks.add(timestamp, price, quantity);
+            }
+            rollup.onTick(timestamp, price, candleQuantity);
+            return true;
+        }
+        if (timestamp < rollup.watermark(allowedLatenessMillis)) {
+            log.debug("[ChartCache] 허용 지연을 넘은 Tick 을 버립니다. (심볼: {}, 시간: {})", symbol, timestamp);
+            metrics.lateTickDropped();
+            return false;
+        }
+        correctCandles(symbol, ticks, rollup, timestamp, price, candleQuantity, corrections);
+        if (storeTick) {
+            ticks.add(timestamp, price, quantity);
+        }
+        metrics.lateTickApplied();
+        return true;
+    }
 
-                // 크기 제한 초과 시 가장 오래된 캔들 제거
-                int limit = CANDLE_LIMITS.getOrDefault(chartType, 1000);
-                while (intervalCandles.size() > limit) {
-                    intervalCandles.remove(intervalCandles.firstKey());
-                }
+    /**
+     * 지연 Tick 을 캔들에 반영 (Tick 버퍼에 넣기 전에 호출)
+     * - 활성 구간의 누적분은 롤업이 수정하고, 이미 마감된 구간의 캔들은 완료 캔들 목록에서 교체
+     * - 시가 / 종가 여부는 Tick 버퍼로 판단하며, 버퍼에서 이미 회수된 구간은 Tick 이 있다고 보아 시가를 유지
+     */
+    private void correctCandles(SymbolType symbol, TickRingBuffer ticks, CandleRollup rollup,
+                                long timestamp, long price, long quantity, List<CandlePacketDTO> corrections) {
+        CandleRollup.TickIndex index = (start, end) -> start < ticks.oldestTimestamp() || ticks.containsBetween(start, end);
+        Map<ChartType, CandleSeries> intervalMap = candleCache.get(symbol);
+        for (ChartType chartType : rollup.onLateTick(timestamp, price, quantity, index)) {
+            CandleSeries series = intervalMap.get(chartType);
+            long bucketStart = chartType.bucketStart(timestamp);
+            CandlePacketDTO closed = series.get(bucketStart);
+            if (closed == null && bucketStart < series.oldestStartTime() && !series.isEmpty()) {
+                continue; // 보관 개수 / 예산으로 이미 제거된 구간은 되살리지 않음
+            }
+            CandlePacketDTO corrected = CandleRollup.correct(symbol, chartType, closed, timestamp, price, quantity, index);
+            series.put(corrected);
+            if (closed == null) {
+                series.trim(CANDLE_LIMITS.getOrDefault(chartType, 1000));
             }
+            corrections.add(corrected);
+            indicatorCache.get(symbol).onCandleCorrected(chartType, corrected);
+            metrics.candleCorrected();
+        }
+    }
 
-            // 새로운 활성 캔들 시작
-            activeCandle = CandlePacketDTO.builder()
-                    .candleStartTime(candleStart.toEpochMilli())
-                    .candleEndTime(candleEnd.toEpochMilli())
-                    .startPrice(tick.getPrice())
-                    .highPrice(tick.getPrice())
-                    .lowPrice(tick.getPrice())
-                    .endPrice(tick.getPrice())
-                    .quantity(tick.getQuantity() != null ? tick.getQuantity() : 0L)
-                    .build();
-            activeCandleMap.put(chartType, activeCandle);
-        } else {
-            // 기존 활성 캔들 업데이트
-            activeCandle.setHighPrice(tick.getPrice().max(activeCandle.getHighPrice()));
-            activeCandle.setLowPrice(tick.getPrice().min(activeCandle.getLowPrice()));
-            activeCandle.setEndPrice(tick.getPrice());
-            activeCandle.setTickCount(activeCandle.getTickCount() + 1);
+    /**
+     * 반영된 Tick 을 쓰기 순서대로 전달 (심볼 쓰기 잠금 안에서 호출)
+     */
+    private void notifyTickWritten(SymbolType symbol, long timestamp, long price, long quantity) {
+        if (writeListeners.isEmpty()) {
+            return;
+        }
+        TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(price), quantity != TickRingBuffer.NO_QUANTITY ? quantity : null, timestamp);
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.onTickWritten(symbol, tick);
+            } catch (RuntimeException e) {
+                log.warn("[ChartCache] Tick 반영 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
+            }
+        }
+    }
 
-            if (tick.getQuantity() != null) {
-                activeCandle.setQuantity(activeCandle.getQuantity() + tick.getQuantity());
-            } else {
-                activeCandle.setQuantity(0L);
+    /**
+     * 추가 / 마감된 캔들을 쓰기 순서대로 전달 (심볼 쓰기 잠금 안에서 호출)
+     */
+    private void notifyCandleWritten(SymbolType symbol, CandlePacketDTO candle) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.onCandleWritten(symbol, candle);
+            } catch (RuntimeException e) {
+                log.warn("[ChartCache] Candle 반영 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
             }
         }
     }
 
+    /**
+     * 지연 Tick 으로 수정된 완료 캔들을 쓰기 순서대로 전달 (심볼 쓰기 잠금 안에서 호출)
+     */
+    private void notifyCandleCorrected(SymbolType symbol, CandlePacketDTO candle) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.onCandleCorrected(symbol, candle);
+            } catch (RuntimeException e) {
+                log.warn("[ChartCache] 캔들 수정 반영 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 쓰기 잠금을 놓은 뒤 WriteListener 에 알림
+     */
+    private void notifyAfterWrite(SymbolType symbol) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.afterWrite(symbol);
+            } catch (RuntimeException e) {
+                log.warn("[ChartCache] 쓰기 완료 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 수정된 캔들을 수신자에게 전달 (심볼 쓰기 잠금 밖에서 호출)
+     */
+    private void notifyCorrections(SymbolType symbol, List<CandlePacketDTO> corrections) {
+        if (corrections.isEmpty()) {
+            return;
+        }
+        for (CandleCorrectionListener listener : correctionListeners) {
+            try {
+                listener.onCandlesCorrected(symbol, corrections);
+            } catch (RuntimeException e) {
+                log.warn("[ChartCache] 캔들 수정 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 활성 캔들 스냅샷을 발행하고 갱신된 지표 값을 반환 (심볼 쓰기 잠금 안에서 호출)
+     * - 발행한 스냅샷과 갱신된 지표 값은 WriteListener 에도 같은 순서로 전달
+     */
+    private List<IndicatorPacketDTO> publish(SymbolType symbol) {
+        tickCache.get(symbol).sealLateInserts(); // 쓰기 묶음의 지연 Tick 은 압축 블록마다 한 번만 다시 압축
+        CandleRollup rollup = activeCandles.get(symbol);
+        rollup.publish(journal.position(symbol), tickCache.get(symbol).addedCount());
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.onActiveCandlesPublished(symbol, rollup.snapshot());
+            } catch (RuntimeException e) {
+                log.warn("[ChartCache] 활성 캔들 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
+            }
+        }
+        List<IndicatorPacketDTO> updates = indicatorCache.get(symbol).flush(rollup.snapshot());
+        if (!updates.isEmpty()) {
+            for (WriteListener listener : writeListeners) {
+                try {
+                    listener.onIndicatorsUpdated(symbol, updates);
+                } catch (RuntimeException e) {
+                    log.warn("[ChartCache] 지표 반영 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
+                }
+            }
+        }
+        return updates;
+    }
+
+    /**
+     * 갱신된 지표 값을 수신자에게 전달 (심볼 쓰기 잠금 밖에서 호출)
+     */
+    private void notifyIndicators(SymbolType symbol, List<IndicatorPacketDTO> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        for (IndicatorListener listener : indicatorListeners) {
+            try {
+                listener.onIndicatorsUpdated(symbol, updates);
+            } catch (RuntimeException e) {
+                log.warn("[ChartCache] 지표 전달 실패 (심볼: {}, 사유: {})", symbol, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 롤업에서 마감된 캔들을 완료 캔들 목록에 추가
+     */
+    private void closeCandle(Map<ChartType, CandleSeries> intervalMap, ChartType chartType, CandlePacketDTO candle) {
+        CandleSeries intervalCandles = intervalMap.get(chartType);
+        intervalCandles.put(candle);
+
+        // 크기 제한 초과 시 가장 오래된 캔들 제거
+        intervalCandles.trim(CANDLE_LIMITS.getOrDefault(chartType, 1000));
+        metrics.candleClosed(chartType);
+    }
+
     /**
      * Candle 데이터 추가
      */
@@ -318,142 +790,664 @@ public class ChartCacheService {
             throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.writeLock().lock();
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
         try {
             // 해당 심볼과 차트 타입의 데이터 가져옴
-            Map<ChartType, TreeMap<Instant, CandlePacketDTO>> symbolCandleMap = candleCache.get(symbol);
+            Map<ChartType, CandleSeries> symbolCandleMap = candleCache.get(symbol);
             if (symbolCandleMap == null || !symbolCandleMap.containsKey(chartType)) {
                 throw new CustomException(ErrorCode.CACHE_SYMBOL_NOT_FOUND);
             }
 
-            TreeMap<Instant, CandlePacketDTO> intervalCandles = symbolCandleMap.get(chartType);
+            CandleSeries intervalCandles = symbolCandleMap.get(chartType);
 
             // 새로운 캔들을 추가
-            intervalCandles.put(Instant.ofEpochMilli(candle.getCandleStartTime()), candle);
+            intervalCandles.put(candle);
 
             // 크기 제한 초과 시 오래된 데이터 삭제
             int limit = CANDLE_LIMITS.getOrDefault(chartType, 1000);
-            while (intervalCandles.size() > limit) {
-                intervalCandles.pollFirstEntry(); // 가장 오래된 데이터 삭제
-            }
+            intervalCandles.trim(limit);
 
             log.debug("[addCandle] ChartType: {}, 현재 캐시 크기: {}, 크기 제한: {}", chartType, intervalCandles.size(), limit);
 
+            notifyCandleWritten(symbol, candle);
         } finally {
-            lock.writeLock().unlock();
+            unlock(lock, holdStart);
         }
+        notifyAfterWrite(symbol);
+        enforceMemoryBudget();
     }
 
     /**
-     * 최근 Candle 데이터를 반환
+     * 최근 Candle 데이터를 반환 (활성 캔들 포함)
+     * - 잠금 없이 발행된 활성 캔들 스냅샷과 완료된 캔들 목록을 조회
      */
     public List<CandlePacketDTO> getCandles(SymbolType symbol, ChartType chartType, int count) {
         if (symbol == null || chartType == null || count <= 0) {
             throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.readLock().lock();
-        try {
-            // 전체 Candle 데이터 조회
-            Map<ChartType, TreeMap<Instant, CandlePacketDTO>> candleMap = candleCache.get(symbol);
-            if (candleMap == null || !candleMap.containsKey(chartType)) {
-                throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
-            }
+        // 전체 Candle 데이터 조회
+        Map<ChartType, CandleSeries> candleMap = candleCache.get(symbol);
+        if (candleMap == null || !candleMap.containsKey(chartType)) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
 
-            // 특정 ChartType의 완료된 캔들 가져옴
-            TreeMap<Instant, CandlePacketDTO> intervalCandles = candleMap.get(chartType);
-            LinkedList<CandlePacketDTO> result = new LinkedList<>();
+        // 스냅샷의 활성 캔들 이전에 시작한 완료된 캔들만 조회 (마감 경합 시 중복 방지)
+        CandlePacketDTO activeCandle = activeCandles.get(symbol).snapshot().activeCandle(chartType);
+        long boundary = activeCandle != null ? activeCandle.getCandleStartTime() : Long.MAX_VALUE;
+        int closedCount = activeCandle != null ? count - 1 : count;
 
-            // 완성된 캔들 추가
-            intervalCandles.descendingMap().values().stream()
-                    .limit(count) // count 만큼 제한
-                    .forEach(result::add);
+        List<CandlePacketDTO> closed = candleMap.get(chartType).latestBefore(boundary, closedCount);
+        List<CandlePacketDTO> result = new ArrayList<>(closed.size() + 1);
+        for (int i = closed.size() - 1; i >= 0; i--) {
+            result.add(closed.get(i)); // 정방향으로 정렬
+        }
+        if (activeCandle != null) {
+            result.add(activeCandle);
+        }
+        return result;
+    }
 
-            // 활성 캔들 추가 (최신 활성 캔들을 처음에 삽입)
-            CandlePacketDTO activeCandle = activeCandles.get(symbol).get(chartType);
-            if (activeCandle != null && result.size() < count) {
-                result.addFirst(activeCandle); // 맨 앞에 삽입
+    /**
+     * 특정 시간 범위 내의 Candle 데이터를 반환
+     */
+    public List<CandlePacketDTO> getCandlesBetween(SymbolType symbol, ChartType chartType, Instant startTime, Instant endTime) {
+        if (symbol == null || startTime == null || endTime == null || startTime.isAfter(endTime)) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+
+        // 심볼 데이터를 조회
+        Map<ChartType, CandleSeries> intervalCandleMap = candleCache.get(symbol);
+        if (intervalCandleMap == null || !intervalCandleMap.containsKey(chartType)) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+
+        long start = startTime.toEpochMilli();
+        long end = endTime.toEpochMilli();
+
+        CandlePacketDTO activeCandle = activeCandles.get(symbol).snapshot().activeCandle(chartType);
+        long boundary = activeCandle != null ? Math.min(end, activeCandle.getCandleStartTime()) : end;
+
+        // 지정된 범위의 캔들 조회
+        List<CandlePacketDTO> result = intervalCandleMap.get(chartType).between(start, boundary);
+
+        // 활성 캔들을 확인하고 해당 범위에 포함되면 추가
+        if (activeCandle != null &&
+                activeCandle.getCandleStartTime() >= start && // 시작 시간 이후
+                activeCandle.getCandleStartTime() < end) {   // 종료 시간 미만
+            if (result.isEmpty()) {
+                result = new ArrayList<>(1);
             }
+            result.add(activeCandle); // 활성 캔들 추가
+        }
+
+        return result;
+    }
 
-            // 결과를 정방향으로 정렬해서 반환
-            Collections.reverse(result);
-            return result;
+    /**
+     * 심볼의 최신 Candle 데이터를 반환
+     */
+    public CandlePacketDTO getLatestCandle(SymbolType symbol) {
+        if (symbol == null) {
+            return null;
+        }
+
+        // 심볼에 해당하는 모든 차트 타입의 Candle 데이터를 가져옴
+        Map<ChartType, CandleSeries> symbolCandles = candleCache.get(symbol);
+        if (symbolCandles == null || symbolCandles.isEmpty()) {
+            return null;
+        }
+
+        return symbolCandles.values().stream()
+                .map(CandleSeries::lastEntry)
+                .filter(Objects::nonNull) // null Entry 필터링
+                .max(Map.Entry.comparingByKey()) // 가장 최신 시작 시간으로 정렬
+                .map(Map.Entry::getValue)
+                .orElse(null);
+    }
+
+    // ==========================================================
+    //                     기술 지표 관련 메서드
+    // ==========================================================
+
+    /**
+     * 갱신된 지표 값 수신 등록
+     * - 잠금 밖에서 호출되므로 여러 쓰기 스레드 간 전달 순서는 보장하지 않음 (순서가 필요하면 WriteListener 사용)
+     */
+    public void addIndicatorListener(IndicatorListener listener) {
+        indicatorListeners.add(listener);
+    }
+
+    /**
+     * (심볼, 차트타입) 에 지표 등록 (이미 등록되어 있으면 그대로 유지)
+     * - 보관 중인 완료 캔들로 값을 채운 뒤 이후 캔들 마감 / 활성 캔들 갱신마다 증분 계산
+     * - 심볼 쓰기 잠금 안에서 수행하므로 수집 중(direct / loop 모드 모두) 언제든 등록 가능
+     */
+    public void registerIndicator(SymbolType symbol, ChartType chartType, IndicatorSpec spec) {
+        if (symbol == null || chartType == null || spec == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        if (chartType == ChartType.TICK) {
+            throw new CustomException(ErrorCode.INVALID_INDICATOR_SPEC);
+        }
+
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
+        try {
+            indicatorCache.get(symbol).register(chartType, spec, activeCandles.get(symbol).snapshot());
         } finally {
-            lock.readLock().unlock();
+            unlock(lock, holdStart);
         }
+        log.info("[ChartCache] 지표 등록 (심볼: {}, 차트타입: {}, 지표: {})", symbol, chartType, spec);
     }
 
     /**
-     * 특정 시간 범위 내의 Candle 데이터를 반환
+     * 지표 등록 해제
+     *
+     * @return 해제 여부
      */
-    public List<CandlePacketDTO> getCandlesBetween(SymbolType symbol, ChartType chartType, Instant startTime, Instant endTime) {
-        if (symbol == null || startTime == null || endTime == null || startTime.isAfter(endTime)) {
+    public boolean unregisterIndicator(SymbolType symbol, ChartType chartType, IndicatorSpec spec) {
+        if (symbol == null || chartType == null || spec == null) {
             throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.readLock().lock();
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
         try {
-            // 심볼 데이터를 조회
-            Map<ChartType, TreeMap<Instant, CandlePacketDTO>> intervalCandleMap = candleCache.get(symbol);
-            if (intervalCandleMap == null || !intervalCandleMap.containsKey(chartType)) {
-                throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+            return indicatorCache.get(symbol).unregister(chartType, spec);
+        } finally {
+            unlock(lock, holdStart);
+        }
+    }
+
+    /**
+     * (심볼, 차트타입) 에 등록된 지표 목록
+     */
+    public List<IndicatorSpec> getRegisteredIndicators(SymbolType symbol, ChartType chartType) {
+        if (symbol == null || chartType == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        return indicatorCache.get(symbol).specs(chartType);
+    }
+
+    /**
+     * 최근 count 개 지표 값 (시간순, 활성 캔들 값 포함)
+     * - 잠금 없이 발행된 값을 조회
+     */
+    public List<IndicatorPacketDTO> getIndicators(SymbolType symbol, ChartType chartType, IndicatorSpec spec, int count) {
+        if (symbol == null || chartType == null || spec == null || count <= 0) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        IndicatorSeries series = indicatorCache.get(symbol).series(chartType, spec);
+        if (series == null) {
+            throw new CustomException(ErrorCode.INDICATOR_NOT_REGISTERED);
+        }
+        return series.latest(Math.min(count, INDICATOR_HISTORY_LIMIT + 1));
+    }
+
+    /**
+     * 설정의 기본 지표 등록 (예: "BTC/ONE_MINUTE/SMA(20),BTC/ONE_MINUTE/RSI(14)")
+     */
+    private void registerDefaultIndicators(String defaults) {
+        if (!StringUtils.hasText(defaults)) {
+            return;
+        }
+        for (String entry : defaults.split(",")) {
+            String[] parts = entry.trim().split("/");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid chart.indicator.defaults entry: " + entry);
             }
+            try {
+                registerIndicator(SymbolType.valueOf(parts[0].trim()), ChartType.valueOf(parts[1].trim()), IndicatorSpec.parse(parts[2]));
+            } catch (IllegalArgumentException | CustomException e) {
+                throw new IllegalArgumentException("invalid chart.indicator.defaults entry: " + entry, e);
+            }
+        }
+    }
+
+    /**
+     * beforeMillis 이전에 시작한 최근 count 개 완료 캔들 (시간순, 지표 계산용)
+     */
+    private static List<CandlePacketDTO> closedCandles(CandleSeries series, long beforeMillis, int count) {
+        List<CandlePacketDTO> latest = series.latestBefore(beforeMillis, count);
+        List<CandlePacketDTO> result = new ArrayList<>(latest.size());
+        for (int i = latest.size() - 1; i >= 0; i--) {
+            result.add(latest.get(i)); // 정방향으로 정렬
+        }
+        return result;
+    }
+
+    // ==========================================================
+    //                       캐시 크기 조회
+    // ==========================================================
+
+    /**
+     * 심볼의 보관 중인 Tick 수
+     */
+    public int getTickCount(SymbolType symbol) {
+        TickRingBuffer ticks = symbol != null ? tickCache.get(symbol) : null;
+        return ticks != null ? ticks.size() : 0;
+    }
+
+    /**
+     * 심볼 / 차트타입의 완료된 캔들 수 (활성 캔들 제외)
+     */
+    public int getCandleCount(SymbolType symbol, ChartType chartType) {
+        Map<ChartType, CandleSeries> symbolCandles = symbol != null ? candleCache.get(symbol) : null;
+        return symbolCandles != null && chartType != null ? symbolCandles.get(chartType).size() : 0;
+    }
+
+    /**
+     * 심볼별 메모리 사용량 (Tick 이 있거나 캔들이 있는 심볼만)
+     * - 예산 / 사용량 합계와 심볼별 Tick, ChartType 별 캔들의 개수와 바이트
+     */
+    public Map<String, Object> getMemoryUsage() {
+        Map<String, Object> symbols = new LinkedHashMap<>();
+        for (SymbolType symbol : SymbolType.values()) {
+            TickRingBuffer ticks = tickCache.get(symbol);
+            Map<String, Object> candles = new LinkedHashMap<>();
+            long symbolBytes = ticks.memoryBytes();
+            for (Map.Entry<ChartType, CandleSeries> entry : candleCache.get(symbol).entrySet()) {
+                CandleSeries series = entry.getValue();
+                if (series.size() > 0) {
+                    candles.put(entry.getKey().getLabel(), Map.of("count", series.size(), "bytes", series.memoryBytes()));
+                    symbolBytes += series.memoryBytes();
+                }
+            }
+            if (symbolBytes == 0) {
+                continue;
+            }
+            Map<String, Object> usage = new LinkedHashMap<>();
+            usage.put("bytes", symbolBytes);
+            usage.put("ticks", Map.of("count", ticks.size(), "bytes", ticks.memoryBytes(),
+                    "compressedCount", ticks.coldSize(), "compressedBytes", ticks.coldMemoryBytes()));
+            usage.put("candles", candles);
+            symbols.put(symbol.getSymbol(), usage);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("budgetBytes", memoryBudget.getMaxBytes());
+        result.put("candleBudgetBytes", memoryBudget.getCandleMaxBytes());
+        result.put("usedBytes", memoryBudget.getUsedBytes());
+        result.put("tickBytes", memoryBudget.getTickBytes());
+        result.put("candleBytes", memoryBudget.getCandleBytes());
+        result.put("symbols", symbols);
+        return result;
+    }
 
-            TreeMap<Instant, CandlePacketDTO> candles = intervalCandleMap.get(chartType);
-            if (candles == null || candles.isEmpty()) {
-                return Collections.emptyList();
+    // ==========================================================
+    //                      과거 데이터 적재
+    // ==========================================================
+
+    /**
+     * 심볼 하나의 과거 Tick 적재 (ChartBackfillService 가 심볼별로 병렬 호출)
+     * - 캐시에 이미 있는 실시간 구간(가장 오래된 Tick 또는 활성 1초 캔들 시작) 이전의 Tick 만 적재
+     * - 캔들은 별도 롤업으로 잠금 밖에서 만들고, Tick 은 압축 블록으로 만들어 버퍼 앞에 추가
+     * - 완료 캔들 병합만 심볼 쓰기 잠금 안에서 수행하며 활성 캔들은 변경하지 않음
+     *   - 각 ChartType 의 활성 캔들 구간에 속한 캔들은 반영하지 않음
+     *   - 실시간 구간 경계에 걸친 캔들은 기존 캔들 앞에 이어 붙이고, 그 이전 캔들은 적재한 캔들로 교체
+     * - 적재한 Tick 은 저널에 기록하지 않으므로 다음 스냅샷부터 재시작 후에도 유지됨
+     */
+    public BackfillResult backfillTicks(SymbolType symbol, List<TickPacketDTO> ticks) {
+        if (symbol == null || ticks == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+
+        // 유효한 Tick 을 시간순 컬럼 배열로 변환 (같은 타임스탬프는 입력 순서대로 모두 보관)
+        long futureLimit = System.currentTimeMillis() + 60_000;
+        List<TickPacketDTO> valid = new ArrayList<>(ticks.size());
+        boolean sorted = true;
+        for (TickPacketDTO tick : ticks) {
+            if (tick != null && tick.getTimestamp() != null && tick.getTimestamp() != 0 && tick.getTimestamp() <= futureLimit
+                    && tick.getPrice() != null && tick.getPrice().signum() > 0 && tick.getPrice().bitLength() < Long.SIZE) {
+                sorted &= valid.isEmpty() || valid.get(valid.size() - 1).getTimestamp() <= tick.getTimestamp();
+                valid.add(tick);
             }
+        }
+        if (!sorted) {
+            valid.sort(Comparator.comparingLong(TickPacketDTO::getTimestamp));
+        }
+        long[] timestamps = new long[valid.size()];
+        long[] prices = new long[valid.size()];
+        long[] quantities = new long[valid.size()];
+        int length = 0;
+        for (TickPacketDTO tick : valid) {
+            timestamps[length] = tick.getTimestamp();
+            prices[length] = tick.getPrice().longValue();
+            quantities[length] = toFixedQuantity(tick.getQuantity());
+            length++;
+        }
 
-            // 지정된 범위의 캔들 조회
-            NavigableMap<Instant, CandlePacketDTO> subMap = candles.subMap(startTime, true, endTime, false);
+        // 실시간 구간 이전까지만 적재
+        TickRingBuffer symbolTicks = tickCache.get(symbol);
+        CandlePacketDTO liveBase = activeCandles.get(symbol).snapshot().activeCandle(ChartType.ONE_SECOND);
+        long cutoff = Math.min(symbolTicks.oldestTimestamp(), liveBase != null ? liveBase.getCandleStartTime() : Long.MAX_VALUE);
+        int historic = 0;
+        while (historic < length && timestamps[historic] < cutoff) {
+            historic++;
+        }
+
+        // 과거 구간 캔들 생성 (마지막 구간의 활성 캔들도 완료 캔들로 취급)
+        Map<ChartType, List<CandlePacketDTO>> built = new EnumMap<>(ChartType.class);
+        CandleRollup rollup = new CandleRollup(symbol, (chartType, candle) -> built.computeIfAbsent(chartType, k -> new ArrayList<>()).add(candle));
+        for (int i = 0; i < historic; i++) {
+            rollup.onTick(timestamps[i], prices[i], quantities[i] != TickRingBuffer.NO_QUANTITY ? quantities[i] : 0L);
+        }
+        rollup.publish();
+        rollup.snapshot().activeCandles().forEach((chartType, candle) -> built.computeIfAbsent(chartType, k -> new ArrayList<>()).add(candle));
 
-            List<CandlePacketDTO> result = new ArrayList<>(subMap.values());
+        symbolTicks.prependHistory(timestamps, prices, quantities, historic);
 
-            // 활성 캔들을 확인하고 해당 범위에 포함되면 추가
-            Map<ChartType, CandlePacketDTO> activeCandleMap = activeCandles.get(symbol);
-            CandlePacketDTO activeCandle = activeCandleMap != null ? activeCandleMap.get(chartType) : null;
+        long merged = 0;
+        long skipped = 0;
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
+        try {
+            CandleRollup.RollupSnapshot live = activeCandles.get(symbol).snapshot();
+            Map<ChartType, CandleSeries> intervalMap = candleCache.get(symbol);
+            for (Map.Entry<ChartType, List<CandlePacketDTO>> entry : built.entrySet()) {
+                ChartType chartType = entry.getKey();
+                CandlePacketDTO activeCandle = live.activeCandle(chartType);
+                long activeStart = activeCandle != null ? activeCandle.getCandleStartTime() : Long.MAX_VALUE;
+                CandleSeries series = intervalMap.get(chartType);
+                // 보관 개수를 넘는 앞쪽 캔들은 넣자마자 제거되므로 건너뜀
+                List<CandlePacketDTO> candles = entry.getValue();
+                int limit = CANDLE_LIMITS.getOrDefault(chartType, 1000);
+                for (CandlePacketDTO candle : candles.subList(Math.max(0, candles.size() - limit), candles.size())) {
+                    if (candle.getCandleStartTime() >= activeStart) {
+                        skipped++;
+                        continue;
+                    }
+                    CandlePacketDTO existing = candle.getCandleEndTime() > cutoff ? series.get(candle.getCandleStartTime()) : null;
+                    series.put(existing != null ? concatCandles(candle, existing) : candle);
+                    merged++;
+                }
+                series.trim(limit);
+            }
+            indicatorCache.get(symbol).rebuildAll(live);
+        } finally {
+            unlock(lock, holdStart);
+        }
+        enforceMemoryBudget();
+        return new BackfillResult(1, historic, length - historic, ticks.size() - length, merged, skipped);
+    }
+
+    /**
+     * 같은 구간의 앞 / 뒤 캔들을 하나로 합침
+     */
+    private static CandlePacketDTO concatCandles(CandlePacketDTO earlier, CandlePacketDTO later) {
+        return later.toBuilder()
+                .startPrice(earlier.getStartPrice() != null ? earlier.getStartPrice() : later.getStartPrice())
+                .highPrice(later.getHighPrice() == null ? earlier.getHighPrice() : earlier.getHighPrice() == null ? later.getHighPrice() : later.getHighPrice().max(earlier.getHighPrice()))
+                .lowPrice(later.getLowPrice() == null ? earlier.getLowPrice() : earlier.getLowPrice() == null ? later.getLowPrice() : later.getLowPrice().min(earlier.getLowPrice()))
+                .endPrice(later.getEndPrice() != null ? later.getEndPrice() : earlier.getEndPrice())
+                .quantity(later.getQuantity() == null ? earlier.getQuantity() : earlier.getQuantity() == null ? later.getQuantity() : (Long) (later.getQuantity() + earlier.getQuantity()))
+                .tickCount(earlier.getTickCount() + later.getTickCount())
+                .build();
+    }
+
+    // ==========================================================
+    //                    스냅샷 내보내기 / 복원
+    // ==========================================================
 
-            if (activeCandle != null &&
-                    !Instant.ofEpochMilli(activeCandle.getCandleStartTime()).isBefore(startTime) && // 시작 시간 이후
-                    Instant.ofEpochMilli(activeCandle.getCandleStartTime()).isBefore(endTime)) {   // 종료 시간 미만
-                result.add(activeCandle); // 활성 캔들 추가
+    /**
+     * 심볼 캐시의 스냅샷 (쓰기를 멈추지 않음)
+     * - 활성 캔들 상태를 먼저 읽고, 완료 캔들은 그 활성 캔들 이전까지만 포함 (시점 일관성)
+     * - 활성 캔들 상태와 함께 발행된 저널 위치를 기록하여 재시작 시 그 위치부터 재생
+     * - 활성 캔들 발행 이후 Tick 블록을 복사하기 전까지 추가된 Tick 수를 함께 기록 (재생 시 Tick 버퍼 중복 방지)
+     * - Tick 은 압축 블록 참조와 hot 구간 복사본, 완료 캔들은 스킵 리스트의 약한 일관성 순회로 수집
+     */
+    public SymbolSnapshot exportSnapshot(SymbolType symbol) {
+        if (symbol == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        CandleRollup.RollupSnapshot rollup = activeCandles.get(symbol).snapshot();
+        Map<ChartType, long[]> activeState = rollup.exportState();
+
+        Map<ChartType, List<CandlePacketDTO>> candles = new EnumMap<>(ChartType.class);
+        for (Map.Entry<ChartType, CandleSeries> entry : candleCache.get(symbol).entrySet()) {
+            CandlePacketDTO activeCandle = rollup.activeCandle(entry.getKey());
+            long boundary = activeCandle != null ? activeCandle.getCandleStartTime() : Long.MAX_VALUE;
+            List<CandlePacketDTO> closed = entry.getValue().between(Long.MIN_VALUE, boundary);
+            if (!closed.isEmpty()) {
+                candles.put(entry.getKey(), closed);
             }
+        }
+        TickRingBuffer.BlockExport ticks = tickCache.get(symbol).exportBlocks();
+        return new SymbolSnapshot(symbol, ticks.blocks(), activeState, candles, rollup.getJournalPosition(),
+                Math.max(0, ticks.addedCount() - rollup.getTickCount()));
+    }
 
-            return result;
+    /**
+     * 스냅샷으로 심볼 캐시 복원 (수집 시작 전, 비어 있는 심볼에만 호출)
+     * - 심볼마다 독립적이므로 여러 심볼을 병렬로 복원 가능
+     */
+    public void restoreSnapshot(SymbolSnapshot snapshot) {
+        if (snapshot == null || snapshot.symbol() == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        SymbolType symbol = snapshot.symbol();
+
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
+        try {
+            tickCache.get(symbol).restoreBlocks(snapshot.tickBlocks());
+
+            Map<ChartType, CandleSeries> intervalMap = candleCache.get(symbol);
+            for (Map.Entry<ChartType, List<CandlePacketDTO>> entry : snapshot.candles().entrySet()) {
+                CandleSeries series = intervalMap.get(entry.getKey());
+                for (CandlePacketDTO candle : entry.getValue()) {
+                    series.put(candle);
+                }
+                series.trim(CANDLE_LIMITS.getOrDefault(entry.getKey(), 1000));
+            }
+            activeCandles.get(symbol).restore(snapshot.activeState(), snapshot.journalPosition());
+            restoredTicksAhead.put(symbol, snapshot.ticksAhead());
+            indicatorCache.get(symbol).rebuildAll(activeCandles.get(symbol).snapshot());
         } finally {
-            lock.readLock().unlock();
+            unlock(lock, holdStart);
         }
+        enforceMemoryBudget();
     }
 
     /**
-     * 심볼의 최신 Candle 데이터를 반환
+     * 활성 캔들 상태의 저널 위치 이후 Tick 을 재생 (수집 시작 전, 스냅샷 복원 후 호출)
+     * - 스냅샷 시점의 활성 캔들 상태에 이후 Tick 을 같은 순서로 다시 반영하므로 종료 직전 상태와 동일하게 복원
+     * - 스냅샷 Tick 블록에 이미 포함된 앞쪽 Tick(ticksAhead)은 캔들에만 반영하고 Tick 버퍼에는 다시 넣지 않음
+     *
+     * @return 재생한 Tick 수
      */
-    public CandlePacketDTO getLatestCandle(SymbolType symbol) {
+    public long replayJournal(SymbolType symbol) {
         if (symbol == null) {
-            return null;
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
         }
+        Lock lock = symbolLocks.get(symbol);
+        long holdStart = lock(lock);
+        long replayed;
+        try {
+            CandleRollup rollup = activeCandles.get(symbol);
+            long from = rollup.snapshot().getJournalPosition();
+            List<CandlePacketDTO> corrections = new ArrayList<>(0);
+            long[] ahead = {restoredTicksAhead.getOrDefault(symbol, 0L)};
+            replayed = journal.replay(symbol, from, (timestamp, price, quantity) -> {
+                applyTick(symbol, timestamp, price, quantity, corrections, ahead[0]-- <= 0);
+                corrections.clear(); // 재생은 수집 시작 전이므로 전달할 구독자가 없음
+            });
+            journal.ensurePosition(symbol, from);
+            restoredTicksAhead.remove(symbol);
+            tickCache.get(symbol).sealLateInserts();
+            rollup.publish(journal.position(symbol), tickCache.get(symbol).addedCount());
+            indicatorCache.get(symbol).flush(rollup.snapshot()); // 재생 중 마감된 값은 전달하지 않음
+        } finally {
+            unlock(lock, holdStart);
+        }
+        enforceMemoryBudget();
+        return replayed;
+    }
 
-        ReadWriteLock lock = symbolLocks.get(symbol);
-        lock.readLock().lock();
+    // ==========================================================
+    //                     메모리 예산 회수
+    // ==========================================================
+
+    /**
+     * 메모리 예산을 넘었으면 하한까지 회수
+     * - 캔들: 캔들 한도를 넘으면 모든 심볼 / ChartType 중 "봉 개수 기준으로 가장 오래된" 캔들부터 제거
+     *   (경과 시간 / 인터벌 이 가장 큰 캔들, 인터벌마다 비슷한 봉 수를 유지하고 긴 인터벌 캔들을 보존)
+     * - Tick: 전체 예산을 넘으면 모든 심볼 중 가장 오래된 Tick 묶음부터 해제
+     *   (보관 기간이 심볼 간 비슷해지므로 메모리는 심볼별 거래량에 비례해 배분됨)
+     * - Tick 을 모두 비워도 넘으면 캔들을 추가로 제거
+     */
+    private void enforceMemoryBudget() {
+        if ((!memoryBudget.isExceeded() && !memoryBudget.isCandleExceeded()) || !evictionLock.tryLock()) {
+            return;
+        }
         try {
-            // 심볼에 해당하는 모든 차트 타입의 Candle 데이터를 가져옴
-            Map<ChartType, TreeMap<Instant, CandlePacketDTO>> symbolCandles = candleCache.get(symbol);
-            if (symbolCandles == null || symbolCandles.isEmpty()) {
-                return null;
-            }
-
-            return symbolCandles.values().stream()
-                    .filter(candles -> candles != null && !candles.isEmpty())
-                    .map(TreeMap::lastEntry)
-                    .filter(Objects::nonNull) // null Entry 필터링
-                    .max(Comparator.comparing(entry -> entry.getKey())) // 가장 최신 Instant로 정렬
-                    .map(Map.Entry::getValue)
-                    .orElse(null);
+            if (memoryBudget.isCandleExceeded()) {
+                long now = System.currentTimeMillis();
+                evictOldestCandles(now);
+            }
+            if (memoryBudget.isExceeded()) {
+                long now = System.currentTimeMillis();
+                while (memoryBudget.isAboveLowWatermark() && (evictOldestTickChunk() || evictOldestCandle(now))) {
+                    // 하한까지 반복
+                }
+            }
         } finally {
-            lock.readLock().unlock();
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 가장 오래된 Tick 이 있는 심볼의 첫 묶음을 해제
+     * - 버퍼 내부 잠금으로 보호되므로 심볼 쓰기 잠금 없이 수행
+     */
+    private boolean evictOldestTickChunk() {
+        TickRingBuffer oldest = null;
+        long oldestTimestamp = Long.MAX_VALUE;
+        for (TickRingBuffer ticks : tickCache.values()) {
+            long timestamp = ticks.oldestTimestamp();
+            if (timestamp < oldestTimestamp) {
+                oldestTimestamp = timestamp;
+                oldest = ticks;
+            }
         }
+        if (oldest == null) {
+            return false;
+        }
+        metrics.ticksEvicted(oldest.evictOldestChunk());
+        return true;
+    }
+
+    /**
+     * 캔들 한도의 하한까지 경과 봉 수가 큰 캔들부터 제거
+     * - 시리즈별 가장 오래된 캔들을 우선순위 큐로 관리하여 한 번에 많이 제거할 때(과거 데이터 적재 등)도 매번 전체 시리즈를 훑지 않음
+     */
+    private void evictOldestCandles(long now) {
+        PriorityQueue<CandleAge> queue = new PriorityQueue<>(Comparator.comparingLong(CandleAge::bars).reversed());
+        for (Map<ChartType, CandleSeries> intervalMap : candleCache.values()) {
+            for (Map.Entry<ChartType, CandleSeries> entry : intervalMap.entrySet()) {
+                CandleAge age = CandleAge.of(entry.getKey(), entry.getValue(), now);
+                if (age != null) {
+                    queue.add(age);
+                }
+            }
+        }
+        while (memoryBudget.isCandleAboveLowWatermark() && !queue.isEmpty()) {
+            CandleAge oldest = queue.poll();
+            if (oldest.series().evictOldest() == 0) {
+                continue;
+            }
+            metrics.candleEvicted();
+            CandleAge next = CandleAge.of(oldest.chartType(), oldest.series(), now);
+            if (next != null) {
+                queue.add(next);
+            }
+        }
+    }
+
+    /**
+     * 시리즈의 가장 오래된 캔들까지의 경과 봉 수
+     */
+    private record CandleAge(ChartType chartType, CandleSeries series, long bars) {
+        static CandleAge of(ChartType chartType, CandleSeries series, long now) {
+            long startTime = series.oldestStartTime();
+            return startTime == Long.MAX_VALUE ? null : new CandleAge(chartType, series, (now - startTime) / chartType.getIntervalInMillis());
+        }
+    }
+
+    /**
+     * 경과 봉 수가 가장 큰 캔들 하나를 제거
+     */
+    private boolean evictOldestCandle(long now) {
+        CandleSeries oldest = null;
+        long oldestBars = Long.MIN_VALUE;
+        for (Map<ChartType, CandleSeries> intervalMap : candleCache.values()) {
+            for (Map.Entry<ChartType, CandleSeries> entry : intervalMap.entrySet()) {
+                long startTime = entry.getValue().oldestStartTime();
+                if (startTime == Long.MAX_VALUE) {
+                    continue;
+                }
+                long bars = (now - startTime) / entry.getKey().getIntervalInMillis();
+                if (bars > oldestBars) {
+                    oldestBars = bars;
+                    oldest = entry.getValue();
+                }
+            }
+        }
+        if (oldest == null || oldest.evictOldest() == 0) {
+            return false;
+        }
+        metrics.candleEvicted();
+        return true;
+    }
+
+    /**
+     * 지연 Tick 으로 수정된 완료 캔들 수신
+     */
+    public interface CandleCorrectionListener {
+        void onCandlesCorrected(SymbolType symbol, List<CandlePacketDTO> candles);
+    }
+
+    /**
+     * 갱신된 지표 값 수신 (마감 값과 활성 캔들 미리보기 값, 같은 심볼의 여러 차트타입이 섞일 수 있음)
+     */
+    public interface IndicatorListener {
+        void onIndicatorsUpdated(SymbolType symbol, List<IndicatorPacketDTO> indicators);
+    }
+
+    /**
+     * 반영된 Tick / Candle 을 쓰기 순서대로 수신
+     * - afterWrite 외에는 심볼 쓰기 잠금 안에서 호출되므로 시퀀스 부여처럼 가벼운 작업만 수행
+     * - afterWrite 는 같은 쓰기의 잠금을 놓은 뒤 호출 (전송 등 느린 작업은 여기서 수행)
+     */
+    public interface WriteListener {
+        void onTickWritten(SymbolType symbol, TickPacketDTO tick);
+
+        /**
+         * addCandle 로 추가되었거나 롤업에서 마감된 캔들
+         */
+        void onCandleWritten(SymbolType symbol, CandlePacketDTO candle);
+
+        /**
+         * 지연 Tick 으로 수정된 완료 캔들 (수정된 순서대로)
+         */
+        void onCandleCorrected(SymbolType symbol, CandlePacketDTO candle);
+
+        /**
+         * Tick 반영 후 발행된 활성 캔들 상태 (Tick 묶음마다 한 번, 활성 캔들은 필요한 ChartType 만 조회)
+         */
+        void onActiveCandlesPublished(SymbolType symbol, CandleRollup.RollupSnapshot snapshot);
+
+        /**
+         * 활성 캔들 발행 직후 갱신된 지표 값 (마감 값과 활성 캔들 미리보기 값, 같은 심볼의 여러 차트타입이 섞일 수 있음)
+         */
+        void onIndicatorsUpdated(SymbolType symbol, List<IndicatorPacketDTO> indicators);
+
+        void afterWrite(SymbolType symbol);
+    }
+
+    private static long defaultMemoryBudget() {
+        return (long) (Runtime.getRuntime().maxMemory() * DEFAULT_HEAP_SHARE);
     }
-}
\ No newline at end of file
+}
@@ -1,29 +1,189 @@
 package com.theshowsoftware.ChatServer.service;
 
 
+import com.theshowsoftware.ChatServer.config.PacketFormatInterceptor;
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.DeliveryMode;
+import com.theshowsoftware.ChatServer.enums.PacketFormat;
 import com.theshowsoftware.ChatServer.enums.SymbolType;
-import lombok.RequiredArgsConstructor;
+import com.theshowsoftware.ChatServer.metrics.ChartMetrics;
+import com.theshowsoftware.ChatServer.utils.BinaryPacketCodec;
+import com.theshowsoftware.ChatServer.utils.PacketManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 클라이언트에게 WebSocket 패킷 전송
+ * - user : 사용자 경로(/user/topic/tick, /user/topic/candle)로 전송 (기존 방식)
+ * - topic : 심볼 / 차트 타입별 공개 경로(/sub/chart/{심볼}/{차트타입})로 한 번만 발행
+ *   페이로드는 형식마다 한 번 byte 배열로 만들고 모든 구독 세션이 같은 배열을 공유
+ * - 패킷마다 브로커 채널 전달 시간을 ChartMetrics 에 기록
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class PacketSenderService {
+    private static final String TICK_DESTINATION = "/topic/tick"; // 사용자 구독 경로
+    private static final String CANDLE_DESTINATION = "/topic/candle"; // 사용자 구독 경로
+    private static final MimeType TEXT_CONTENT_TYPE = new MimeType("text", "plain", StandardCharsets.UTF_8);
+
+    // [심볼 ordinal][차트 타입 ordinal] → 공개 경로 (전송 시 문자열 생성 없음)
+    private static final String[][] CHART_TOPICS = new String[SymbolType.values().length][ChartType.values().length];
+
+    static {
+        for (SymbolType symbolType : SymbolType.values()) {
+            for (ChartType chartType : ChartType.values()) {
+                CHART_TOPICS[symbolType.ordinal()][chartType.ordinal()] =
+                        "/sub/chart/" + symbolType.getSymbol() + "/" + chartType.getLabel();
+            }
+        }
+    }
+
     private final SimpMessagingTemplate messagingTemplate;
+    private final PacketFormatInterceptor packetFormatInterceptor;
+    private final DeliveryMode deliveryMode;
+    private final ChartMetrics metrics;
+
+    public PacketSenderService(SimpMessagingTemplate messagingTemplate,
+                               PacketFormatInterceptor packetFormatInterceptor,
+                               ChartMetrics metrics,
+                               @Value("${chart.delivery.mode:user}") String deliveryMode) {
+        this.messagingTemplate = messagingTemplate;
+        this.packetFormatInterceptor = packetFormatInterceptor;
+        this.metrics = metrics;
+        this.deliveryMode = DeliveryMode.valueOf(deliveryMode.trim().toUpperCase());
+        log.info("[PacketSender] 전송 방식: {}", this.deliveryMode);
+    }
+
+    /**
+     * 심볼 / 차트 타입별 공개 경로
+     */
+    public static String chartTopic(SymbolType symbolType, ChartType chartType) {
+        return CHART_TOPICS[symbolType.ordinal()][chartType.ordinal()];
+    }
+
+    /**
+     * 틱 데이터를 설정된 전송 방식으로 전송
+     */
+    public void sendTick(SymbolType symbolType, String userId, TickPacketDTO tick) {
+        if (deliveryMode != DeliveryMode.TOPIC) {
+            sendTickDataToUser(symbolType, userId, tick);
+        }
+        if (deliveryMode != DeliveryMode.USER) {
+            broadcastTick(symbolType, tick);
+        }
+    }
+
+    /**
+     * 캔들 데이터를 설정된 전송 방식으로 전송
+     */
+    public void sendCandle(String userId, CandlePacketDTO candle) {
+        if (deliveryMode != DeliveryMode.TOPIC) {
+            sendCandleDataToUser(userId, candle);
+        }
+        if (deliveryMode != DeliveryMode.USER) {
+            broadcastCandle(candle);
+        }
+    }
+
+    /**
+     * 틱 데이터를 /sub/chart/{심볼}/TICK 으로 한 번 발행
+     */
+    public void broadcastTick(SymbolType symbolType, TickPacketDTO tick) {
+        String topic = chartTopic(symbolType, ChartType.TICK);
+        publish(topic, PacketManager.createTickPacket(symbolType, tick).getBytes(StandardCharsets.UTF_8), TEXT_CONTENT_TYPE);
+        if (packetFormatInterceptor.hasBinarySessions()) {
+            publish(topic + PacketFormat.BINARY.getDestinationSuffix(),
+                    BinaryPacketCodec.encodeTick(symbolType, tick), MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        }
+    }
+
+    /**
+     * 캔들 데이터를 /sub/chart/{심볼}/{차트타입} 으로 한 번 발행
+     */
+    public void broadcastCandle(CandlePacketDTO candle) {
+        String topic = chartTopic(candle.getSymbolType(), candle.getChartType());
+        publish(topic, PacketManager.createCandlePacket(candle).getBytes(StandardCharsets.UTF_8), TEXT_CONTENT_TYPE);
+        if (packetFormatInterceptor.hasBinarySessions()) {
+            publish(topic + PacketFormat.BINARY.getDestinationSuffix(),
+                    BinaryPacketCodec.encodeCandle(candle), MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        }
+    }
 
     /**
      * 틱 데이터를 전송
      */
     public void sendTickDataToUser(SymbolType symbolType, String userId, String packet) {
-        String destination = "/topic/tick"; // 사용자 구독 경로
-        messagingTemplate.convertAndSendToUser(userId, destination, packet);
+        long start = System.nanoTime();
+        messagingTemplate.convertAndSendToUser(userId, TICK_DESTINATION, packet);
+        metrics.recordBroadcast(System.nanoTime() - start);
     }
 
     /**
      * 캔들 데이터를 전송
      */
     public void sendCandleDataToUser(SymbolType symbolType, String userId, String packet) {
-        String destination = "/topic/candle"; // 사용자 구독 경로
-        messagingTemplate.convertAndSendToUser(userId, destination, packet);
+        long start = System.nanoTime();
+        messagingTemplate.convertAndSendToUser(userId, CANDLE_DESTINATION, packet);
+        metrics.recordBroadcast(System.nanoTime() - start);
+    }
+
+    /**
+     * 틱 데이터를 협상된 형식별로 전송 (형식마다 한 번만 인코딩)
+     */
+    public void sendTickDataToUser(SymbolType symbolType, String userId, TickPacketDTO tick) {
+        sendTickDataToUser(symbolType, userId, PacketManager.createTickPacket(symbolType, tick));
+        if (packetFormatInterceptor.hasBinarySessions()) {
+            sendBinary(userId, TICK_DESTINATION, BinaryPacketCodec.encodeTick(symbolType, tick));
+        }
+    }
+
+    /**
+     * 캔들 데이터를 협상된 형식별로 전송 (형식마다 한 번만 인코딩)
+     */
+    public void sendCandleDataToUser(String userId, CandlePacketDTO candle) {
+        sendCandleDataToUser(candle.getSymbolType(), userId, PacketManager.createCandlePacket(candle));
+        if (packetFormatInterceptor.hasBinarySessions()) {
+            sendBinary(userId, CANDLE_DESTINATION, BinaryPacketCodec.encodeCandle(candle));
+        }
+    }
+
+    private void sendBinary(String userId, String destination, byte[] packet) {
+        long start = System.nanoTime();
+        messagingTemplate.convertAndSendToUser(userId, destination + PacketFormat.BINARY.getDestinationSuffix(), packet,
+                headers(MimeTypeUtils.APPLICATION_OCTET_STREAM));
+        metrics.recordBroadcast(System.nanoTime() - start);
+    }
+
+    /**
+     * 변환 없이 완성된 페이로드를 브로커로 전달 (브로커가 구독 세션마다 같은 배열을 전달)
+     */
+    private void publish(String destination, byte[] payload, MimeType contentType) {
+        long start = System.nanoTime();
+        Message<byte[]> message = MessageBuilder.createMessage(payload, headers(contentType));
+        messagingTemplate.send(destination, message);
+        metrics.recordBroadcast(System.nanoTime() - start);
+    }
+
+    /**
+     * content-type 지정 헤더 (바이너리는 WebSocket 바이너리 프레임으로 전송됨)
+     */
+    private static MessageHeaders headers(MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(contentType);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.theshowsoftware.ChatServer.service.backfill;
+
+/**
+ * 과거 데이터 적재 결과
+ * - ticks : 캐시에 저장한 Tick 수
+ * - overlappingTicks : 캐시에 이미 있는 실시간 구간과 겹쳐 건너뛴 Tick 수
+ * - rejectedTicks : 유효하지 않아 제외한 Tick 수
+ * - candles : 완료 캔들 목록에 추가 / 병합한 캔들 수
+ * - skippedCandles : 활성 캔들 구간이라 반영하지 않은 캔들 수
+ */
+public record BackfillResult(int symbols,
+                             long ticks,
+                             long overlappingTicks,
+                             long rejectedTicks,
+                             long candles,
+                             long skippedCandles) {
+
+    public static final BackfillResult EMPTY = new BackfillResult(0, 0, 0, 0, 0, 0);
+
+    public BackfillResult plus(BackfillResult other) {
+        return new BackfillResult(symbols + other.symbols, ticks + other.ticks, overlappingTicks + other.overlappingTicks,
+                rejectedTicks + other.rejectedTicks, candles + other.candles, skippedCandles + other.skippedCandles);
+    }
+}
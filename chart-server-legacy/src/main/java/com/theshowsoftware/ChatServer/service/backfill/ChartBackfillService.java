@@ -0,0 +1,83 @@
+package com.theshowsoftware.ChatServer.service.backfill;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 과거 Tick 대량 적재 (POST /chart/backfill 또는 직접 호출)
+ * - 심볼별 묶음을 전용 fork-join 풀에서 병렬 처리 (ChartCacheService.backfillTicks)
+ * - 심볼 안에서도 Tick 압축 블록 생성은 같은 풀에서 블록 단위로 병렬 수행
+ * - 실시간 수집 / 조회 스레드와 공용 풀(ForkJoinPool.commonPool)을 나눠 쓰지 않도록 별도 풀 사용
+ */
+@Slf4j
+@Service
+public class ChartBackfillService {
+
+    private final ChartCacheService chartCacheService;
+    private final ForkJoinPool pool;
+
+    public ChartBackfillService(ChartCacheService chartCacheService,
+                                @Value("${chart.backfill.parallelism:0}") int parallelism) {
+        this.chartCacheService = chartCacheService;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("chart-backfill-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 심볼별 과거 Tick 적재
+     *
+     * @param ticksBySymbol 심볼별 Tick 목록 (정렬되어 있지 않아도 됨)
+     * @return 전체 심볼 합계
+     */
+    public BackfillResult backfill(Map<SymbolType, List<TickPacketDTO>> ticksBySymbol) {
+        if (ticksBySymbol == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+        long start = System.nanoTime();
+        BackfillResult result;
+        try {
+            result = pool.submit(() -> ticksBySymbol.entrySet().parallelStream()
+                    .filter(entry -> entry.getKey() != null && entry.getValue() != null && !entry.getValue().isEmpty())
+                    .map(entry -> chartCacheService.backfillTicks(entry.getKey(), entry.getValue()))
+                    .reduce(BackfillResult.EMPTY, BackfillResult::plus)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.BACKFILL_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            log.error("[ChartBackfill] 과거 데이터 적재 중 오류", e.getCause());
+            throw new CustomException(ErrorCode.BACKFILL_FAILED);
+        }
+
+        log.info("[ChartBackfill] 과거 데이터 적재 완료 (심볼: {}, Tick: {}, 캔들: {}, 실시간 구간과 겹친 Tick: {}, 제외한 Tick: {}, 소요: {}ms)",
+                result.symbols(), result.ticks(), result.candles(), result.overlappingTicks(), result.rejectedTicks(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차트 캐시 전체 메모리 예산
+ * - Tick 묶음과 완료 캔들의 힙 사용량을 합산 (TickRingBuffer / CandleSeries 의 memoryListener 로 갱신)
+ * - 캔들은 예산의 candleShare 비율까지만 사용하고, Tick 은 예산에서 캔들 사용량을 뺀 나머지를 사용
+ * - 한도를 넘으면 하한(한도의 LOW_WATERMARK 비율)까지 회수하여 회수 빈도를 줄임
+ */
+public class CacheMemoryBudget {
+
+    private static final double LOW_WATERMARK = 0.99;
+
+    private final long maxBytes;
+    private final long candleMaxBytes;
+    private final AtomicLong tickBytes = new AtomicLong();
+    private final AtomicLong candleBytes = new AtomicLong();
+
+    public CacheMemoryBudget(long maxBytes, double candleShare) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        if (candleShare <= 0 || candleShare > 1) {
+            throw new IllegalArgumentException("candleShare must be in (0, 1]: " + candleShare);
+        }
+        this.maxBytes = maxBytes;
+        this.candleMaxBytes = (long) (maxBytes * candleShare);
+    }
+
+    public void addTickBytes(long delta) {
+        tickBytes.addAndGet(delta);
+    }
+
+    public void addCandleBytes(long delta) {
+        candleBytes.addAndGet(delta);
+    }
+
+    /**
+     * 전체 사용량이 예산을 넘었는지 여부
+     */
+    public boolean isExceeded() {
+        return getUsedBytes() > maxBytes;
+    }
+
+    /**
+     * 회수 후 목표(하한)보다 전체 사용량이 큰지 여부
+     */
+    public boolean isAboveLowWatermark() {
+        return getUsedBytes() > (long) (maxBytes * LOW_WATERMARK);
+    }
+
+    /**
+     * 캔들 사용량이 캔들 한도를 넘었는지 여부
+     */
+    public boolean isCandleExceeded() {
+        return candleBytes.get() > candleMaxBytes;
+    }
+
+    /**
+     * 회수 후 목표(하한)보다 캔들 사용량이 큰지 여부
+     */
+    public boolean isCandleAboveLowWatermark() {
+        return candleBytes.get() > (long) (candleMaxBytes * LOW_WATERMARK);
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getCandleMaxBytes() {
+        return candleMaxBytes;
+    }
+
+    public long getTickBytes() {
+        return tickBytes.get();
+    }
+
+    public long getCandleBytes() {
+        return candleBytes.get();
+    }
+
+    public long getUsedBytes() {
+        return tickBytes.get() + candleBytes.get();
+    }
+}
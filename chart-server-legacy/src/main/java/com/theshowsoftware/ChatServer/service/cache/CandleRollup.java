@@ -0,0 +1,622 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 심볼 단위 다중 인터벌 캔들 롤업 엔진
+ * - Tick 마다 가장 작은 인터벌(1초) 캔들만 갱신
+ * - 상위 인터벌은 마감된 하위 캔들을 누적하여 계산 (1s → 5s → 10s → 30s → 1m → ... → 1d → 1w / 1M)
+ * - 상위 인터벌의 활성 캔들은 조회 시 "누적분 + 하위 활성 캔들" 로 합성
+ * - 캔들 값은 long 배열(고정 소수점)로 보관하여 Tick 처리 시 객체를 만들지 않음
+ * - 단일 쓰기 스레드 전용, 조회는 publish() 로 발행된 RollupSnapshot 을 사용
+ */
+public class CandleRollup {
+
+    /**
+     * 캔들 마감 이벤트 수신
+     */
+    public interface Listener {
+        void onCandleClosed(ChartType chartType, CandlePacketDTO candle);
+    }
+
+    /**
+     * 반영된 Tick 존재 여부 조회 (지연 Tick 이 시가 / 종가가 되는지 판단)
+     */
+    public interface TickIndex {
+        /**
+         * [startMillis, endMillis] 범위에 Tick 이 있는지 여부
+         */
+        boolean contains(long startMillis, long endMillis);
+    }
+
+    // 캔들 값 배열 구성 (ChartType 당 STRIDE 개)
+    static final int START = 0;
+    static final int END = 1;
+    static final int OPEN = 2;
+    static final int HIGH = 3;
+    static final int LOW = 4;
+    static final int CLOSE = 5;
+    static final int QUANTITY = 6;
+    static final int COUNT = 7; // 0 이면 캔들 없음
+    static final int STRIDE = 8;
+
+    static final ChartType BASE = ChartType.ONE_SECOND;
+
+    // 상위 인터벌 → 누적 원본이 되는 하위 인터벌
+    static final Map<ChartType, ChartType> SOURCES = new EnumMap<>(Map.ofEntries(
+            Map.entry(ChartType.TICK, ChartType.ONE_SECOND),
+            Map.entry(ChartType.THREE_SECONDS, ChartType.ONE_SECOND),
+            Map.entry(ChartType.FIVE_SECONDS, ChartType.ONE_SECOND),
+            Map.entry(ChartType.TEN_SECONDS, ChartType.FIVE_SECONDS),
+            Map.entry(ChartType.THIRTY_SECONDS, ChartType.TEN_SECONDS),
+            Map.entry(ChartType.ONE_MINUTE, ChartType.THIRTY_SECONDS),
+            Map.entry(ChartType.THREE_MINUTES, ChartType.ONE_MINUTE),
+            Map.entry(ChartType.FIVE_MINUTES, ChartType.ONE_MINUTE),
+            Map.entry(ChartType.TEN_MINUTES, ChartType.FIVE_MINUTES),
+            Map.entry(ChartType.FIFTEEN_MINUTES, ChartType.FIVE_MINUTES),
+            Map.entry(ChartType.ONE_HOUR, ChartType.FIFTEEN_MINUTES),
+            Map.entry(ChartType.THREE_HOURS, ChartType.ONE_HOUR),
+            Map.entry(ChartType.FIVE_HOURS, ChartType.ONE_HOUR),
+            Map.entry(ChartType.TWELVE_HOURS, ChartType.ONE_HOUR),
+            Map.entry(ChartType.ONE_DAY, ChartType.TWELVE_HOURS),
+            Map.entry(ChartType.THREE_DAYS, ChartType.ONE_DAY),
+            Map.entry(ChartType.ONE_WEEK, ChartType.ONE_DAY),
+            Map.entry(ChartType.ONE_MONTH, ChartType.ONE_DAY)
+    ));
+
+    // 하위 → 상위 순서의 처리 순서 (BASE 제외)
+    private static final ChartType[] ROLLUP_ORDER;
+
+    // 하위 인터벌 ordinal → 이를 원본으로 사용하는 상위 인터벌 목록
+    private static final ChartType[][] DEPENDENTS;
+
+    // ChartType ordinal → 자신과 원본 인터벌 전체의 비트 마스크 (활성 캔들 합성에 필요한 인터벌)
+    private static final long[] CLOSURES;
+
+    static {
+        List<ChartType> order = new ArrayList<>();
+        List<List<ChartType>> dependents = new ArrayList<>();
+        for (int i = 0; i < ChartType.values().length; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        // 원본이 먼저 처리되도록 위상 정렬
+        List<ChartType> resolved = new ArrayList<>(List.of(BASE));
+        while (resolved.size() <= SOURCES.size()) {
+            for (Map.Entry<ChartType, ChartType> entry : SOURCES.entrySet()) {
+                if (!resolved.contains(entry.getKey()) && resolved.contains(entry.getValue())) {
+                    resolved.add(entry.getKey());
+                    order.add(entry.getKey());
+                    dependents.get(entry.getValue().ordinal()).add(entry.getKey());
+                }
+            }
+        }
+        ROLLUP_ORDER = order.toArray(new ChartType[0]);
+        DEPENDENTS = new ChartType[dependents.size()][];
+        for (int i = 0; i < dependents.size(); i++) {
+            DEPENDENTS[i] = dependents.get(i).toArray(new ChartType[0]);
+        }
+        if (ChartType.values().length > Long.SIZE) {
+            throw new IllegalStateException("ChartType mask overflow");
+        }
+        CLOSURES = new long[ChartType.values().length];
+        for (ChartType chartType : ChartType.values()) {
+            for (ChartType type = chartType; type != null; type = SOURCES.get(type)) {
+                CLOSURES[chartType.ordinal()] |= 1L << type.ordinal();
+            }
+        }
+    }
+
+    private final SymbolType symbol;
+    private final Listener listener;
+
+    // 쓰기 스레드 전용 작업 상태 (BASE 는 활성 1초 캔들, 나머지는 마감된 하위 캔들 누적분)
+    private final long[] working = new long[ChartType.values().length * STRIDE];
+
+    // 발행된 누적분 복사본 (롤 발생 시에만 교체)
+    private long[] publishedPartials = working.clone();
+    private boolean partialsDirty;
+
+    // 발행 상태에 반영된 마지막 Tick 다음 저널 위치 (저널 미사용이면 -1)
+    private long journalPosition = -1;
+
+    // 발행 상태에 반영된 Tick 버퍼 누적 추가 수 (TickRingBuffer.addedCount)
+    private long tickCount;
+
+    // 지금까지 반영된 가장 늦은 Tick 시간 (워터마크 기준)
+    private long maxTimestamp = Long.MIN_VALUE;
+
+    // 활성 1초 캔들의 가장 이른 / 늦은 Tick 시간 (같은 1초 안에서 순서가 바뀐 Tick 의 시가 / 종가 판단)
+    private long baseFirstTimestamp = Long.MIN_VALUE;
+    private long baseLastTimestamp = Long.MIN_VALUE;
+
+    private volatile RollupSnapshot snapshot;
+
+    public CandleRollup(SymbolType symbol, Listener listener) {
+        this.symbol = symbol;
+        this.listener = listener;
+        this.snapshot = new RollupSnapshot(symbol, publishedPartials, new long[STRIDE], journalPosition, tickCount);
+    }
+
+    /**
+     * Tick 반영
+     * - 현재 1초 캔들보다 과거의 Tick 은 반영하지 않음 (false 반환, 지연 Tick 은 onLateTick 으로 반영)
+     * - 같은 1초 안에서 순서가 바뀐 Tick 은 시간 기준으로 시가 / 종가를 판단
+     */
+    public boolean onTick(long timestamp, long price, long quantity) {
+        int base = BASE.ordinal() * STRIDE;
+        long bucketStart = BASE.bucketStart(timestamp);
+        if (isLate(timestamp)) {
+            return false;
+        }
+        maxTimestamp = Math.max(maxTimestamp, timestamp);
+
+        if (working[base + COUNT] != 0) {
+            long activeStart = working[base + START];
+            if (bucketStart == activeStart) {
+                working[base + HIGH] = Math.max(working[base + HIGH], price);
+                working[base + LOW] = Math.min(working[base + LOW], price);
+                if (timestamp < baseFirstTimestamp) {
+                    working[base + OPEN] = price;
+                    baseFirstTimestamp = timestamp;
+                }
+                if (timestamp >= baseLastTimestamp) {
+                    working[base + CLOSE] = price;
+                    baseLastTimestamp = timestamp;
+                }
+                working[base + QUANTITY] += quantity;
+                working[base + COUNT]++;
+                return true;
+            }
+            roll(bucketStart);
+        }
+
+        working[base + START] = bucketStart;
+        working[base + END] = BASE.bucketEnd(bucketStart);
+        working[base + OPEN] = price;
+        working[base + HIGH] = price;
+        working[base + LOW] = price;
+        working[base + CLOSE] = price;
+        working[base + QUANTITY] = quantity;
+        working[base + COUNT] = 1;
+        baseFirstTimestamp = timestamp;
+        baseLastTimestamp = timestamp;
+        return true;
+    }
+
+    /**
+     * 현재 1초 캔들보다 과거의 Tick 인지 여부
+     */
+    public boolean isLate(long timestamp) {
+        int base = BASE.ordinal() * STRIDE;
+        return working[base + COUNT] != 0 && BASE.bucketStart(timestamp) < working[base + START];
+    }
+
+    /**
+     * 이벤트 시간 워터마크 (반영된 가장 늦은 Tick 시간 - 허용 지연)
+     * - 스냅샷 복원 직후처럼 Tick 시간을 모르면 활성 1초 캔들 시작 시간 기준
+     */
+    public long watermark(long allowedLatenessMillis) {
+        long latest = Math.max(maxTimestamp, working[BASE.ordinal() * STRIDE + START]);
+        return latest == Long.MIN_VALUE ? Long.MIN_VALUE : latest - allowedLatenessMillis;
+    }
+
+    /**
+     * 현재 1초 캔들보다 과거인 지연 Tick 반영 (워터마크 검사는 호출자가 수행)
+     * - 구간이 아직 활성인 ChartType 중 하위 구간이 마감된 경우 누적분에 반영
+     *   (하위 구간도 활성이면 하위 캔들이 마감될 때 누적되므로 그대로 둠)
+     * - 구간이 이미 마감된 ChartType 은 반환하여 호출자가 완료 캔들을 수정 (correct)
+     * - 시가 / 종가는 같은 구간에 더 이른 / 늦은 Tick 이 없을 때만 교체
+     *
+     * @return 캔들이 이미 마감되어 수정이 필요한 ChartType 목록 (지연 Tick 이 아니면 빈 목록)
+     */
+    public List<ChartType> onLateTick(long timestamp, long price, long quantity, TickIndex ticks) {
+        if (!isLate(timestamp)) {
+            return List.of();
+        }
+        long activeStart = working[BASE.ordinal() * STRIDE + START];
+        List<ChartType> closed = new ArrayList<>();
+        closed.add(BASE);
+        for (ChartType chartType : ROLLUP_ORDER) {
+            long bucketStart = chartType.bucketStart(timestamp);
+            if (bucketStart != chartType.bucketStart(activeStart)) {
+                closed.add(chartType);
+                continue;
+            }
+            ChartType source = SOURCES.get(chartType);
+            long sourceActiveStart = source.bucketStart(activeStart);
+            if (source.bucketStart(timestamp) == sourceActiveStart) {
+                continue;
+            }
+            int offset = chartType.ordinal() * STRIDE;
+            if (working[offset + COUNT] == 0) {
+                working[offset + START] = bucketStart;
+                working[offset + END] = chartType.bucketEnd(bucketStart);
+            }
+            // 누적분은 하위 활성 구간 이전의 Tick 으로만 구성됨
+            amend(working, offset, timestamp, price, quantity, ticks, sourceActiveStart);
+            partialsDirty = true;
+        }
+        return closed;
+    }
+
+    /**
+     * 마감된 캔들에 지연 Tick 을 반영한 새 캔들 (closed 가 없으면 Tick 하나로 구성된 캔들)
+     */
+    public static CandlePacketDTO correct(SymbolType symbol, ChartType chartType, CandlePacketDTO closed,
+                                          long timestamp, long price, long quantity, TickIndex ticks) {
+        BigInteger value = BigInteger.valueOf(price);
+        if (closed == null) {
+            long bucketStart = chartType.bucketStart(timestamp);
+            return CandlePacketDTO.builder()
+                    .symbolType(symbol)
+                    .chartType(chartType)
+                    .candleStartTime(bucketStart)
+                    .candleEndTime(chartType.bucketEnd(bucketStart))
+                    .startPrice(value)
+                    .highPrice(value)
+                    .lowPrice(value)
+                    .endPrice(value)
+                    .quantity(quantity)
+                    .tickCount(1)
+                    .build();
+        }
+        boolean first = closed.getStartPrice() == null || !ticks.contains(closed.getCandleStartTime(), timestamp);
+        boolean last = closed.getEndPrice() == null || !ticks.contains(timestamp + 1, closed.getCandleEndTime() - 1);
+        return closed.toBuilder()
+                .startPrice(first ? value : closed.getStartPrice())
+                .highPrice(closed.getHighPrice() == null ? value : closed.getHighPrice().max(value))
+                .lowPrice(closed.getLowPrice() == null ? value : closed.getLowPrice().min(value))
+                .endPrice(last ? value : closed.getEndPrice())
+                .quantity(closed.getQuantity() == null ? quantity : closed.getQuantity() + quantity)
+                .tickCount(closed.getTickCount() + 1)
+                .build();
+    }
+
+    /**
+     * 지연 Tick 을 캔들 값에 반영
+     * - 시가는 캔들 시작 ~ Tick 시간, 종가는 Tick 이후 ~ coverEnd 이전에 다른 Tick 이 없을 때만 교체
+     *   (같은 시간의 Tick 은 먼저 도착한 Tick 이 앞이므로 시가 판단에만 포함)
+     */
+    static void amend(long[] values, int offset, long timestamp, long price, long quantity, TickIndex ticks, long coverEnd) {
+        if (values[offset + COUNT] == 0) {
+            values[offset + OPEN] = price;
+            values[offset + HIGH] = price;
+            values[offset + LOW] = price;
+            values[offset + CLOSE] = price;
+            values[offset + QUANTITY] = quantity;
+            values[offset + COUNT] = 1;
+            return;
+        }
+        if (!ticks.contains(values[offset + START], timestamp)) {
+            values[offset + OPEN] = price;
+        }
+        if (!ticks.contains(timestamp + 1, coverEnd - 1)) {
+            values[offset + CLOSE] = price;
+        }
+        values[offset + HIGH] = Math.max(values[offset + HIGH], price);
+        values[offset + LOW] = Math.min(values[offset + LOW], price);
+        values[offset + QUANTITY] += quantity;
+        values[offset + COUNT]++;
+    }
+
+    /**
+     * 현재 상태를 조회용 스냅샷으로 발행
+     * - 누적분은 롤 발생 시에만 복사, 평상시에는 1초 캔들 값만 복사
+     */
+    public void publish() {
+        publish(journalPosition);
+    }
+
+    /**
+     * 현재 상태를 저널 위치와 함께 발행 (위치 이전의 Tick 이 모두 반영된 상태여야 함)
+     */
+    public void publish(long journalPosition) {
+        publish(journalPosition, tickCount);
+    }
+
+    /**
+     * 현재 상태를 저널 위치 및 Tick 버퍼 누적 추가 수와 함께 발행
+     */
+    public void publish(long journalPosition, long tickCount) {
+        if (partialsDirty) {
+            publishedPartials = working.clone();
+            partialsDirty = false;
+        }
+        long[] base = new long[STRIDE];
+        System.arraycopy(working, BASE.ordinal() * STRIDE, base, 0, STRIDE);
+        this.journalPosition = journalPosition;
+        this.tickCount = tickCount;
+        snapshot = new RollupSnapshot(symbol, publishedPartials, base, journalPosition, tickCount);
+    }
+
+    public RollupSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷에서 내보낸 상태(RollupSnapshot.exportState)로 작업 상태를 교체하고 발행
+     * - 쓰기 스레드에서만 호출 (수집 시작 전 복원용)
+     */
+    public void restore(Map<ChartType, long[]> state) {
+        restore(state, -1);
+    }
+
+    /**
+     * 스냅샷 상태와 그 상태의 저널 위치로 복원
+     */
+    public void restore(Map<ChartType, long[]> state, long journalPosition) {
+        long[] restored = new long[working.length];
+        for (Map.Entry<ChartType, long[]> entry : state.entrySet()) {
+            long[] values = entry.getValue();
+            if (values.length != STRIDE) {
+                throw new IllegalArgumentException("invalid rollup state length: " + values.length);
+            }
+            System.arraycopy(values, 0, restored, entry.getKey().ordinal() * STRIDE, STRIDE);
+        }
+        System.arraycopy(restored, 0, working, 0, working.length);
+        // 복원한 1초 캔들의 Tick 시간은 알 수 없으므로 시가는 유지하고 이후 Tick 은 종가로 반영
+        baseFirstTimestamp = Long.MIN_VALUE;
+        baseLastTimestamp = Long.MIN_VALUE;
+        partialsDirty = true;
+        publish(journalPosition, 0);
+    }
+
+    /**
+     * 1초 캔들 마감 후 만료된 상위 인터벌을 하위 → 상위 순으로 마감
+     */
+    private void roll(long newBaseStart) {
+        close(BASE);
+        for (ChartType chartType : ROLLUP_ORDER) {
+            int offset = chartType.ordinal() * STRIDE;
+            if (working[offset + COUNT] != 0 && working[offset + END] <= newBaseStart) {
+                close(chartType);
+            }
+        }
+        partialsDirty = true;
+    }
+
+    /**
+     * 캔들 마감: 캐시로 전달하고 상위 인터벌 누적분에 합산
+     */
+    private void close(ChartType chartType) {
+        int offset = chartType.ordinal() * STRIDE;
+        listener.onCandleClosed(chartType, toDTO(symbol, chartType, working, offset));
+
+        for (ChartType dependent : DEPENDENTS[chartType.ordinal()]) {
+            int target = dependent.ordinal() * STRIDE;
+            long bucketStart = dependent.bucketStart(working[offset + START]);
+            if (working[target + COUNT] != 0 && working[target + START] != bucketStart) {
+                close(dependent);
+            }
+            if (working[target + COUNT] == 0) {
+                working[target + START] = bucketStart;
+                working[target + END] = dependent.bucketEnd(bucketStart);
+            }
+            merge(working, target, working, offset);
+        }
+        working[offset + COUNT] = 0;
+    }
+
+    /**
+     * source 캔들을 target 캔들 뒤에 이어 붙임 (target 의 START/END 는 유지)
+     */
+    static void merge(long[] target, int targetOffset, long[] source, int sourceOffset) {
+        if (source[sourceOffset + COUNT] == 0) {
+            return;
+        }
+        if (target[targetOffset + COUNT] == 0) {
+            target[targetOffset + OPEN] = source[sourceOffset + OPEN];
+            target[targetOffset + HIGH] = source[sourceOffset + HIGH];
+            target[targetOffset + LOW] = source[sourceOffset + LOW];
+            target[targetOffset + QUANTITY] = 0;
+        } else {
+            target[targetOffset + HIGH] = Math.max(target[targetOffset + HIGH], source[sourceOffset + HIGH]);
+            target[targetOffset + LOW] = Math.min(target[targetOffset + LOW], source[sourceOffset + LOW]);
+        }
+        target[targetOffset + CLOSE] = source[sourceOffset + CLOSE];
+        target[targetOffset + QUANTITY] += source[sourceOffset + QUANTITY];
+        target[targetOffset + COUNT] += source[sourceOffset + COUNT];
+    }
+
+    static CandlePacketDTO toDTO(SymbolType symbol, ChartType chartType, long[] values, int offset) {
+        return CandlePacketDTO.builder()
+                .symbolType(symbol)
+                .chartType(chartType)
+                .candleStartTime(values[offset + START])
+                .candleEndTime(values[offset + END])
+                .startPrice(BigInteger.valueOf(values[offset + OPEN]))
+                .highPrice(BigInteger.valueOf(values[offset + HIGH]))
+                .lowPrice(BigInteger.valueOf(values[offset + LOW]))
+                .endPrice(BigInteger.valueOf(values[offset + CLOSE]))
+                .quantity(values[offset + QUANTITY])
+                .tickCount((int) values[offset + COUNT])
+                .build();
+    }
+
+    /**
+     * 발행된 불변 롤업 상태
+     * - 활성 캔들은 조회 시 누적분과 하위 활성 캔들을 합성하여 생성
+     */
+    public static final class RollupSnapshot {
+        private final SymbolType symbol;
+        private final long[] partials;
+        private final long[] base;
+        private final long journalPosition;
+        private final long tickCount;
+
+        private RollupSnapshot(SymbolType symbol, long[] partials, long[] base, long journalPosition, long tickCount) {
+            this.symbol = symbol;
+            this.partials = partials;
+            this.base = base;
+            this.journalPosition = journalPosition;
+            this.tickCount = tickCount;
+        }
+
+        /**
+         * 이 상태에 반영된 마지막 Tick 다음 저널 위치 (저널 미사용이면 -1)
+         */
+        public long getJournalPosition() {
+            return journalPosition;
+        }
+
+        /**
+         * 이 상태에 반영된 Tick 버퍼 누적 추가 수 (발행 시 지정하지 않았으면 0)
+         */
+        public long getTickCount() {
+            return tickCount;
+        }
+
+        /**
+         * ChartType 의 현재 활성 캔들 (없으면 null)
+         */
+        public CandlePacketDTO activeCandle(ChartType chartType) {
+            long[] view = compose(chartType);
+            return view == null ? null : toDTO(symbol, chartType, view, 0);
+        }
+
+        /**
+         * 전체 ChartType 의 활성 캔들
+         */
+        public Map<ChartType, CandlePacketDTO> activeCandles() {
+            Map<ChartType, CandlePacketDTO> result = new EnumMap<>(ChartType.class);
+            for (ChartType chartType : ChartType.values()) {
+                CandlePacketDTO candle = activeCandle(chartType);
+                if (candle != null) {
+                    result.put(chartType, candle);
+                }
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        /**
+         * 캔들이 있는 ChartType 별 작업 상태 (1초 캔들은 활성 캔들, 나머지는 마감된 하위 캔들 누적분)
+         */
+        public Map<ChartType, long[]> exportState() {
+            Map<ChartType, long[]> result = new EnumMap<>(ChartType.class);
+            for (ChartType chartType : ChartType.values()) {
+                long[] values = chartType == BASE ? base : partials;
+                int offset = chartType == BASE ? 0 : chartType.ordinal() * STRIDE;
+                if (values[offset + COUNT] != 0) {
+                    result.put(chartType, Arrays.copyOfRange(values, offset, offset + STRIDE));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * mask(ChartType ordinal 비트)에 포함된 ChartType 의 활성 캔들 값을 하위 → 상위 순으로 한 번씩만 합성하여 out 에 기록
+         * - 원본 인터벌은 한 번 합성한 값을 상위 인터벌이 이어 사용 (ChartType 마다 재귀 합성 / 객체 생성 없음)
+         * - mask 에 없는 ChartType 의 out 값은 정의되지 않음
+         */
+        public void composeActive(long mask, ActiveCandles out) {
+            long needed = 0;
+            for (long bits = mask; bits != 0; bits &= bits - 1) {
+                needed |= CLOSURES[Long.numberOfTrailingZeros(bits)];
+            }
+            long[] values = out.values;
+            if ((needed & 1L << BASE.ordinal()) != 0) {
+                System.arraycopy(base, 0, values, BASE.ordinal() * STRIDE, STRIDE);
+            }
+            for (ChartType chartType : ROLLUP_ORDER) {
+                if ((needed & 1L << chartType.ordinal()) == 0) {
+                    continue;
+                }
+                int offset = chartType.ordinal() * STRIDE;
+                int source = SOURCES.get(chartType).ordinal() * STRIDE;
+                boolean hasSource = values[source + COUNT] != 0;
+                if (partials[offset + COUNT] != 0) {
+                    System.arraycopy(partials, offset, values, offset, STRIDE);
+                } else if (hasSource) {
+                    values[offset + START] = chartType.bucketStart(values[source + START]);
+                    values[offset + END] = chartType.bucketEnd(values[offset + START]);
+                    values[offset + COUNT] = 0;
+                } else {
+                    values[offset + COUNT] = 0;
+                    continue;
+                }
+                if (hasSource && chartType.bucketStart(values[source + START]) == values[offset + START]) {
+                    merge(values, offset, values, source);
+                }
+            }
+        }
+
+        private long[] compose(ChartType chartType) {
+            if (chartType == BASE) {
+                return base[COUNT] == 0 ? null : base.clone();
+            }
+            ChartType source = SOURCES.get(chartType);
+            if (source == null) {
+                return null;
+            }
+
+            long[] sourceView = compose(source);
+            int offset = chartType.ordinal() * STRIDE;
+            long[] view = new long[STRIDE];
+            if (partials[offset + COUNT] != 0) {
+                System.arraycopy(partials, offset, view, 0, STRIDE);
+            } else if (sourceView != null) {
+                view[START] = chartType.bucketStart(sourceView[START]);
+                view[END] = chartType.bucketEnd(view[START]);
+            } else {
+                return null;
+            }
+
+            if (sourceView != null && chartType.bucketStart(sourceView[START]) == view[START]) {
+                merge(view, 0, sourceView, 0);
+            }
+            return view;
+        }
+    }
+
+    /**
+     * 합성한 활성 캔들 값 작업 공간 (RollupSnapshot.composeActive, 쓰기 스레드에서 재사용)
+     */
+    public static final class ActiveCandles {
+        private final SymbolType symbol;
+        private final long[] values = new long[ChartType.values().length * STRIDE];
+
+        public ActiveCandles(SymbolType symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * 마지막 합성에서 ChartType 의 활성 캔들 존재 여부
+         */
+        public boolean isPresent(ChartType chartType) {
+            return values[chartType.ordinal() * STRIDE + COUNT] != 0;
+        }
+
+        /**
+         * 활성 캔들 값이 last 와 다르면 last 에 복사하고 true (last 는 길이 STRIDE 이상)
+         */
+        public boolean copyIfChanged(ChartType chartType, long[] last) {
+            int offset = chartType.ordinal() * STRIDE;
+            if (Arrays.equals(values, offset, offset + STRIDE, last, 0, STRIDE)) {
+                return false;
+            }
+            System.arraycopy(values, offset, last, 0, STRIDE);
+            return true;
+        }
+
+        public CandlePacketDTO toCandle(ChartType chartType) {
+            return toDTO(symbol, chartType, values, chartType.ordinal() * STRIDE);
+        }
+
+        /**
+         * copyIfChanged 에 사용할 비교 값 배열 (캔들 없음 상태)
+         */
+        public static long[] emptyValues() {
+            return new long[STRIDE];
+        }
+    }
+}
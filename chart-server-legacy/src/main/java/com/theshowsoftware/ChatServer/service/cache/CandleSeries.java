@@ -0,0 +1,197 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * 심볼/ChartType 단위의 완료된 캔들 목록
+ * - 캔들 시작 시간(epoch millis) 기준 정렬
+ * - 읽기는 잠금 없이 수행 (ConcurrentSkipListMap)
+ * - ConcurrentSkipListMap.size() 는 O(n) 이므로 개수를 별도로 관리
+ * - 캔들마다 힙 사용량을 계산해 합계를 관리하고 증감량을 memoryListener 로 통지
+ */
+public class CandleSeries {
+
+    // 압축 포인터(-XX:+UseCompressedOops) 기준 객체 크기
+    private static final int OBJECT_HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int CANDLE_BYTES = align(OBJECT_HEADER + 9 * REFERENCE + Integer.BYTES); // CandlePacketDTO
+    private static final int LONG_BYTES = align(OBJECT_HEADER + Long.BYTES);
+    private static final int BIG_INTEGER_BYTES = align(OBJECT_HEADER + 5 * Integer.BYTES + REFERENCE);
+    private static final int ARRAY_HEADER = 16;
+    // 스킵 리스트 노드 + Long 키 + 인덱스 노드 (노드당 평균 1/3 개)
+    private static final int ENTRY_OVERHEAD = align(OBJECT_HEADER + 3 * REFERENCE) + LONG_BYTES
+            + align(OBJECT_HEADER + 3 * REFERENCE) / 3;
+
+    private final ConcurrentSkipListMap<Long, CandlePacketDTO> candles = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong bytes = new AtomicLong();
+    private final LongConsumer memoryListener;
+
+    public CandleSeries() {
+        this(delta -> {
+        });
+    }
+
+    /**
+     * @param memoryListener 캔들 추가(+) / 제거(-) 바이트 통지
+     */
+    public CandleSeries(LongConsumer memoryListener) {
+        this.memoryListener = memoryListener;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 보관 중인 캔들의 힙 사용량 합계
+     */
+    public long memoryBytes() {
+        return bytes.get();
+    }
+
+    public boolean isEmpty() {
+        return candles.isEmpty();
+    }
+
+    /**
+     * 캔들 추가 (같은 시작 시간의 캔들은 교체)
+     * - 추가된 캔들은 이후 수정하지 않아야 함
+     */
+    public void put(CandlePacketDTO candle) {
+        CandlePacketDTO previous = candles.put(candle.getCandleStartTime(), candle);
+        if (previous == null) {
+            size.incrementAndGet();
+            account(entryBytes(candle));
+        } else {
+            account(entryBytes(candle) - entryBytes(previous));
+        }
+    }
+
+    /**
+     * 개수 제한 초과 시 가장 오래된 캔들부터 제거
+     */
+    public void trim(int limit) {
+        while (size.get() > limit) {
+            if (evictOldest() == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 캔들 제거
+     *
+     * @return 회수된 바이트 (비어 있으면 0)
+     */
+    public long evictOldest() {
+        Map.Entry<Long, CandlePacketDTO> oldest = candles.pollFirstEntry();
+        if (oldest == null) {
+            return 0;
+        }
+        size.decrementAndGet();
+        long released = entryBytes(oldest.getValue());
+        account(-released);
+        return released;
+    }
+
+    /**
+     * 가장 오래된 캔들의 시작 시간 (비어 있으면 Long.MAX_VALUE)
+     */
+    public long oldestStartTime() {
+        Map.Entry<Long, CandlePacketDTO> oldest = candles.firstEntry();
+        return oldest == null ? Long.MAX_VALUE : oldest.getKey();
+    }
+
+    /**
+     * beforeMillis 이전에 시작한 최근 count 개의 캔들을 최신순으로 반환
+     */
+    public List<CandlePacketDTO> latestBefore(long beforeMillis, int count) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        List<CandlePacketDTO> result = new ArrayList<>(Math.min(count, 1024));
+        Iterator<CandlePacketDTO> it = candles.headMap(beforeMillis, false).descendingMap().values().iterator();
+        while (result.size() < count && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * [startMillis, endMillis) 범위의 캔들을 시간순으로 반환
+     */
+    public List<CandlePacketDTO> between(long startMillis, long endMillis) {
+        if (startMillis >= endMillis) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(candles.subMap(startMillis, true, endMillis, false).values());
+    }
+
+    /**
+     * startMillis 에 시작하는 캔들 (없으면 null)
+     */
+    public CandlePacketDTO get(long startMillis) {
+        return candles.get(startMillis);
+    }
+
+    /**
+     * 가장 최근 캔들을 반환
+     */
+    public Map.Entry<Long, CandlePacketDTO> lastEntry() {
+        return candles.lastEntry();
+    }
+
+    /**
+     * 캔들 1개의 힙 사용량 (맵 노드, 키, DTO, 박싱된 Long, BigInteger 와 크기 배열)
+     * - 같은 BigInteger 인스턴스를 여러 필드가 공유하면 한 번만 계산
+     */
+    static long entryBytes(CandlePacketDTO candle) {
+        long total = ENTRY_OVERHEAD + CANDLE_BYTES;
+        total += boxedBytes(candle.getQuantity()) + boxedBytes(candle.getCandleStartTime()) + boxedBytes(candle.getCandleEndTime());
+        BigInteger start = candle.getStartPrice();
+        BigInteger end = candle.getEndPrice();
+        BigInteger high = candle.getHighPrice();
+        BigInteger low = candle.getLowPrice();
+        total += bigIntegerBytes(start);
+        total += end != start ? bigIntegerBytes(end) : 0;
+        total += high != start && high != end ? bigIntegerBytes(high) : 0;
+        total += low != start && low != end && low != high ? bigIntegerBytes(low) : 0;
+        return total;
+    }
+
+    private static long boxedBytes(Long value) {
+        // -128 ~ 127 은 Long 캐시 인스턴스를 공유
+        return value == null || (value >= -128 && value <= 127) ? 0 : LONG_BYTES;
+    }
+
+    private static long bigIntegerBytes(BigInteger value) {
+        if (value == null || value.signum() == 0) {
+            return 0; // BigInteger.ZERO 공유
+        }
+        int words = (value.bitLength() + Integer.SIZE - 1) / Integer.SIZE; // 크기 배열(int[]) 길이
+        return BIG_INTEGER_BYTES + align(ARRAY_HEADER + words * Integer.BYTES);
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+
+    private void account(long delta) {
+        if (delta != 0) {
+            bytes.addAndGet(delta);
+            memoryListener.accept(delta);
+        }
+    }
+}
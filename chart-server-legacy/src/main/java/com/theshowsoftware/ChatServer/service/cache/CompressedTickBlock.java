@@ -0,0 +1,333 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 압축된 Tick 묶음 (변경 불가, Gorilla 방식 비트 인코딩)
+ * - 타임스탬프: delta-of-delta 를 값 범위별 가변 길이 비트로 기록 (일정 간격이면 Tick 당 1 bit)
+ * - 가격: 블록 내 가격 변화량의 최대공약수(호가 단위)로 나눈 delta 를 zig-zag 후 가변 길이 비트로 기록
+ * - 거래량: delta 를 zig-zag 후 가변 길이 비트로 기록 (NO_QUANTITY 포함, long 범위에서 순환 연산)
+ * - 최소 / 최대 타임스탬프를 보관하여 범위 조회 시 겹치는 블록만 복원
+ */
+public final class CompressedTickBlock {
+
+    // 블록 객체(헤더 + 필드) + 비트 배열 헤더 (압축 포인터 기준)
+    private static final int FIXED_BYTES = 48 + 16;
+
+    private final int count;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final long priceStep;
+    private final long[] bits;
+
+    private CompressedTickBlock(int count, long minTimestamp, long maxTimestamp, long priceStep, long[] bits) {
+        this.count = count;
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        this.priceStep = priceStep;
+        this.bits = bits;
+    }
+
+    /**
+     * 타임스탬프 오름차순 Tick 을 압축 (같은 타임스탬프 허용)
+     */
+    public static CompressedTickBlock encode(long[] timestamps, long[] prices, long[] quantities, int from, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("length must be positive: " + length);
+        }
+        long priceStep = priceStep(prices, from, length);
+
+        BitWriter writer = new BitWriter(length);
+        writer.write(timestamps[from], Long.SIZE);
+        writer.write(prices[from], Long.SIZE);
+        writer.write(quantities[from], Long.SIZE);
+
+        long previousDelta = 0;
+        int priceWidth = 0;
+        int quantityWidth = 0;
+        for (int i = from + 1; i < from + length; i++) {
+            long delta = timestamps[i] - timestamps[i - 1];
+            writeDeltaOfDelta(writer, delta - previousDelta);
+            previousDelta = delta;
+
+            priceWidth = writeZigZag(writer, zigZag((prices[i] - prices[i - 1]) / priceStep), priceWidth);
+            quantityWidth = writeZigZag(writer, zigZag(quantities[i] - quantities[i - 1]), quantityWidth);
+        }
+        return new CompressedTickBlock(length, timestamps[from], timestamps[from + length - 1], priceStep, writer.toArray());
+    }
+
+    /**
+     * 전체 Tick 을 target 배열의 offset 위치부터 복원
+     */
+    public void decode(long[] timestamps, long[] prices, long[] quantities, int offset) {
+        BitReader reader = new BitReader(bits);
+        long timestamp = reader.read(Long.SIZE);
+        long price = reader.read(Long.SIZE);
+        long quantity = reader.read(Long.SIZE);
+        timestamps[offset] = timestamp;
+        prices[offset] = price;
+        quantities[offset] = quantity;
+
+        long delta = 0;
+        int priceWidth = 0;
+        int quantityWidth = 0;
+        for (int i = 1; i < count; i++) {
+            delta += readDeltaOfDelta(reader);
+            timestamp += delta;
+
+            int width = readWidth(reader, priceWidth);
+            if (width != 0) {
+                priceWidth = width;
+                price += unZigZag(reader.read(width)) * priceStep;
+            }
+            width = readWidth(reader, quantityWidth);
+            if (width != 0) {
+                quantityWidth = width;
+                quantity += unZigZag(reader.read(width));
+            }
+
+            timestamps[offset + i] = timestamp;
+            prices[offset + i] = price;
+            quantities[offset + i] = quantity;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getMinTimestamp() {
+        return minTimestamp;
+    }
+
+    public long getMaxTimestamp() {
+        return maxTimestamp;
+    }
+
+    /**
+     * 블록의 힙 사용량
+     */
+    public long memoryBytes() {
+        return FIXED_BYTES + (long) bits.length * Long.BYTES;
+    }
+
+    // ==========================================================
+    //                      직렬화 (스냅샷)
+    // ==========================================================
+
+    /**
+     * 직렬화 크기: count(int), min / max 타임스탬프(long), priceStep(long), 비트 배열 길이(int) + 배열
+     */
+    public int serializedBytes() {
+        return Integer.BYTES * 2 + Long.BYTES * 3 + bits.length * Long.BYTES;
+    }
+
+    /**
+     * 압축된 그대로 기록 (target 에 serializedBytes() 이상의 공간이 있어야 함)
+     */
+    public void writeTo(ByteBuffer target) {
+        target.putInt(count).putLong(minTimestamp).putLong(maxTimestamp).putLong(priceStep).putInt(bits.length);
+        for (long word : bits) {
+            target.putLong(word);
+        }
+    }
+
+    /**
+     * writeTo 로 기록한 블록 복원
+     */
+    public static CompressedTickBlock readFrom(ByteBuffer source) {
+        int count = source.getInt();
+        long minTimestamp = source.getLong();
+        long maxTimestamp = source.getLong();
+        long priceStep = source.getLong();
+        int length = source.getInt();
+        if (count <= 0 || priceStep <= 0 || minTimestamp > maxTimestamp || length < 0 || length > source.remaining() / Long.BYTES) {
+            throw new IllegalArgumentException("압축 블록이 손상되었습니다.");
+        }
+        long[] bits = new long[length];
+        source.asLongBuffer().get(bits);
+        source.position(source.position() + length * Long.BYTES);
+        return new CompressedTickBlock(count, minTimestamp, maxTimestamp, priceStep, bits);
+    }
+
+    // ==========================================================
+    //                      값 인코딩
+    // ==========================================================
+
+    /**
+     * delta-of-delta 기록
+     * - 0 : '0'
+     * - [-63, 64] : '10' + 7 bit
+     * - [-255, 256] : '110' + 9 bit
+     * - [-2047, 2048] : '1110' + 12 bit
+     * - 그 외 : '1111' + 64 bit
+     */
+    private static void writeDeltaOfDelta(BitWriter writer, long dod) {
+        if (dod == 0) {
+            writer.write(0b0, 1);
+        } else if (dod >= -63 && dod <= 64) {
+            writer.write(0b10, 2);
+            writer.write(dod + 63, 7);
+        } else if (dod >= -255 && dod <= 256) {
+            writer.write(0b110, 3);
+            writer.write(dod + 255, 9);
+        } else if (dod >= -2047 && dod <= 2048) {
+            writer.write(0b1110, 4);
+            writer.write(dod + 2047, 12);
+        } else {
+            writer.write(0b1111, 4);
+            writer.write(dod, Long.SIZE);
+        }
+    }
+
+    private static long readDeltaOfDelta(BitReader reader) {
+        if (reader.read(1) == 0) {
+            return 0;
+        }
+        if (reader.read(1) == 0) {
+            return reader.read(7) - 63;
+        }
+        if (reader.read(1) == 0) {
+            return reader.read(9) - 255;
+        }
+        if (reader.read(1) == 0) {
+            return reader.read(12) - 2047;
+        }
+        return reader.read(Long.SIZE);
+    }
+
+    /**
+     * zig-zag 값 기록 (이전 값과 비트 폭이 같으면 폭 생략)
+     * - 0 : '0'
+     * - 이전 폭 재사용 : '10' + 폭 bit
+     * - 새 폭 : '11' + 6 bit (폭 - 1) + 폭 bit
+     *
+     * @return 이번 값의 비트 폭 (0 이면 이전 폭 유지)
+     */
+    private static int writeZigZag(BitWriter writer, long value, int previousWidth) {
+        if (value == 0) {
+            writer.write(0b0, 1);
+            return previousWidth;
+        }
+        int width = Long.SIZE - Long.numberOfLeadingZeros(value);
+        if (width == previousWidth) {
+            writer.write(0b10, 2);
+        } else {
+            writer.write(0b11, 2);
+            writer.write(width - 1, 6);
+        }
+        writer.write(value, width);
+        return width;
+    }
+
+    /**
+     * 다음 값의 비트 폭 (0 이면 값이 0 이고 이전 폭 유지)
+     */
+    private static int readWidth(BitReader reader, int previousWidth) {
+        if (reader.read(1) == 0) {
+            return 0;
+        }
+        return reader.read(1) == 0 ? nonZero(previousWidth) : (int) reader.read(6) + 1;
+    }
+
+    private static int nonZero(int width) {
+        if (width == 0) {
+            throw new IllegalStateException("압축 블록이 손상되었습니다.");
+        }
+        return width;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 블록 내 가격 변화량의 최대공약수 (호가 단위, 변화가 없으면 1)
+     */
+    private static long priceStep(long[] prices, int from, int length) {
+        long step = 0;
+        for (int i = from + 1; i < from + length && step != 1; i++) {
+            long delta = Math.abs(prices[i] - prices[i - 1]);
+            step = delta < 0 ? 1 : gcd(step, delta); // Long.MIN_VALUE 차이는 나누지 않음
+        }
+        return step == 0 ? 1 : step;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long r = a % b;
+            a = b;
+            b = r;
+        }
+        return a;
+    }
+
+    // ==========================================================
+    //                      비트 입출력
+    // ==========================================================
+
+    private static final class BitWriter {
+        private long[] words;
+        private int position; // 기록된 비트 수
+
+        private BitWriter(int expectedValues) {
+            this.words = new long[Math.max(4, expectedValues / 2)]; // Tick 당 약 32 bit 로 시작
+        }
+
+        /**
+         * value 의 하위 width bit 를 상위 비트부터 기록
+         */
+        private void write(long value, int width) {
+            if (width < Long.SIZE) {
+                value &= (1L << width) - 1;
+            }
+            int word = position >>> 6;
+            int used = position & 63;
+            if (word + 1 >= words.length) {
+                words = Arrays.copyOf(words, words.length << 1);
+            }
+            int free = Long.SIZE - used;
+            if (width <= free) {
+                words[word] |= value << (free - width);
+            } else {
+                int overflow = width - free;
+                words[word] |= value >>> overflow;
+                words[word + 1] |= value << (Long.SIZE - overflow);
+            }
+            position += width;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(words, (position + 63) >>> 6);
+        }
+    }
+
+    private static final class BitReader {
+        private final long[] words;
+        private int position;
+
+        private BitReader(long[] words) {
+            this.words = words;
+        }
+
+        private long read(int width) {
+            int word = position >>> 6;
+            int used = position & 63;
+            int free = Long.SIZE - used;
+            long value;
+            if (width <= free) {
+                value = words[word] << used >>> (Long.SIZE - width);
+            } else {
+                int overflow = width - free;
+                value = (words[word] << used >>> used) << overflow | words[word + 1] >>> (Long.SIZE - overflow);
+            }
+            position += width;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+
+/**
+ * Tick 범위 페이지 조회의 이어 읽기 위치
+ * - timestamp : 마지막으로 반환한 Tick 의 타임스탬프
+ * - skip : 그 타임스탬프의 Tick 중 이미 반환한 수 (같은 밀리초의 Tick 은 도착 순서로 정렬되어 있음)
+ * - 버퍼 내부 위치가 아니라 (타임스탬프, 순번) 이므로 페이지 사이에 Tick 이 추가 / 압축 / 회수되어도 유효
+ * - 문자열 형식 "{timestamp}_{skip}"
+ */
+public record TickCursor(long timestamp, int skip) {
+
+    public TickCursor {
+        if (skip < 0) {
+            throw new IllegalArgumentException("skip must not be negative: " + skip);
+        }
+    }
+
+    public String encode() {
+        return timestamp + "_" + skip;
+    }
+
+    /**
+     * encode() 로 만든 문자열을 복원 (비어 있으면 null)
+     */
+    public static TickCursor parse(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        int separator = token.lastIndexOf('_');
+        try {
+            long timestamp = Long.parseLong(token.substring(0, separator));
+            int skip = Integer.parseInt(token.substring(separator + 1));
+            if (skip < 0) {
+                throw new CustomException(ErrorCode.INVALID_PAGE_CURSOR);
+            }
+            return new TickCursor(timestamp, skip);
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+    }
+}
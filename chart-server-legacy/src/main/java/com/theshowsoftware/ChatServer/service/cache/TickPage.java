@@ -0,0 +1,17 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+
+import java.util.List;
+
+/**
+ * Tick 범위 페이지 조회 결과
+ * - ticks : 시간순 Tick (최대 요청 건수)
+ * - nextCursor : 다음 페이지 이어 읽기 위치 (TickCursor.encode, 범위 끝까지 읽었으면 null)
+ */
+public record TickPage(List<TickPacketDTO> ticks, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
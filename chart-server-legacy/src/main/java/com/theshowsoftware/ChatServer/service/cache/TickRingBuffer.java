@@ -0,0 +1,1242 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 심볼 단위 Tick 저장소 (최근 Tick 은 컬럼형 원형 버퍼, 오래된 Tick 은 압축 블록)
+ * - hot: 타임스탬프, 가격(10^9 고정 소수점), 거래량을 각각 long 배열로 보관
+ *   배열은 CHUNK_SIZE 건 단위 묶음(chunk)으로 필요할 때 할당하고, 비워진 묶음은 즉시 해제
+ * - cold: 최근 hotChunks 개를 넘어선 가장 오래된 묶음은 변경 불가 압축 블록(CompressedTickBlock)으로 전환
+ *   블록별 최소 / 최대 타임스탬프로 범위 조회 시 겹치는 블록만 복원
+ *   블록 범위의 지연 Tick 은 복원해 둔 블록(open block)에 모았다가 쓰기 묶음 끝에 한 번만 다시 압축 (sealLateInserts)
+ * - 보관 메모리(묶음 + 블록)는 정확히 계산되며 할당 / 해제량을 memoryListener 로 통지
+ * - 타임스탬프 오름차순을 유지하므로 이진 탐색으로 범위 조회 (cold 의 모든 Tick 은 hot 보다 과거)
+ * - 최대 용량 도달 시 가장 오래된 Tick 을 덮어씀 (cold 가 있으면 가장 오래된 블록 단위로 제거)
+ * - 쓰기는 StampedLock 쓰기 잠금, 읽기는 낙관적 읽기 후 묶음 / 블록마다 검증 (정해진 횟수만큼 실패하면 읽기 잠금으로 재시도)
+ *   묶음 / 블록 목록은 변경 시 새 배열로 교체하므로 검증을 통과한 구조 필드로 계산한 인덱스는 항상 범위 안
+ * - 쓰기 스레드 간 순서 보장은 호출 측 책임 (심볼별 단일 쓰기 스레드 또는 쓰기 잠금)
+ */
+public class TickRingBuffer {
+
+    // 거래량이 null 인 Tick 표시용 값
+    public static final long NO_QUANTITY = Long.MIN_VALUE;
+
+    // 묶음 하나의 Tick 수 (2의 거듭제곱)
+    public static final int CHUNK_SIZE = 1 << 12;
+
+    // 묶음 하나의 힙 사용량 (long 배열 3개 + 배열 헤더 + 묶음 객체, 압축 포인터 기준)
+    public static final long CHUNK_BYTES = 3L * (16 + (long) CHUNK_SIZE * Long.BYTES) + 24;
+
+    // 압축하지 않고 유지할 최근 묶음 수 기본값 (지연 Tick 은 대부분 이 범위에 삽입됨)
+    public static final int DEFAULT_HOT_CHUNKS = 4;
+
+    private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_SIZE);
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final Chunk[] NO_CHUNKS = new Chunk[0];
+    private static final CompressedTickBlock[] NO_BLOCKS = new CompressedTickBlock[0];
+
+    // 쓰기와 겹친 낙관적 읽기를 다시 시도하는 횟수 (모두 실패하면 읽기 잠금)
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+    private final int maxCapacity;
+    private final int hotChunks;
+    private final LongConsumer memoryListener;
+    private final StampedLock lock = new StampedLock();
+
+    // hot (변경 가능 묶음, 오래된 순서, 할당 / 해제 시 새 배열로 교체)
+    private Chunk[] chunks = NO_CHUNKS;
+    private int headOffset; // 가장 오래된 hot Tick 의 첫 묶음 내 위치
+    private int hotSize;
+
+    // cold (압축 블록, 시간순, 변경 시 새 배열로 교체)
+    private CompressedTickBlock[] coldBlocks = NO_BLOCKS;
+    private int coldSize;
+    private long coldBytes; // 복원해 둔 블록 배열 포함
+
+    // 지연 Tick 을 넣는 중인 블록의 복원본 (coldBlocks 의 해당 항목 대신 사용, 없으면 openBlock = -1)
+    private int openBlock = -1;
+    private long[] openTimestamps;
+    private long[] openPrices;
+    private long[] openQuantities;
+    private int openCount;
+
+    // add / addAll 로 추가된 누적 Tick 수 (복원 / 과거 적재 제외, 스냅샷과 저널 재생 위치 대응용)
+    private long addedCount;
+
+    public TickRingBuffer(int maxCapacity) {
+        this(maxCapacity, bytes -> {
+        });
+    }
+
+    /**
+     * @param memoryListener 묶음 / 블록 할당(+) / 해제(-) 바이트 통지 (쓰기 잠금 안에서 호출)
+     */
+    public TickRingBuffer(int maxCapacity, LongConsumer memoryListener) {
+        this(maxCapacity, DEFAULT_HOT_CHUNKS, memoryListener);
+    }
+
+    /**
+     * @param hotChunks 압축하지 않고 유지할 최근 묶음 수 (Integer.MAX_VALUE 이면 압축하지 않음)
+     */
+    public TickRingBuffer(int maxCapacity, int hotChunks, LongConsumer memoryListener) {
+        if (maxCapacity <= 0) {
+            throw new IllegalArgumentException("maxCapacity must be positive: " + maxCapacity);
+        }
+        if (hotChunks <= 0) {
+            throw new IllegalArgumentException("hotChunks must be positive: " + hotChunks);
+        }
+        this.maxCapacity = maxCapacity;
+        this.hotChunks = hotChunks;
+        this.memoryListener = memoryListener;
+    }
+
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int current = coldSize + hotSize;
+        if (lock.validate(stamp)) {
+            return current;
+        }
+        stamp = lock.readLock();
+        try {
+            return coldSize + hotSize;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    /**
+     * 압축 블록에 보관된 Tick 수
+     */
+    public int coldSize() {
+        long stamp = lock.readLock();
+        try {
+            return coldSize;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 할당된 묶음과 압축 블록의 힙 사용량
+     */
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return chunks.length * CHUNK_BYTES + coldBytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 압축 블록의 힙 사용량
+     */
+    public long coldMemoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return coldBytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * add / addAll 로 추가된 누적 Tick 수 (용량 초과로 제거된 Tick 포함)
+     */
+    public long addedCount() {
+        long stamp = lock.readLock();
+        try {
+            return addedCount;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 가장 오래된 Tick 의 타임스탬프 (비어 있으면 Long.MAX_VALUE)
+     */
+    public long oldestTimestamp() {
+        long stamp = lock.readLock();
+        try {
+            if (coldSize > 0) {
+                return blockMinTimestamp(0);
+            }
+            return hotSize == 0 ? Long.MAX_VALUE : timestampAt(0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Tick 추가
+     * - 같은 타임스탬프의 Tick 도 모두 보관하며 (타임스탬프, 도착 순서) 순으로 정렬
+     * - 과거 타임스탬프는 같은 타임스탬프의 기존 Tick 뒤에 삽입
+     *   (압축 블록 범위이면 복원해 둔 블록에 삽입하고, 다시 압축은 sealLateInserts 또는 다른 블록에 삽입할 때)
+     */
+    public void add(long timestamp, long price, long quantity) {
+        long stamp = lock.writeLock();
+        try {
+            addInternal(timestamp, price, quantity);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void addInternal(long timestamp, long price, long quantity) {
+        addedCount++;
+        if (isLatest(timestamp)) {
+            append(timestamp, price, quantity);
+        } else if (hotSize > 0 && (coldSize == 0 || timestamp >= timestampAt(0))) {
+            insertHot(timestamp, price, quantity);
+        } else {
+            insertCold(timestamp, price, quantity);
+        }
+    }
+
+    /**
+     * 보관 중인 마지막 Tick 이후(같은 타임스탬프 포함)인지 여부
+     */
+    private boolean isLatest(long timestamp) {
+        return hotSize > 0
+                ? timestamp >= timestampAt(hotSize - 1)
+                : coldSize == 0 || timestamp >= blockMaxTimestamp(coldBlocks.length - 1);
+    }
+
+    private void insertHot(long timestamp, long price, long quantity) {
+        int index = new ReadView().upperBound(timestamp);
+        if (coldSize + hotSize == maxCapacity) {
+            if (coldSize > 0) {
+                releaseOldestBlock();
+            } else {
+                if (index == 0) {
+                    return; // 가장 오래된 Tick 보다 과거이면 즉시 밀려나므로 저장하지 않음
+                }
+                evictOldestInternal();
+                index--;
+            }
+        }
+        insertAt(index, timestamp, price, quantity);
+    }
+
+    /**
+     * 압축 블록 범위의 지연 Tick 반영
+     * - 같은 타임스탬프의 마지막 Tick 이 있는(또는 바로 앞의) 블록을 복원해 두고 삽입 (다시 압축은 묶음 끝에 한 번)
+     */
+    private void insertCold(long timestamp, long price, long quantity) {
+        int blockIndex = new ReadView().coldBlockAfter(timestamp);
+        if (blockIndex == coldBlocks.length) {
+            blockIndex--; // 마지막 블록과 hot 사이
+        } else if (blockIndex > 0 && timestamp < blockMinTimestamp(blockIndex)) {
+            blockIndex--; // 두 블록 사이는 앞 블록 끝에 추가
+        }
+        boolean full = coldSize + hotSize == maxCapacity;
+        if (full && blockIndex == 0 && timestamp < blockMinTimestamp(0)) {
+            return; // 가장 오래된 Tick 보다 과거이면 즉시 밀려나므로 저장하지 않음
+        }
+
+        openColdBlock(blockIndex);
+        if (openCount == openTimestamps.length) {
+            resizeOpenBlock(openCount + Math.max(16, openCount >>> 2));
+        }
+        int index = upperBound(openTimestamps, openCount, timestamp);
+        int moved = openCount - index;
+        System.arraycopy(openTimestamps, index, openTimestamps, index + 1, moved);
+        System.arraycopy(openPrices, index, openPrices, index + 1, moved);
+        System.arraycopy(openQuantities, index, openQuantities, index + 1, moved);
+        openTimestamps[index] = timestamp;
+        openPrices[index] = price;
+        openQuantities[index] = quantity;
+        openCount++;
+        coldSize++;
+
+        if (full) {
+            releaseOldestBlock();
+        }
+    }
+
+    /**
+     * 지연 Tick 을 넣는 중인 압축 블록을 다시 압축 (쓰기 묶음마다 한 번 호출)
+     * - 호출하지 않아도 조회 결과는 같으며, 복원해 둔 배열만큼 메모리를 더 사용
+     */
+    public void sealLateInserts() {
+        long stamp = lock.tryOptimisticRead();
+        if (openBlock < 0 && lock.validate(stamp)) {
+            return;
+        }
+        stamp = lock.writeLock();
+        try {
+            sealOpenBlock();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 시간순 Tick 묶음 추가 (쓰기 잠금 한 번)
+     * - 마지막 Tick 이후 구간은 묶음 배열에 구간 단위로 복사 (건별 탐색 / 이동 없음)
+     * - 그보다 과거의 Tick 이나 최대 용량을 넘는 구간은 add 와 같이 한 건씩 반영
+     */
+    public void addAll(long[] timestamps, long[] prices, long[] quantities, int from, int length) {
+        long stamp = lock.writeLock();
+        try {
+            int index = from;
+            int end = from + length;
+            while (index < end) {
+                if (!isLatest(timestamps[index])) {
+                    addInternal(timestamps[index], prices[index], quantities[index]);
+                    index++;
+                    continue;
+                }
+                int run = index + 1;
+                while (run < end && timestamps[run] >= timestamps[run - 1]) {
+                    run++;
+                }
+                if ((long) coldSize + hotSize + (run - index) > maxCapacity) {
+                    for (; index < run; index++) {
+                        addedCount++;
+                        append(timestamps[index], prices[index], quantities[index]);
+                    }
+                    continue;
+                }
+                while (index < run) {
+                    ensureSlot();
+                    int position = headOffset + hotSize;
+                    Chunk chunk = chunks[position >>> CHUNK_SHIFT];
+                    int offset = position & CHUNK_MASK;
+                    int copy = Math.min(run - index, CHUNK_SIZE - offset);
+                    System.arraycopy(timestamps, index, chunk.timestamps, offset, copy);
+                    System.arraycopy(prices, index, chunk.prices, offset, copy);
+                    System.arraycopy(quantities, index, chunk.quantities, offset, copy);
+                    hotSize += copy;
+                    addedCount += copy;
+                    index += copy;
+                    while (chunks.length > hotChunks) {
+                        sealOldestChunk();
+                    }
+                }
+            }
+            sealOpenBlock(); // 묶음 안의 지연 Tick 은 블록마다 한 번만 다시 압축
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 가장 최근 Tick 을 반환
+     */
+    public TickPacketDTO latest() {
+        List<TickPacketDTO> result = latest(1);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 최근 count 건의 Tick 을 시간순으로 반환
+     */
+    public List<TickPacketDTO> latest(int count) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        return read(Long.MIN_VALUE, Long.MAX_VALUE, count);
+    }
+
+    /**
+     * [startMillis, endMillis] 범위의 Tick 을 시간순으로 반환
+     */
+    public List<TickPacketDTO> between(long startMillis, long endMillis) {
+        if (startMillis > endMillis) {
+            return Collections.emptyList();
+        }
+        return read(startMillis, endMillis, Integer.MAX_VALUE);
+    }
+
+    /**
+     * [startMillis, endMillis] 범위에 Tick 이 있는지 여부
+     * - 압축 블록은 최소 / 최대 타임스탬프로 먼저 판단하고, 범위가 블록 내부의 빈 구간일 수 있을 때만 복원
+     */
+    public boolean containsBetween(long startMillis, long endMillis) {
+        if (startMillis > endMillis) {
+            return false;
+        }
+        long stamp = lock.readLock();
+        try {
+            ReadView view = new ReadView();
+            int index = view.lowerBound(startMillis);
+            if (index < view.hotSize && view.timestampAt(index) <= endMillis) {
+                return true;
+            }
+            int blockIndex = view.coldBlockAtOrAfter(startMillis);
+            if (blockIndex == view.blocks.length) {
+                return false;
+            }
+            long min = view.blockMinTimestamp(blockIndex);
+            if (min > endMillis) {
+                return false;
+            }
+            if (min >= startMillis || view.blockMaxTimestamp(blockIndex) <= endMillis) {
+                return true;
+            }
+            int count = view.blockCount(blockIndex);
+            long[] timestamps = new long[count];
+            view.decodeBlock(blockIndex, timestamps, new long[count], new long[count]);
+            int position = lowerBound(timestamps, count, startMillis);
+            return position < count && timestamps[position] <= endMillis;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 범위 내 최근 maxCount 건을 복사
+     */
+    private List<TickPacketDTO> read(long startMillis, long endMillis, int maxCount) {
+        return readRaw((view, stamp) -> copyRange(view, stamp, startMillis, endMillis, maxCount)).toDTOs();
+    }
+
+    /**
+     * 잠금 없이 낙관적으로 복사하고, 쓰기와 겹치면 OPTIMISTIC_READ_ATTEMPTS 번까지 다시 시도한 뒤 읽기 잠금으로 복사
+     * - 구조 필드(ReadView)를 먼저 검증하므로 이후 인덱스는 범위 안이고, 복사 중에는 묶음 / 블록마다 검증해 겹치면 바로 중단
+     */
+    private RawTicks readRaw(RangeCopy copy) {
+        for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp == 0L) {
+                Thread.onSpinWait(); // 쓰기 잠금 보유 중
+                continue;
+            }
+            ReadView view = new ReadView();
+            if (!lock.validate(stamp)) {
+                continue;
+            }
+            RawTicks raw = copy.copy(view, stamp);
+            if (raw != null && lock.validate(stamp)) {
+                return raw;
+            }
+        }
+
+        long stamp = lock.readLock();
+        try {
+            return copy.copy(new ReadView(), stamp); // 읽기 잠금 보유 중에는 검증이 항상 성공
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * view 기준으로 복사하고, stamp 검증에 실패하면 null 반환
+     */
+    @FunctionalInterface
+    private interface RangeCopy {
+        RawTicks copy(ReadView view, long stamp);
+    }
+
+    /**
+     * [startMillis, endMillis] 범위를 시간순으로 최대 limit 건씩 나누어 조회
+     * - cursor 가 있으면 그 위치 다음부터 이어서 조회 (범위 시작보다 과거의 cursor 는 무시)
+     * - 페이지마다 limit 건만 복사하므로 긴 범위도 메모리는 페이지 크기로 제한되고 쓰기를 오래 막지 않음
+     * - 페이지 사이에 추가된 Tick 도 이어 읽기 위치 이후이면 다음 페이지에 포함
+     */
+    public TickPage page(long startMillis, long endMillis, TickCursor cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        long from = startMillis;
+        int skip = 0;
+        if (cursor != null && cursor.timestamp() >= startMillis) {
+            from = cursor.timestamp();
+            skip = cursor.skip();
+        }
+        if (from > endMillis) {
+            return new TickPage(Collections.emptyList(), null);
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 복사
+        long pageStart = from;
+        int pageSkip = skip;
+        RawTicks raw = readRaw((view, stamp) -> copyForward(view, stamp, pageStart, pageSkip, endMillis, limit + 1));
+        if (raw.timestamps.length <= limit) {
+            return new TickPage(raw.toDTOs(), null);
+        }
+
+        RawTicks page = raw.head(limit);
+        long last = page.timestamps[limit - 1];
+        return new TickPage(page.toDTOs(), new TickCursor(last, nextSkip(page.timestamps, limit, from, skip)).encode());
+    }
+
+    /**
+     * [startMillis, endMillis] 범위를 시간순으로 pageSize 건씩 복사해 consumer 에 전달 (DTO 변환 없음)
+     * - page 와 같은 방식으로 페이지마다 짧게 복사하므로 메모리는 페이지 크기로 제한되고 쓰기를 오래 막지 않음
+     * - 전달한 배열은 호출마다 새로 할당되며 consumer 가 보관해도 됨
+     */
+    public void scan(long startMillis, long endMillis, int pageSize, ColumnConsumer consumer) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        long from = startMillis;
+        int skip = 0;
+        while (from <= endMillis) {
+            long pageStart = from;
+            int pageSkip = skip;
+            RawTicks raw = readRaw((view, stamp) -> copyForward(view, stamp, pageStart, pageSkip, endMillis, pageSize));
+            int length = raw.timestamps.length;
+            if (length > 0) {
+                consumer.accept(raw.timestamps, raw.prices, raw.quantities, length);
+            }
+            if (length < pageSize) {
+                return;
+            }
+            skip = nextSkip(raw.timestamps, length, from, skip);
+            from = raw.timestamps[length - 1];
+        }
+    }
+
+    /**
+     * scan 페이지 수신
+     */
+    @FunctionalInterface
+    public interface ColumnConsumer {
+        void accept(long[] timestamps, long[] prices, long[] quantities, int length);
+    }
+
+    /**
+     * 페이지 마지막 타임스탬프의 Tick 중 지금까지 반환한 수 (다음 페이지에서 건너뛸 수)
+     */
+    private static int nextSkip(long[] timestamps, int length, long from, int skip) {
+        long last = timestamps[length - 1];
+        int sameAsLast = 0;
+        for (int i = length - 1; i >= 0 && timestamps[i] == last; i--) {
+            sameAsLast++;
+        }
+        return last == from ? skip + sameAsLast : sameAsLast;
+    }
+
+    /**
+     * hot 범위를 먼저 뒤에서부터 채우고, 부족하면 겹치는 압축 블록만 최신 블록부터 복원
+     */
+    private RawTicks copyRange(ReadView view, long stamp, long startMillis, long endMillis, int maxCount) {
+        int to = endMillis == Long.MAX_VALUE ? view.hotSize : view.upperBound(endMillis);
+        int from = startMillis == Long.MIN_VALUE ? 0 : view.lowerBound(startMillis);
+        from = Math.max(from, to - maxCount);
+        int hotCount = Math.max(0, to - from);
+        boolean reachesCold = view.coldSize > 0 && (view.hotSize == 0 || startMillis <= view.timestampAt(0));
+        if (!lock.validate(stamp)) {
+            return null; // 탐색 중 쓰기와 겹치면 위치를 신뢰할 수 없음
+        }
+
+        // cold 블록 구간 (최신 블록부터 수집)
+        List<RawTicks> coldParts = null;
+        int coldCount = 0;
+        int remaining = maxCount - hotCount;
+        if (remaining > 0 && reachesCold) {
+            coldParts = new ArrayList<>();
+            for (int i = view.lastColdBlockAtOrBefore(endMillis); i >= 0 && remaining > 0; i--) {
+                if (view.blockMaxTimestamp(i) < startMillis) {
+                    break;
+                }
+                RawTicks part = decodeRange(view, stamp, i, startMillis, endMillis, remaining);
+                if (part == null) {
+                    return null;
+                }
+                coldParts.add(part);
+                coldCount += part.timestamps.length;
+                remaining -= part.timestamps.length;
+            }
+        }
+
+        int n = coldCount + hotCount;
+        if (n == 0) {
+            return RawTicks.EMPTY;
+        }
+        RawTicks raw = new RawTicks(new long[n], new long[n], new long[n]);
+        int copied = 0;
+        if (coldParts != null) {
+            for (int i = coldParts.size() - 1; i >= 0; i--) {
+                RawTicks part = coldParts.get(i);
+                int length = part.timestamps.length;
+                System.arraycopy(part.timestamps, 0, raw.timestamps, copied, length);
+                System.arraycopy(part.prices, 0, raw.prices, copied, length);
+                System.arraycopy(part.quantities, 0, raw.quantities, copied, length);
+                copied += length;
+            }
+        }
+        return copyHot(view, stamp, from, hotCount, raw, copied);
+    }
+
+    /**
+     * startMillis 의 Tick 중 앞의 skip 건을 건너뛴 위치부터 endMillis 까지 시간순으로 최대 maxCount 건 복사
+     * - 겹치는 압축 블록을 오래된 것부터 복원한 뒤 hot 구간으로 이어감
+     */
+    private RawTicks copyForward(ReadView view, long stamp, long startMillis, int skip, long endMillis, int maxCount) {
+        int capacity = Math.min(maxCount, view.coldSize + view.hotSize);
+        RawTicks raw = new RawTicks(new long[capacity], new long[capacity], new long[capacity]);
+        int copied = 0;
+        int remainingSkip = skip;
+
+        for (int i = view.coldBlockAtOrAfter(startMillis); i < view.blocks.length && copied < capacity; i++) {
+            if (view.blockMinTimestamp(i) > endMillis) {
+                break;
+            }
+            int count = view.blockCount(i);
+            long[] timestamps = new long[count];
+            long[] prices = new long[count];
+            long[] quantities = new long[count];
+            view.decodeBlock(i, timestamps, prices, quantities);
+            if (!lock.validate(stamp)) {
+                return null; // 복원해 둔 블록이 쓰기와 겹침
+            }
+
+            int from = lowerBound(timestamps, count, startMillis);
+            int skipped = Math.min(remainingSkip, upperBound(timestamps, count, startMillis) - from);
+            from += skipped;
+            remainingSkip = from < count ? 0 : remainingSkip - skipped;
+            int length = Math.min(upperBound(timestamps, count, endMillis) - from, capacity - copied);
+            if (length > 0) {
+                System.arraycopy(timestamps, from, raw.timestamps, copied, length);
+                System.arraycopy(prices, from, raw.prices, copied, length);
+                System.arraycopy(quantities, from, raw.quantities, copied, length);
+                copied += length;
+            }
+        }
+
+        if (copied < capacity && view.hotSize > 0) {
+            int from = view.lowerBound(startMillis);
+            from += Math.min(remainingSkip, view.upperBound(startMillis) - from);
+            int to = endMillis == Long.MAX_VALUE ? view.hotSize : view.upperBound(endMillis);
+            int hotCount = Math.min(to - from, capacity - copied);
+            if (!lock.validate(stamp)) {
+                return null; // 탐색 중 쓰기와 겹치면 위치를 신뢰할 수 없음
+            }
+            if (hotCount > 0) {
+                if (copyHot(view, stamp, from, hotCount, raw, copied) == null) {
+                    return null;
+                }
+                copied += hotCount;
+            }
+        }
+        return copied == capacity ? raw : raw.head(copied);
+    }
+
+    /**
+     * hot 논리 인덱스 [from, from + count) 를 raw 의 offset 위치부터 복사 (묶음마다 검증하고 실패하면 null)
+     */
+    private RawTicks copyHot(ReadView view, long stamp, int from, int count, RawTicks raw, int offset) {
+        int hotCopied = 0;
+        while (hotCopied < count) {
+            int position = view.headOffset + from + hotCopied;
+            Chunk chunk = view.chunks[position >>> CHUNK_SHIFT];
+            int chunkOffset = position & CHUNK_MASK;
+            int length = Math.min(count - hotCopied, CHUNK_SIZE - chunkOffset);
+            System.arraycopy(chunk.timestamps, chunkOffset, raw.timestamps, offset + hotCopied, length);
+            System.arraycopy(chunk.prices, chunkOffset, raw.prices, offset + hotCopied, length);
+            System.arraycopy(chunk.quantities, chunkOffset, raw.quantities, offset + hotCopied, length);
+            hotCopied += length;
+            if (!lock.validate(stamp)) {
+                return null;
+            }
+        }
+        return raw;
+    }
+
+    /**
+     * 블록을 복원해 [startMillis, endMillis] 범위의 최근 maxCount 건을 반환 (복원 중 쓰기와 겹치면 null)
+     */
+    private RawTicks decodeRange(ReadView view, long stamp, int blockIndex, long startMillis, long endMillis, int maxCount) {
+        int count = view.blockCount(blockIndex);
+        long[] timestamps = new long[count];
+        long[] prices = new long[count];
+        long[] quantities = new long[count];
+        view.decodeBlock(blockIndex, timestamps, prices, quantities);
+        if (!lock.validate(stamp)) {
+            return null;
+        }
+
+        int to = upperBound(timestamps, count, endMillis);
+        int from = Math.max(lowerBound(timestamps, count, startMillis), to - maxCount);
+        if (from == 0 && to == count) {
+            return new RawTicks(timestamps, prices, quantities);
+        }
+        int length = Math.max(0, to - from);
+        RawTicks part = new RawTicks(new long[length], new long[length], new long[length]);
+        System.arraycopy(timestamps, from, part.timestamps, 0, length);
+        System.arraycopy(prices, from, part.prices, 0, length);
+        System.arraycopy(quantities, from, part.quantities, 0, length);
+        return part;
+    }
+
+    /**
+     * 전체 Tick 을 시간순 압축 블록 목록으로 반환 (스냅샷 기록용)
+     * - 압축 블록은 변경 불가이므로 참조만 복사하고, hot 구간과 복원해 둔 블록은 잠금 밖에서 압축
+     * - 읽기 잠금은 블록 목록과 hot 배열을 복사하는 동안만 보유
+     * - 같은 잠금 안에서 읽은 누적 추가 수를 함께 반환 (스냅샷에 포함된 Tick 과 저널 위치 대응용)
+     */
+    public BlockExport exportBlocks() {
+        List<CompressedTickBlock> blocks;
+        RawTicks hot;
+        RawTicks open = null;
+        int openIndex;
+        long added;
+        long stamp = lock.readLock();
+        try {
+            added = addedCount;
+            blocks = new ArrayList<>(coldBlocks.length + 1);
+            Collections.addAll(blocks, coldBlocks);
+            hot = hotSize == 0 ? RawTicks.EMPTY : copyRange(new ReadView(), stamp, Long.MIN_VALUE, Long.MAX_VALUE, hotSize);
+            openIndex = openBlock;
+            if (openIndex >= 0) {
+                open = new RawTicks(Arrays.copyOf(openTimestamps, openCount), Arrays.copyOf(openPrices, openCount),
+                        Arrays.copyOf(openQuantities, openCount));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        if (open != null) {
+            blocks.set(openIndex, CompressedTickBlock.encode(open.timestamps, open.prices, open.quantities, 0, open.timestamps.length));
+        }
+        if (hot.timestamps.length > 0) {
+            blocks.add(CompressedTickBlock.encode(hot.timestamps, hot.prices, hot.quantities, 0, hot.timestamps.length));
+        }
+        return new BlockExport(blocks, added);
+    }
+
+    /**
+     * exportBlocks 결과
+     *
+     * @param blocks     시간순 압축 블록
+     * @param addedCount 블록을 복사한 시점의 누적 추가 수 (addedCount())
+     */
+    public record BlockExport(List<CompressedTickBlock> blocks, long addedCount) {
+    }
+
+    /**
+     * 스냅샷의 압축 블록을 그대로 복원 (비어 있는 버퍼에만 가능)
+     * - 최대 용량을 넘는 만큼 가장 오래된 블록부터 제외
+     */
+    public void restoreBlocks(List<CompressedTickBlock> blocks) {
+        long stamp = lock.writeLock();
+        try {
+            if (coldSize + hotSize > 0) {
+                throw new IllegalStateException("restore requires an empty buffer");
+            }
+            long previousMax = Long.MIN_VALUE;
+            for (int i = 0; i < blocks.size(); i++) {
+                CompressedTickBlock block = blocks.get(i);
+                if (i > 0 && block.getMinTimestamp() < previousMax) {
+                    throw new IllegalArgumentException("blocks must be sorted and non-overlapping");
+                }
+                previousMax = block.getMaxTimestamp();
+            }
+            coldBlocks = blocks.toArray(NO_BLOCKS);
+            for (CompressedTickBlock block : coldBlocks) {
+                coldSize += block.getCount();
+                accountCold(block.memoryBytes());
+            }
+            while (coldSize > maxCapacity) {
+                releaseOldestBlock();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 보관 중인 가장 오래된 Tick 보다 과거의 Tick 을 압축 블록으로 앞에 추가 (과거 데이터 적재용)
+     * - timestamps 는 오름차순이어야 함 (같은 타임스탬프 허용)
+     * - 압축은 잠금 밖에서 블록 단위로 병렬 수행하고, 쓰기 잠금은 블록 목록에 끼워 넣는 동안만 보유
+     * - 압축하는 사이 더 과거의 Tick 이 들어와 순서가 맞지 않으면 한 건씩 삽입
+     * - 최대 용량을 넘는 만큼 가장 오래된 블록부터 제외
+     */
+    public void prependHistory(long[] timestamps, long[] prices, long[] quantities, int length) {
+        if (length <= 0) {
+            return;
+        }
+        List<CompressedTickBlock> blocks = IntStream.range(0, (length + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel()
+                .mapToObj(i -> CompressedTickBlock.encode(timestamps, prices, quantities, i * CHUNK_SIZE, Math.min(CHUNK_SIZE, length - i * CHUNK_SIZE)))
+                .toList();
+
+        long stamp = lock.writeLock();
+        try {
+            sealOpenBlock(); // 앞에 블록이 추가되면 위치가 바뀌므로 먼저 압축
+            long oldest = coldSize > 0 ? coldBlocks[0].getMinTimestamp() : hotSize > 0 ? timestampAt(0) : Long.MAX_VALUE;
+            if (timestamps[length - 1] > oldest) {
+                for (int i = 0; i < length; i++) {
+                    addInternal(timestamps[i], prices[i], quantities[i]);
+                }
+                sealOpenBlock();
+                return;
+            }
+            long bytes = 0;
+            for (CompressedTickBlock block : blocks) {
+                bytes += block.memoryBytes();
+            }
+            CompressedTickBlock[] merged = Arrays.copyOf(blocks.toArray(NO_BLOCKS), blocks.size() + coldBlocks.length);
+            System.arraycopy(coldBlocks, 0, merged, blocks.size(), coldBlocks.length);
+            coldBlocks = merged;
+            coldSize += length;
+            accountCold(bytes);
+            while (coldSize + hotSize > maxCapacity && coldSize > 0) {
+                releaseOldestBlock();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 가장 오래된 Tick 을 제거 (cold 가 있으면 가장 오래된 블록 전체)
+     */
+    public void evictOldest() {
+        long stamp = lock.writeLock();
+        try {
+            evictOldestInternal();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 가장 오래된 압축 블록(없으면 가장 오래된 묶음)의 Tick 을 모두 제거하고 해제
+     * - 메모리 예산 초과 시 블록 / 묶음 단위로 회수하기 위해 사용
+     *
+     * @return 제거된 Tick 수
+     */
+    public int evictOldestChunk() {
+        long stamp = lock.writeLock();
+        try {
+            if (coldSize > 0) {
+                return releaseOldestBlock();
+            }
+            if (chunks.length == 0) {
+                return 0;
+            }
+            int removed = Math.min(hotSize, CHUNK_SIZE - headOffset);
+            hotSize -= removed;
+            releaseFirstChunk();
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void evictOldestInternal() {
+        if (coldSize > 0) {
+            releaseOldestBlock();
+            return;
+        }
+        if (hotSize == 0) {
+            return;
+        }
+        hotSize--;
+        if (++headOffset == CHUNK_SIZE) {
+            releaseFirstChunk();
+        }
+    }
+
+    private int releaseOldestBlock() {
+        int count = blockCount(0);
+        long bytes = coldBlocks[0].memoryBytes();
+        coldBlocks = Arrays.copyOfRange(coldBlocks, 1, coldBlocks.length);
+        if (openBlock == 0) {
+            bytes += decodedBytes(openTimestamps.length);
+            clearOpenBlock();
+        } else if (openBlock > 0) {
+            openBlock--;
+        }
+        coldSize -= count;
+        accountCold(-bytes);
+        return count;
+    }
+
+    private void releaseFirstChunk() {
+        headOffset = 0;
+        if (hotSize == 0) {
+            // 남은 Tick 이 없으면 뒤쪽 묶음도 해제 (다음 추가 시 다시 할당)
+            memoryListener.accept(-CHUNK_BYTES * chunks.length);
+            chunks = NO_CHUNKS;
+            return;
+        }
+        chunks = Arrays.copyOfRange(chunks, 1, chunks.length);
+        memoryListener.accept(-CHUNK_BYTES);
+    }
+
+    /**
+     * hotChunks 를 넘어선 가장 오래된 묶음을 압축 블록으로 전환
+     * - 뒤에 묶음이 있으므로 첫 묶음은 headOffset 부터 끝까지 차 있음
+     */
+    private void sealOldestChunk() {
+        Chunk chunk = chunks[0];
+        int length = CHUNK_SIZE - headOffset;
+        CompressedTickBlock block = CompressedTickBlock.encode(chunk.timestamps, chunk.prices, chunk.quantities, headOffset, length);
+        coldBlocks = Arrays.copyOf(coldBlocks, coldBlocks.length + 1);
+        coldBlocks[coldBlocks.length - 1] = block;
+        coldSize += length;
+        hotSize -= length;
+        accountCold(block.memoryBytes());
+        releaseFirstChunk();
+    }
+
+    private void accountCold(long delta) {
+        coldBytes += delta;
+        memoryListener.accept(delta);
+    }
+
+    /**
+     * blockIndex 블록을 지연 Tick 삽입용으로 복원 (이미 복원해 둔 다른 블록은 먼저 다시 압축)
+     */
+    private void openColdBlock(int blockIndex) {
+        if (openBlock == blockIndex) {
+            return;
+        }
+        sealOpenBlock();
+        CompressedTickBlock block = coldBlocks[blockIndex];
+        int count = block.getCount();
+        int capacity = count + Math.max(16, count >>> 2);
+        openTimestamps = new long[capacity];
+        openPrices = new long[capacity];
+        openQuantities = new long[capacity];
+        block.decode(openTimestamps, openPrices, openQuantities, 0);
+        openCount = count;
+        openBlock = blockIndex;
+        accountCold(decodedBytes(capacity));
+    }
+
+    private void resizeOpenBlock(int capacity) {
+        accountCold(decodedBytes(capacity) - decodedBytes(openTimestamps.length));
+        openTimestamps = Arrays.copyOf(openTimestamps, capacity);
+        openPrices = Arrays.copyOf(openPrices, capacity);
+        openQuantities = Arrays.copyOf(openQuantities, capacity);
+    }
+
+    /**
+     * 복원해 둔 블록을 다시 압축해 목록에 반영
+     */
+    private void sealOpenBlock() {
+        if (openBlock < 0) {
+            return;
+        }
+        CompressedTickBlock stale = coldBlocks[openBlock];
+        CompressedTickBlock rebuilt = CompressedTickBlock.encode(openTimestamps, openPrices, openQuantities, 0, openCount);
+        CompressedTickBlock[] updated = coldBlocks.clone();
+        updated[openBlock] = rebuilt;
+        coldBlocks = updated;
+        accountCold(rebuilt.memoryBytes() - stale.memoryBytes() - decodedBytes(openTimestamps.length));
+        clearOpenBlock();
+    }
+
+    private void clearOpenBlock() {
+        openBlock = -1;
+        openTimestamps = null;
+        openPrices = null;
+        openQuantities = null;
+        openCount = 0;
+    }
+
+    // 복원해 둔 블록 배열의 힙 사용량 (long 배열 3개 + 배열 헤더)
+    private static long decodedBytes(int capacity) {
+        return 3L * (16 + (long) capacity * Long.BYTES);
+    }
+
+    private long blockMinTimestamp(int blockIndex) {
+        return blockIndex == openBlock ? openTimestamps[0] : coldBlocks[blockIndex].getMinTimestamp();
+    }
+
+    private long blockMaxTimestamp(int blockIndex) {
+        return blockIndex == openBlock ? openTimestamps[openCount - 1] : coldBlocks[blockIndex].getMaxTimestamp();
+    }
+
+    private int blockCount(int blockIndex) {
+        return blockIndex == openBlock ? openCount : coldBlocks[blockIndex].getCount();
+    }
+
+    private static int lowerBound(long[] timestamps, int length, long timestamp) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(long[] timestamps, int length, long timestamp) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    long timestampAt(int index) {
+        int position = headOffset + index;
+        return chunks[position >>> CHUNK_SHIFT].timestamps[position & CHUNK_MASK];
+    }
+
+    long priceAt(int index) {
+        int position = headOffset + index;
+        return chunks[position >>> CHUNK_SHIFT].prices[position & CHUNK_MASK];
+    }
+
+    long quantityAt(int index) {
+        int position = headOffset + index;
+        return chunks[position >>> CHUNK_SHIFT].quantities[position & CHUNK_MASK];
+    }
+
+    private void set(int index, long timestamp, long price, long quantity) {
+        int position = headOffset + index;
+        Chunk chunk = chunks[position >>> CHUNK_SHIFT];
+        int offset = position & CHUNK_MASK;
+        chunk.timestamps[offset] = timestamp;
+        chunk.prices[offset] = price;
+        chunk.quantities[offset] = quantity;
+    }
+
+    private void append(long timestamp, long price, long quantity) {
+        if (coldSize + hotSize == maxCapacity) {
+            evictOldestInternal();
+        }
+        ensureSlot();
+        set(hotSize, timestamp, price, quantity);
+        hotSize++;
+        if (chunks.length > hotChunks) {
+            sealOldestChunk();
+        }
+    }
+
+    private void insertAt(int index, long timestamp, long price, long quantity) {
+        ensureSlot();
+        // 삽입 위치 뒤의 Tick 을 한 칸씩 뒤로 이동 (마지막 묶음부터 묶음 단위 복사, 묶음 경계의 Tick 은 다음 묶음 맨 앞으로)
+        int position = headOffset + index;
+        int end = headOffset + hotSize;
+        for (int chunkIndex = end >>> CHUNK_SHIFT; chunkIndex >= position >>> CHUNK_SHIFT; chunkIndex--) {
+            Chunk chunk = chunks[chunkIndex];
+            int chunkStart = chunkIndex << CHUNK_SHIFT;
+            int from = Math.max(position, chunkStart) - chunkStart;
+            int to = Math.min(end, chunkStart + CHUNK_SIZE) - chunkStart;
+            if (to == CHUNK_SIZE && from < to) {
+                Chunk next = chunks[chunkIndex + 1];
+                next.timestamps[0] = chunk.timestamps[CHUNK_SIZE - 1];
+                next.prices[0] = chunk.prices[CHUNK_SIZE - 1];
+                next.quantities[0] = chunk.quantities[CHUNK_SIZE - 1];
+                to--;
+            }
+            if (from < to) {
+                System.arraycopy(chunk.timestamps, from, chunk.timestamps, from + 1, to - from);
+                System.arraycopy(chunk.prices, from, chunk.prices, from + 1, to - from);
+                System.arraycopy(chunk.quantities, from, chunk.quantities, from + 1, to - from);
+            }
+        }
+        set(index, timestamp, price, quantity);
+        hotSize++;
+        if (chunks.length > hotChunks) {
+            sealOldestChunk();
+        }
+    }
+
+    /**
+     * 논리 인덱스 hotSize 위치에 쓸 수 있도록 필요하면 뒤쪽에 묶음을 할당
+     */
+    private void ensureSlot() {
+        if (((headOffset + hotSize) >>> CHUNK_SHIFT) < chunks.length) {
+            return;
+        }
+        Chunk[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+        grown[chunks.length] = new Chunk();
+        chunks = grown;
+        memoryListener.accept(CHUNK_BYTES);
+    }
+
+    /**
+     * 조회 시점의 구조 필드 (묶음 / 블록 목록, 크기, 복원해 둔 블록)
+     * - 목록은 변경 시 새 배열로 교체되므로, 낙관적으로 읽은 뒤 검증을 통과하면 크기와 목록 길이가 서로 맞음
+     *   이후 계산하는 인덱스는 쓰기와 겹쳐도 범위 안이고 값만 달라질 수 있으므로, 복사한 뒤 다시 검증
+     * - 잠금 안에서는 현재 상태의 탐색용으로 사용
+     */
+    private final class ReadView {
+        private final Chunk[] chunks = TickRingBuffer.this.chunks;
+        private final int headOffset = TickRingBuffer.this.headOffset;
+        private final int hotSize = TickRingBuffer.this.hotSize;
+        private final CompressedTickBlock[] blocks = coldBlocks;
+        private final int coldSize = TickRingBuffer.this.coldSize;
+        private final int openBlock = TickRingBuffer.this.openBlock;
+        private final long[] openTimestamps = TickRingBuffer.this.openTimestamps;
+        private final long[] openPrices = TickRingBuffer.this.openPrices;
+        private final long[] openQuantities = TickRingBuffer.this.openQuantities;
+        private final int openCount = TickRingBuffer.this.openCount;
+
+        private long timestampAt(int index) {
+            int position = headOffset + index;
+            return chunks[position >>> CHUNK_SHIFT].timestamps[position & CHUNK_MASK];
+        }
+
+        /**
+         * timestamp 이상인 첫 hot 논리 인덱스
+         */
+        private int lowerBound(long timestamp) {
+            int low = 0;
+            int high = hotSize;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestampAt(mid) < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * timestamp 초과인 첫 hot 논리 인덱스
+         */
+        private int upperBound(long timestamp) {
+            int low = 0;
+            int high = hotSize;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestampAt(mid) <= timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private long blockMinTimestamp(int blockIndex) {
+            return blockIndex == openBlock ? openTimestamps[0] : blocks[blockIndex].getMinTimestamp();
+        }
+
+        private long blockMaxTimestamp(int blockIndex) {
+            return blockIndex == openBlock ? openTimestamps[openCount - 1] : blocks[blockIndex].getMaxTimestamp();
+        }
+
+        private int blockCount(int blockIndex) {
+            return blockIndex == openBlock ? openCount : blocks[blockIndex].getCount();
+        }
+
+        /**
+         * blockIndex 블록의 Tick 을 각 배열의 0 번 위치부터 복원
+         */
+        private void decodeBlock(int blockIndex, long[] timestamps, long[] prices, long[] quantities) {
+            if (blockIndex == openBlock) {
+                System.arraycopy(openTimestamps, 0, timestamps, 0, openCount);
+                System.arraycopy(openPrices, 0, prices, 0, openCount);
+                System.arraycopy(openQuantities, 0, quantities, 0, openCount);
+            } else {
+                blocks[blockIndex].decode(timestamps, prices, quantities, 0);
+            }
+        }
+
+        /**
+         * maxTimestamp 가 timestamp 이상인 첫 블록 위치 (없으면 블록 수)
+         */
+        private int coldBlockAtOrAfter(long timestamp) {
+            int low = 0;
+            int high = blocks.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (blockMaxTimestamp(mid) < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * maxTimestamp 가 timestamp 초과인 첫 블록 위치 (없으면 블록 수)
+         */
+        private int coldBlockAfter(long timestamp) {
+            int low = 0;
+            int high = blocks.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (blockMaxTimestamp(mid) <= timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * minTimestamp 가 timestamp 이하인 마지막 블록 위치 (없으면 -1)
+         */
+        private int lastColdBlockAtOrBefore(long timestamp) {
+            int low = 0;
+            int high = blocks.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (blockMinTimestamp(mid) <= timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low - 1;
+        }
+    }
+
+    /**
+     * CHUNK_SIZE 건 단위 컬럼 묶음
+     */
+    private static final class Chunk {
+        private final long[] timestamps = new long[CHUNK_SIZE];
+        private final long[] prices = new long[CHUNK_SIZE];
+        private final long[] quantities = new long[CHUNK_SIZE];
+    }
+
+    /**
+     * 잠금 구간 밖에서 DTO 로 변환하기 위한 원시 값 복사본
+     */
+    private record RawTicks(long[] timestamps, long[] prices, long[] quantities) {
+        private static final RawTicks EMPTY = new RawTicks(new long[0], new long[0], new long[0]);
+
+        private RawTicks head(int length) {
+            return new RawTicks(Arrays.copyOf(timestamps, length), Arrays.copyOf(prices, length), Arrays.copyOf(quantities, length));
+        }
+
+        private List<TickPacketDTO> toDTOs() {
+            if (timestamps.length == 0) {
+                return Collections.emptyList();
+            }
+            List<TickPacketDTO> result = new ArrayList<>(timestamps.length);
+            for (int i = 0; i < timestamps.length; i++) {
+                long quantity = quantities[i];
+                result.add(new TickPacketDTO(
+                        BigInteger.valueOf(prices[i]),
+                        quantity == NO_QUANTITY ? null : quantity,
+                        timestamps[i]
+                ));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.theshowsoftware.ChatServer.service.decimation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.DecimationMode;
+
+import java.util.List;
+
+/**
+ * Tick 범위 축약 결과
+ * - bucketMillis : 구간 하나의 시간 폭
+ * - sourceTicks : 축약 전 범위 내 Tick 수
+ * - points : LTTB / MIN_MAX 에서 선택된 원본 Tick (시간순, OHLC 이면 null)
+ * - candles : OHLC 구간 캔들 (시간순, 빈 구간 제외, chartType 은 null, 그 외 방식이면 null)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DecimationResult(DecimationMode mode,
+                               long bucketMillis,
+                               long sourceTicks,
+                               List<TickPacketDTO> points,
+                               List<CandlePacketDTO> candles) {
+}
@@ -0,0 +1,401 @@
+package com.theshowsoftware.ChatServer.service.decimation;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.DecimationMode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.cache.TickRingBuffer;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Tick 범위를 목표 점 수로 축약 (넓은 범위 차트 조회용)
+ * - 범위를 같은 시간 폭의 구간(bucket)으로 나누어 구간마다 집계
+ *   - LTTB : 구간 수 = 목표 점 수, 구간마다 (이전 선택 Tick, 다음 구간 평균점) 과 이루는 삼각형 넓이가 가장 큰 Tick
+ *     (첫 구간은 첫 Tick, 마지막 구간은 마지막 Tick)
+ *   - MIN_MAX : 구간 수 = 목표 점 수 / 2, 구간마다 최저가 / 최고가 Tick 을 시간순으로
+ *   - OHLC : 구간 수 = 목표 점 수, 구간마다 캔들 1개
+ * - Tick 버퍼를 scan 으로 페이지 단위 순회하므로 메모리는 구간 수 + 페이지 크기로 제한
+ * - 보관 Tick 이 많으면 범위를 구간 경계에 맞춘 조각(slice)으로 나누어 병렬 집계 (조각마다 자기 구간만 기록)
+ *   - LTTB 두 번째 순회에서 조각의 첫 구간은 이전 선택 Tick 대신 직전 구간 평균점을 사용 (조각 경계에서만 근사)
+ */
+public final class TickDecimator {
+
+    // 목표 점 수 최대값
+    public static final int MAX_POINTS = 10_000;
+
+    // 병렬 집계를 시작하는 보관 Tick 수
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // 조각 하나의 최소 구간 수
+    private static final int MIN_BUCKETS_PER_SLICE = 16;
+
+    private static final int PAGE_SIZE = TickRingBuffer.CHUNK_SIZE;
+
+    private TickDecimator() {
+    }
+
+    /**
+     * [startMillis, endMillis] 범위 축약 (보관 Tick 수가 PARALLEL_THRESHOLD 이상이면 병렬)
+     */
+    public static DecimationResult decimate(SymbolType symbol, TickRingBuffer ticks, long startMillis, long endMillis,
+                                            int points, DecimationMode mode) {
+        return decimate(symbol, ticks, startMillis, endMillis, points, mode, ticks.size() >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallel 조각 단위 병렬 집계 여부 (공용 fork-join 풀 사용)
+     */
+    public static DecimationResult decimate(SymbolType symbol, TickRingBuffer ticks, long startMillis, long endMillis,
+                                            int points, DecimationMode mode, boolean parallel) {
+        if (points < 2 || points > MAX_POINTS) {
+            throw new IllegalArgumentException("points must be between 2 and " + MAX_POINTS + ": " + points);
+        }
+        if (startMillis > endMillis) {
+            throw new IllegalArgumentException("startMillis must not be after endMillis");
+        }
+        long span = Math.addExact(Math.subtractExact(endMillis, startMillis), 1);
+        int target = mode == DecimationMode.MIN_MAX ? points / 2 : points;
+        long width = Math.max(1, ceilDiv(span, target));
+        Buckets buckets = new Buckets(startMillis, width, (int) ceilDiv(span, width));
+
+        int[] slices = slices(buckets.count, parallel);
+        forEachSlice(slices, parallel, slice ->
+                ticks.scan(buckets.startOf(slices[slice]), buckets.endOf(slices[slice + 1], endMillis), PAGE_SIZE, buckets::accumulate));
+
+        if (mode != DecimationMode.OHLC && buckets.total() <= points) {
+            // 범위 Tick 이 목표 점 수 이하면 축약 없이 그대로 반환 (그 사이 Tick 이 더 들어왔으면 축약 진행)
+            List<TickPacketDTO> all = ticks.between(startMillis, endMillis);
+            if (all.size() <= points) {
+                return new DecimationResult(mode, width, buckets.total(), all, null);
+            }
+        }
+
+        return switch (mode) {
+            case LTTB -> new DecimationResult(mode, width, buckets.total(), lttb(ticks, buckets, slices, parallel, endMillis), null);
+            case MIN_MAX -> new DecimationResult(mode, width, buckets.total(), buckets.minMax(), null);
+            case OHLC -> new DecimationResult(mode, width, buckets.total(), null, buckets.candles(symbol));
+        };
+    }
+
+    /**
+     * LTTB 두 번째 순회: 첫 / 마지막 구간을 제외한 구간마다 삼각형 넓이가 가장 큰 Tick 선택
+     */
+    private static List<TickPacketDTO> lttb(TickRingBuffer ticks, Buckets buckets, int[] slices, boolean parallel, long endMillis) {
+        int first = buckets.nextNonEmpty(0);
+        if (first < 0) {
+            return List.of();
+        }
+        int last = buckets.previousNonEmpty(buckets.count - 1);
+        if (first == last) {
+            return buckets.firstAndLast(first);
+        }
+
+        buckets.prepareLttb(first, last);
+        forEachSlice(slices, parallel, slice -> {
+            int from = Math.max(slices[slice], first + 1);
+            int to = Math.min(slices[slice + 1], last);
+            if (from < to) {
+                ticks.scan(buckets.startOf(from), buckets.endOf(to, endMillis), PAGE_SIZE, new LttbSelector(buckets, from));
+            }
+        });
+
+        List<TickPacketDTO> result = new ArrayList<>();
+        result.add(tick(buckets.firstTs[first], buckets.firstPrice[first], buckets.firstQty[first]));
+        for (int b = first + 1; b < last; b++) {
+            if (buckets.counts[b] > 0) {
+                result.add(buckets.selected[b]
+                        ? tick(buckets.selTs[b], buckets.selPrice[b], buckets.selQty[b])
+                        : tick(buckets.firstTs[b], buckets.firstPrice[b], buckets.firstQty[b]));
+            }
+        }
+        result.add(tick(buckets.lastTs[last], buckets.lastPrice[last], buckets.lastQty[last]));
+        return result;
+    }
+
+    /**
+     * 조각 경계 (구간 위치, 마지막 값은 구간 수)
+     */
+    private static int[] slices(int bucketCount, boolean parallel) {
+        int sliceCount = parallel
+                ? Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, bucketCount / MIN_BUCKETS_PER_SLICE))
+                : 1;
+        int[] bounds = new int[sliceCount + 1];
+        for (int i = 0; i <= sliceCount; i++) {
+            bounds[i] = (int) ((long) i * bucketCount / sliceCount);
+        }
+        return bounds;
+    }
+
+    private static void forEachSlice(int[] slices, boolean parallel, IntConsumer task) {
+        IntStream range = IntStream.range(0, slices.length - 1);
+        (parallel ? range.parallel() : range).forEach(task);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static TickPacketDTO tick(long timestamp, long price, long quantity) {
+        return new TickPacketDTO(BigInteger.valueOf(price), quantity == TickRingBuffer.NO_QUANTITY ? null : quantity, timestamp);
+    }
+
+    /**
+     * 구간별 집계 (조각마다 서로 다른 구간만 기록하므로 잠금 없이 병렬 기록)
+     */
+    private static final class Buckets {
+        private final long start;
+        private final long width;
+        private final int count;
+
+        private final int[] counts;
+        private final long[] firstTs, firstPrice, firstQty;
+        private final long[] lastTs, lastPrice, lastQty;
+        private final long[] minTs, minPrice, minQty;
+        private final long[] maxTs, maxPrice, maxQty;
+        private final int[] minSeq, maxSeq;
+        private final long[] quantity;
+        private final boolean[] hasQuantity;
+        private final double[] sumX, sumY;
+
+        // LTTB 선택 결과
+        private boolean[] selected;
+        private long[] selTs, selPrice, selQty;
+        private double[] nextX, nextY; // 다음 비어 있지 않은 구간의 평균점
+        private double[] prevX, prevY; // 이전 비어 있지 않은 구간의 평균점 (조각 첫 구간 기준점)
+
+        private Buckets(long start, long width, int count) {
+            this.start = start;
+            this.width = width;
+            this.count = count;
+            counts = new int[count];
+            firstTs = new long[count];
+            firstPrice = new long[count];
+            firstQty = new long[count];
+            lastTs = new long[count];
+            lastPrice = new long[count];
+            lastQty = new long[count];
+            minTs = new long[count];
+            minPrice = new long[count];
+            minQty = new long[count];
+            maxTs = new long[count];
+            maxPrice = new long[count];
+            maxQty = new long[count];
+            minSeq = new int[count];
+            maxSeq = new int[count];
+            quantity = new long[count];
+            hasQuantity = new boolean[count];
+            sumX = new double[count];
+            sumY = new double[count];
+        }
+
+        private long startOf(int bucket) {
+            return start + bucket * width;
+        }
+
+        private long endOf(int bucketExclusive, long endMillis) {
+            return Math.min(endMillis, start + bucketExclusive * width - 1);
+        }
+
+        private int indexOf(long timestamp) {
+            return (int) ((timestamp - start) / width);
+        }
+
+        private void accumulate(long[] timestamps, long[] prices, long[] quantities, int length) {
+            for (int i = 0; i < length; i++) {
+                long timestamp = timestamps[i];
+                long price = prices[i];
+                long qty = quantities[i];
+                int b = indexOf(timestamp);
+                int seq = counts[b]++;
+                if (seq == 0) {
+                    firstTs[b] = timestamp;
+                    firstPrice[b] = price;
+                    firstQty[b] = qty;
+                    minTs[b] = maxTs[b] = timestamp;
+                    minPrice[b] = maxPrice[b] = price;
+                    minQty[b] = maxQty[b] = qty;
+                } else if (price < minPrice[b]) {
+                    minTs[b] = timestamp;
+                    minPrice[b] = price;
+                    minQty[b] = qty;
+                    minSeq[b] = seq;
+                } else if (price > maxPrice[b]) {
+                    maxTs[b] = timestamp;
+                    maxPrice[b] = price;
+                    maxQty[b] = qty;
+                    maxSeq[b] = seq;
+                }
+                lastTs[b] = timestamp;
+                lastPrice[b] = price;
+                lastQty[b] = qty;
+                if (qty != TickRingBuffer.NO_QUANTITY) {
+                    quantity[b] += qty;
+                    hasQuantity[b] = true;
+                }
+                sumX[b] += timestamp - start;
+                sumY[b] += price;
+            }
+        }
+
+        private long total() {
+            long total = 0;
+            for (int c : counts) {
+                total += c;
+            }
+            return total;
+        }
+
+        private int nextNonEmpty(int from) {
+            for (int b = from; b < count; b++) {
+                if (counts[b] > 0) {
+                    return b;
+                }
+            }
+            return -1;
+        }
+
+        private int previousNonEmpty(int from) {
+            for (int b = from; b >= 0; b--) {
+                if (counts[b] > 0) {
+                    return b;
+                }
+            }
+            return -1;
+        }
+
+        private List<TickPacketDTO> firstAndLast(int bucket) {
+            TickPacketDTO first = tick(firstTs[bucket], firstPrice[bucket], firstQty[bucket]);
+            return counts[bucket] == 1 ? List.of(first) : List.of(first, tick(lastTs[bucket], lastPrice[bucket], lastQty[bucket]));
+        }
+
+        /**
+         * 구간마다 다음 / 이전 비어 있지 않은 구간의 평균점 계산 (첫 구간의 평균점은 첫 Tick)
+         */
+        private void prepareLttb(int first, int last) {
+            selected = new boolean[count];
+            selTs = new long[count];
+            selPrice = new long[count];
+            selQty = new long[count];
+            nextX = new double[count];
+            nextY = new double[count];
+            prevX = new double[count];
+            prevY = new double[count];
+
+            double x = lastTs[last] - start;
+            double y = lastPrice[last];
+            for (int b = last - 1; b >= first; b--) {
+                nextX[b] = x;
+                nextY[b] = y;
+                if (counts[b] > 0) {
+                    x = sumX[b] / counts[b];
+                    y = sumY[b] / counts[b];
+                }
+            }
+            x = firstTs[first] - start;
+            y = firstPrice[first];
+            for (int b = first + 1; b <= last; b++) {
+                prevX[b] = x;
+                prevY[b] = y;
+                if (counts[b] > 0) {
+                    x = sumX[b] / counts[b];
+                    y = sumY[b] / counts[b];
+                }
+            }
+        }
+
+        private List<TickPacketDTO> minMax() {
+            List<TickPacketDTO> result = new ArrayList<>();
+            for (int b = 0; b < count; b++) {
+                if (counts[b] == 0) {
+                    continue;
+                }
+                TickPacketDTO min = tick(minTs[b], minPrice[b], minQty[b]);
+                TickPacketDTO max = tick(maxTs[b], maxPrice[b], maxQty[b]);
+                if (minSeq[b] == maxSeq[b]) {
+                    result.add(min); // 모든 Tick 의 가격이 같음
+                } else if (minSeq[b] < maxSeq[b]) {
+                    result.add(min);
+                    result.add(max);
+                } else {
+                    result.add(max);
+                    result.add(min);
+                }
+            }
+            return result;
+        }
+
+        private List<CandlePacketDTO> candles(SymbolType symbol) {
+            List<CandlePacketDTO> result = new ArrayList<>();
+            for (int b = 0; b < count; b++) {
+                if (counts[b] == 0) {
+                    continue;
+                }
+                long bucketStart = startOf(b);
+                result.add(CandlePacketDTO.builder()
+                        .symbolType(symbol)
+                        .candleStartTime(bucketStart)
+                        .candleEndTime(bucketStart + width)
+                        .startPrice(BigInteger.valueOf(firstPrice[b]))
+                        .highPrice(BigInteger.valueOf(maxPrice[b]))
+                        .lowPrice(BigInteger.valueOf(minPrice[b]))
+                        .endPrice(BigInteger.valueOf(lastPrice[b]))
+                        .quantity(hasQuantity[b] ? quantity[b] : null)
+                        .tickCount(counts[b])
+                        .build());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 조각 하나의 LTTB 선택 (조각 안에서는 이전 구간의 실제 선택 Tick 을 기준점으로 사용)
+     */
+    private static final class LttbSelector implements TickRingBuffer.ColumnConsumer {
+        private final Buckets buckets;
+        private int current = -1;
+        private double anchorX;
+        private double anchorY;
+        private double bestArea;
+
+        private LttbSelector(Buckets buckets, int firstBucket) {
+            this.buckets = buckets;
+            this.anchorX = buckets.prevX[firstBucket];
+            this.anchorY = buckets.prevY[firstBucket];
+        }
+
+        @Override
+        public void accept(long[] timestamps, long[] prices, long[] quantities, int length) {
+            Buckets b = buckets;
+            for (int i = 0; i < length; i++) {
+                int bucket = b.indexOf(timestamps[i]);
+                if (b.counts[bucket] == 0) {
+                    continue; // 첫 순회 이후 들어온 지연 Tick
+                }
+                if (bucket != current) {
+                    if (current >= 0 && b.selected[current]) {
+                        anchorX = b.selTs[current] - b.start;
+                        anchorY = b.selPrice[current];
+                    }
+                    current = bucket;
+                    bestArea = -1;
+                }
+                double x = timestamps[i] - b.start;
+                double y = prices[i];
+                double area = Math.abs((anchorX - b.nextX[bucket]) * (y - anchorY) - (anchorX - x) * (b.nextY[bucket] - anchorY));
+                if (area > bestArea) {
+                    bestArea = area;
+                    b.selected[bucket] = true;
+                    b.selTs[bucket] = timestamps[i];
+                    b.selPrice[bucket] = prices[i];
+                    b.selQty[bucket] = quantities[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.theshowsoftware.ChatServer.service.generator;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.MarketProfile;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import com.theshowsoftware.ChatServer.service.PacketSenderService;
+import com.theshowsoftware.ChatServer.service.stream.ChartStreamHub;
+import com.theshowsoftware.ChatServer.utils.TextPacketParser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 테스트용 합성 시세 생성기 (chart.generator.enabled=true 일 때만 동작)
+ * - USDT 를 제외한 모든 심볼에 초당 rate 개(전체 합계)의 틱을 생성
+ * - 전용 스레드마다 심볼을 나누어 소유 (symbol.ordinal() % 스레드 수) 하므로 심볼별 틱 순서 유지
+ * - 실제 경로로 전송: ChartStreamHub.applyTick(loop 모드면 ChartIngestLoop.submit, 아니면 ChartCacheService.addTick) → PacketSenderService.sendTick(PacketManager)
+ * - report-interval-ms 마다 목표 / 달성 처리량을 로그로 출력
+ * - 스냅샷 복원이 끝난 뒤 생성을 시작 (ChartSnapshotService)
+ */
+@Slf4j
+@Component
+@DependsOn("chartSnapshotService")
+@ConditionalOnProperty(name = "chart.generator.enabled", havingValue = "true")
+public class SyntheticMarketGenerator {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long BURST_CYCLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long PRICE_SCALE = 1_000_000_000L; // 10^9
+    private static final long MIN_PRICE = 1_000L; // 0.000001
+    private static final double VOLATILITY = 0.0005; // 틱당 가격 변동 표준편차 (비율)
+
+    private final ChartStreamHub chartStreamHub;
+    private final PacketSenderService packetSenderService;
+    private final MarketProfile profile;
+    private final int rate;
+    private final String replayFile;
+    private final int burstFactor;
+    private final long burstNanos;
+    private final long reportIntervalMillis;
+    private final Worker[] workers;
+    private final Thread reporter;
+
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile double achievedRate;
+
+    // 심볼 → 재생할 (가격, 거래량) 기록
+    private final Map<SymbolType, ReplayTrack> replayTracks = new EnumMap<>(SymbolType.class);
+
+    public SyntheticMarketGenerator(ChartStreamHub chartStreamHub,
+                                    PacketSenderService packetSenderService,
+                                    @Value("${chart.generator.profile:random_walk}") String profile,
+                                    @Value("${chart.generator.rate:10000}") int rate,
+                                    @Value("${chart.generator.threads:0}") int threads,
+                                    @Value("${chart.generator.replay-file:}") String replayFile,
+                                    @Value("${chart.generator.burst-factor:5}") int burstFactor,
+                                    @Value("${chart.generator.burst-millis:200}") long burstMillis,
+                                    @Value("${chart.generator.report-interval-ms:5000}") long reportIntervalMillis) {
+        if (rate <= 0 || burstFactor <= 0 || burstMillis < 0 || burstMillis > 1000 || reportIntervalMillis <= 0) {
+            throw new IllegalArgumentException("invalid chart.generator settings");
+        }
+        this.chartStreamHub = chartStreamHub;
+        this.packetSenderService = packetSenderService;
+        this.profile = MarketProfile.valueOf(profile.trim().toUpperCase());
+        this.rate = rate;
+        this.replayFile = replayFile;
+        this.burstFactor = burstFactor;
+        this.burstNanos = TimeUnit.MILLISECONDS.toNanos(burstMillis);
+        this.reportIntervalMillis = reportIntervalMillis;
+
+        List<SymbolType> symbols = new ArrayList<>();
+        for (SymbolType symbol : SymbolType.values()) {
+            if (symbol != SymbolType.USDT) {
+                symbols.add(symbol);
+            }
+        }
+        int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.workers = new Worker[Math.min(threadCount, symbols.size())];
+        for (int i = 0; i < workers.length; i++) {
+            List<SymbolType> owned = new ArrayList<>();
+            for (SymbolType symbol : symbols) {
+                if (symbol.ordinal() % workers.length == i) {
+                    owned.add(symbol);
+                }
+            }
+            workers[i] = new Worker(i, owned, (double) rate / workers.length);
+        }
+        this.reporter = new Thread(this::report, "chart-generator-report");
+        this.reporter.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (profile == MarketProfile.REPLAY) {
+            loadReplayFile();
+        }
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        reporter.start();
+        log.info("[MarketGenerator] 합성 시세 생성 시작 (방식: {}, 목표: {} ticks/s, 스레드: {})", profile, rate, workers.length);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Worker worker : workers) {
+            worker.running = false;
+            LockSupport.unpark(worker.thread);
+        }
+        reporter.interrupt();
+        for (Worker worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("[MarketGenerator] 합성 시세 생성 종료 (누적: {}, 실패: {})", emitted.sum(), failed.sum());
+    }
+
+    /**
+     * 지금까지 전송한 틱 개수
+     */
+    public long getEmittedCount() {
+        return emitted.sum();
+    }
+
+    /**
+     * 처리 중 예외로 버려진 틱 개수
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * 마지막 보고 주기의 달성 처리량 (ticks/s)
+     */
+    public double getAchievedRate() {
+        return achievedRate;
+    }
+
+    public int getThreadCount() {
+        return workers.length;
+    }
+
+    /**
+     * 시작 후 elapsedNanos 까지 생성해야 하는 틱 개수 (스레드 하나 기준)
+     * - BURSTY 는 매 초 앞부분 burstNanos 동안 burstFactor 배, 나머지는 기본 속도
+     */
+    static double targetCount(MarketProfile profile, double ratePerSecond, long elapsedNanos, long burstNanos, int burstFactor) {
+        double perNano = ratePerSecond / BURST_CYCLE_NANOS;
+        if (profile != MarketProfile.BURSTY) {
+            return elapsedNanos * perNano;
+        }
+        long cycles = elapsedNanos / BURST_CYCLE_NANOS;
+        long inCycle = elapsedNanos % BURST_CYCLE_NANOS;
+        double perCycle = (burstNanos * (double) burstFactor + (BURST_CYCLE_NANOS - burstNanos)) * perNano;
+        double partial = inCycle <= burstNanos
+                ? inCycle * burstFactor * perNano
+                : (burstNanos * (double) burstFactor + (inCycle - burstNanos)) * perNano;
+        return cycles * perCycle + partial;
+    }
+
+    /**
+     * 재생 파일 로드 (한 줄에 텍스트 틱 패킷 하나, 빈 줄 / 잘못된 줄은 건너뜀)
+     */
+    private void loadReplayFile() {
+        if (replayFile == null || replayFile.isBlank()) {
+            throw new CustomException(ErrorCode.GENERATOR_REPLAY_LOAD_ERROR);
+        }
+
+        Map<SymbolType, ReplayTrack> tracks = new EnumMap<>(SymbolType.class);
+        TextPacketParser.TickRecord record = new TextPacketParser.TickRecord();
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(replayFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    TextPacketParser.parseTick(line.trim(), record);
+                } catch (CustomException e) {
+                    skipped++;
+                    continue;
+                }
+                tracks.computeIfAbsent(record.getSymbolType(), symbol -> new ReplayTrack())
+                        .add(record.getPrice(), record.getQuantity());
+            }
+        } catch (IOException e) {
+            log.error("[MarketGenerator] 재생 파일을 읽지 못했습니다. (파일: {})", replayFile, e);
+            throw new CustomException(ErrorCode.GENERATOR_REPLAY_LOAD_ERROR);
+        }
+        replayTracks.putAll(tracks);
+        log.info("[MarketGenerator] 재생 파일 로드 (심볼: {}, 건너뜀: {})", tracks.size(), skipped);
+    }
+
+    private void report() {
+        long lastCount = emitted.sum();
+        long lastNanos = System.nanoTime();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(reportIntervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long count = emitted.sum();
+            long now = System.nanoTime();
+            achievedRate = (count - lastCount) * (double) BURST_CYCLE_NANOS / (now - lastNanos);
+            log.info("[MarketGenerator] 목표: {} ticks/s, 달성: {} ticks/s (누적: {}, 실패: {})",
+                    rate, Math.round(achievedRate), count, failed.sum());
+            lastCount = count;
+            lastNanos = now;
+        }
+    }
+
+    /**
+     * 심볼별 생성 상태 (소유 스레드만 사용)
+     */
+    private static final class SymbolState {
+        private final SymbolType symbol;
+        private final ReplayTrack track;
+        private long price; // 10^9 곱해진 값
+        private int replayIndex;
+
+        private SymbolState(SymbolType symbol, ReplayTrack track, long initialPrice) {
+            this.symbol = symbol;
+            this.track = track;
+            this.price = initialPrice;
+        }
+    }
+
+    /**
+     * 한 심볼의 재생 기록 (가격 / 거래량 컬럼)
+     */
+    private static final class ReplayTrack {
+        private long[] prices = new long[64];
+        private long[] quantities = new long[64];
+        private int size;
+
+        private void add(long price, long quantity) {
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                quantities = Arrays.copyOf(quantities, size * 2);
+            }
+            prices[size] = price;
+            quantities[size] = quantity;
+            size++;
+        }
+    }
+
+    /**
+     * 스레드 하나의 생성 속도 조절 (소유 스레드만 사용)
+     * - 경과 시간은 호출하는 쪽이 넘겨줌 (테스트에서는 가짜 시계로 구동)
+     * - 따라잡지 못한 틱은 100ms 분량까지만 유지하고 나머지는 버림
+     */
+    static final class Pacer {
+        private final MarketProfile profile;
+        private final double ratePerSecond;
+        private final long burstNanos;
+        private final int burstFactor;
+        private final long maxBacklog;
+        private long produced;
+
+        Pacer(MarketProfile profile, double ratePerSecond, long burstNanos, int burstFactor) {
+            this.profile = profile;
+            this.ratePerSecond = ratePerSecond;
+            this.burstNanos = burstNanos;
+            this.burstFactor = burstFactor;
+            this.maxBacklog = Math.max(1, (long) (ratePerSecond / 10));
+        }
+
+        /**
+         * 시작 후 elapsedNanos 시점에 지금 생성해야 하는 틱 개수 (반환한 만큼 생성된 것으로 간주)
+         */
+        long due(long elapsedNanos) {
+            long target = (long) targetCount(profile, ratePerSecond, elapsedNanos, burstNanos, burstFactor);
+            long due = target - produced;
+            if (due <= 0) {
+                return 0;
+            }
+            if (due > maxBacklog) {
+                produced += due - maxBacklog; // 밀린 틱은 버리고 현재 속도로 계속
+                due = maxBacklog;
+            }
+            produced += due;
+            return due;
+        }
+
+        long maxBacklog() {
+            return maxBacklog;
+        }
+    }
+
+    private class Worker implements Runnable {
+        private final SymbolState[] states;
+        private final Pacer pacer;
+        private final SplittableRandom random;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private int cursor;
+
+        private Worker(int index, List<SymbolType> owned, double ratePerSecond) {
+            this.random = new SplittableRandom(index * 31L + 7);
+            this.states = new SymbolState[owned.size()];
+            this.pacer = new Pacer(profile, ratePerSecond, burstNanos, burstFactor);
+            for (int i = 0; i < states.length; i++) {
+                states[i] = new SymbolState(owned.get(i), null, (10 + random.nextInt(10_000)) * PRICE_SCALE);
+            }
+            this.thread = new Thread(this, "chart-generator-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            if (states.length == 0) {
+                return;
+            }
+            for (int i = 0; i < states.length; i++) {
+                ReplayTrack track = replayTracks.get(states[i].symbol);
+                if (track != null) {
+                    states[i] = new SymbolState(states[i].symbol, track, states[i].price);
+                }
+            }
+
+            long startNanos = System.nanoTime();
+            while (running) {
+                long due = pacer.due(System.nanoTime() - startNanos);
+                if (due == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    continue;
+                }
+                for (long i = 0; i < due && running; i++) {
+                    emit(states[cursor]);
+                    cursor = cursor + 1 == states.length ? 0 : cursor + 1;
+                }
+            }
+        }
+
+        private void emit(SymbolState state) {
+            long quantity;
+            if (state.track != null) {
+                state.price = state.track.prices[state.replayIndex];
+                quantity = state.track.quantities[state.replayIndex];
+                state.replayIndex = state.replayIndex + 1 == state.track.size ? 0 : state.replayIndex + 1;
+            } else {
+                long delta = (long) (state.price * VOLATILITY * random.nextGaussian());
+                state.price = Math.max(MIN_PRICE, state.price + delta);
+                quantity = random.nextLong(1, 101);
+            }
+
+            TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(state.price), quantity, System.currentTimeMillis());
+            try {
+                chartStreamHub.applyTick(state.symbol, tick);
+                packetSenderService.sendTick(state.symbol, state.symbol.name(), tick);
+                emitted.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.debug("[MarketGenerator] 틱 전송 실패 (심볼: {}, 사유: {})", state.symbol, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.theshowsoftware.ChatServer.service.indicator;
+
+/**
+ * 지표 하나의 증분 계산 상태 (캔들 하나당 O(1))
+ * - apply(commit = true) : 마감된 캔들을 반영하고 값 계산
+ * - apply(commit = false) : 상태를 바꾸지 않고 활성 캔들을 반영했을 때의 값만 계산 (미리보기)
+ * - 단일 쓰기 스레드 전용
+ */
+abstract class IndicatorCalculator {
+
+    // out 배열 구성
+    static final int VALUE = 0;
+    static final int UPPER = 1;
+    static final int LOWER = 2;
+
+    // 볼린저 밴드 표준편차 배수
+    static final double BAND_WIDTH = 2.0;
+
+    /**
+     * 캔들 반영 후 값을 out 에 기록
+     *
+     * @return 값이 있으면 true (기간만큼 캔들이 쌓이기 전이면 false)
+     */
+    abstract boolean apply(double high, double low, double close, double volume, boolean commit, double[] out);
+
+    static IndicatorCalculator create(IndicatorSpec spec) {
+        return switch (spec.type()) {
+            case SMA -> new Sma(spec.period(), false);
+            case BOLLINGER -> new Sma(spec.period(), true);
+            case EMA -> new Ema(spec.period());
+            case RSI -> new Rsi(spec.period());
+            case VWAP -> new Vwap(spec.period());
+        };
+    }
+
+    /**
+     * 종가 이동 평균 (bands 면 표준편차 밴드 포함)
+     */
+    private static final class Sma extends IndicatorCalculator {
+        private final RollingWindow closes;
+        private final boolean bands;
+
+        private Sma(int period, boolean bands) {
+            this.closes = new RollingWindow(period);
+            this.bands = bands;
+        }
+
+        @Override
+        boolean apply(double high, double low, double close, double volume, boolean commit, double[] out) {
+            boolean ready = closes.sizeWith() == closes.capacity();
+            if (ready) {
+                out[VALUE] = closes.meanWith(close);
+                if (bands) {
+                    double deviation = BAND_WIDTH * Math.sqrt(closes.varianceWith(close));
+                    out[UPPER] = out[VALUE] + deviation;
+                    out[LOWER] = out[VALUE] - deviation;
+                }
+            }
+            if (commit) {
+                closes.push(close);
+            }
+            return ready;
+        }
+    }
+
+    /**
+     * 지수 이동 평균 (alpha = 2 / (period + 1), 첫 값은 처음 period 개 종가의 SMA)
+     */
+    private static final class Ema extends IndicatorCalculator {
+        private final int period;
+        private final double alpha;
+        private int count;
+        private double seedSum;
+        private double ema;
+
+        private Ema(int period) {
+            this.period = period;
+            this.alpha = 2.0 / (period + 1);
+        }
+
+        @Override
+        boolean apply(double high, double low, double close, double volume, boolean commit, double[] out) {
+            double next;
+            if (count + 1 < period) {
+                if (commit) {
+                    count++;
+                    seedSum += close;
+                }
+                return false;
+            } else if (count + 1 == period) {
+                next = (seedSum + close) / period;
+            } else {
+                next = ema + alpha * (close - ema);
+            }
+            out[VALUE] = next;
+            if (commit) {
+                count = Math.min(count + 1, period);
+                ema = next;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * RSI (Wilder 평활, 첫 평균은 처음 period 개 변동의 단순 평균)
+     */
+    private static final class Rsi extends IndicatorCalculator {
+        private final int period;
+        private boolean hasPrevious;
+        private double previousClose;
+        private int changes;
+        private double averageGain;
+        private double averageLoss;
+
+        private Rsi(int period) {
+            this.period = period;
+        }
+
+        @Override
+        boolean apply(double high, double low, double close, double volume, boolean commit, double[] out) {
+            if (!hasPrevious) {
+                if (commit) {
+                    hasPrevious = true;
+                    previousClose = close;
+                }
+                return false;
+            }
+            double change = close - previousClose;
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            double nextGain;
+            double nextLoss;
+            if (changes < period) {
+                // 처음 period 개 변동은 합계로 누적
+                nextGain = averageGain + gain;
+                nextLoss = averageLoss + loss;
+                if (changes + 1 == period) {
+                    nextGain /= period;
+                    nextLoss /= period;
+                }
+            } else {
+                nextGain = (averageGain * (period - 1) + gain) / period;
+                nextLoss = (averageLoss * (period - 1) + loss) / period;
+            }
+            boolean ready = changes + 1 >= period;
+            if (ready) {
+                out[VALUE] = rsi(nextGain, nextLoss);
+            }
+            if (commit) {
+                previousClose = close;
+                averageGain = nextGain;
+                averageLoss = nextLoss;
+                changes = Math.min(changes + 1, period);
+            }
+            return ready;
+        }
+
+        private static double rsi(double averageGain, double averageLoss) {
+            if (averageLoss == 0) {
+                return averageGain == 0 ? 50.0 : 100.0;
+            }
+            return 100.0 - 100.0 / (1.0 + averageGain / averageLoss);
+        }
+    }
+
+    /**
+     * 최근 period 개 캔들의 거래량 가중 평균 가격 (거래량이 없으면 대표 가격 평균)
+     */
+    private static final class Vwap extends IndicatorCalculator {
+        private final RollingWindow weighted;
+        private final RollingWindow volumes;
+        private final RollingWindow typicals;
+
+        private Vwap(int period) {
+            this.weighted = new RollingWindow(period);
+            this.volumes = new RollingWindow(period);
+            this.typicals = new RollingWindow(period);
+        }
+
+        @Override
+        boolean apply(double high, double low, double close, double volume, boolean commit, double[] out) {
+            double typical = (high + low + close) / 3.0;
+            boolean ready = typicals.sizeWith() == typicals.capacity();
+            if (ready) {
+                double volumeSum = volumes.sumWith(volume);
+                out[VALUE] = volumeSum > 0 ? weighted.sumWith(typical * volume) / volumeSum : typicals.meanWith(typical);
+            }
+            if (commit) {
+                weighted.push(typical * volume);
+                volumes.push(volume);
+                typicals.push(typical);
+            }
+            return ready;
+        }
+    }
+
+    /**
+     * 최근 capacity 개 값의 원형 버퍼와 누적 합 / 제곱합
+     * - 값은 처음 값을 기준으로 뺀 차이로 보관 (큰 가격의 제곱합에서 분산을 구할 때 정밀도 손실 방지)
+     * - capacity 번 추가할 때마다 합계를 다시 계산해 누적 오차 제거 (분할 상환 O(1))
+     */
+    static final class RollingWindow {
+        private final double[] values;
+        private int head; // 다음 기록 위치 (가득 찼으면 가장 오래된 값 위치)
+        private int size;
+        private boolean anchored; // 기준값 설정 여부
+        private double shift;
+        private double sum;
+        private double sumSquares;
+        private int pushesSinceResum;
+
+        RollingWindow(int capacity) {
+            this.values = new double[capacity];
+        }
+
+        int capacity() {
+            return values.length;
+        }
+
+        /**
+         * value 를 추가했을 때의 값 개수
+         */
+        int sizeWith() {
+            return Math.min(size + 1, values.length);
+        }
+
+        /**
+         * value 를 추가했을 때의 합계 (상태 변경 없음)
+         */
+        double sumWith(double value) {
+            double base = shiftFor(value);
+            return base * sizeWith() + shiftedSumWith(value - base);
+        }
+
+        double meanWith(double value) {
+            return sumWith(value) / sizeWith();
+        }
+
+        /**
+         * value 를 추가했을 때의 모분산 (상태 변경 없음)
+         */
+        double varianceWith(double value) {
+            double x = value - shiftFor(value);
+            int n = sizeWith();
+            double mean = shiftedSumWith(x) / n;
+            double squares = sumSquares + x * x - (size == values.length ? values[head] * values[head] : 0);
+            return Math.max(0, squares / n - mean * mean);
+        }
+
+        void push(double value) {
+            if (!anchored) {
+                anchored = true;
+                shift = value;
+            }
+            double x = value - shift;
+            if (size == values.length) {
+                double evicted = values[head];
+                sum -= evicted;
+                sumSquares -= evicted * evicted;
+            } else {
+                size++;
+            }
+            values[head] = x;
+            head = (head + 1) % values.length;
+            sum += x;
+            sumSquares += x * x;
+            if (++pushesSinceResum >= values.length) {
+                resum();
+            }
+        }
+
+        private double shiftFor(double value) {
+            return anchored ? shift : value;
+        }
+
+        private double shiftedSumWith(double x) {
+            return sum + x - (size == values.length ? values[head] : 0);
+        }
+
+        private void resum() {
+            sum = 0;
+            sumSquares = 0;
+            for (int i = 0; i < size; i++) {
+                sum += values[i];
+                sumSquares += values[i] * values[i];
+            }
+            pushesSinceResum = 0;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.theshowsoftware.ChatServer.service.indicator;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.cache.CandleRollup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 심볼 단위 기술 지표 엔진
+ * - (ChartType, 지표) 별로 등록된 지표를 캔들 마감 / 활성 캔들 발행 시 증분 계산 (지표 하나당 O(1))
+ * - 캔들 마감 값은 쌓아 두었다가 활성 캔들 발행(flush) 시 활성 캔들 미리보기 값과 함께 반환
+ * - 등록 / 복원 / 지연 Tick 수정 시에는 완료 캔들 목록으로 다시 계산
+ * - 계산은 심볼 쓰기 스레드 전용, 조회(series)는 잠금 없이 수행
+ */
+public class IndicatorEngine {
+
+    /**
+     * 지표 계산에 사용할 완료 캔들 조회 (beforeMillis 이전에 시작한 최근 count 개, 시간순)
+     */
+    public interface CandleHistory {
+        List<CandlePacketDTO> closedCandles(ChartType chartType, long beforeMillis, int count);
+    }
+
+    // 등록 / 재계산 시 보관 개수 외에 더 읽는 캔들 수 (기간 배수, EMA / RSI 초기값 영향이 충분히 줄어드는 길이)
+    private static final int WARMUP_PERIODS = 5;
+
+    private final SymbolType symbol;
+    private final CandleHistory candleHistory;
+    private final int historyLimit;
+
+    // [ChartType ordinal] → 등록된 지표 (등록은 드물고 순회는 캔들마다 발생)
+    private final List<List<IndicatorSeries>> registered = new ArrayList<>();
+
+    // 마지막 flush 이후 마감 / 수정된 값 (쓰기 스레드 전용)
+    private final List<IndicatorPacketDTO> pending = new ArrayList<>();
+
+    // 등록된 지표가 있는 ChartType 수 (0 이면 flush 를 바로 건너뜀)
+    private volatile int activeChartTypes;
+
+    public IndicatorEngine(SymbolType symbol, CandleHistory candleHistory, int historyLimit) {
+        this.symbol = symbol;
+        this.candleHistory = candleHistory;
+        this.historyLimit = historyLimit;
+        for (int i = 0; i < ChartType.values().length; i++) {
+            registered.add(new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * 지표 등록 (이미 있으면 기존 지표 반환, 심볼 쓰기 스레드에서 호출)
+     * - 완료 캔들로 값을 채운 뒤 현재 활성 캔들 기준 값까지 계산
+     */
+    public IndicatorSeries register(ChartType chartType, IndicatorSpec spec, CandleRollup.RollupSnapshot snapshot) {
+        IndicatorSeries existing = series(chartType, spec);
+        if (existing != null) {
+            return existing;
+        }
+        IndicatorSeries series = new IndicatorSeries(symbol, chartType, spec, historyLimit);
+        CandlePacketDTO activeCandle = snapshot.activeCandle(chartType);
+        series.rebuild(candleHistory.closedCandles(chartType, startOf(activeCandle), warmupCount(spec)));
+        series.preview(activeCandle);
+
+        List<IndicatorSeries> list = registered.get(chartType.ordinal());
+        if (list.isEmpty()) {
+            activeChartTypes++;
+        }
+        list.add(series);
+        return series;
+    }
+
+    /**
+     * 지표 등록 해제 (심볼 쓰기 스레드에서 호출)
+     *
+     * @return 해제 여부
+     */
+    public boolean unregister(ChartType chartType, IndicatorSpec spec) {
+        List<IndicatorSeries> list = registered.get(chartType.ordinal());
+        boolean removed = list.removeIf(series -> series.spec().equals(spec));
+        if (removed && list.isEmpty()) {
+            activeChartTypes--;
+        }
+        return removed;
+    }
+
+    /**
+     * 등록된 지표 조회 (없으면 null)
+     */
+    public IndicatorSeries series(ChartType chartType, IndicatorSpec spec) {
+        for (IndicatorSeries series : registered.get(chartType.ordinal())) {
+            if (series.spec().equals(spec)) {
+                return series;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * ChartType 에 등록된 지표 목록
+     */
+    public List<IndicatorSpec> specs(ChartType chartType) {
+        return registered.get(chartType.ordinal()).stream().map(IndicatorSeries::spec).toList();
+    }
+
+    /**
+     * 롤업에서 캔들이 마감됨
+     */
+    public void onCandleClosed(ChartType chartType, CandlePacketDTO candle) {
+        for (IndicatorSeries series : registered.get(chartType.ordinal())) {
+            IndicatorPacketDTO point = series.close(candle);
+            if (point != null) {
+                pending.add(point);
+            }
+        }
+    }
+
+    /**
+     * 지연 Tick 으로 완료 캔들이 수정됨 (수정된 캔들 이후 값은 다시 계산해 전달)
+     * - 이미 반영한 마지막 마감 캔들까지 다시 읽음 (보관 개수 + 초기 구간만큼, 드문 경로)
+     */
+    public void onCandleCorrected(ChartType chartType, CandlePacketDTO candle) {
+        for (IndicatorSeries series : registered.get(chartType.ordinal())) {
+            long before = series.lastClosedStart() == Long.MIN_VALUE ? Long.MIN_VALUE : series.lastClosedStart() + 1;
+            series.rebuild(candleHistory.closedCandles(chartType, before, warmupCount(series.spec())));
+            pending.addAll(series.closedSince(candle.getCandleStartTime()));
+        }
+    }
+
+    /**
+     * 등록된 모든 지표를 완료 캔들로 다시 계산 (스냅샷 복원 / 과거 데이터 적재 후, 전달할 값은 만들지 않음)
+     */
+    public void rebuildAll(CandleRollup.RollupSnapshot snapshot) {
+        for (ChartType chartType : ChartType.values()) {
+            List<IndicatorSeries> list = registered.get(chartType.ordinal());
+            if (list.isEmpty()) {
+                continue;
+            }
+            CandlePacketDTO activeCandle = snapshot.activeCandle(chartType);
+            for (IndicatorSeries series : list) {
+                series.rebuild(candleHistory.closedCandles(chartType, startOf(activeCandle), warmupCount(series.spec())));
+                series.preview(activeCandle);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * 쌓인 마감 값과 활성 캔들 미리보기 값을 반환 (활성 캔들 발행 직후 호출)
+     * - 미리보기 값은 이전 발행 값과 달라진 경우에만 포함
+     */
+    public List<IndicatorPacketDTO> flush(CandleRollup.RollupSnapshot snapshot) {
+        if (activeChartTypes == 0) {
+            pending.clear();
+            return List.of();
+        }
+        List<IndicatorPacketDTO> updates = new ArrayList<>(pending);
+        pending.clear();
+        for (ChartType chartType : ChartType.values()) {
+            List<IndicatorSeries> list = registered.get(chartType.ordinal());
+            if (list.isEmpty()) {
+                continue;
+            }
+            CandlePacketDTO activeCandle = snapshot.activeCandle(chartType);
+            for (IndicatorSeries series : list) {
+                IndicatorPacketDTO point = series.preview(activeCandle);
+                if (point != null) {
+                    updates.add(point);
+                }
+            }
+        }
+        return updates;
+    }
+
+    private static long startOf(CandlePacketDTO activeCandle) {
+        return activeCandle != null ? activeCandle.getCandleStartTime() : Long.MAX_VALUE;
+    }
+
+    private int warmupCount(IndicatorSpec spec) {
+        return historyLimit + spec.period() * WARMUP_PERIODS;
+    }
+}
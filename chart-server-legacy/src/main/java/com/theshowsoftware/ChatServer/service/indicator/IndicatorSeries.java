@@ -0,0 +1,178 @@
+package com.theshowsoftware.ChatServer.service.indicator;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * (심볼, ChartType) 에 등록된 지표 하나의 계산 상태와 결과
+ * - 마감된 캔들 값은 캔들 시작 시간 기준으로 최근 historyLimit 개 보관 (잠금 없이 조회)
+ * - 활성 캔들 기준 값은 미리보기로 계산해 발행 (계산 상태는 바꾸지 않음)
+ * - 계산(close / preview / rebuild)은 심볼 쓰기 스레드 전용
+ */
+public class IndicatorSeries {
+
+    private final SymbolType symbol;
+    private final ChartType chartType;
+    private final IndicatorSpec spec;
+    private final int historyLimit;
+    private final double[] out = new double[3];
+
+    // 쓰기 스레드 전용 계산 상태
+    private IndicatorCalculator calculator;
+    private long lastClosedStart = Long.MIN_VALUE;
+    private int historySize;
+
+    // 발행 상태 (rebuild 시 통째로 교체)
+    private volatile ConcurrentSkipListMap<Long, IndicatorPacketDTO> history = new ConcurrentSkipListMap<>();
+    private volatile IndicatorPacketDTO active;
+
+    public IndicatorSeries(SymbolType symbol, ChartType chartType, IndicatorSpec spec, int historyLimit) {
+        if (historyLimit <= 0) {
+            throw new IllegalArgumentException("historyLimit must be positive: " + historyLimit);
+        }
+        this.symbol = symbol;
+        this.chartType = chartType;
+        this.spec = spec;
+        this.historyLimit = historyLimit;
+        this.calculator = IndicatorCalculator.create(spec);
+    }
+
+    public IndicatorSpec spec() {
+        return spec;
+    }
+
+    /**
+     * 마지막으로 반영한 마감 캔들 시작 시간 (없으면 Long.MIN_VALUE, 쓰기 스레드 전용)
+     */
+    long lastClosedStart() {
+        return lastClosedStart;
+    }
+
+    /**
+     * 마감된 캔들 반영
+     *
+     * @return 새 지표 값 (이미 반영한 구간이거나 아직 값이 없으면 null)
+     */
+    public IndicatorPacketDTO close(CandlePacketDTO candle) {
+        long start = candle.getCandleStartTime();
+        if (start <= lastClosedStart) {
+            return null;
+        }
+        lastClosedStart = start;
+        IndicatorPacketDTO point = compute(candle, true);
+        IndicatorPacketDTO current = active;
+        if (current != null && current.getCandleStartTime() <= start) {
+            active = null;
+        }
+        if (point == null) {
+            return null;
+        }
+        if (history.put(start, point) == null && ++historySize > historyLimit) {
+            history.pollFirstEntry();
+            historySize--;
+        }
+        return point;
+    }
+
+    /**
+     * 활성 캔들 기준 값 계산 (계산 상태는 바꾸지 않음)
+     *
+     * @return 발행한 값이 바뀌었으면 새 값, 그대로이거나 값이 없으면 null
+     */
+    public IndicatorPacketDTO preview(CandlePacketDTO candle) {
+        if (candle == null || candle.getCandleStartTime() <= lastClosedStart) {
+            return null;
+        }
+        IndicatorPacketDTO point = compute(candle, false);
+        if (point == null || point.equals(active)) {
+            return null;
+        }
+        active = point;
+        return point;
+    }
+
+    /**
+     * 마감된 캔들 목록(시간순)으로 계산 상태와 보관 값을 다시 만듦 (등록 / 복원 / 지연 Tick 수정 시)
+     */
+    public void rebuild(List<CandlePacketDTO> closedCandles) {
+        calculator = IndicatorCalculator.create(spec);
+        lastClosedStart = Long.MIN_VALUE;
+        historySize = 0;
+        ConcurrentSkipListMap<Long, IndicatorPacketDTO> rebuilt = new ConcurrentSkipListMap<>();
+        for (CandlePacketDTO candle : closedCandles) {
+            if (candle.getCandleStartTime() <= lastClosedStart) {
+                continue;
+            }
+            lastClosedStart = candle.getCandleStartTime();
+            IndicatorPacketDTO point = compute(candle, true);
+            if (point != null) {
+                rebuilt.put(lastClosedStart, point);
+                if (++historySize > historyLimit) {
+                    rebuilt.pollFirstEntry();
+                    historySize--;
+                }
+            }
+        }
+        history = rebuilt;
+        active = null;
+    }
+
+    /**
+     * fromStart 이후 시작한 마감 캔들의 보관 값 (시간순)
+     */
+    public List<IndicatorPacketDTO> closedSince(long fromStart) {
+        return new ArrayList<>(history.tailMap(fromStart, true).values());
+    }
+
+    /**
+     * 최근 count 개 값 (시간순, 활성 캔들 값이 있으면 마지막에 포함)
+     */
+    public List<IndicatorPacketDTO> latest(int count) {
+        IndicatorPacketDTO current = active;
+        long boundary = current != null ? current.getCandleStartTime() : Long.MAX_VALUE;
+        int closedCount = current != null ? count - 1 : count;
+
+        // 활성 캔들 이전에 시작한 값만 조회 (마감 경합 시 중복 방지)
+        List<IndicatorPacketDTO> result = new ArrayList<>();
+        Iterator<IndicatorPacketDTO> descending = history.headMap(boundary, false).descendingMap().values().iterator();
+        while (result.size() < closedCount && descending.hasNext()) {
+            result.add(descending.next());
+        }
+        Collections.reverse(result); // 정방향으로 정렬
+        if (current != null && count > 0) {
+            result.add(current);
+        }
+        return result;
+    }
+
+    private IndicatorPacketDTO compute(CandlePacketDTO candle, boolean commit) {
+        double close = candle.getEndPrice().doubleValue();
+        double high = candle.getHighPrice() != null ? candle.getHighPrice().doubleValue() : close;
+        double low = candle.getLowPrice() != null ? candle.getLowPrice().doubleValue() : close;
+        double volume = candle.getQuantity() != null ? candle.getQuantity() : 0;
+        if (!calculator.apply(high, low, close, volume, commit, out)) {
+            return null;
+        }
+        boolean bands = spec.type() == IndicatorType.BOLLINGER;
+        return IndicatorPacketDTO.builder()
+                .symbolType(symbol)
+                .chartType(chartType)
+                .indicatorType(spec.type())
+                .period(spec.period())
+                .candleStartTime(candle.getCandleStartTime())
+                .closed(commit)
+                .value(out[IndicatorCalculator.VALUE])
+                .upper(bands ? out[IndicatorCalculator.UPPER] : null)
+                .lower(bands ? out[IndicatorCalculator.LOWER] : null)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.theshowsoftware.ChatServer.service.indicator;
+
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+
+import java.util.Locale;
+
+/**
+ * 지표 유형 + 기간 (문자열 표현: "SMA(20)")
+ */
+public record IndicatorSpec(IndicatorType type, int period) {
+
+    public static final int MAX_PERIOD = 1_000;
+
+    public IndicatorSpec {
+        if (type == null || period < 1 || period > MAX_PERIOD) {
+            throw new CustomException(ErrorCode.INVALID_INDICATOR_SPEC);
+        }
+    }
+
+    /**
+     * "SMA(20)" 형식 파싱 (대소문자 무시)
+     */
+    public static IndicatorSpec parse(String text) {
+        if (text == null) {
+            throw new CustomException(ErrorCode.INVALID_INDICATOR_SPEC);
+        }
+        String trimmed = text.trim();
+        int open = trimmed.indexOf('(');
+        if (open <= 0 || !trimmed.endsWith(")")) {
+            throw new CustomException(ErrorCode.INVALID_INDICATOR_SPEC);
+        }
+        try {
+            IndicatorType type = IndicatorType.valueOf(trimmed.substring(0, open).trim().toUpperCase(Locale.ROOT));
+            int period = Integer.parseInt(trimmed.substring(open + 1, trimmed.length() - 1).trim());
+            return new IndicatorSpec(type, period);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INDICATOR_SPEC);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + period + ")";
+    }
+}
@@ -0,0 +1,164 @@
+package com.theshowsoftware.ChatServer.service.ingest;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.utils.MpscRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 심볼별 단일 쓰기 스레드 수집 루프
+ * - 각 심볼은 하나의 루프 스레드가 소유 (symbol.ordinal() % 스레드 수)
+ * - 생산자는 잠금 없는 MPSC 큐에 Tick 을 넣고 즉시 반환 (빈이 있으면 ChartStreamHub.applyTick 이 이 경로만 사용)
+ * - 루프 스레드는 큐를 묶음 단위로 비우며 ChartCacheService.applyOwnedTicks 로 반영
+ * - 조회 측은 ChartCacheService 가 발행한 스냅샷을 읽으므로 수집 속도와 무관
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chart.ingest.mode", havingValue = "loop")
+public class ChartIngestLoop {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ChartCacheService chartCacheService;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final Worker[] workers;
+
+    public ChartIngestLoop(ChartCacheService chartCacheService,
+                           @Value("${chart.ingest.threads:0}") int threads,
+                           @Value("${chart.ingest.queue-capacity:65536}") int queueCapacity,
+                           @Value("${chart.ingest.batch-size:1024}") int batchSize) {
+        this.chartCacheService = chartCacheService;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+
+        int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.workers = new Worker[Math.min(threadCount, SymbolType.values().length)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(i);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        log.info("[ChartIngestLoop] 수집 루프 시작 (스레드: {}, 큐 크기: {}, 묶음 크기: {})", workers.length, queueCapacity, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Worker worker : workers) {
+            worker.running = false;
+            LockSupport.unpark(worker.thread);
+        }
+        for (Worker worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("[ChartIngestLoop] 수집 루프 종료");
+    }
+
+    /**
+     * Tick 을 소유 스레드의 큐에 추가
+     * - 큐가 가득 차면 소비될 때까지 잠시 대기 (생산자 역압)
+     */
+    public void submit(SymbolType symbol, TickPacketDTO tick) {
+        if (symbol == null || tick == null) {
+            throw new CustomException(ErrorCode.CACHE_DATA_IS_NULL);
+        }
+
+        Worker worker = workers[symbol.ordinal() % workers.length];
+        TickEvent event = new TickEvent(symbol, tick);
+        while (!worker.queue.offer(event)) {
+            if (!worker.running) {
+                throw new CustomException(ErrorCode.INGEST_LOOP_STOPPED);
+            }
+            LockSupport.unpark(worker.thread);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 전체 큐에 남아 있는 Tick 개수 (대략값)
+     */
+    public int pendingCount() {
+        int pending = 0;
+        for (Worker worker : workers) {
+            pending += worker.queue.size();
+        }
+        return pending;
+    }
+
+    public int getThreadCount() {
+        return workers.length;
+    }
+
+    private record TickEvent(SymbolType symbol, TickPacketDTO tick) {
+    }
+
+    private class Worker implements Runnable {
+        private final MpscRingBuffer<TickEvent> queue = new MpscRingBuffer<>(queueCapacity);
+        private final Map<SymbolType, List<TickPacketDTO>> pending = new EnumMap<>(SymbolType.class);
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private Worker(int index) {
+            this.thread = new Thread(this, "chart-ingest-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                int drained = queue.drain(this::collect, batchSize);
+                if (drained == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    continue;
+                }
+                flush();
+            }
+        }
+
+        private void collect(TickEvent event) {
+            pending.computeIfAbsent(event.symbol(), s -> new ArrayList<>()).add(event.tick());
+        }
+
+        /**
+         * 심볼별로 모은 Tick 을 한 번에 반영
+         */
+        private void flush() {
+            for (Map.Entry<SymbolType, List<TickPacketDTO>> entry : pending.entrySet()) {
+                List<TickPacketDTO> ticks = entry.getValue();
+                if (ticks.isEmpty()) {
+                    continue;
+                }
+                try {
+                    chartCacheService.applyOwnedTicks(entry.getKey(), ticks);
+                } catch (Exception e) {
+                    log.error("[ChartIngestLoop] Tick 반영 중 오류 (심볼: {})", entry.getKey(), e);
+                }
+                ticks.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.theshowsoftware.ChatServer.service.journal;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑된 Tick 저널 세그먼트 파일
+ * - 고정 길이 레코드(타임스탬프, 가격, 거래량, 체크섬 long 4개)를 파일 앞에서부터 순서대로 기록
+ * - 파일 이름은 첫 레코드의 심볼 내 순번 (예: 00000000000000700000.journal)
+ * - 체크섬은 순번과 세 값으로 계산하므로 0 으로 채워진 구간 / 중간에 끊긴 레코드 / 다른 위치의 레코드는 검증에 실패
+ *   (전원 장애 시 dirty 페이지가 순서 없이 반영되어 유효한 레코드 앞에 빈 구간이 생길 수 있음)
+ * - 검증에 실패한 첫 레코드가 기록의 끝 (앞에서부터 순서대로 검사)
+ * - 쓰기는 심볼별 단일 쓰기 스레드, force / close 는 flush 스레드에서 호출
+ */
+final class JournalSegment {
+
+    static final int RECORD_BYTES = Long.BYTES * 4;
+    static final String SUFFIX = ".journal";
+
+    private static final sun.misc.Unsafe UNSAFE = loadUnsafe();
+
+    private final Path path;
+    private final long startSequence;
+    private final int capacity;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer; // close 후 null
+
+    private JournalSegment(Path path, long startSequence, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.startSequence = startSequence;
+        this.capacity = capacity;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * 새 세그먼트 파일 생성 후 매핑
+     */
+    static JournalSegment create(Path directory, long startSequence, int capacity) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", startSequence, SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_BYTES);
+            return new JournalSegment(path, startSequence, capacity, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 기존 세그먼트 파일 매핑 (크기로 용량 결정)
+     */
+    static JournalSegment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long startSequence = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            int capacity = (int) Math.min(channel.size() / RECORD_BYTES, Integer.MAX_VALUE / RECORD_BYTES);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_BYTES);
+            return new JournalSegment(path, startSequence, capacity, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(SUFFIX) && name.length() > SUFFIX.length()
+                && name.substring(0, name.length() - SUFFIX.length()).chars().allMatch(Character::isDigit);
+    }
+
+    long startSequence() {
+        return startSequence;
+    }
+
+    /**
+     * 이 세그먼트 다음 세그먼트의 첫 순번
+     */
+    long endSequence() {
+        return startSequence + capacity;
+    }
+
+    void write(int index, long timestamp, long price, long quantity) {
+        int offset = index * RECORD_BYTES;
+        buffer.putLong(offset, timestamp);
+        buffer.putLong(offset + Long.BYTES, price);
+        buffer.putLong(offset + Long.BYTES * 2, quantity);
+        buffer.putLong(offset + Long.BYTES * 3, checksum(startSequence + index, timestamp, price, quantity));
+    }
+
+    /**
+     * index 레코드가 온전히 기록되었는지 (체크섬 검증)
+     */
+    boolean isValid(int index) {
+        int offset = index * RECORD_BYTES;
+        long checksum = buffer.getLong(offset + Long.BYTES * 3);
+        return checksum == checksum(startSequence + index, buffer.getLong(offset), buffer.getLong(offset + Long.BYTES), buffer.getLong(offset + Long.BYTES * 2));
+    }
+
+    long timestamp(int index) {
+        return buffer.getLong(index * RECORD_BYTES);
+    }
+
+    long price(int index) {
+        return buffer.getLong(index * RECORD_BYTES + Long.BYTES);
+    }
+
+    long quantity(int index) {
+        return buffer.getLong(index * RECORD_BYTES + Long.BYTES * 2);
+    }
+
+    /**
+     * 기록된 레코드 수 (앞에서부터 검사하여 검증에 실패한 첫 레코드 위치)
+     * - 빈 구간 뒤의 레코드는 그 앞이 유실되었으므로 이어 붙이지 않고 덮어씀
+     */
+    int recordCount() {
+        int count = 0;
+        while (count < capacity && isValid(count)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * from 이후에 남은 유효한 레코드를 지우고 디스크에 반영 (빈 구간 뒤의 옛 레코드가 다시 이어지지 않도록, 다시 열 때 한 번)
+     */
+    void clearFrom(int from) {
+        int last = -1;
+        for (int index = from; index < capacity; index++) {
+            if (isValid(index)) {
+                buffer.putLong(index * RECORD_BYTES + Long.BYTES * 3, 0L);
+                last = index;
+            }
+        }
+        if (last >= 0) {
+            force(from, last + 1);
+        }
+    }
+
+    /**
+     * [from, to) 레코드를 디스크에 반영
+     */
+    void force(int from, int to) {
+        buffer.force(from * RECORD_BYTES, (to - from) * RECORD_BYTES);
+    }
+
+    long sizeBytes() {
+        return (long) capacity * RECORD_BYTES;
+    }
+
+    /**
+     * 채널을 닫고 매핑 해제 (이후 이 세그먼트에 접근하면 안 됨)
+     */
+    void close() throws IOException {
+        MappedByteBuffer mapped = buffer;
+        buffer = null;
+        channel.close();
+        if (mapped != null && UNSAFE != null) {
+            UNSAFE.invokeCleaner(mapped); // GC 를 기다리지 않고 바로 해제 (삭제한 파일의 디스크 공간 반환)
+        }
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * 레코드 체크섬 (순번을 섞어 0 으로 채워진 레코드 / 위치가 어긋난 레코드도 검증에 실패)
+     */
+    static long checksum(long sequence, long timestamp, long price, long quantity) {
+        long hash = (sequence + 1) * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ timestamp) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ price) * 0x94D049BB133111EBL;
+        hash = (hash ^ quantity) * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static sun.misc.Unsafe loadUnsafe() {
+        try {
+            Field field = sun.misc.Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (sun.misc.Unsafe) field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null; // 해제하지 못하면 GC 가 매핑을 정리
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
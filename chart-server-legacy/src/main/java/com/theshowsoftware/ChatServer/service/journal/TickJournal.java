@@ -0,0 +1,402 @@
+package com.theshowsoftware.ChatServer.service.journal;
+
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 심볼별 추가 전용 Tick 저널 (chart.journal.path 를 지정한 경우에만 동작)
+ * - 심볼마다 디렉터리 하나, 메모리 매핑된 고정 크기 세그먼트 파일에 원시 Tick(고정 소수점 long 3개)을 순서대로 기록
+ * - 기록은 매핑된 메모리에 값을 쓰는 것뿐이므로 수집 경로에서 시스템 호출 / 객체 할당 / 복사 없음
+ * - flush 스레드가 flush-interval-ms 마다 그 사이 기록된 범위를 한 번에 디스크에 반영 (group commit)
+ *   프로세스가 비정상 종료되어도 매핑된 페이지는 커널에 남으므로 유실 없음, 전원 장애 시 최대 flush 주기만큼 유실
+ * - 세그먼트가 가득 차면 다음 세그먼트로 전환, 스냅샷이 포함한 구간(release)과 보관 개수를 넘은 세그먼트는 flush 스레드가 삭제
+ * - 위치(position)는 심볼별로 지금까지 기록된 레코드 수이며, 활성 캔들 스냅샷과 함께 발행되어 재시작 시 이어서 재생할 지점이 됨
+ * - append / ensurePosition 은 심볼별 단일 쓰기 스레드(심볼 쓰기 잠금 또는 수집 루프)에서만 호출
+ */
+@Slf4j
+@Component
+public class TickJournal {
+
+    /**
+     * 재생 레코드 수신
+     */
+    public interface RecordConsumer {
+        void accept(long timestamp, long price, long quantity);
+    }
+
+    private static final long MAX_SEGMENT_BYTES = (long) (Integer.MAX_VALUE / JournalSegment.RECORD_BYTES) * JournalSegment.RECORD_BYTES;
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final long flushIntervalNanos;
+    private final int retentionSegments;
+    private final AtomicReferenceArray<SymbolJournal> journals = new AtomicReferenceArray<>(SymbolType.values().length);
+    private final LongAdder droppedRecords = new LongAdder();
+    private final Thread flusher;
+    private volatile boolean running;
+    private volatile long lastFlushMicros;
+
+    @Autowired
+    public TickJournal(@Value("${chart.journal.path:}") String path,
+                       @Value("${chart.journal.segment-size:16MB}") String segmentSize,
+                       @Value("${chart.journal.flush-interval-ms:20}") long flushIntervalMillis,
+                       @Value("${chart.journal.retention-segments:8}") int retentionSegments) {
+        long segmentBytes = DataSize.parse(segmentSize.trim()).toBytes();
+        if (segmentBytes < JournalSegment.RECORD_BYTES || segmentBytes > MAX_SEGMENT_BYTES || flushIntervalMillis <= 0 || retentionSegments < 0) {
+            throw new IllegalArgumentException("invalid chart.journal settings");
+        }
+        this.directory = StringUtils.hasText(path) ? Path.of(path.trim()) : null;
+        this.segmentRecords = (int) (segmentBytes / JournalSegment.RECORD_BYTES);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.retentionSegments = retentionSegments;
+        this.flusher = new Thread(this::flushLoop, "chart-journal-flush");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * 기록하지 않는 저널 (저널 미사용 / 테스트용)
+     */
+    public static TickJournal disabled() {
+        return new TickJournal("", "16MB", 20, 8);
+    }
+
+    /**
+     * 기존 세그먼트를 열고 flush 스레드 시작
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        int segments = 0;
+        for (SymbolType symbol : SymbolType.values()) {
+            Path symbolDirectory = directory.resolve(symbol.name());
+            if (Files.isDirectory(symbolDirectory)) {
+                SymbolJournal journal = new SymbolJournal(symbolDirectory);
+                journal.openExisting();
+                journals.set(symbol.ordinal(), journal);
+                segments += journal.segments.size();
+            }
+        }
+        running = true;
+        flusher.start();
+        log.info("[TickJournal] 저널 시작 (경로: {}, 세그먼트: {}개, 세그먼트당 {} Tick, flush 주기: {}ms)",
+                directory.toAbsolutePath(), segments, segmentRecords, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        log.info("[TickJournal] 저널 종료");
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Tick 기록 (타임스탬프 0 은 유효하지 않은 Tick 이므로 기록하지 않음)
+     */
+    public void append(SymbolType symbol, long timestamp, long price, long quantity) {
+        if (directory == null) {
+            return;
+        }
+        if (timestamp == 0) {
+            droppedRecords.increment();
+            return;
+        }
+        journalOf(symbol).append(timestamp, price, quantity);
+    }
+
+    /**
+     * 심볼의 다음 기록 위치 (저널 미사용이면 -1)
+     */
+    public long position(SymbolType symbol) {
+        if (directory == null) {
+            return -1;
+        }
+        SymbolJournal journal = journals.get(symbol.ordinal());
+        return journal != null ? journal.position : 0;
+    }
+
+    /**
+     * fromPosition 부터 기록 끝까지 재생 (음수이면 보관 중인 처음부터)
+     *
+     * @return 재생한 레코드 수
+     */
+    public long replay(SymbolType symbol, long fromPosition, RecordConsumer consumer) {
+        SymbolJournal journal = directory != null ? journals.get(symbol.ordinal()) : null;
+        if (journal == null || journal.segments.isEmpty()) {
+            return 0;
+        }
+        journal.replayLock.lock(); // 재생 중인 세그먼트는 보관 정리에서 닫지 않음
+        try {
+            return replay(symbol, journal, fromPosition, consumer);
+        } finally {
+            journal.replayLock.unlock();
+        }
+    }
+
+    private long replay(SymbolType symbol, SymbolJournal journal, long fromPosition, RecordConsumer consumer) {
+        List<JournalSegment> segments = journal.segments;
+        long first = segments.get(0).startSequence();
+        if (fromPosition >= 0 && fromPosition < first) {
+            log.warn("[TickJournal] 심볼 [{}] 재생 시작 위치 {} 이전 세그먼트가 삭제되어 {} 부터 재생합니다.", symbol, fromPosition, first);
+        }
+        long from = Math.max(fromPosition, first);
+        long end = journal.position;
+        long replayed = 0;
+        for (JournalSegment segment : segments) {
+            long to = Math.min(end, segment.endSequence());
+            for (long sequence = Math.max(from, segment.startSequence()); sequence < to; sequence++) {
+                int index = (int) (sequence - segment.startSequence());
+                if (!segment.isValid(index)) {
+                    break; // ensurePosition 으로 건너뛴 세그먼트의 끝 / 전원 장애로 유실된 구간
+                }
+                consumer.accept(segment.timestamp(index), segment.price(index), segment.quantity(index));
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * 다음 기록 위치가 position 이상이 되도록 조정 (스냅샷이 저널보다 앞선 경우, 이후 기록은 새 세그먼트에서 시작)
+     */
+    public void ensurePosition(SymbolType symbol, long position) {
+        if (directory == null || position <= position(symbol)) {
+            return;
+        }
+        SymbolJournal journal = journalOf(symbol);
+        journal.current = null;
+        journal.position = position;
+    }
+
+    /**
+     * position 이전 기록은 스냅샷에 포함되었으므로 해당 구간만 담은 세그먼트를 삭제 대상으로 표시
+     */
+    public void release(SymbolType symbol, long position) {
+        SymbolJournal journal = directory != null ? journals.get(symbol.ordinal()) : null;
+        if (journal != null && position > journal.releasedPosition) {
+            journal.releasedPosition = position;
+        }
+    }
+
+    /**
+     * 저널 상태 (GET /metrics/chart)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", directory != null);
+        if (directory != null) {
+            int symbols = 0;
+            int segments = 0;
+            long bytes = 0;
+            for (int i = 0; i < journals.length(); i++) {
+                SymbolJournal journal = journals.get(i);
+                if (journal != null) {
+                    symbols++;
+                    for (JournalSegment segment : journal.segments) {
+                        segments++;
+                        bytes += segment.sizeBytes();
+                    }
+                }
+            }
+            status.put("symbols", symbols);
+            status.put("segments", segments);
+            status.put("bytes", bytes);
+            status.put("droppedRecords", droppedRecords.sum());
+            status.put("lastFlushMicros", lastFlushMicros);
+        }
+        return status;
+    }
+
+    private SymbolJournal journalOf(SymbolType symbol) {
+        SymbolJournal journal = journals.get(symbol.ordinal());
+        if (journal == null) {
+            journal = new SymbolJournal(directory.resolve(symbol.name()));
+            if (!journals.compareAndSet(symbol.ordinal(), null, journal)) {
+                journal = journals.get(symbol.ordinal());
+            }
+        }
+        return journal;
+    }
+
+    // ==========================================================
+    //                  group commit / 보관 정리
+    // ==========================================================
+
+    private void flushLoop() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                flushAll();
+                applyRetention();
+            } catch (RuntimeException e) {
+                log.error("[TickJournal] flush 중 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 마지막 flush 이후 기록된 범위를 세그먼트별로 한 번씩 디스크에 반영
+     */
+    private void flushAll() {
+        long start = System.nanoTime();
+        for (int i = 0; i < journals.length(); i++) {
+            SymbolJournal journal = journals.get(i);
+            if (journal == null) {
+                continue;
+            }
+            long position = journal.position;
+            if (position <= journal.flushedPosition) {
+                continue;
+            }
+            for (JournalSegment segment : journal.segments) {
+                long from = Math.max(journal.flushedPosition, segment.startSequence());
+                long to = Math.min(position, segment.endSequence());
+                if (from < to) {
+                    segment.force((int) (from - segment.startSequence()), (int) (to - segment.startSequence()));
+                }
+            }
+            journal.flushedPosition = position;
+        }
+        lastFlushMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+    }
+
+    /**
+     * 현재 세그먼트를 제외하고 스냅샷에 포함된 세그먼트와 보관 개수를 넘은 오래된 세그먼트 삭제
+     * - 채널을 닫고 매핑을 해제한 뒤 삭제 (매핑이 남아 있으면 삭제한 파일의 디스크 공간이 반환되지 않음)
+     * - 재생 중인 심볼은 다음 주기로 미룸
+     */
+    private void applyRetention() {
+        for (int i = 0; i < journals.length(); i++) {
+            SymbolJournal journal = journals.get(i);
+            if (journal == null || !journal.replayLock.tryLock()) {
+                continue;
+            }
+            try {
+                List<JournalSegment> segments = journal.segments;
+                while (segments.size() > 1) {
+                    JournalSegment oldest = segments.get(0);
+                    boolean released = oldest.endSequence() <= journal.releasedPosition;
+                    if (!released && segments.size() - 1 <= retentionSegments) {
+                        break;
+                    }
+                    segments.remove(0);
+                    try {
+                        oldest.close();
+                        oldest.delete();
+                    } catch (IOException e) {
+                        log.warn("[TickJournal] 세그먼트 삭제 실패: {}", oldest, e);
+                    }
+                }
+            } finally {
+                journal.replayLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 심볼 하나의 세그먼트 목록과 기록 위치
+     */
+    private final class SymbolJournal {
+        private final Path symbolDirectory;
+        private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+        private final ReentrantLock replayLock = new ReentrantLock();
+        private JournalSegment current; // 쓰기 스레드 전용
+        private volatile long position;
+        private volatile long releasedPosition = -1;
+        private long flushedPosition; // flush 스레드 전용
+        private boolean failed;
+
+        private SymbolJournal(Path symbolDirectory) {
+            this.symbolDirectory = symbolDirectory;
+        }
+
+        private void openExisting() throws IOException {
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(symbolDirectory)) {
+                files = new ArrayList<>(stream.filter(JournalSegment::isSegmentFile).sorted().toList());
+            }
+            for (Path file : files) {
+                segments.add(JournalSegment.open(file));
+            }
+            if (!segments.isEmpty()) {
+                current = segments.get(segments.size() - 1);
+                int recordCount = current.recordCount();
+                current.clearFrom(recordCount);
+                position = current.startSequence() + recordCount;
+                flushedPosition = position;
+            }
+        }
+
+        private void append(long timestamp, long price, long quantity) {
+            long sequence = position;
+            JournalSegment segment = current;
+            if (segment == null || sequence >= segment.endSequence()) {
+                segment = roll(sequence);
+                if (segment == null) {
+                    droppedRecords.increment();
+                    return;
+                }
+            }
+            segment.write((int) (sequence - segment.startSequence()), timestamp, price, quantity);
+            position = sequence + 1;
+        }
+
+        /**
+         * sequence 부터 시작하는 새 세그먼트로 전환 (세그먼트 크기마다 한 번, 실패하면 이후 기록을 버림)
+         */
+        private JournalSegment roll(long sequence) {
+            if (failed) {
+                return null;
+            }
+            try {
+                Files.createDirectories(symbolDirectory);
+                JournalSegment segment = JournalSegment.create(symbolDirectory, sequence, segmentRecords);
+                segments.add(segment);
+                current = segment;
+                return segment;
+            } catch (IOException | UncheckedIOException e) {
+                failed = true;
+                log.error("[TickJournal] 세그먼트를 만들 수 없어 이후 Tick 은 저널에 기록하지 않습니다. (경로: {})", symbolDirectory, e);
+                return null;
+            }
+        }
+    }
+}
@@ -6,7 +6,7 @@ import com.theshowsoftware.ChatServer.enums.ChartType;
 import com.theshowsoftware.ChatServer.enums.SymbolType;
 import com.theshowsoftware.ChatServer.service.ChartCacheService;
 import com.theshowsoftware.ChatServer.service.PacketSenderService;
-import com.theshowsoftware.ChatServer.utils.PacketManager;
+import com.theshowsoftware.ChatServer.service.stream.ChartStreamHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,8 +22,9 @@ import java.util.Random;
 @Component
 @RequiredArgsConstructor
 public class ChartScheduler {
-    private final ChartCacheService chartCacheService = new ChartCacheService();
+    private final ChartCacheService chartCacheService;
     private final PacketSenderService packetSenderService;
+    private final ChartStreamHub chartStreamHub;
 
     private BigInteger currentPrice = BigInteger.valueOf(100_000_000_000L); // $50,000 * 10^9
     private final Random random = new Random();
@@ -67,15 +68,13 @@ public class ChartScheduler {
         // 틱 데이터 생성
         TickPacketDTO tickPacketDTO = new TickPacketDTO(currentPrice, quantity, now);
 
-        // 캐시에 틱 데이터 추가
-        chartCacheService.addTick(SymbolType.BTC, tickPacketDTO);
-
-        String packet = PacketManager.createTickPacket(SymbolType.BTC, tickPacketDTO);
+        // 캐시에 틱 데이터 추가 (바이너리 스트림 구독자에게 시퀀스 번호와 함께 전송)
+        chartStreamHub.applyTick(SymbolType.BTC, tickPacketDTO);
 
         // 패킷 전송
-        packetSenderService.sendTickDataToUser(SymbolType.BTC, SymbolType.BTC.name(), packet);
+        packetSenderService.sendTick(SymbolType.BTC, SymbolType.BTC.name(), tickPacketDTO);
 
-        log.info("[ChartSchedular] 틱 패킷 데이터 : " + packet);
+        log.info("[ChartSchedular] 틱 패킷 데이터 : " + tickPacketDTO);
     }
 
     /**
@@ -97,19 +96,20 @@ public class ChartScheduler {
      * 특정 ChartType에 대한 Candle 데이터 생성 및 캐시 업데이트
      */
     private void generateCandle(ChartType chartType) {
-        long intervalInMillis = chartType.getIntervalInMillis();
+        long now = Instant.now().toEpochMilli();
+        long bucketStart = chartType.bucketStart(now); // 현재 캔들 시작 시간
 
         List<TickPacketDTO> ticks = chartCacheService.getTicksBetween(
                 SymbolType.BTC,
-                Instant.now().minusMillis(intervalInMillis),
-                Instant.now()
+                Instant.ofEpochMilli(bucketStart),
+                Instant.ofEpochMilli(now)
         );
 
         if (ticks.isEmpty()) return;
 
         ticks.sort(Comparator.comparingLong(TickPacketDTO::getTimestamp));
-        long startTime = ticks.get(0).getTimestamp(); // 캔들 시작 시간
-        long endTime = ticks.get(ticks.size() - 1).getTimestamp(); // 캔들 종료 시간
+        long startTime = bucketStart; // 캔들 시작 시간
+        long endTime = chartType.bucketEnd(bucketStart); // 캔들 종료 시간
         BigInteger startPrice = ticks.get(0).getPrice(); // 시가
         BigInteger endPrice = ticks.get(ticks.size() - 1).getPrice(); // 종가
         BigInteger highPrice = ticks.stream().map(TickPacketDTO::getPrice).max(Comparator.naturalOrder()).orElse(startPrice); // 고가
@@ -131,14 +131,11 @@ public class ChartScheduler {
                 .tickCount(tickCount)
                 .build();
 
-        chartCacheService.addCandle(SymbolType.BTC, chartType, candlePacketDTO);
-
-        // 패킷 생성
-        String packet = PacketManager.createCandlePacket(candlePacketDTO);
+        chartStreamHub.applyCandle(candlePacketDTO);
 
         // 패킷 전송
-        packetSenderService.sendCandleDataToUser(SymbolType.BTC, SymbolType.BTC.name(), packet);
+        packetSenderService.sendCandle(SymbolType.BTC.name(), candlePacketDTO);
 
-        log.info("[ChartScheduler] Candle Packet ({}): {}", chartType.getLabel(), packet);
+        log.info("[ChartScheduler] Candle Packet ({}): {}", chartType.getLabel(), candlePacketDTO);
     }
 }
@@ -0,0 +1,218 @@
+package com.theshowsoftware.ChatServer.service.snapshot;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.cache.CompressedTickBlock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 차트 캐시 스냅샷 파일 읽기 (형식은 ChartSnapshotWriter 참고)
+ * - 트레일러와 색인만 먼저 읽고, 심볼 구간은 read 호출 시 해당 범위만 메모리 매핑
+ * - 구간끼리 독립적이므로 여러 스레드에서 동시에 read 가능
+ * - 알 수 없는 심볼 / ChartType 은 건너뜀 (enum 변경 후 이전 스냅샷 호환)
+ * - VERSION 1 파일은 저널 위치 없이 읽음 (-1), VERSION 2 이하 파일은 저널 위치 이후 포함된 Tick 수를 0 으로 읽음
+ */
+public class ChartSnapshotReader implements Closeable {
+
+    private final FileChannel channel;
+    private final int version;
+    private final long createdAt;
+    private final List<Section> sections;
+
+    private ChartSnapshotReader(FileChannel channel, int version, long createdAt, List<Section> sections) {
+        this.channel = channel;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.sections = sections;
+    }
+
+    public static ChartSnapshotReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < ChartSnapshotWriter.HEADER_BYTES + ChartSnapshotWriter.TRAILER_BYTES) {
+                throw new IOException("스냅샷 파일이 너무 작습니다: " + size);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ChartSnapshotWriter.HEADER_BYTES);
+            int magic = header.getInt();
+            int version = header.getInt();
+            if (magic != ChartSnapshotWriter.MAGIC || version < 1 || version > ChartSnapshotWriter.VERSION) {
+                throw new IOException("스냅샷 파일 형식이 아니거나 지원하지 않는 버전입니다.");
+            }
+            long createdAt = header.getLong();
+
+            ByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY, size - ChartSnapshotWriter.TRAILER_BYTES, ChartSnapshotWriter.TRAILER_BYTES);
+            long indexOffset = trailer.getLong();
+            if (trailer.getInt() != ChartSnapshotWriter.MAGIC || indexOffset < ChartSnapshotWriter.HEADER_BYTES || indexOffset > size - ChartSnapshotWriter.TRAILER_BYTES) {
+                throw new IOException("스냅샷 파일이 완전하지 않습니다.");
+            }
+
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, size - ChartSnapshotWriter.TRAILER_BYTES - indexOffset);
+            int count = index.getInt();
+            List<Section> sections = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = getString(index);
+                Section section = new Section(symbolOf(name), index.getLong(), index.getLong(), index.getLong());
+                if (section.symbol() != null && section.offset() >= ChartSnapshotWriter.HEADER_BYTES && section.offset() + section.length() <= indexOffset) {
+                    sections.add(section);
+                }
+            }
+            return new ChartSnapshotReader(channel, version, createdAt, Collections.unmodifiableList(sections));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        } catch (RuntimeException e) {
+            channel.close();
+            throw new IOException("스냅샷 색인이 손상되었습니다.", e);
+        }
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    /**
+     * 심볼 구간을 매핑하여 CRC32 확인 후 복원
+     */
+    public SymbolSnapshot read(Section section) throws IOException {
+        if (section.length() > Integer.MAX_VALUE) {
+            throw new IOException("심볼 구간이 너무 큽니다: " + section.length());
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, section.offset(), section.length());
+        CRC32 crc = new CRC32();
+        crc.update(mapped.duplicate());
+        if (crc.getValue() != section.checksum()) {
+            throw new IOException("심볼 구간 체크섬이 일치하지 않습니다: " + section.symbol());
+        }
+
+        try {
+            return parse(section.symbol(), version, mapped);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("심볼 구간이 손상되었습니다: " + section.symbol(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static SymbolSnapshot parse(SymbolType symbol, int version, ByteBuffer buffer) {
+        long journalPosition = version >= 2 ? buffer.getLong() : -1;
+        long ticksAhead = version >= 3 ? buffer.getLong() : 0;
+        int blockCount = buffer.getInt();
+        List<CompressedTickBlock> blocks = new ArrayList<>(Math.min(blockCount, buffer.remaining()));
+        for (int i = 0; i < blockCount; i++) {
+            blocks.add(CompressedTickBlock.readFrom(buffer));
+        }
+
+        int stateCount = buffer.getInt();
+        Map<ChartType, long[]> activeState = new EnumMap<>(ChartType.class);
+        for (int i = 0; i < stateCount; i++) {
+            ChartType chartType = chartTypeOf(getString(buffer));
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining() / Long.BYTES) {
+                throw new IllegalArgumentException("invalid state length: " + length);
+            }
+            long[] values = new long[length];
+            for (int j = 0; j < length; j++) {
+                values[j] = buffer.getLong();
+            }
+            if (chartType != null) {
+                activeState.put(chartType, values);
+            }
+        }
+
+        int seriesCount = buffer.getInt();
+        Map<ChartType, List<CandlePacketDTO>> candles = new EnumMap<>(ChartType.class);
+        for (int i = 0; i < seriesCount; i++) {
+            ChartType chartType = chartTypeOf(getString(buffer));
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / ChartSnapshotWriter.CANDLE_BYTES) {
+                throw new IllegalArgumentException("invalid candle count: " + count);
+            }
+            if (chartType == null) {
+                buffer.position(buffer.position() + count * ChartSnapshotWriter.CANDLE_BYTES);
+                continue;
+            }
+            List<CandlePacketDTO> list = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                list.add(getCandle(buffer, symbol, chartType));
+            }
+            candles.put(chartType, list);
+        }
+        return new SymbolSnapshot(symbol, blocks, activeState, candles, journalPosition, ticksAhead);
+    }
+
+    private static CandlePacketDTO getCandle(ByteBuffer buffer, SymbolType symbol, ChartType chartType) {
+        return CandlePacketDTO.builder()
+                .symbolType(symbol)
+                .chartType(chartType)
+                .candleStartTime(buffer.getLong())
+                .candleEndTime(longOrNull(buffer.getLong()))
+                .startPrice(priceOrNull(buffer.getLong()))
+                .highPrice(priceOrNull(buffer.getLong()))
+                .lowPrice(priceOrNull(buffer.getLong()))
+                .endPrice(priceOrNull(buffer.getLong()))
+                .quantity(longOrNull(buffer.getLong()))
+                .tickCount(buffer.getInt())
+                .build();
+    }
+
+    private static Long longOrNull(long value) {
+        return value == ChartSnapshotWriter.NULL_VALUE ? null : value;
+    }
+
+    private static BigInteger priceOrNull(long value) {
+        return value == ChartSnapshotWriter.NULL_VALUE ? null : BigInteger.valueOf(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static SymbolType symbolOf(String name) {
+        try {
+            return SymbolType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ChartType chartTypeOf(String name) {
+        try {
+            return ChartType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 심볼 구간 색인
+     */
+    public record Section(SymbolType symbol, long offset, long length, long checksum) {
+    }
+}
@@ -0,0 +1,236 @@
+package com.theshowsoftware.ChatServer.service.snapshot;
+
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.journal.TickJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차트 캐시 스냅샷 (chart.snapshot.path 를 지정한 경우에만 동작)
+ * - 시작 시 마지막 스냅샷 파일을 메모리 매핑하여 심볼별로 병렬 복원 (수집 시작 전)
+ * - interval-ms 마다 전용 스레드에서 스냅샷 기록 (수집 / 조회 경로는 멈추지 않음)
+ *   - Tick: 변경 불가 압축 블록은 참조만 복사, hot 구간만 짧은 읽기 잠금으로 복사
+ *   - 캔들: 발행된 활성 캔들 상태 + 완료 캔들 목록의 약한 일관성 순회
+ * - 종료 시 마지막 스냅샷을 한 번 더 기록
+ * - Tick 저널을 사용하면 복원 후 심볼별로 스냅샷 이후 저널을 병렬 재생하고,
+ *   스냅샷 기록이 끝나면 스냅샷에 포함된 저널 구간을 삭제 대상으로 표시
+ * - 합성 시세 생성기처럼 시작 시 바로 Tick 을 넣는 빈은 이 빈 이후에 시작해야 함 (@DependsOn)
+ */
+@Slf4j
+@Service
+public class ChartSnapshotService {
+
+    private final ChartCacheService chartCacheService;
+    private final TickJournal journal;
+    private final Path path;
+    private final long intervalMillis;
+    private final ScheduledExecutorService executor;
+
+    private volatile long lastSnapshotAt;
+    private volatile long lastSnapshotBytes;
+    private volatile long lastSnapshotMillis;
+    private volatile int restoredSymbols;
+    private volatile long restoreMillis;
+    private volatile long replayedTicks;
+    private volatile long replayMillis;
+
+    public ChartSnapshotService(ChartCacheService chartCacheService, String path, long intervalMillis) {
+        this(chartCacheService, TickJournal.disabled(), path, intervalMillis);
+    }
+
+    @Autowired
+    public ChartSnapshotService(ChartCacheService chartCacheService,
+                                TickJournal journal,
+                                @Value("${chart.snapshot.path:}") String path,
+                                @Value("${chart.snapshot.interval-ms:60000}") long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("chart.snapshot.interval-ms must be positive: " + intervalMillis);
+        }
+        this.chartCacheService = chartCacheService;
+        this.journal = journal;
+        this.path = StringUtils.hasText(path) ? Path.of(path.trim()) : null;
+        this.intervalMillis = intervalMillis;
+        this.executor = this.path == null ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chart-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (path != null) {
+            restore();
+        }
+        if (journal.isEnabled()) {
+            replayJournal();
+        }
+        if (path == null) {
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::writeQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[ChartSnapshot] 주기적 스냅샷 시작 (경로: {}, 주기: {}ms)", path.toAbsolutePath(), intervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (path == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeQuietly();
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * 스냅샷 파일 기록 (심볼마다 내보내어 바로 기록하므로 한 번에 한 심볼 분량만 추가로 참조)
+     *
+     * @return 파일 크기
+     */
+    public synchronized long writeSnapshot() throws IOException {
+        if (path == null) {
+            throw new IllegalStateException("chart.snapshot.path is not configured");
+        }
+        long start = System.nanoTime();
+        long size;
+        int skippedCandles;
+        Map<SymbolType, Long> journalPositions = new EnumMap<>(SymbolType.class);
+        try (ChartSnapshotWriter writer = new ChartSnapshotWriter(path)) {
+            for (SymbolType symbol : SymbolType.values()) {
+                SymbolSnapshot snapshot = chartCacheService.exportSnapshot(symbol);
+                if (!snapshot.isEmpty()) {
+                    writer.writeSymbol(snapshot);
+                    journalPositions.put(symbol, snapshot.journalPosition());
+                }
+            }
+            size = writer.commit();
+            skippedCandles = writer.getSkippedCandles();
+        }
+
+        // 파일 교체가 끝난 뒤에만 저널 구간 해제
+        journalPositions.forEach(journal::release);
+
+        lastSnapshotAt = System.currentTimeMillis();
+        lastSnapshotBytes = size;
+        lastSnapshotMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (skippedCandles > 0) {
+            log.warn("[ChartSnapshot] 가격이 long 범위를 넘는 캔들 {}개는 스냅샷에서 제외했습니다.", skippedCandles);
+        }
+        log.debug("[ChartSnapshot] 스냅샷 기록 완료 (크기: {} bytes, 소요: {}ms)", size, lastSnapshotMillis);
+        return size;
+    }
+
+    /**
+     * 스냅샷 파일로 캐시 복원 (심볼 구간별 병렬 처리, 손상된 구간은 건너뜀)
+     *
+     * @return 복원된 심볼 수
+     */
+    public int restore() {
+        if (path == null || !Files.exists(path)) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try (ChartSnapshotReader reader = ChartSnapshotReader.open(path)) {
+            int restored = (int) reader.getSections().parallelStream()
+                    .filter(section -> restoreSection(reader, section))
+                    .count();
+            restoredSymbols = restored;
+            restoreMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("[ChartSnapshot] 스냅샷 복원 완료 (심볼: {}/{}, 스냅샷 시각: {}, 소요: {}ms)",
+                    restored, reader.getSections().size(), Instant.ofEpochMilli(reader.getCreatedAt()), restoreMillis);
+            return restored;
+        } catch (IOException e) {
+            log.error("[ChartSnapshot] 스냅샷 파일을 읽을 수 없어 빈 캐시로 시작합니다. (경로: {})", path, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 스냅샷 이후 저널을 심볼별로 병렬 재생
+     *
+     * @return 재생한 Tick 수
+     */
+    public long replayJournal() {
+        long start = System.nanoTime();
+        long replayed = Arrays.stream(SymbolType.values()).parallel()
+                .mapToLong(this::replaySymbol)
+                .sum();
+        replayedTicks = replayed;
+        replayMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("[ChartSnapshot] 저널 재생 완료 (Tick: {}, 소요: {}ms)", replayed, replayMillis);
+        return replayed;
+    }
+
+    /**
+     * 최근 스냅샷 기록 / 복원 상태 (GET /metrics/chart)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", path != null);
+        if (path != null) {
+            status.put("lastSnapshotAt", lastSnapshotAt);
+            status.put("lastSnapshotBytes", lastSnapshotBytes);
+            status.put("lastSnapshotMillis", lastSnapshotMillis);
+            status.put("restoredSymbols", restoredSymbols);
+            status.put("restoreMillis", restoreMillis);
+        }
+        if (journal.isEnabled()) {
+            status.put("replayedTicks", replayedTicks);
+            status.put("replayMillis", replayMillis);
+        }
+        return status;
+    }
+
+    private boolean restoreSection(ChartSnapshotReader reader, ChartSnapshotReader.Section section) {
+        try {
+            chartCacheService.restoreSnapshot(reader.read(section));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("[ChartSnapshot] 심볼 [{}] 스냅샷 복원에 실패하여 건너뜁니다.", section.symbol(), e);
+            return false;
+        }
+    }
+
+    private long replaySymbol(SymbolType symbol) {
+        try {
+            return chartCacheService.replayJournal(symbol);
+        } catch (RuntimeException e) {
+            log.error("[ChartSnapshot] 심볼 [{}] 저널 재생에 실패하여 건너뜁니다.", symbol, e);
+            return 0;
+        }
+    }
+
+    private void writeQuietly() {
+        try {
+            writeSnapshot();
+        } catch (Exception e) {
+            log.error("[ChartSnapshot] 스냅샷 기록 중 오류 (경로: {})", path, e);
+        }
+    }
+}
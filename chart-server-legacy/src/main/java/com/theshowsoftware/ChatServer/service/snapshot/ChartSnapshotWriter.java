@@ -0,0 +1,224 @@
+package com.theshowsoftware.ChatServer.service.snapshot;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.service.cache.CompressedTickBlock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 차트 캐시 스냅샷 파일 기록
+ * - 임시 파일에 심볼 구간을 순서대로 기록한 뒤 색인과 트레일러를 붙이고 대상 파일로 원자적 교체
+ * - 심볼 구간마다 CRC32 를 색인에 기록하여 복원 시 손상된 구간만 건너뜀
+ * <p>
+ * 파일 구성 (빅 엔디언)
+ * - 헤더 : MAGIC(int), VERSION(int), 생성 시간(long)
+ * - 심볼 구간 : 저널 위치(long, VERSION 2 부터), 저널 위치 이후 포함된 Tick 수(long, VERSION 3 부터), 압축 Tick 블록 수(int) + 블록, 활성 캔들 상태 수(int) + [ChartType, 값 수(int), long...],
+ *   완료 캔들 목록 수(int) + [ChartType, 캔들 수(int), 캔들(시작, 종료, 시가, 고가, 저가, 종가, 거래량, 틱 수)...]
+ * - 색인 : 심볼 수(int) + [심볼명, 구간 위치(long), 구간 길이(long), CRC32(long)]
+ * - 트레일러 : 색인 위치(long), MAGIC(int)
+ * - 문자열은 길이(short) + UTF-8, null 값(종료 시간, 가격, 거래량)은 Long.MIN_VALUE
+ */
+public class ChartSnapshotWriter implements Closeable {
+
+    static final int MAGIC = 0x4348534E; // "CHSN"
+    static final int VERSION = 3;
+    static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+    static final int CANDLE_BYTES = Long.BYTES * 7 + Integer.BYTES;
+    static final long NULL_VALUE = Long.MIN_VALUE;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Path target;
+    private final Path temp;
+    private final FileChannel channel;
+    private final CRC32 crc = new CRC32();
+    private final List<Section> index = new ArrayList<>();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private int skippedCandles;
+    private boolean committed;
+
+    public ChartSnapshotWriter(Path target) throws IOException {
+        this.target = target;
+        this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(System.currentTimeMillis());
+    }
+
+    /**
+     * 심볼 구간 기록
+     */
+    public void writeSymbol(SymbolSnapshot snapshot) throws IOException {
+        flush();
+        long offset = channel.position();
+        crc.reset();
+
+        ensure(Long.BYTES * 2 + Integer.BYTES);
+        buffer.putLong(snapshot.journalPosition());
+        buffer.putLong(snapshot.ticksAhead());
+        buffer.putInt(snapshot.tickBlocks().size());
+        for (CompressedTickBlock block : snapshot.tickBlocks()) {
+            ensure(block.serializedBytes());
+            block.writeTo(buffer);
+        }
+
+        ensure(Integer.BYTES);
+        buffer.putInt(snapshot.activeState().size());
+        for (Map.Entry<ChartType, long[]> entry : snapshot.activeState().entrySet()) {
+            long[] values = entry.getValue();
+            putString(entry.getKey().name());
+            ensure(Integer.BYTES + values.length * Long.BYTES);
+            buffer.putInt(values.length);
+            for (long value : values) {
+                buffer.putLong(value);
+            }
+        }
+
+        ensure(Integer.BYTES);
+        buffer.putInt(snapshot.candles().size());
+        for (Map.Entry<ChartType, List<CandlePacketDTO>> entry : snapshot.candles().entrySet()) {
+            List<CandlePacketDTO> candles = entry.getValue();
+            int writable = 0;
+            for (CandlePacketDTO candle : candles) {
+                if (isWritable(candle)) {
+                    writable++;
+                }
+            }
+            skippedCandles += candles.size() - writable;
+
+            putString(entry.getKey().name());
+            ensure(Integer.BYTES);
+            buffer.putInt(writable);
+            for (CandlePacketDTO candle : candles) {
+                if (isWritable(candle)) {
+                    putCandle(candle);
+                }
+            }
+        }
+
+        flush();
+        index.add(new Section(snapshot.symbol().name(), offset, channel.position() - offset, crc.getValue()));
+    }
+
+    /**
+     * 색인과 트레일러를 기록하고 대상 파일로 교체
+     *
+     * @return 파일 크기
+     */
+    public long commit() throws IOException {
+        flush();
+        long indexOffset = channel.position();
+        ensure(Integer.BYTES);
+        buffer.putInt(index.size());
+        for (Section section : index) {
+            putString(section.symbol());
+            ensure(Long.BYTES * 3);
+            buffer.putLong(section.offset()).putLong(section.length()).putLong(section.checksum());
+        }
+        ensure(TRAILER_BYTES);
+        buffer.putLong(indexOffset).putInt(MAGIC);
+        flush();
+
+        long size = channel.position();
+        channel.force(true);
+        channel.close();
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committed = true;
+        return size;
+    }
+
+    /**
+     * 가격이 long 범위를 넘어 기록하지 못한 캔들 수
+     */
+    public int getSkippedCandles() {
+        return skippedCandles;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.close();
+        }
+        if (!committed) {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void putCandle(CandlePacketDTO candle) throws IOException {
+        ensure(CANDLE_BYTES);
+        buffer.putLong(candle.getCandleStartTime())
+                .putLong(orNull(candle.getCandleEndTime()))
+                .putLong(orNull(candle.getStartPrice()))
+                .putLong(orNull(candle.getHighPrice()))
+                .putLong(orNull(candle.getLowPrice()))
+                .putLong(orNull(candle.getEndPrice()))
+                .putLong(orNull(candle.getQuantity()))
+                .putInt(candle.getTickCount());
+    }
+
+    private void putString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensure(Short.BYTES + bytes.length);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static boolean isWritable(CandlePacketDTO candle) {
+        return candle.getCandleStartTime() != null
+                && fitsLong(candle.getStartPrice()) && fitsLong(candle.getHighPrice())
+                && fitsLong(candle.getLowPrice()) && fitsLong(candle.getEndPrice());
+    }
+
+    private static boolean fitsLong(BigInteger value) {
+        return value == null || (value.bitLength() < Long.SIZE && value.longValue() != NULL_VALUE);
+    }
+
+    private static long orNull(Long value) {
+        return value != null ? value : NULL_VALUE;
+    }
+
+    private static long orNull(BigInteger value) {
+        return value != null ? value.longValue() : NULL_VALUE;
+    }
+
+    /**
+     * 버퍼에 length 바이트 공간 확보 (부족하면 파일로 내보내고, 더 큰 값이면 버퍼 확장)
+     */
+    private void ensure(int length) throws IOException {
+        if (buffer.remaining() >= length) {
+            return;
+        }
+        flush();
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocateDirect(length);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private record Section(String symbol, long offset, long length, long checksum) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.theshowsoftware.ChatServer.service.snapshot;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.cache.CompressedTickBlock;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 심볼 하나의 캐시 스냅샷
+ * - tickBlocks : 시간순 압축 Tick 블록 (hot 구간도 블록으로 압축)
+ * - activeState : 활성 캔들 롤업 작업 상태 (ChartType 별 값 배열)
+ * - candles : ChartType 별 완료 캔들 (시간순, 활성 캔들 이전까지)
+ * - journalPosition : 활성 캔들 상태에 반영된 마지막 Tick 다음 저널 위치 (저널 미사용이면 -1)
+ * - ticksAhead : tickBlocks 에 이미 포함된 journalPosition 이후 Tick 수 (저널 재생 시 Tick 버퍼에는 다시 넣지 않음)
+ */
+public record SymbolSnapshot(SymbolType symbol,
+                             List<CompressedTickBlock> tickBlocks,
+                             Map<ChartType, long[]> activeState,
+                             Map<ChartType, List<CandlePacketDTO>> candles,
+                             long journalPosition,
+                             long ticksAhead) {
+
+    public boolean isEmpty() {
+        return tickBlocks.isEmpty() && activeState.isEmpty() && candles.values().stream().allMatch(List::isEmpty);
+    }
+}
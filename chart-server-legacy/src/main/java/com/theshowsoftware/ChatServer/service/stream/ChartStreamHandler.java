@@ -0,0 +1,139 @@
+package com.theshowsoftware.ChatServer.service.stream;
+
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP / SockJS 없는 바이너리 WebSocket 스트림 (/udws-raw)
+ * - 클라이언트 → 서버 : 제어 메시지 | 명령(1) | 심볼 코드(2) | 차트타입 코드(1) | [epoch(8) | 마지막 시퀀스(8)] | [스냅샷 개수(2)] |
+ *   명령 1 = 구독, 2 = 구독 해제, 3 = 스냅샷 후 구독 (최근 N 개 스냅샷 뒤 실시간 프레임),
+ *   4 = 재연결 구독 (마지막으로 받은 프레임의 epoch / 시퀀스 이후 프레임 재전송, epoch 가 다르거나 너무 오래된 경우 최근 N 개 스냅샷)
+ * - 서버 → 클라이언트 : BinaryPacketCodec 형식의 스냅샷 / 틱 / 캔들 프레임 (스트림 epoch 와 시퀀스 번호 포함)
+ * - 스트림 상태와 프레임 발행은 ChartStreamHub 가 담당
+ * - 세션별 전송은 ConcurrentWebSocketSessionDecorator 로 직렬화, 느린 세션은 제한 초과 시 연결 종료
+ */
+@Slf4j
+@Component
+public class ChartStreamHandler extends BinaryWebSocketHandler {
+
+    public static final byte OP_SUBSCRIBE = 1;
+    public static final byte OP_UNSUBSCRIBE = 2;
+    public static final byte OP_SUBSCRIBE_SNAPSHOT = 3;
+    public static final int CONTROL_SIZE = 4;
+    public static final byte OP_RESUME = 4;
+    public static final int SNAPSHOT_CONTROL_SIZE = CONTROL_SIZE + 2;
+    public static final int RESUME_CONTROL_SIZE = CONTROL_SIZE + 8 + 8 + 2;
+
+    private static final int CHART_TYPE_COUNT = ChartType.values().length;
+    private static final ChartType[] CHART_TYPES = ChartType.values();
+    private static final SymbolType[] SYMBOL_TYPES = SymbolType.values();
+    private static final String SUBSCRIPTIONS_ATTRIBUTE = "chartStreamSubscriptions";
+
+    private final ChartStreamHub chartStreamHub;
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+
+    // 원본 세션 ID → 전송용 세션
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public ChartStreamHandler(ChartStreamHub chartStreamHub,
+                              @Value("${chart.stream.send-time-limit-ms:5000}") int sendTimeLimit,
+                              @Value("${chart.stream.buffer-size-limit:524288}") int bufferSizeLimit) {
+        this.chartStreamHub = chartStreamHub;
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.getAttributes().put(SUBSCRIPTIONS_ATTRIBUTE, ConcurrentHashMap.<Integer>newKeySet());
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, bufferSizeLimit));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        ByteBuffer control = message.getPayload();
+        byte op = control.remaining() > 0 ? control.get(control.position()) : 0;
+        int expectedSize = switch (op) {
+            case OP_SUBSCRIBE_SNAPSHOT -> SNAPSHOT_CONTROL_SIZE;
+            case OP_RESUME -> RESUME_CONTROL_SIZE;
+            default -> CONTROL_SIZE;
+        };
+        if (control.remaining() != expectedSize) {
+            session.close(CloseStatus.BAD_DATA.withReason("invalid control message"));
+            return;
+        }
+
+        control.get(); // 명령
+        SymbolType symbolType = SymbolType.fromCode(Short.toUnsignedInt(control.getShort()));
+        ChartType chartType = ChartType.fromCode(Byte.toUnsignedInt(control.get()));
+        WebSocketSession target = sessions.get(session.getId());
+        if (symbolType == null || chartType == null || target == null
+                || op < OP_SUBSCRIBE || op > OP_RESUME) {
+            session.close(CloseStatus.BAD_DATA.withReason("invalid control message"));
+            return;
+        }
+
+        int key = symbolType.ordinal() * CHART_TYPE_COUNT + chartType.ordinal();
+        Set<Integer> subscriptions = subscriptionsOf(session);
+        if (op == OP_UNSUBSCRIBE) {
+            subscriptions.remove(key);
+            chartStreamHub.unsubscribe(target, symbolType, chartType);
+            return;
+        }
+
+        // 재구독 시 중복 등록 없이 스냅샷 / 재전송부터 다시 시작
+        chartStreamHub.unsubscribe(target, symbolType, chartType);
+        subscriptions.add(key);
+        if (op == OP_RESUME) {
+            long epoch = control.getLong();
+            long lastSequence = control.getLong();
+            chartStreamHub.resume(target, symbolType, chartType, epoch, lastSequence, Short.toUnsignedInt(control.getShort()));
+        } else {
+            int snapshotCount = op == OP_SUBSCRIBE_SNAPSHOT ? Short.toUnsignedInt(control.getShort()) : -1;
+            chartStreamHub.subscribe(target, symbolType, chartType, snapshotCount);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        WebSocketSession target = sessions.remove(session.getId());
+        if (target == null) {
+            return;
+        }
+        for (Integer key : subscriptionsOf(session)) {
+            chartStreamHub.unsubscribe(target, SYMBOL_TYPES[key / CHART_TYPE_COUNT], CHART_TYPES[key % CHART_TYPE_COUNT]);
+        }
+    }
+
+    /**
+     * 구독 세션이 있는지 여부
+     */
+    public boolean hasSubscribers(SymbolType symbolType, ChartType chartType) {
+        return chartStreamHub.hasSubscribers(symbolType, chartType);
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Integer> subscriptionsOf(WebSocketSession session) {
+        Object subscriptions = session.getAttributes().get(SUBSCRIPTIONS_ATTRIBUTE);
+        return subscriptions instanceof Set<?> set ? (Set<Integer>) set : Set.of();
+    }
+}
@@ -0,0 +1,517 @@
+package com.theshowsoftware.ChatServer.service.stream;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.cache.CandleRollup;
+import com.theshowsoftware.ChatServer.service.ingest.ChartIngestLoop;
+import com.theshowsoftware.ChatServer.utils.BinaryPacketCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * (심볼, 차트타입) 스트림별 시퀀스 번호와 스냅샷 후 실시간 구독 관리
+ * - Tick 은 수집 루프(chart.ingest.mode=loop)가 있으면 루프에 넣고, 없으면 호출 스레드에서 캐시에 반영
+ * - Tick / Candle / 캔들 수정 / 지표 프레임의 시퀀스는 캐시 쓰기 순서대로 부여 (ChartCacheService.WriteListener, 심볼 쓰기 잠금 안)
+ * - 시퀀스 증가, 재전송 버퍼 / 전송 대기열 추가만 스트림 잠금 안에서 수행하고
+ *   세션 전송은 잠금을 놓은 뒤 스트림당 한 스레드(drain)가 대기열 순서대로 수행 (느린 세션이 발행을 막지 않음)
+ * - 구독 시 심볼 쓰기 잠금과 스트림 잠금 안에서 캐시 스냅샷(시퀀스 S)을 만들고 세션을 등록하므로
+ *   스냅샷 전송 뒤 실시간 프레임은 S+1 부터 누락 / 중복 없이 이어짐 (잠금 순서: 심볼 쓰기 잠금 → 스트림 잠금)
+ * - 캔들 스트림에는 추가 / 마감된 캔들과 Tick 반영으로 바뀐 활성 캔들을 같은 캔들 프레임으로 발행하며, 시작 시간 기준 갱신(upsert)으로 적용
+ *   (활성 캔들은 구독 세션이 있는 스트림만, 값이 바뀐 경우에만 발행)
+ * - 지연 Tick 으로 이미 마감된 캔들이 바뀌면 해당 (심볼, 차트타입) 스트림에 캔들 수정 프레임을 발행
+ * - 등록된 지표 값이 갱신되면 해당 (심볼, 차트타입) 스트림에 지표 프레임을 발행
+ * - 스트림마다 최근 발행 프레임을 원형 버퍼에 보관하여 재연결 시 마지막 시퀀스 이후만 재전송
+ *   (버퍼 범위를 벗어난 시퀀스는 스냅샷으로 대체)
+ * - 모든 프레임에 프로세스마다 새로 정하는 스트림 epoch 를 기록하고, 재연결 요청의 epoch 가 다르면(서버 재시작)
+ *   시퀀스 번호와 관계없이 스냅샷으로 대체
+ */
+@Slf4j
+@Component
+public class ChartStreamHub {
+
+    private static final int CHART_TYPE_COUNT = ChartType.values().length;
+    private static final ChartType[] CHART_TYPES = ChartType.values();
+
+    private final ChartCacheService chartCacheService;
+    private final ChartIngestLoop chartIngestLoop; // null 이면 호출 스레드에서 바로 반영
+    private final int snapshotMax;
+    private final int replaySize;
+
+    // 스트림 epoch (프로세스마다 새로 정함, 재시작 전 시퀀스 번호와 구분)
+    private final long epoch = ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE);
+
+    // [심볼 ordinal * 차트타입 수 + 차트타입 ordinal] → 스트림 상태
+    private final Stream[] streams = new Stream[SymbolType.values().length * CHART_TYPE_COUNT];
+
+    // [심볼 ordinal] → 활성 캔들 합성 작업 공간 (심볼 쓰기 잠금 안에서만 사용, 첫 구독 발행 시 할당)
+    private final CandleRollup.ActiveCandles[] activeCandles = new CandleRollup.ActiveCandles[SymbolType.values().length];
+
+    @Autowired
+    public ChartStreamHub(ChartCacheService chartCacheService,
+                          ObjectProvider<ChartIngestLoop> chartIngestLoop,
+                          @Value("${chart.stream.snapshot-max:500}") int snapshotMax,
+                          @Value("${chart.stream.replay-size:1024}") int replaySize) {
+        this(chartCacheService, chartIngestLoop.getIfAvailable(), snapshotMax, replaySize);
+    }
+
+    public ChartStreamHub(ChartCacheService chartCacheService, int snapshotMax, int replaySize) {
+        this(chartCacheService, (ChartIngestLoop) null, snapshotMax, replaySize);
+    }
+
+    public ChartStreamHub(ChartCacheService chartCacheService, ChartIngestLoop chartIngestLoop, int snapshotMax, int replaySize) {
+        if (replaySize <= 0) {
+            throw new IllegalArgumentException("replaySize must be positive");
+        }
+        this.chartCacheService = chartCacheService;
+        this.chartIngestLoop = chartIngestLoop;
+        this.snapshotMax = snapshotMax;
+        this.replaySize = replaySize;
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = new Stream();
+        }
+        chartCacheService.addWriteListener(new StreamWriter());
+    }
+
+    /**
+     * 틱을 캐시에 반영 (수집 루프가 있으면 루프에 넣고 즉시 반환)
+     * - (심볼, TICK) 구독 세션에는 캐시에 실제로 반영된 순서대로 시퀀스 번호와 함께 전송
+     */
+    public void applyTick(SymbolType symbolType, TickPacketDTO tick) {
+        if (chartIngestLoop != null) {
+            chartIngestLoop.submit(symbolType, tick);
+        } else {
+            chartCacheService.addTick(symbolType, tick);
+        }
+    }
+
+    /**
+     * 캔들을 캐시에 반영하고 (심볼, 차트타입) 구독 세션에 시퀀스 번호와 함께 전송
+     */
+    public void applyCandle(CandlePacketDTO candle) {
+        chartCacheService.addCandle(candle.getSymbolType(), candle.getChartType(), candle);
+    }
+
+    /**
+     * 세션 구독 등록
+     * - snapshotCount < 0 이면 스냅샷 없이 등록, 0 이상이면 최근 snapshotCount 개(최대 snapshot-max) 스냅샷을 먼저 전송
+     * - 스냅샷은 잠금 안에서 만들고 전송은 잠금 밖에서 수행 (전송에 실패하면 세션을 종료하고 구독 해제)
+     */
+    public void subscribe(WebSocketSession session, SymbolType symbolType, ChartType chartType, int snapshotCount) {
+        Stream stream = stream(symbolType, chartType);
+        boolean drain = chartCacheService.withWriteLock(symbolType, () -> {
+            stream.lock.lock();
+            try {
+                List<byte[]> initial = snapshotCount >= 0
+                        ? List.of(snapshot(symbolType, chartType, stream.sequence, Math.min(snapshotCount, snapshotMax)))
+                        : List.of();
+                return join(stream, session, initial);
+            } finally {
+                stream.lock.unlock();
+            }
+        });
+        if (drain) {
+            drain(stream);
+        }
+    }
+
+    /**
+     * 재연결 세션 구독 등록
+     * - epoch 가 현재 스트림 epoch 와 같고 lastSequence 이후 프레임이 모두 재전송 버퍼에 있으면 그 프레임만 순서대로 재전송
+     * - epoch 가 다르거나(서버 재시작) 버퍼 범위를 벗어났거나(너무 오래됨) 현재 시퀀스보다 크면 최근 snapshotCount 개 스냅샷으로 대체
+     * - 전송에 실패하면 세션을 종료하고 구독 해제
+     */
+    public void resume(WebSocketSession session, SymbolType symbolType, ChartType chartType, long epoch, long lastSequence, int snapshotCount) {
+        Stream stream = stream(symbolType, chartType);
+        boolean drain = chartCacheService.withWriteLock(symbolType, () -> {
+            stream.lock.lock();
+            try {
+                List<byte[]> initial;
+                long missed = stream.sequence - lastSequence;
+                if (epoch == this.epoch && lastSequence >= 0 && missed >= 0 && missed <= stream.retained()) {
+                    initial = new ArrayList<>((int) missed);
+                    for (long sequence = lastSequence + 1; sequence <= stream.sequence; sequence++) {
+                        initial.add(stream.replay[(int) (sequence % replaySize)]);
+                    }
+                    log.debug("[ChartStream] 재연결 재전송 (세션: {}, 스트림: {}/{}, 프레임: {})", session.getId(), symbolType, chartType, missed);
+                } else {
+                    if (epoch != this.epoch) {
+                        log.debug("[ChartStream] 재연결 epoch 불일치, 스냅샷으로 대체 (세션: {}, 스트림: {}/{}, epoch: {})", session.getId(), symbolType, chartType, epoch);
+                    }
+                    initial = List.of(snapshot(symbolType, chartType, stream.sequence, Math.min(snapshotCount, snapshotMax)));
+                }
+                return join(stream, session, initial);
+            } finally {
+                stream.lock.unlock();
+            }
+        });
+        if (drain) {
+            drain(stream);
+        }
+    }
+
+    /**
+     * 구독 해제 (전송 대기 중인 프레임도 더 이상 보내지 않음)
+     */
+    public void unsubscribe(WebSocketSession session, SymbolType symbolType, ChartType chartType) {
+        stream(symbolType, chartType).subscribers.remove(session);
+    }
+
+    /**
+     * 구독 세션이 있는지 여부
+     */
+    public boolean hasSubscribers(SymbolType symbolType, ChartType chartType) {
+        return !stream(symbolType, chartType).subscribers.isEmpty();
+    }
+
+    /**
+     * 이 프로세스의 스트림 epoch (모든 프레임 헤더에 기록)
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 스트림에 마지막으로 발행된 시퀀스 번호 (발행 전에는 0)
+     */
+    public long getSequence(SymbolType symbolType, ChartType chartType) {
+        Stream stream = stream(symbolType, chartType);
+        stream.lock.lock();
+        try {
+            return stream.sequence;
+        } finally {
+            stream.lock.unlock();
+        }
+    }
+
+    /**
+     * 프레임을 재전송 버퍼에 보관하고 구독 세션이 있으면 전송 대기열에 추가 (스트림 잠금 안에서 호출)
+     *
+     * @return 전송 대기열에 추가했으면 true
+     */
+    private boolean enqueue(Stream stream, long sequence, byte[] frame) {
+        if (stream.replay == null) {
+            stream.replay = new byte[replaySize][]; // 발행이 있는 스트림만 할당
+        }
+        stream.replay[(int) (sequence % replaySize)] = frame;
+        if (stream.subscribers.isEmpty() && stream.outbox.isEmpty()) {
+            stream.sent = sequence;
+            return false;
+        }
+        stream.outbox.add(frame);
+        return true;
+    }
+
+    /**
+     * 심볼 쓰기 잠금 안에서 추가한 프레임을 잠금 밖에서 전송
+     */
+    private void drainWritten(SymbolType symbolType) {
+        for (ChartType chartType : CHART_TYPES) {
+            Stream stream = stream(symbolType, chartType);
+            if (!stream.written) {
+                continue;
+            }
+            boolean drain;
+            stream.lock.lock();
+            try {
+                stream.written = false;
+                drain = !stream.outbox.isEmpty() && stream.claimDrain();
+            } finally {
+                stream.lock.unlock();
+            }
+            if (drain) {
+                drain(stream);
+            }
+        }
+    }
+
+    /**
+     * 현재 시퀀스 이후 프레임을 받을 구독 세션 등록 (스트림 잠금 안에서 호출)
+     * - initial(스냅샷 / 재전송 프레임)은 drain 에서 실시간 프레임보다 먼저 전송
+     *
+     * @return 호출한 스레드가 잠금을 놓은 뒤 drain 을 수행해야 하면 true
+     */
+    private boolean join(Stream stream, WebSocketSession session, List<byte[]> initial) {
+        Subscriber subscriber = new Subscriber(session, stream.sequence, initial);
+        stream.subscribers.put(session, subscriber);
+        stream.joins.add(subscriber);
+        return stream.claimDrain();
+    }
+
+    /**
+     * 전송 대기열이 빌 때까지 신규 구독의 첫 프레임과 발행 프레임을 시퀀스 순서대로 전송
+     * - 스트림당 한 스레드만 수행 (claimDrain), 세션 전송은 스트림 잠금 밖에서 수행
+     * - 구독 해제 / 재구독된 세션에는 보내지 않음
+     */
+    private void drain(Stream stream) {
+        while (true) {
+            List<byte[]> frames;
+            long firstSequence;
+            List<Subscriber> joins;
+            List<Subscriber> targets;
+            stream.lock.lock();
+            try {
+                if (stream.outbox.isEmpty() && stream.joins.isEmpty()) {
+                    stream.draining = false;
+                    return;
+                }
+                frames = List.copyOf(stream.outbox);
+                firstSequence = stream.sent + 1;
+                stream.outbox.clear();
+                stream.sent = stream.sequence;
+                joins = List.copyOf(stream.joins);
+                stream.joins.clear();
+                targets = List.copyOf(stream.subscribers.values());
+            } finally {
+                stream.lock.unlock();
+            }
+
+            for (Subscriber subscriber : joins) {
+                for (byte[] frame : subscriber.initial()) {
+                    if (!send(stream, subscriber, frame)) {
+                        break;
+                    }
+                }
+            }
+            for (int i = 0; i < frames.size(); i++) {
+                long sequence = firstSequence + i;
+                for (Subscriber subscriber : targets) {
+                    if (sequence > subscriber.from()) {
+                        send(stream, subscriber, frames.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    private byte[] snapshot(SymbolType symbolType, ChartType chartType, long sequence, int count) {
+        if (chartType == ChartType.TICK) {
+            List<TickPacketDTO> ticks = count > 0 ? chartCacheService.getTicks(symbolType, count) : List.of();
+            return BinaryPacketCodec.encodeTickSnapshot(symbolType, epoch, sequence, ticks);
+        }
+        List<CandlePacketDTO> candles = count > 0 ? chartCacheService.getCandles(symbolType, chartType, count) : List.of();
+        return BinaryPacketCodec.encodeCandleSnapshot(symbolType, chartType, epoch, sequence, candles);
+    }
+
+    /**
+     * 구독이 유지 중인 세션에만 전송 (실패하면 세션을 종료하고 구독 해제)
+     */
+    private boolean send(Stream stream, Subscriber subscriber, byte[] frame) {
+        WebSocketSession session = subscriber.session();
+        if (stream.subscribers.get(session) != subscriber) {
+            return false;
+        }
+        try {
+            // BinaryMessage 는 배열을 감싸기만 하므로 페이로드 복사 없음
+            session.sendMessage(new BinaryMessage(frame));
+            return true;
+        } catch (Exception e) {
+            log.warn("[ChartStream] 전송 실패로 세션을 종료합니다. (세션: {}, 사유: {})", session.getId(), e.getMessage());
+            stream.subscribers.remove(session, subscriber);
+            closeQuietly(session);
+            return false;
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("[ChartStream] 세션 종료 실패 (세션: {})", session.getId(), e);
+        }
+    }
+
+    private Stream stream(SymbolType symbolType, ChartType chartType) {
+        return streams[symbolType.ordinal() * CHART_TYPE_COUNT + chartType.ordinal()];
+    }
+
+    /**
+     * 캐시 쓰기 순서대로 Tick / Candle / 캔들 수정 / 지표 프레임에 시퀀스를 부여 (심볼 쓰기 잠금 안)하고 잠금을 놓은 뒤 전송
+     */
+    private final class StreamWriter implements ChartCacheService.WriteListener {
+
+        @Override
+        public void onTickWritten(SymbolType symbol, TickPacketDTO tick) {
+            Stream stream = stream(symbol, ChartType.TICK);
+            stream.lock.lock();
+            try {
+                long sequence = ++stream.sequence;
+                if (enqueue(stream, sequence, BinaryPacketCodec.encodeTick(symbol, tick, epoch, sequence))) {
+                    stream.written = true;
+                }
+            } finally {
+                stream.lock.unlock();
+            }
+        }
+
+        @Override
+        public void onCandleWritten(SymbolType symbol, CandlePacketDTO candle) {
+            if (candle.getChartType() == ChartType.TICK) {
+                return; // TICK 스트림은 Tick 프레임만 전달
+            }
+            Stream stream = stream(symbol, candle.getChartType());
+            stream.lock.lock();
+            try {
+                long sequence = ++stream.sequence;
+                if (enqueue(stream, sequence, BinaryPacketCodec.encodeCandle(candle, epoch, sequence))) {
+                    stream.written = true;
+                }
+            } finally {
+                stream.lock.unlock();
+            }
+        }
+
+        /**
+         * 지연 Tick 으로 수정된 완료 캔들을 캔들 수정 프레임으로 발행 (TICK 스트림 제외)
+         */
+        @Override
+        public void onCandleCorrected(SymbolType symbol, CandlePacketDTO candle) {
+            if (candle.getChartType() == ChartType.TICK) {
+                return;
+            }
+            Stream stream = stream(symbol, candle.getChartType());
+            stream.lock.lock();
+            try {
+                long sequence = ++stream.sequence;
+                if (enqueue(stream, sequence, BinaryPacketCodec.encodeCandleCorrection(candle, epoch, sequence))) {
+                    stream.written = true;
+                }
+            } finally {
+                stream.lock.unlock();
+            }
+        }
+
+        /**
+         * 구독 세션이 있는 캔들 스트림에 바뀐 활성 캔들 발행
+         * - 구독 등록은 심볼 쓰기 잠금 안에서만 일어나므로 여기서 본 구독 여부는 이 쓰기 동안 바뀌지 않음
+         * - 구독 중인 ChartType 과 그 원본 인터벌만 하위 → 상위 순으로 한 번씩 합성하고,
+         *   값이 바뀐 스트림만 캔들 객체 생성 / 인코딩 (구독이 없으면 합성하지 않음)
+         */
+        @Override
+        public void onActiveCandlesPublished(SymbolType symbol, CandleRollup.RollupSnapshot snapshot) {
+            long mask = 0;
+            for (ChartType chartType : CHART_TYPES) {
+                if (chartType == ChartType.TICK) {
+                    continue;
+                }
+                Stream stream = stream(symbol, chartType);
+                if (stream.subscribers.isEmpty()) {
+                    stream.lastActive = null; // 다시 구독되면 첫 갱신은 항상 발행
+                } else {
+                    mask |= 1L << chartType.ordinal();
+                }
+            }
+            if (mask == 0) {
+                return;
+            }
+
+            CandleRollup.ActiveCandles active = activeCandles[symbol.ordinal()];
+            if (active == null) {
+                active = activeCandles[symbol.ordinal()] = new CandleRollup.ActiveCandles(symbol);
+            }
+            snapshot.composeActive(mask, active);
+            for (ChartType chartType : CHART_TYPES) {
+                if ((mask & 1L << chartType.ordinal()) == 0 || !active.isPresent(chartType)) {
+                    continue;
+                }
+                Stream stream = stream(symbol, chartType);
+                if (stream.lastActive == null) {
+                    stream.lastActive = CandleRollup.ActiveCandles.emptyValues();
+                }
+                if (!active.copyIfChanged(chartType, stream.lastActive)) {
+                    continue;
+                }
+                stream.lock.lock();
+                try {
+                    long sequence = ++stream.sequence;
+                    if (enqueue(stream, sequence, BinaryPacketCodec.encodeCandle(active.toCandle(chartType), epoch, sequence))) {
+                        stream.written = true;
+                    }
+                } finally {
+                    stream.lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * 갱신된 지표 값을 (심볼, 차트타입) 스트림에 지표 프레임으로 발행 (활성 캔들 프레임 다음 시퀀스)
+         */
+        @Override
+        public void onIndicatorsUpdated(SymbolType symbol, List<IndicatorPacketDTO> indicators) {
+            for (IndicatorPacketDTO indicator : indicators) {
+                Stream stream = stream(symbol, indicator.getChartType());
+                stream.lock.lock();
+                try {
+                    long sequence = ++stream.sequence;
+                    if (enqueue(stream, sequence, BinaryPacketCodec.encodeIndicator(indicator, epoch, sequence))) {
+                        stream.written = true;
+                    }
+                } finally {
+                    stream.lock.unlock();
+                }
+            }
+        }
+
+        @Override
+        public void afterWrite(SymbolType symbol) {
+            drainWritten(symbol);
+        }
+    }
+
+    /**
+     * 구독 세션 (from 이후 시퀀스의 프레임만 전송, initial 은 첫 전송 프레임)
+     */
+    private record Subscriber(WebSocketSession session, long from, List<byte[]> initial) {
+    }
+
+    /**
+     * 스트림 상태 (subscribers, written, lastActive 외에는 lock 안에서만 사용, subscribers 등록은 lock 안 / 해제는 잠금 없이 가능)
+     */
+    private static final class Stream {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<WebSocketSession, Subscriber> subscribers = new ConcurrentHashMap<>();
+        private long sequence;
+        private byte[][] replay; // [시퀀스 % 크기] → 발행 프레임
+        private final List<byte[]> outbox = new ArrayList<>(); // 전송 대기 프레임 (시퀀스 sent + 1 부터)
+        private long sent; // 전송 대기열로 넘긴 마지막 시퀀스
+        private final List<Subscriber> joins = new ArrayList<>(); // 첫 프레임을 아직 보내지 않은 구독
+        private boolean draining; // drain 수행 중인 스레드 존재 여부
+        private volatile boolean written; // 심볼 쓰기 잠금 안에서 전송 대기열에 추가한 프레임 존재 여부 (잠금 밖에서 먼저 확인)
+        private long[] lastActive; // 마지막으로 발행한 활성 캔들 값 (심볼 쓰기 잠금 안에서만 사용)
+
+        /**
+         * drain 을 수행하는 스레드가 없으면 호출한 스레드가 맡음
+         */
+        private boolean claimDrain() {
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        /**
+         * 재전송 버퍼에 남아 있는 최근 프레임 수
+         */
+        private long retained() {
+            return replay == null ? 0 : Math.min(sequence, replay.length);
+        }
+    }
+}
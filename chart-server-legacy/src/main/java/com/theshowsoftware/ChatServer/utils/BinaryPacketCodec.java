@@ -0,0 +1,669 @@
+package com.theshowsoftware.ChatServer.utils;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 바이너리 패킷 인코딩 / 디코딩 (텍스트 패킷 !...# 과 같은 정보를 무손실로 표현)
+ * <p>
+ * 헤더 (고정 8 byte, big-endian)
+ * | version(1) | 패킷유형(1) | 심볼 코드(2) | 기준통화 코드(2) | 차트타입 코드(1) | flags(1) |
+ * - FLAG_SEQUENCE 면 헤더 뒤에 스트림 시퀀스 번호(zigzag varint)
+ * - FLAG_EPOCH 면 시퀀스 번호 뒤에 스트림 epoch(zigzag varint, 서버 프로세스마다 달라 재시작 전 시퀀스와 구분)
+ * <p>
+ * 본문
+ * - Tick     : timestamp(8) | 가격 | 거래량(zigzag varint, FLAG_NO_QUANTITY 면 생략)
+ * - Candle   : 시작 시간(8) | 종료-시작(zigzag varint) | 시가 | 고가-시가 | 저가-시가 | 종가-시가
+ *              | 거래량(zigzag varint, FLAG_NO_QUANTITY 면 생략) | Tick 개수(zigzag varint)
+ * - Candle 수정 : Candle 과 같은 본문 (지연 Tick 으로 수정된 마감 캔들, 시작 시간 기준으로 교체)
+ * - Snapshot : 항목 수(zigzag varint) | (항목 flags(1) | Tick 또는 Candle 본문) * 항목 수
+ *              차트타입이 TICK 이면 Tick 본문, 그 외는 Candle 본문
+ * - Indicator : 지표 유형 코드(1) | 기간(zigzag varint) | 캔들 시작 시간(8) | 값(8, IEEE 754 double)
+ *              | [상단(8) | 하단(8), FLAG_BANDS 인 경우] (FLAG_CLOSED 면 마감된 캔들 값, 아니면 활성 캔들 미리보기)
+ * - 가격은 zigzag varint (고가/저가/종가는 시가와의 차이)
+ * - 64bit 를 넘는 가격이 있으면 FLAG_BIG_PRICE 로 모든 가격을 "길이(varint) + 2의 보수 byte" 로 기록
+ */
+public class BinaryPacketCodec {
+
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final long NO_SEQUENCE = -1;
+    public static final long NO_EPOCH = 0;
+
+    // 패킷 유형
+    public static final byte TYPE_TICK = 1;
+    public static final byte TYPE_CANDLE = 2;
+    public static final byte TYPE_SNAPSHOT = 3;
+    public static final byte TYPE_CANDLE_CORRECTION = 4;
+    public static final byte TYPE_INDICATOR = 5;
+
+    // flags
+    static final int FLAG_BIG_PRICE = 1;
+    static final int FLAG_NO_QUANTITY = 1 << 1;
+    static final int FLAG_SEQUENCE = 1 << 2;
+    static final int FLAG_CLOSED = 1 << 3; // Indicator 전용
+    static final int FLAG_BANDS = 1 << 4; // Indicator 전용
+    static final int FLAG_EPOCH = 1 << 5;
+
+    private BinaryPacketCodec() {
+    }
+
+    /**
+     * 틱 패킷을 인코딩 크기에 딱 맞는 byte 배열에 바로 기록하여 반환 (중간 버퍼 / 복사 없음)
+     */
+    public static byte[] encodeTick(SymbolType symbolType, TickPacketDTO tick) {
+        return encodeTick(symbolType, tick, NO_EPOCH, NO_SEQUENCE);
+    }
+
+    /**
+     * 스트림 epoch 와 시퀀스 번호가 붙은 틱 패킷 (NO_SEQUENCE 면 둘 다, NO_EPOCH 면 epoch 만 생략)
+     */
+    public static byte[] encodeTick(SymbolType symbolType, TickPacketDTO tick, long epoch, long sequence) {
+        if (symbolType == null) {
+            throw new CustomException(ErrorCode.INVALID_TICK_PACKET_FORMAT);
+        }
+        int flags = tickFlags(tick) | streamFlags(epoch, sequence);
+        byte[] packet = new byte[headerSize(flags, epoch, sequence) + tickBodySize(tick, flags)];
+        ByteBuffer buffer = ByteBuffer.wrap(packet);
+        try {
+            writeHeader(buffer, TYPE_TICK, symbolType, ChartType.TICK, flags, epoch, sequence);
+            writeTickBody(buffer, tick, flags);
+        } catch (BufferOverflowException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        return packet;
+    }
+
+    /**
+     * 캔들 패킷을 인코딩 크기에 딱 맞는 byte 배열에 바로 기록하여 반환 (중간 버퍼 / 복사 없음)
+     */
+    public static byte[] encodeCandle(CandlePacketDTO candle) {
+        return encodeCandle(candle, NO_EPOCH, NO_SEQUENCE);
+    }
+
+    /**
+     * 스트림 epoch 와 시퀀스 번호가 붙은 캔들 패킷 (NO_SEQUENCE 면 둘 다, NO_EPOCH 면 epoch 만 생략)
+     */
+    public static byte[] encodeCandle(CandlePacketDTO candle, long epoch, long sequence) {
+        return encodeCandlePacket(TYPE_CANDLE, candle, epoch, sequence);
+    }
+
+    /**
+     * 스트림 epoch 와 시퀀스 번호가 붙은 캔들 수정 패킷 (지연 Tick 으로 이미 마감된 캔들이 바뀐 경우)
+     */
+    public static byte[] encodeCandleCorrection(CandlePacketDTO candle, long epoch, long sequence) {
+        return encodeCandlePacket(TYPE_CANDLE_CORRECTION, candle, epoch, sequence);
+    }
+
+    private static byte[] encodeCandlePacket(byte type, CandlePacketDTO candle, long epoch, long sequence) {
+        int flags = candleFlags(candle) | streamFlags(epoch, sequence);
+        byte[] packet = new byte[headerSize(flags, epoch, sequence) + candleBodySize(candle, flags)];
+        ByteBuffer buffer = ByteBuffer.wrap(packet);
+        try {
+            writeHeader(buffer, type, candle.getSymbolType(), candle.getChartType(), flags, epoch, sequence);
+            writeCandleBody(buffer, candle, flags);
+        } catch (BufferOverflowException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        return packet;
+    }
+
+    /**
+     * 스트림 epoch 와 시퀀스 번호가 붙은 지표 패킷
+     */
+    public static byte[] encodeIndicator(IndicatorPacketDTO indicator, long epoch, long sequence) {
+        if (indicator == null || indicator.getSymbolType() == null || indicator.getChartType() == null
+                || indicator.getIndicatorType() == null || indicator.getCandleStartTime() == null) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        boolean bands = indicator.getUpper() != null && indicator.getLower() != null;
+        int flags = streamFlags(epoch, sequence) | (indicator.isClosed() ? FLAG_CLOSED : 0) | (bands ? FLAG_BANDS : 0);
+        byte[] packet = new byte[headerSize(flags, epoch, sequence) + 1 + varLongSize(indicator.getPeriod())
+                + Long.BYTES + Double.BYTES * (bands ? 3 : 1)];
+        ByteBuffer buffer = ByteBuffer.wrap(packet);
+        try {
+            writeHeader(buffer, TYPE_INDICATOR, indicator.getSymbolType(), indicator.getChartType(), flags, epoch, sequence);
+            buffer.put((byte) indicator.getIndicatorType().getCode());
+            writeVarLong(buffer, indicator.getPeriod());
+            buffer.putLong(indicator.getCandleStartTime());
+            buffer.putDouble(indicator.getValue());
+            if (bands) {
+                buffer.putDouble(indicator.getUpper());
+                buffer.putDouble(indicator.getLower());
+            }
+            return packet;
+        } catch (BufferOverflowException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+    }
+
+    /**
+     * (심볼, TICK) 스트림의 스냅샷 패킷 (sequence 는 스냅샷에 반영된 마지막 시퀀스 번호)
+     */
+    public static byte[] encodeTickSnapshot(SymbolType symbolType, long epoch, long sequence, List<TickPacketDTO> ticks) {
+        int headerFlags = FLAG_SEQUENCE | (epoch != NO_EPOCH ? FLAG_EPOCH : 0);
+        int size = headerSize(headerFlags, epoch, sequence) + varLongSize(ticks.size());
+        for (TickPacketDTO tick : ticks) {
+            size += 1 + tickBodySize(tick, tickFlags(tick));
+        }
+        byte[] packet = new byte[size];
+        ByteBuffer buffer = ByteBuffer.wrap(packet);
+        try {
+            writeHeader(buffer, TYPE_SNAPSHOT, symbolType, ChartType.TICK, headerFlags, epoch, sequence);
+            writeVarLong(buffer, ticks.size());
+            for (TickPacketDTO tick : ticks) {
+                int flags = tickFlags(tick);
+                buffer.put((byte) flags);
+                writeTickBody(buffer, tick, flags);
+            }
+        } catch (BufferOverflowException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        return packet;
+    }
+
+    /**
+     * (심볼, 차트타입) 스트림의 스냅샷 패킷 (sequence 는 스냅샷에 반영된 마지막 시퀀스 번호)
+     */
+    public static byte[] encodeCandleSnapshot(SymbolType symbolType, ChartType chartType, long epoch, long sequence, List<CandlePacketDTO> candles) {
+        int headerFlags = FLAG_SEQUENCE | (epoch != NO_EPOCH ? FLAG_EPOCH : 0);
+        int size = headerSize(headerFlags, epoch, sequence) + varLongSize(candles.size());
+        for (CandlePacketDTO candle : candles) {
+            size += 1 + candleBodySize(candle, candleFlags(candle));
+        }
+        byte[] packet = new byte[size];
+        ByteBuffer buffer = ByteBuffer.wrap(packet);
+        try {
+            writeHeader(buffer, TYPE_SNAPSHOT, symbolType, chartType, headerFlags, epoch, sequence);
+            writeVarLong(buffer, candles.size());
+            for (CandlePacketDTO candle : candles) {
+                int flags = candleFlags(candle);
+                buffer.put((byte) flags);
+                writeCandleBody(buffer, candle, flags);
+            }
+        } catch (BufferOverflowException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        return packet;
+    }
+
+    /**
+     * 패킷 유형 확인 (버퍼 위치는 변경하지 않음)
+     */
+    public static byte peekType(ByteBuffer frame) {
+        checkHeader(frame);
+        return frame.get(frame.position() + 1);
+    }
+
+    /**
+     * 패킷의 심볼 확인 (버퍼 위치는 변경하지 않음)
+     */
+    public static SymbolType peekSymbol(ByteBuffer frame) {
+        checkHeader(frame);
+        return symbolOf(Short.toUnsignedInt(frame.getShort(frame.position() + 2)));
+    }
+
+    /**
+     * 패킷의 차트 타입 확인 (버퍼 위치는 변경하지 않음)
+     */
+    public static ChartType peekChartType(ByteBuffer frame) {
+        checkHeader(frame);
+        return chartTypeOf(Byte.toUnsignedInt(frame.get(frame.position() + 6)));
+    }
+
+    /**
+     * 패킷의 스트림 시퀀스 번호 확인 (없으면 NO_SEQUENCE, 버퍼 위치는 변경하지 않음)
+     */
+    public static long peekSequence(ByteBuffer frame) {
+        checkHeader(frame);
+        if ((frame.get(frame.position() + 7) & FLAG_SEQUENCE) == 0) {
+            return NO_SEQUENCE;
+        }
+        int position = frame.position();
+        try {
+            frame.position(position + HEADER_SIZE);
+            return readVarLong(frame);
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        } finally {
+            frame.position(position);
+        }
+    }
+
+    /**
+     * 패킷의 스트림 epoch 확인 (없으면 NO_EPOCH, 버퍼 위치는 변경하지 않음)
+     */
+    public static long peekEpoch(ByteBuffer frame) {
+        checkHeader(frame);
+        int flags = frame.get(frame.position() + 7);
+        if ((flags & FLAG_SEQUENCE) == 0 || (flags & FLAG_EPOCH) == 0) {
+            return NO_EPOCH;
+        }
+        int position = frame.position();
+        try {
+            frame.position(position + HEADER_SIZE);
+            readVarLong(frame); // 시퀀스 번호
+            return readVarLong(frame);
+        } catch (BufferUnderflowException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        } finally {
+            frame.position(position);
+        }
+    }
+
+    /**
+     * 틱 패킷 디코딩 (버퍼 위치는 패킷 끝으로 이동)
+     */
+    public static TickPacketDTO decodeTick(ByteBuffer frame) {
+        try {
+            int flags = readHeader(frame, TYPE_TICK);
+            return readTickBody(frame, flags);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+    }
+
+    /**
+     * 캔들 패킷 디코딩 (버퍼 위치는 패킷 끝으로 이동)
+     */
+    public static CandlePacketDTO decodeCandle(ByteBuffer frame) {
+        return decodeCandle(frame, TYPE_CANDLE);
+    }
+
+    /**
+     * 캔들 수정 패킷 디코딩 (버퍼 위치는 패킷 끝으로 이동)
+     */
+    public static CandlePacketDTO decodeCandleCorrection(ByteBuffer frame) {
+        return decodeCandle(frame, TYPE_CANDLE_CORRECTION);
+    }
+
+    private static CandlePacketDTO decodeCandle(ByteBuffer frame, byte type) {
+        try {
+            SymbolType symbolType = peekSymbol(frame);
+            ChartType chartType = peekChartType(frame);
+            int flags = readHeader(frame, type);
+            return readCandleBody(frame, flags, symbolType, chartType);
+        } catch (BufferUnderflowException | ArithmeticException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+    }
+
+    /**
+     * 지표 패킷 디코딩 (버퍼 위치는 패킷 끝으로 이동)
+     */
+    public static IndicatorPacketDTO decodeIndicator(ByteBuffer frame) {
+        try {
+            SymbolType symbolType = peekSymbol(frame);
+            ChartType chartType = peekChartType(frame);
+            int flags = readHeader(frame, TYPE_INDICATOR);
+            IndicatorType indicatorType = IndicatorType.fromCode(Byte.toUnsignedInt(frame.get()));
+            if (indicatorType == null) {
+                throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+            }
+            int period = Math.toIntExact(readVarLong(frame));
+            long candleStartTime = frame.getLong();
+            double value = frame.getDouble();
+            boolean bands = (flags & FLAG_BANDS) != 0;
+            return IndicatorPacketDTO.builder()
+                    .symbolType(symbolType)
+                    .chartType(chartType)
+                    .indicatorType(indicatorType)
+                    .period(period)
+                    .candleStartTime(candleStartTime)
+                    .closed((flags & FLAG_CLOSED) != 0)
+                    .value(value)
+                    .upper(bands ? frame.getDouble() : null)
+                    .lower(bands ? frame.getDouble() : null)
+                    .build();
+        } catch (BufferUnderflowException | ArithmeticException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+    }
+
+    /**
+     * 틱 스냅샷 패킷 디코딩 (버퍼 위치는 패킷 끝으로 이동)
+     */
+    public static List<TickPacketDTO> decodeTickSnapshot(ByteBuffer frame) {
+        try {
+            if (peekChartType(frame) != ChartType.TICK) {
+                throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+            }
+            readHeader(frame, TYPE_SNAPSHOT);
+            int count = snapshotCount(frame);
+            List<TickPacketDTO> ticks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ticks.add(readTickBody(frame, Byte.toUnsignedInt(frame.get())));
+            }
+            return ticks;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+    }
+
+    /**
+     * 캔들 스냅샷 패킷 디코딩 (버퍼 위치는 패킷 끝으로 이동)
+     */
+    public static List<CandlePacketDTO> decodeCandleSnapshot(ByteBuffer frame) {
+        try {
+            SymbolType symbolType = peekSymbol(frame);
+            ChartType chartType = peekChartType(frame);
+            if (chartType == ChartType.TICK) {
+                throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+            }
+            readHeader(frame, TYPE_SNAPSHOT);
+            int count = snapshotCount(frame);
+            List<CandlePacketDTO> candles = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                candles.add(readCandleBody(frame, Byte.toUnsignedInt(frame.get()), symbolType, chartType));
+            }
+            return candles;
+        } catch (BufferUnderflowException | ArithmeticException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+    }
+
+    private static int tickFlags(TickPacketDTO tick) {
+        if (tick == null || tick.getPrice() == null || tick.getTimestamp() == null) {
+            throw new CustomException(ErrorCode.INVALID_TICK_PACKET_FORMAT);
+        }
+        return (fitsInLong(tick.getPrice()) ? 0 : FLAG_BIG_PRICE) | (tick.getQuantity() == null ? FLAG_NO_QUANTITY : 0);
+    }
+
+    private static int candleFlags(CandlePacketDTO candle) {
+        if (candle == null || candle.getSymbolType() == null || candle.getChartType() == null
+                || candle.getCandleStartTime() == null || candle.getCandleEndTime() == null
+                || candle.getStartPrice() == null || candle.getHighPrice() == null
+                || candle.getLowPrice() == null || candle.getEndPrice() == null) {
+            throw new CustomException(ErrorCode.INVALID_CANDLE_PACKET_FORMAT);
+        }
+        boolean bigPrice = !fitsInLong(candle.getStartPrice()) || !fitsInLong(candle.getHighPrice())
+                || !fitsInLong(candle.getLowPrice()) || !fitsInLong(candle.getEndPrice());
+        return (bigPrice ? FLAG_BIG_PRICE : 0) | (candle.getQuantity() == null ? FLAG_NO_QUANTITY : 0);
+    }
+
+    private static void writeTickBody(ByteBuffer dst, TickPacketDTO tick, int flags) {
+        dst.putLong(tick.getTimestamp());
+        if ((flags & FLAG_BIG_PRICE) != 0) {
+            writeBigInteger(dst, tick.getPrice());
+        } else {
+            writeVarLong(dst, tick.getPrice().longValue());
+        }
+        if ((flags & FLAG_NO_QUANTITY) == 0) {
+            writeVarLong(dst, tick.getQuantity());
+        }
+    }
+
+    private static void writeCandleBody(ByteBuffer dst, CandlePacketDTO candle, int flags) {
+        long start = candle.getCandleStartTime();
+        dst.putLong(start);
+        writeVarLong(dst, candle.getCandleEndTime() - start);
+        if ((flags & FLAG_BIG_PRICE) != 0) {
+            writeBigInteger(dst, candle.getStartPrice());
+            writeBigInteger(dst, candle.getHighPrice());
+            writeBigInteger(dst, candle.getLowPrice());
+            writeBigInteger(dst, candle.getEndPrice());
+        } else {
+            // 차이가 long 범위를 넘더라도 2의 보수 순환으로 복원됨
+            long open = candle.getStartPrice().longValue();
+            writeVarLong(dst, open);
+            writeVarLong(dst, candle.getHighPrice().longValue() - open);
+            writeVarLong(dst, candle.getLowPrice().longValue() - open);
+            writeVarLong(dst, candle.getEndPrice().longValue() - open);
+        }
+        if ((flags & FLAG_NO_QUANTITY) == 0) {
+            writeVarLong(dst, candle.getQuantity());
+        }
+        writeVarLong(dst, candle.getTickCount());
+    }
+
+    private static TickPacketDTO readTickBody(ByteBuffer frame, int flags) {
+        long timestamp = frame.getLong();
+        BigInteger price = (flags & FLAG_BIG_PRICE) != 0 ? readBigInteger(frame) : BigInteger.valueOf(readVarLong(frame));
+        Long quantity = (flags & FLAG_NO_QUANTITY) != 0 ? null : readVarLong(frame);
+
+        return TickPacketDTO.builder()
+                .price(price)
+                .quantity(quantity)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static CandlePacketDTO readCandleBody(ByteBuffer frame, int flags, SymbolType symbolType, ChartType chartType) {
+        long startTime = frame.getLong();
+        long endTime = startTime + readVarLong(frame);
+        BigInteger open;
+        BigInteger high;
+        BigInteger low;
+        BigInteger close;
+        if ((flags & FLAG_BIG_PRICE) != 0) {
+            open = readBigInteger(frame);
+            high = readBigInteger(frame);
+            low = readBigInteger(frame);
+            close = readBigInteger(frame);
+        } else {
+            long openValue = readVarLong(frame);
+            open = BigInteger.valueOf(openValue);
+            high = BigInteger.valueOf(openValue + readVarLong(frame));
+            low = BigInteger.valueOf(openValue + readVarLong(frame));
+            close = BigInteger.valueOf(openValue + readVarLong(frame));
+        }
+        Long quantity = (flags & FLAG_NO_QUANTITY) != 0 ? null : readVarLong(frame);
+        int tickCount = Math.toIntExact(readVarLong(frame));
+
+        return CandlePacketDTO.builder()
+                .symbolType(symbolType)
+                .chartType(chartType)
+                .candleStartTime(startTime)
+                .candleEndTime(endTime)
+                .startPrice(open)
+                .highPrice(high)
+                .lowPrice(low)
+                .endPrice(close)
+                .quantity(quantity)
+                .tickCount(tickCount)
+                .build();
+    }
+
+    private static void writeHeader(ByteBuffer dst, byte type, SymbolType symbolType, ChartType chartType, int flags, long epoch, long sequence) {
+        dst.put(VERSION);
+        dst.put(type);
+        dst.putShort((short) symbolType.getCode());
+        dst.putShort((short) SymbolType.USDT.getCode());
+        dst.put((byte) chartType.getCode());
+        dst.put((byte) flags);
+        if ((flags & FLAG_SEQUENCE) != 0) {
+            writeVarLong(dst, sequence);
+            if ((flags & FLAG_EPOCH) != 0) {
+                writeVarLong(dst, epoch);
+            }
+        }
+    }
+
+    /**
+     * 헤더 검증 후 flags 반환 (버퍼 위치는 본문 시작으로 이동)
+     */
+    private static int readHeader(ByteBuffer frame, byte expectedType) {
+        checkHeader(frame);
+        frame.get(); // version
+        if (frame.get() != expectedType) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        frame.getShort(); // 심볼
+        if (frame.getShort() != SymbolType.USDT.getCode()) {
+            throw new CustomException(ErrorCode.PACKET_BASE_SYMBOL_INVALID);
+        }
+        frame.get(); // 차트 타입
+        int flags = Byte.toUnsignedInt(frame.get());
+        if ((flags & FLAG_SEQUENCE) != 0) {
+            readVarLong(frame); // 시퀀스 번호 (peekSequence 로 조회)
+            if ((flags & FLAG_EPOCH) != 0) {
+                readVarLong(frame); // 스트림 epoch (peekEpoch 로 조회)
+            }
+        }
+        return flags;
+    }
+
+    private static void checkHeader(ByteBuffer frame) {
+        if (frame.remaining() < HEADER_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        if (frame.get(frame.position()) != VERSION) {
+            throw new CustomException(ErrorCode.UNSUPPORTED_PACKET_VERSION);
+        }
+    }
+
+    private static int snapshotCount(ByteBuffer frame) {
+        long count = readVarLong(frame);
+        if (count < 0 || count > frame.remaining()) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        return (int) count;
+    }
+
+    private static SymbolType symbolOf(int code) {
+        SymbolType symbolType = SymbolType.fromCode(code);
+        if (symbolType == null) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        return symbolType;
+    }
+
+    private static ChartType chartTypeOf(int code) {
+        ChartType chartType = ChartType.fromCode(code);
+        if (chartType == null) {
+            throw new CustomException(ErrorCode.UNKOWUN_CHART_TYPE);
+        }
+        return chartType;
+    }
+
+    private static boolean fitsInLong(BigInteger value) {
+        return value.bitLength() < 64;
+    }
+
+    /**
+     * 헤더 크기 (시퀀스 번호 포함)
+     */
+    private static int headerSize(int flags, long epoch, long sequence) {
+        if ((flags & FLAG_SEQUENCE) == 0) {
+            return HEADER_SIZE;
+        }
+        return HEADER_SIZE + varLongSize(sequence) + ((flags & FLAG_EPOCH) != 0 ? varLongSize(epoch) : 0);
+    }
+
+    /**
+     * 시퀀스 번호 / 스트림 epoch flags (epoch 는 시퀀스 번호가 있을 때만 기록)
+     */
+    private static int streamFlags(long epoch, long sequence) {
+        if (sequence == NO_SEQUENCE) {
+            return 0;
+        }
+        return FLAG_SEQUENCE | (epoch != NO_EPOCH ? FLAG_EPOCH : 0);
+    }
+
+    /**
+     * writeTickBody 가 기록하는 정확한 크기
+     */
+    private static int tickBodySize(TickPacketDTO tick, int flags) {
+        int size = Long.BYTES;
+        if ((flags & FLAG_BIG_PRICE) != 0) {
+            size += bigIntegerSize(tick.getPrice());
+        } else {
+            size += varLongSize(tick.getPrice().longValue());
+        }
+        if ((flags & FLAG_NO_QUANTITY) == 0) {
+            size += varLongSize(tick.getQuantity());
+        }
+        return size;
+    }
+
+    /**
+     * writeCandleBody 가 기록하는 정확한 크기
+     */
+    private static int candleBodySize(CandlePacketDTO candle, int flags) {
+        long start = candle.getCandleStartTime();
+        int size = Long.BYTES + varLongSize(candle.getCandleEndTime() - start);
+        if ((flags & FLAG_BIG_PRICE) != 0) {
+            size += bigIntegerSize(candle.getStartPrice()) + bigIntegerSize(candle.getHighPrice())
+                    + bigIntegerSize(candle.getLowPrice()) + bigIntegerSize(candle.getEndPrice());
+        } else {
+            long open = candle.getStartPrice().longValue();
+            size += varLongSize(open)
+                    + varLongSize(candle.getHighPrice().longValue() - open)
+                    + varLongSize(candle.getLowPrice().longValue() - open)
+                    + varLongSize(candle.getEndPrice().longValue() - open);
+        }
+        if ((flags & FLAG_NO_QUANTITY) == 0) {
+            size += varLongSize(candle.getQuantity());
+        }
+        return size + varLongSize(candle.getTickCount());
+    }
+
+    /**
+     * writeBigInteger 가 기록하는 크기 (길이 varint + 2의 보수 byte, toByteArray 길이와 같음)
+     */
+    private static int bigIntegerSize(BigInteger value) {
+        int length = value.bitLength() / 8 + 1;
+        return varLongSize(length) + length;
+    }
+
+    /**
+     * writeVarLong 이 기록하는 byte 수
+     */
+    static int varLongSize(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        return (Long.SIZE - Long.numberOfLeadingZeros(zigzag | 1) + 6) / 7;
+    }
+
+    /**
+     * zigzag + varint (LEB128) 기록
+     */
+    static void writeVarLong(ByteBuffer dst, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            dst.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        dst.put((byte) zigzag);
+    }
+
+    static long readVarLong(ByteBuffer src) {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = src.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+    }
+
+    private static void writeBigInteger(ByteBuffer dst, BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        writeVarLong(dst, bytes.length);
+        dst.put(bytes);
+    }
+
+    private static BigInteger readBigInteger(ByteBuffer src) {
+        long length = readVarLong(src);
+        if (length <= 0 || length > src.remaining()) {
+            throw new CustomException(ErrorCode.INVALID_BINARY_PACKET);
+        }
+        byte[] bytes = new byte[(int) length];
+        src.get(bytes);
+        return new BigInteger(bytes);
+    }
+}
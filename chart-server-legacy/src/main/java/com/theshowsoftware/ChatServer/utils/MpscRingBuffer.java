@@ -0,0 +1,103 @@
+package com.theshowsoftware.ChatServer.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 잠금 없는 다중 생산자 / 단일 소비자 고정 크기 큐 (원형 버퍼)
+ * - 슬롯별 시퀀스 번호로 생산자 간 경합을 CAS 한 번으로 해결
+ * - poll / drain 은 하나의 소비자 스레드에서만 호출해야 함
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // 생산자 위치
+    private long head; // 소비자 위치 (소비자 스레드 전용)
+
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2: " + requestedCapacity);
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1; // 2의 거듭제곱으로 올림
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 요소 추가 (가득 찬 경우 false)
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            long diff = sequence - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1); // 소비자에게 공개
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false; // 소비자가 아직 비우지 않은 슬롯
+            }
+            // diff > 0 : 다른 생산자가 먼저 점유, 재시도
+        }
+    }
+
+    /**
+     * 요소 하나를 꺼냄 (비어 있으면 null)
+     */
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, head + mask + 1); // 다음 회차 생산자에게 슬롯 반환
+        head++;
+        return element;
+    }
+
+    /**
+     * 최대 limit 개의 요소를 꺼내 consumer 로 전달하고 꺼낸 개수를 반환
+     */
+    public int drain(Consumer<E> consumer, int limit) {
+        int count = 0;
+        E element;
+        while (count < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 대략적인 적재 개수 (모니터링 용도)
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+}
@@ -0,0 +1,297 @@
+package com.theshowsoftware.ChatServer.utils;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.HexCodes;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * 텍스트 패킷(!...#) 스트리밍 파서
+ * - 문자열 분리 / 부분 문자열 / BigInteger 생성 없이 필드를 바로 숫자로 읽음
+ * - 결과는 재사용 가능한 TickRecord / CandleRecord 에 기록 (파싱 시 객체 생성 없음)
+ * - 심볼 / 차트 타입은 hexCode 숫자 값으로 테이블 조회
+ * - 가격은 long 범위(고정 소수점 10^9 기준 약 92 억)까지만 지원
+ * - Record 는 스레드 간 공유하지 않음
+ */
+public class TextPacketParser {
+
+    private static final char PACKET_START = '!';
+    private static final char PACKET_END = '#';
+    private static final char DELIMITER = ';';
+
+    private static final int SYMBOL_HEX_DIGITS = 4;
+    private static final int CHART_HEX_DIGITS = 2;
+
+    private TextPacketParser() {
+    }
+
+    /**
+     * 틱 패킷 파싱 (패킷 전체가 하나의 틱 패킷이어야 함)
+     */
+    public static void parseTick(CharSequence packet, TickRecord into) {
+        Cursor cursor = into.cursor.reset(packet);
+        parseTick(cursor, into);
+        cursor.expectEnd();
+    }
+
+    /**
+     * ByteBuffer(ASCII) 의 현재 위치부터 틱 패킷 하나를 파싱하고 위치를 패킷 뒤로 이동
+     */
+    public static void parseTick(ByteBuffer packet, TickRecord into) {
+        Cursor cursor = into.cursor.reset(packet);
+        parseTick(cursor, into);
+        packet.position(cursor.position);
+    }
+
+    /**
+     * 캔들 패킷 파싱 (패킷 전체가 하나의 캔들 패킷이어야 함)
+     */
+    public static void parseCandle(CharSequence packet, CandleRecord into) {
+        Cursor cursor = into.cursor.reset(packet);
+        parseCandle(cursor, into);
+        cursor.expectEnd();
+    }
+
+    /**
+     * ByteBuffer(ASCII) 의 현재 위치부터 캔들 패킷 하나를 파싱하고 위치를 패킷 뒤로 이동
+     */
+    public static void parseCandle(ByteBuffer packet, CandleRecord into) {
+        Cursor cursor = into.cursor.reset(packet);
+        parseCandle(cursor, into);
+        packet.position(cursor.position);
+    }
+
+    // !기준통화;심볼;차트타입;가격;거래량;timestamp#
+    private static void parseTick(Cursor cursor, TickRecord into) {
+        cursor.error = ErrorCode.FAILED_TICK_PARSE_ERROR;
+        cursor.start();
+        into.baseSymbol = readBaseSymbol(cursor);
+        into.symbolType = readSymbol(cursor);
+        into.chartType = readChartType(cursor);
+        into.price = cursor.readLong(false);
+        into.quantity = cursor.readLong(false);
+        into.timestamp = cursor.readLong(true);
+    }
+
+    // !기준통화;심볼;차트타입;시작;종료;시가;종가;고가;저가;거래량;Tick개수#
+    private static void parseCandle(Cursor cursor, CandleRecord into) {
+        cursor.error = ErrorCode.FAILD_CANDLE_PARSE_ERROR;
+        cursor.start();
+        into.baseSymbol = readBaseSymbol(cursor);
+        into.symbolType = readSymbol(cursor);
+        into.chartType = readChartType(cursor);
+        into.candleStartTime = cursor.readLong(false);
+        into.candleEndTime = cursor.readLong(false);
+        into.startPrice = cursor.readLong(false);
+        into.endPrice = cursor.readLong(false);
+        into.highPrice = cursor.readLong(false);
+        into.lowPrice = cursor.readLong(false);
+        into.quantity = cursor.readLong(false);
+        into.tickCount = Math.toIntExact(cursor.readLong(true));
+    }
+
+    private static SymbolType readBaseSymbol(Cursor cursor) {
+        SymbolType baseSymbol = readSymbol(cursor);
+        if (baseSymbol != SymbolType.USDT) {
+            throw new CustomException(ErrorCode.PACKET_BASE_SYMBOL_INVALID);
+        }
+        return baseSymbol;
+    }
+
+    private static SymbolType readSymbol(Cursor cursor) {
+        SymbolType symbolType = SymbolType.fromCode(cursor.readHex(SYMBOL_HEX_DIGITS));
+        if (symbolType == null) {
+            throw new CustomException(cursor.error);
+        }
+        return symbolType;
+    }
+
+    private static ChartType readChartType(Cursor cursor) {
+        ChartType chartType = ChartType.fromCode(cursor.readHex(CHART_HEX_DIGITS));
+        if (chartType == null) {
+            throw new CustomException(ErrorCode.UNKOWUN_CHART_TYPE);
+        }
+        return chartType;
+    }
+
+    /**
+     * 파싱된 틱 패킷 (재사용)
+     */
+    @Getter
+    public static final class TickRecord {
+        @Getter(AccessLevel.NONE)
+        private final Cursor cursor = new Cursor();
+        private SymbolType baseSymbol;
+        private SymbolType symbolType;
+        private ChartType chartType;
+        private long price; // 10^9 곱해진 값
+        private long quantity;
+        private long timestamp;
+
+        public TickPacketDTO toDTO() {
+            return TickPacketDTO.builder()
+                    .price(BigInteger.valueOf(price))
+                    .quantity(quantity)
+                    .timestamp(timestamp)
+                    .build();
+        }
+    }
+
+    /**
+     * 파싱된 캔들 패킷 (재사용)
+     */
+    @Getter
+    public static final class CandleRecord {
+        @Getter(AccessLevel.NONE)
+        private final Cursor cursor = new Cursor();
+        private SymbolType baseSymbol;
+        private SymbolType symbolType;
+        private ChartType chartType;
+        private long candleStartTime;
+        private long candleEndTime;
+        private long startPrice; // 10^9 곱해진 값
+        private long endPrice;
+        private long highPrice;
+        private long lowPrice;
+        private long quantity;
+        private int tickCount;
+
+        public CandlePacketDTO toDTO() {
+            return CandlePacketDTO.builder()
+                    .symbolType(symbolType)
+                    .chartType(chartType)
+                    .candleStartTime(candleStartTime)
+                    .candleEndTime(candleEndTime)
+                    .startPrice(BigInteger.valueOf(startPrice))
+                    .endPrice(BigInteger.valueOf(endPrice))
+                    .highPrice(BigInteger.valueOf(highPrice))
+                    .lowPrice(BigInteger.valueOf(lowPrice))
+                    .quantity(quantity)
+                    .tickCount(tickCount)
+                    .build();
+        }
+    }
+
+    /**
+     * CharSequence / ByteBuffer 공통 읽기 위치
+     */
+    private static final class Cursor {
+        private CharSequence text;
+        private ByteBuffer bytes;
+        private int position;
+        private int end;
+        private ErrorCode error;
+
+        private Cursor reset(CharSequence text) {
+            if (text == null) {
+                throw new CustomException(ErrorCode.INVAILD_PACKET_STRUCTURE);
+            }
+            this.text = text;
+            this.bytes = null;
+            this.position = 0;
+            this.end = text.length();
+            return this;
+        }
+
+        private Cursor reset(ByteBuffer bytes) {
+            this.text = null;
+            this.bytes = bytes;
+            this.position = bytes.position();
+            this.end = bytes.limit();
+            return this;
+        }
+
+        private int next() {
+            if (position >= end) {
+                throw new CustomException(ErrorCode.INVAILD_PACKET_STRUCTURE);
+            }
+            return text != null ? text.charAt(position++) : bytes.get(position++) & 0xFF;
+        }
+
+        private void start() {
+            if (next() != PACKET_START) {
+                throw new CustomException(ErrorCode.INVAILD_PACKET_STRUCTURE);
+            }
+        }
+
+        private void expectEnd() {
+            if (position != end) {
+                throw new CustomException(ErrorCode.INVAILD_PACKET_STRUCTURE);
+            }
+        }
+
+        /**
+         * 구분자 확인 (마지막 필드는 '#', 그 외는 ';')
+         */
+        private void endField(int c, boolean last) {
+            if (c == (last ? PACKET_END : DELIMITER)) {
+                return;
+            }
+            if (c == DELIMITER || c == PACKET_END) {
+                throw new CustomException(ErrorCode.PACKET_INVALID_PARTS_COUNT);
+            }
+            throw new CustomException(error);
+        }
+
+        /**
+         * "0x" + 16진수 digits 자리 필드
+         */
+        private int readHex(int digits) {
+            if (next() != '0' || (next() | 0x20) != 'x') {
+                throw new CustomException(error);
+            }
+            int code = 0;
+            for (int i = 0; i < digits; i++) {
+                int digit = HexCodes.digit(next());
+                if (digit < 0) {
+                    throw new CustomException(error);
+                }
+                code = (code << 4) | digit;
+            }
+            endField(next(), false);
+            return code;
+        }
+
+        /**
+         * 10진수 long 필드 (음수 허용, 범위 초과 시 오류)
+         */
+        private long readLong(boolean last) {
+            int c = next();
+            boolean negative = c == '-';
+            if (negative) {
+                c = next();
+            }
+            long value = 0;
+            int digits = 0;
+            while (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                // 음수로 누적하여 Long.MIN_VALUE 까지 표현
+                if (value < (Long.MIN_VALUE + digit) / 10) {
+                    throw new CustomException(error);
+                }
+                value = value * 10 - digit;
+                digits++;
+                c = next();
+            }
+            if (digits == 0) {
+                throw new CustomException(error);
+            }
+            endField(c, last);
+            if (negative) {
+                return value;
+            }
+            if (value == Long.MIN_VALUE) {
+                throw new CustomException(error);
+            }
+            return -value;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.theshowsoftware.ChatServer.config;
+
+import com.theshowsoftware.ChatServer.enums.PacketFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketFormatInterceptorTest {
+
+    private final PacketFormatInterceptor interceptor = new PacketFormatInterceptor();
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, Map<String, Object> attributes,
+                                         String format, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(attributes);
+        if (format != null) {
+            accessor.setNativeHeader(PacketFormatInterceptor.FORMAT_HEADER, format);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static String destinationOf(Message<?> message) {
+        return StompHeaderAccessor.wrap(message).getDestination();
+    }
+
+    /**
+     * 바이너리 전송 가능한 세션은 binary 로 협상되고 구독 경로가 바이너리 경로로 바뀌어야 함
+     */
+    @Test
+    public void binarySessionSubscribesToBinaryDestination() {
+        // Given
+        Map<String, Object> attributes = new HashMap<>(Map.of(PacketFormatInterceptor.BINARY_TRANSPORT_ATTRIBUTE, true));
+
+        // When
+        interceptor.preSend(frame(StompCommand.CONNECT, "s1", attributes, "binary", null), null);
+        Message<?> subscribe = interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1", attributes, null, "/user/topic/tick"), null);
+
+        // Then
+        assertEquals(PacketFormat.BINARY, attributes.get(PacketFormatInterceptor.FORMAT_ATTRIBUTE));
+        assertEquals("/user/topic/tick.bin", destinationOf(subscribe), "바이너리 세션은 바이너리 경로를 구독해야 합니다.");
+        assertTrue(interceptor.hasBinarySessions());
+
+        // When - 연결 종료
+        interceptor.preSend(frame(StompCommand.DISCONNECT, "s1", attributes, null, null), null);
+
+        // Then
+        assertFalse(interceptor.hasBinarySessions(), "종료된 세션은 바이너리 세션 수에서 빠져야 합니다.");
+    }
+
+    /**
+     * SockJS 처럼 바이너리 프레임을 보낼 수 없는 세션은 text 로 처리해야 함
+     */
+    @Test
+    public void sessionWithoutBinaryTransportFallsBackToText() {
+        // Given
+        Map<String, Object> attributes = new HashMap<>();
+
+        // When
+        interceptor.preSend(frame(StompCommand.CONNECT, "s2", attributes, "binary", null), null);
+        Message<?> subscribe = interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s2", attributes, null, "/user/topic/candle"), null);
+
+        // Then
+        assertEquals(PacketFormat.TEXT, attributes.get(PacketFormatInterceptor.FORMAT_ATTRIBUTE));
+        assertEquals("/user/topic/candle", destinationOf(subscribe));
+        assertFalse(interceptor.hasBinarySessions());
+    }
+}
@@ -0,0 +1,76 @@
+package com.theshowsoftware.ChatServer.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChartTypeTest {
+
+    private static long millis(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+    @Test
+    public void fixedIntervalBucketIsFloorAligned() {
+        // Given
+        long time = millis("2024-02-29T13:47:21.123Z");
+
+        // When & Then
+        assertEquals(millis("2024-02-29T13:47:21Z"), ChartType.ONE_SECOND.bucketStart(time));
+        assertEquals(millis("2024-02-29T13:45:00Z"), ChartType.FIFTEEN_MINUTES.bucketStart(time));
+        assertEquals(millis("2024-02-29T12:00:00Z"), ChartType.TWELVE_HOURS.bucketStart(time));
+        assertEquals(millis("2024-03-01T00:00:00Z"), ChartType.ONE_DAY.bucketEnd(time));
+        assertEquals(-1_000L, ChartType.ONE_SECOND.bucketStart(-1L), "1970년 이전 시간도 내림 정렬되어야 합니다.");
+    }
+
+    @Test
+    public void weekBucketStartsOnIsoMonday() {
+        // Given - 2024-03-03 은 일요일
+        long sunday = millis("2024-03-03T23:59:59.999Z");
+
+        // When & Then
+        assertEquals(millis("2024-02-26T00:00:00Z"), ChartType.ONE_WEEK.bucketStart(sunday));
+        assertEquals(millis("2024-03-04T00:00:00Z"), ChartType.ONE_WEEK.bucketEnd(sunday));
+        assertEquals(millis("2024-03-04T00:00:00Z"), ChartType.ONE_WEEK.bucketStart(millis("2024-03-04T00:00:00Z")));
+    }
+
+    @Test
+    public void monthBucketFollowsCalendar() {
+        // Given
+        long leapDay = millis("2024-02-29T23:59:59.999Z");
+
+        // When & Then
+        assertEquals(millis("2024-02-01T00:00:00Z"), ChartType.ONE_MONTH.bucketStart(leapDay));
+        assertEquals(millis("2024-03-01T00:00:00Z"), ChartType.ONE_MONTH.bucketEnd(leapDay));
+        assertEquals(millis("2024-12-01T00:00:00Z"), ChartType.ONE_MONTH.bucketStart(millis("2024-12-31T12:00:00Z")));
+        assertEquals(millis("2025-01-01T00:00:00Z"), ChartType.ONE_MONTH.bucketEnd(millis("2024-12-31T12:00:00Z")));
+        assertEquals(millis("1969-12-01T00:00:00Z"), ChartType.ONE_MONTH.bucketStart(-1L), "테이블 범위 밖은 java.time 으로 계산해야 합니다.");
+        assertEquals(millis("2300-05-01T00:00:00Z"), ChartType.ONE_MONTH.bucketStart(millis("2300-05-17T00:00:00Z")));
+    }
+
+    /**
+     * 임의 시간에 대해 java.time 계산 결과와 같아야 함
+     */
+    @Test
+    public void calendarBucketsMatchJavaTime() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long time = random.nextLong(millis("2200-01-01T00:00:00Z"));
+            LocalDate date = Instant.ofEpochMilli(time).atOffset(ZoneOffset.UTC).toLocalDate();
+
+            long monthStart = date.withDayOfMonth(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            long weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    .atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+            assertEquals(monthStart, ChartType.ONE_MONTH.bucketStart(time), "월 경계 불일치: " + date);
+            assertEquals(weekStart, ChartType.ONE_WEEK.bucketStart(time), "주 경계 불일치: " + date);
+        }
+    }
+}
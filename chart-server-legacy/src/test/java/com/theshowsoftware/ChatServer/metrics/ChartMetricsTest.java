@@ -0,0 +1,81 @@
+package com.theshowsoftware.ChatServer.metrics;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ChartMetricsTest {
+
+    /**
+     * 수집 경로의 기록 호출은 객체를 만들지 않아야 함 (스레드 할당량 측정)
+     */
+    @Test
+    public void recordingDoesNotAllocate() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean, "스레드 할당량 측정을 지원하지 않는 JVM 입니다.");
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadBean;
+
+        // Given
+        ChartMetrics metrics = new ChartMetrics();
+        for (int i = 0; i < 10_000; i++) {
+            record(metrics, i); // 워밍업
+        }
+
+        // When
+        long threadId = Thread.currentThread().threadId();
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            record(metrics, i);
+        }
+        long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+        // Then - 측정 자체의 할당을 감안해 1KB 이하
+        assertTrue(allocated < 1024, "기록 중 할당된 메모리: " + allocated + " bytes");
+        assertEquals(110_000, metrics.getTicksIngested());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void cacheRecordsIngestAndCandleCloses() {
+        // Given
+        ChartMetrics metrics = new ChartMetrics();
+        ChartCacheService chartCache = new ChartCacheService(metrics);
+        long start = Instant.now().minusSeconds(10).toEpochMilli() / 1000 * 1000;
+
+        // When - 3초에 걸친 Tick 3개 + 미래 Tick 1개
+        for (int i = 0; i < 3; i++) {
+            chartCache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(100_000_000_000L), 1L, start + i * 1000L));
+        }
+        chartCache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.ONE, 1L, Instant.now().plusSeconds(3600).toEpochMilli()));
+
+        // Then
+        assertEquals(3, metrics.getTicksIngested());
+        assertEquals(1, metrics.getTicksRejected(), "미래 Tick 은 거부로 집계되어야 합니다.");
+        assertEquals(2, metrics.getCandleCloses(ChartType.ONE_SECOND), "1초 캔들 2개가 마감되어야 합니다.");
+        assertEquals(3, metrics.getLockWait().getCount());
+        assertEquals(3, metrics.getLockHold().getCount());
+        assertEquals(3, chartCache.getTickCount(SymbolType.BTC));
+        assertEquals(2, chartCache.getCandleCount(SymbolType.BTC, ChartType.ONE_SECOND));
+
+        Map<String, Object> ingest = (Map<String, Object>) metrics.snapshot().get("ingest");
+        assertEquals(3L, ingest.get("ticks"));
+    }
+
+    private static void record(ChartMetrics metrics, long nanos) {
+        metrics.tickIngested();
+        metrics.recordLockWait(nanos);
+        metrics.recordLockHold(nanos * 3);
+        metrics.candleClosed(ChartType.ONE_MINUTE);
+        metrics.recordBroadcast(nanos * 7);
+    }
+}
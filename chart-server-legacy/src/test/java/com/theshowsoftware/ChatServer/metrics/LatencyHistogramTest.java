@@ -0,0 +1,106 @@
+package com.theshowsoftware.ChatServer.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    /**
+     * 모든 값이 자신이 속한 구간의 상한 이하이고, 상한은 값보다 12.5% 이상 크지 않아야 함
+     */
+    @Test
+    public void bucketBoundsCoverValues() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1_000, 1_023, 1_024, 123_456_789L, Long.MAX_VALUE / 3};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            long upper = LatencyHistogram.upperBound(index);
+            assertTrue(value <= upper, "값 " + value + " 이 구간 상한 " + upper + " 을 넘습니다.");
+            assertTrue(upper - value <= value / 8, "값 " + value + " 의 구간 상한 " + upper + " 이 너무 큽니다.");
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.upperBound(index - 1), "값 " + value + " 이 이전 구간에 속해야 합니다.");
+            }
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void percentilesWithinBucketError() {
+        // Given - 1µs ~ 1000µs 균등 분포
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        // When
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertEquals(1_000, snapshot.count());
+        assertEquals(500.5, snapshot.mean(), 0.001);
+        assertEquals(500, snapshot.p50(), 500 * 0.125, "p50 이 구간 오차 안에 있어야 합니다.");
+        assertEquals(990, snapshot.p99(), 990 * 0.125, "p99 가 구간 오차 안에 있어야 합니다.");
+        assertEquals(1_000, snapshot.max(), 0.001);
+        assertTrue(snapshot.p999() <= snapshot.max(), "백분위 값은 최대값을 넘지 않아야 합니다.");
+    }
+
+    /**
+     * 여러 스레드가 서로 다른 스트라이프에 기록해도 조회 시 개수 / 평균 / 최대값이 모두 합산되어야 함
+     */
+    @Test
+    public void concurrentRecordsAreMergedOnRead() throws Exception {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram(8);
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When - 스레드마다 1µs ~ 10ms 값을 기록하고, 마지막 스레드만 가장 큰 값을 기록
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= perThread; i++) {
+                        histogram.record(i * 1_000L);
+                    }
+                    if (thread == threads - 1) {
+                        histogram.record(50_000_000L);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        long count = (long) threads * perThread + 1;
+        assertEquals(count, snapshot.count());
+        assertEquals(count, histogram.getCount());
+        double expectedMean = ((double) threads * perThread * (perThread + 1) / 2 * 1_000 + 50_000_000L) / count / 1_000;
+        assertEquals(expectedMean, snapshot.mean(), 0.001);
+        assertEquals(50_000, snapshot.max(), 0.001, "다른 스트라이프의 최대값도 합산되어야 합니다.");
+        assertEquals(5_000, snapshot.p50(), 5_000 * 0.125, "p50 이 구간 오차 안에 있어야 합니다.");
+    }
+
+    @Test
+    public void emptyAndNegativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99), "기록이 없으면 0 이어야 합니다.");
+
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(100), "음수는 0 으로 기록되어야 합니다.");
+    }
+}
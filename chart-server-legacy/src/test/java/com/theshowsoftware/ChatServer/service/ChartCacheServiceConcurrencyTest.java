@@ -0,0 +1,164 @@
+package com.theshowsoftware.ChatServer.service;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tick 조회 경로 동시성 스트레스 테스트
+ */
+public class ChartCacheServiceConcurrencyTest {
+
+    private static final int TICKS_PER_SYMBOL = 10_000;
+
+    private final ChartCacheService chartCache = new ChartCacheService();
+    private final long baseTime = Instant.now().minusSeconds(86_400).toEpochMilli();
+
+    /**
+     * 서비스 인스턴스 모니터를 점유해도 조회가 막히지 않아야 함 (전역 직렬화 없음)
+     */
+    @Test
+    public void readersDoNotQueueOnServiceMonitor() throws Exception {
+        // Given
+        List<SymbolType> symbols = List.of(SymbolType.BTC, SymbolType.ETH, SymbolType.SOL, SymbolType.DOT);
+        fill(symbols);
+        ExecutorService readers = Executors.newFixedThreadPool(symbols.size());
+
+        try {
+            // When - 서비스 모니터를 점유한 상태에서 심볼별 조회 실행
+            List<Future<Integer>> results = new ArrayList<>();
+            synchronized (chartCache) {
+                for (SymbolType symbol : symbols) {
+                    results.add(readers.submit(() -> chartCache.getTicksBetween(symbol,
+                            Instant.ofEpochMilli(baseTime), Instant.ofEpochMilli(baseTime + TICKS_PER_SYMBOL)).size()
+                            + chartCache.getTicks(symbol, 100).size()));
+                }
+
+                // Then
+                for (Future<Integer> result : results) {
+                    assertEquals(TICKS_PER_SYMBOL + 100, result.get(5, TimeUnit.SECONDS), "조회가 서비스 모니터에 막히지 않아야 합니다.");
+                }
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    /**
+     * 같은 심볼에 쓰기가 진행 중이어도 조회 결과는 항상 정렬되고 일관되어야 함 (낙관적 읽기 검증)
+     */
+    @Test
+    public void readersSeeConsistentTicksWhileWriting() throws Exception {
+        // Given
+        SymbolType symbol = SymbolType.BTC;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200_000; i++) {
+                chartCache.addTick(symbol, new TickPacketDTO(BigInteger.valueOf(1_000_000L + i), (long) i, baseTime + i));
+            }
+            writing.set(false);
+        });
+
+        // When
+        writer.start();
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            futures.add(readers.submit(() -> {
+                while (writing.get()) {
+                    List<TickPacketDTO> ticks = chartCache.getTicks(symbol, 500);
+                    for (int i = 0; i < ticks.size(); i++) {
+                        TickPacketDTO tick = ticks.get(i);
+                        long offset = tick.getTimestamp() - baseTime;
+                        if (tick.getPrice().longValue() != 1_000_000L + offset || tick.getQuantity() != offset
+                                || (i > 0 && ticks.get(i - 1).getTimestamp() + 1 != tick.getTimestamp())) {
+                            failure.compareAndSet(null, "일관되지 않은 Tick: " + tick);
+                        }
+                    }
+                }
+            }));
+        }
+        writer.join();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        readers.shutdownNow();
+
+        // Then
+        assertNull(failure.get(), failure.get());
+    }
+
+    /**
+     * 심볼마다 쓰기 / 조회 스레드가 동시에 실행되어도 심볼 간 데이터가 섞이지 않고 모든 쓰기가 반영되어야 함
+     * (처리량 확장성은 ChartCacheServiceBenchmark.getTicks / getTicksParallel 로 측정)
+     */
+    @Test
+    public void concurrentReadersAndWritersAcrossSymbols() throws Exception {
+        // Given - 심볼마다 가격 대역을 달리하여 섞이면 드러나도록 함
+        List<SymbolType> symbols = List.of(SymbolType.values()).subList(1, 9);
+        int ticksPerWriter = 20_000;
+        CountDownLatch writersDone = new CountDownLatch(symbols.size());
+        AtomicReference<String> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(symbols.size() * 2);
+
+        try {
+            // When
+            List<Future<?>> futures = new ArrayList<>();
+            for (int s = 0; s < symbols.size(); s++) {
+                SymbolType symbol = symbols.get(s);
+                long priceBase = (s + 1) * 1_000_000_000L;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ticksPerWriter; i++) {
+                        chartCache.addTick(symbol, new TickPacketDTO(BigInteger.valueOf(priceBase + i), 1L, baseTime + i));
+                    }
+                    writersDone.countDown();
+                }));
+                futures.add(executor.submit(() -> {
+                    while (writersDone.getCount() > 0) {
+                        List<TickPacketDTO> ticks = chartCache.getTicks(symbol, 200);
+                        for (int i = 0; i < ticks.size(); i++) {
+                            TickPacketDTO tick = ticks.get(i);
+                            if (tick.getPrice().longValue() != priceBase + (tick.getTimestamp() - baseTime)
+                                    || (i > 0 && ticks.get(i - 1).getTimestamp() >= tick.getTimestamp())) {
+                                failure.compareAndSet(null, symbol + " 일관되지 않은 Tick: " + tick);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertNull(failure.get(), failure.get());
+        for (int s = 0; s < symbols.size(); s++) {
+            SymbolType symbol = symbols.get(s);
+            assertEquals(ticksPerWriter, chartCache.getTickCount(symbol), "모든 쓰기가 반영되어야 합니다. (" + symbol + ")");
+            assertEquals((s + 1) * 1_000_000_000L + ticksPerWriter - 1, chartCache.getLatestTick(symbol).getPrice().longValue());
+        }
+    }
+
+    private void fill(List<SymbolType> symbols) {
+        for (SymbolType symbol : symbols) {
+            for (int i = 0; i < TICKS_PER_SYMBOL; i++) {
+                chartCache.addTick(symbol, new TickPacketDTO(BigInteger.valueOf(1_000L + i), 1L, baseTime + i));
+            }
+        }
+    }
+}
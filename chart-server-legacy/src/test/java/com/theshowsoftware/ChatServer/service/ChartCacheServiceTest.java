@@ -1,14 +1,30 @@
 package com.theshowsoftware.ChatServer.service;
 
 import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
 import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.DecimationMode;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
 import com.theshowsoftware.ChatServer.enums.SymbolType;
 import com.theshowsoftware.ChatServer.exception.CustomException;
+import com.theshowsoftware.ChatServer.metrics.ChartMetrics;
+import com.theshowsoftware.ChatServer.service.cache.TickPage;
+import com.theshowsoftware.ChatServer.service.cache.TickRingBuffer;
+import com.theshowsoftware.ChatServer.service.decimation.DecimationResult;
+import com.theshowsoftware.ChatServer.service.decimation.TickDecimator;
+import com.theshowsoftware.ChatServer.service.indicator.IndicatorSpec;
+import com.theshowsoftware.ChatServer.service.journal.TickJournal;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -115,4 +131,346 @@ public class ChartCacheServiceTest {
         List<CandlePacketDTO> candles = chartCache.getCandles(symbol, chartType, 10);
         assertTrue(candles.isEmpty(), "빈 캐시에서 데이터가 반환되지 않았습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void addTickPublishesActiveCandleSnapshot() {
+        // Given
+        SymbolType symbol = SymbolType.BTC;
+        long minuteStart = (Instant.now().minusSeconds(600).toEpochMilli() / 60_000L) * 60_000L;
+
+        // When
+        chartCache.addTick(symbol, new TickPacketDTO(BigInteger.valueOf(1000), 1L, minuteStart));
+        CandlePacketDTO firstSnapshot = chartCache.getCandles(symbol, ChartType.ONE_MINUTE, 1).get(0);
+        chartCache.addTick(symbol, new TickPacketDTO(BigInteger.valueOf(1200), 2L, minuteStart + 1_000));
+        chartCache.addTick(symbol, new TickPacketDTO(BigInteger.valueOf(900), 3L, minuteStart + 60_000));
+
+        // Then
+        assertEquals(BigInteger.valueOf(1000), firstSnapshot.getHighPrice(), "발행된 스냅샷은 이후 Tick 으로 변경되지 않아야 합니다.");
+        assertEquals(1, firstSnapshot.getTickCount());
+
+        List<CandlePacketDTO> candles = chartCache.getCandles(symbol, ChartType.ONE_MINUTE, 10);
+        assertEquals(2, candles.size(), "마감된 캔들과 활성 캔들이 함께 반환되어야 합니다.");
+
+        CandlePacketDTO closed = candles.get(0);
+        assertEquals(minuteStart, closed.getCandleStartTime());
+        assertEquals(BigInteger.valueOf(1200), closed.getHighPrice());
+        assertEquals(3L, closed.getQuantity());
+        assertEquals(2, closed.getTickCount());
+
+        CandlePacketDTO active = candles.get(1);
+        assertEquals(minuteStart + 60_000, active.getCandleStartTime());
+        assertEquals(BigInteger.valueOf(900), active.getStartPrice());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void memoryBudgetEvictsOldestTicksAcrossSymbols() {
+        // Given - Tick 묶음 6개 분량 예산 (최근 묶음 4개를 넘는 Tick 은 압축되므로 BTC 는 묶음 약 5개 분량)
+        ChartMetrics metrics = new ChartMetrics();
+        long budget = 6 * TickRingBuffer.CHUNK_BYTES;
+        ChartCacheService cache = new ChartCacheService(metrics, budget, 0.25);
+        long base = Instant.now().minusSeconds(3600).toEpochMilli();
+
+        // When - 오래된 ETH 묶음 2개, 이후 BTC 묶음 10개 분량
+        addTicks(cache, SymbolType.ETH, base, 2 * TickRingBuffer.CHUNK_SIZE);
+        long btcStart = base + 600_000;
+        int btcCount = 10 * TickRingBuffer.CHUNK_SIZE;
+        addTicks(cache, SymbolType.BTC, btcStart, btcCount);
+
+        // Then - 전체 사용량은 예산 이하, 가장 오래된 ETH Tick 부터 회수
+        Map<String, Object> usage = cache.getMemoryUsage();
+        assertTrue((long) usage.get("usedBytes") <= budget, "메모리 사용량이 예산을 넘었습니다: " + usage.get("usedBytes"));
+        assertTrue(cache.getTickCount(SymbolType.ETH) < 2 * TickRingBuffer.CHUNK_SIZE, "가장 오래된 ETH Tick 이 먼저 회수되어야 합니다.");
+        assertEquals(btcCount, cache.getTickCount(SymbolType.BTC), "이후 BTC Tick 은 압축되어 모두 유지되어야 합니다.");
+        assertEquals(btcStart + btcCount - 1, cache.getLatestTick(SymbolType.BTC).getTimestamp(), "최신 Tick 은 유지되어야 합니다.");
+        assertTrue(metrics.getTicksEvicted() >= TickRingBuffer.CHUNK_SIZE);
+
+        Map<String, Object> symbols = (Map<String, Object>) usage.get("symbols");
+        Map<String, Object> btc = (Map<String, Object>) symbols.get(SymbolType.BTC.getSymbol());
+        Map<String, Object> btcTicks = (Map<String, Object>) btc.get("ticks");
+        assertEquals(cache.getTickCount(SymbolType.BTC), btcTicks.get("count"));
+        assertEquals(btcCount - 4 * TickRingBuffer.CHUNK_SIZE, btcTicks.get("compressedCount"), "최근 묶음 4개를 넘는 Tick 은 압축되어야 합니다.");
+        assertTrue(((Map<String, Object>) btc.get("candles")).containsKey(ChartType.ONE_SECOND.getLabel()), "ChartType 별 사용량이 포함되어야 합니다.");
+    }
+
+    @Test
+    public void candleBudgetKeepsLongIntervals() {
+        // Given - 캔들 약 100개 분량 예산 (전체를 캔들에 사용)
+        ChartCacheService cache = new ChartCacheService(new ChartMetrics(), 40_000, 1.0);
+        long now = Instant.now().toEpochMilli();
+        long minute = ChartType.ONE_MINUTE.bucketStart(now);
+        long day = ChartType.ONE_DAY.bucketStart(now);
+
+        // When - 최근 200분 1분봉 + 최근 10일 1일봉
+        for (int i = 200; i >= 1; i--) {
+            cache.addCandle(SymbolType.BTC, ChartType.ONE_MINUTE, candle(ChartType.ONE_MINUTE, minute - i * 60_000L));
+        }
+        for (int i = 10; i >= 1; i--) {
+            cache.addCandle(SymbolType.BTC, ChartType.ONE_DAY, candle(ChartType.ONE_DAY, day - i * 86_400_000L));
+        }
+
+        // Then - 경과 봉 수가 큰 1분봉부터 제거되고 1일봉은 유지
+        assertTrue((long) cache.getMemoryUsage().get("candleBytes") <= 40_000);
+        assertEquals(10, cache.getCandleCount(SymbolType.BTC, ChartType.ONE_DAY), "긴 인터벌 캔들은 유지되어야 합니다.");
+        int minutes = cache.getCandleCount(SymbolType.BTC, ChartType.ONE_MINUTE);
+        assertTrue(minutes > 0 && minutes < 200, "1분봉이 일부만 남아야 합니다: " + minutes);
+        List<CandlePacketDTO> kept = cache.getCandlesBetween(SymbolType.BTC, ChartType.ONE_MINUTE, Instant.ofEpochMilli(0), Instant.ofEpochMilli(now));
+        assertEquals(minute - 60_000L, kept.get(kept.size() - 1).getCandleStartTime(), "최신 1분봉은 유지되어야 합니다.");
+        assertEquals(minute - minutes * 60_000L, kept.get(0).getCandleStartTime(), "가장 오래된 1분봉부터 제거되어야 합니다.");
+    }
+
+    @Test
+    public void lateTicksWithinLatenessMatchInOrderIngest() {
+        // Given - 불규칙한 간격의 Tick 이 최대 1.5초까지 늦게 도착 (허용 지연 2초)
+        Random random = new Random(7);
+        long timestamp = Instant.now().minusSeconds(3600).toEpochMilli();
+        List<long[]> arrivals = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            timestamp += random.nextInt(300) + 1;
+            long arrival = timestamp + (random.nextInt(4) == 0 ? random.nextInt(1_500) : 0);
+            arrivals.add(new long[]{arrival, timestamp, 50_000_000_000L + random.nextInt(100_000), random.nextInt(10) + 1});
+        }
+        List<long[]> ordered = new ArrayList<>(arrivals);
+        arrivals.sort(Comparator.comparingLong(tick -> tick[0]));
+
+        ChartMetrics metrics = new ChartMetrics();
+        ChartCacheService late = new ChartCacheService(metrics, 1L << 30, 0.25, TickJournal.disabled(), 2_000);
+        ChartCacheService inOrder = new ChartCacheService(new ChartMetrics(), 1L << 30, 0.25, TickJournal.disabled(), 2_000);
+        List<CandlePacketDTO> corrections = new ArrayList<>();
+        late.addCorrectionListener((symbol, candles) -> corrections.addAll(candles));
+
+        // When
+        for (long[] tick : arrivals) {
+            late.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(tick[2]), tick[3], tick[1]));
+        }
+        for (long[] tick : ordered) {
+            inOrder.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(tick[2]), tick[3], tick[1]));
+        }
+
+        // Then - 순서대로 수집한 것과 같은 캔들 (활성 캔들 포함)
+        assertTrue(metrics.getLateTicksApplied() > 0, "마감된 캔들을 수정한 지연 Tick 이 있어야 합니다.");
+        assertEquals(0, metrics.getLateTicksDropped());
+        assertEquals(inOrder.getTickCount(SymbolType.BTC), late.getTickCount(SymbolType.BTC));
+        for (ChartType chartType : ChartType.values()) {
+            assertEquals(inOrder.getCandles(SymbolType.BTC, chartType, 100_000), late.getCandles(SymbolType.BTC, chartType, 100_000),
+                    "지연 Tick 을 반영한 캔들이 순서대로 수집한 캔들과 같아야 합니다: " + chartType);
+        }
+        assertEquals(metrics.getCandlesCorrected(), corrections.size());
+        long latest = ordered.get(ordered.size() - 1)[1];
+        assertTrue(corrections.stream().allMatch(candle -> candle.getCandleEndTime() <= latest), "수정 이벤트는 마감된 캔들만 전달해야 합니다.");
+    }
+
+    @Test
+    public void ticksBeyondWatermarkAreDropped() {
+        // Given
+        ChartMetrics metrics = new ChartMetrics();
+        ChartCacheService cache = new ChartCacheService(metrics, 1L << 30, 0.25, TickJournal.disabled(), 1_000);
+        List<CandlePacketDTO> corrections = new ArrayList<>();
+        cache.addCorrectionListener((symbol, candles) -> corrections.addAll(candles));
+        long second = ChartType.ONE_SECOND.bucketStart(Instant.now().minusSeconds(600).toEpochMilli());
+        cache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(1_000), 1L, second));
+        cache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(1_100), 1L, second + 3_000));
+
+        // When - 워터마크(second + 2,000) 이전 Tick 과 이후 Tick
+        cache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(900), 2L, second + 1_500));
+        cache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(1_300), 4L, second + 2_500));
+
+        // Then
+        assertEquals(1, metrics.getLateTicksDropped());
+        assertEquals(1, metrics.getLateTicksApplied());
+        assertEquals(3, cache.getTickCount(SymbolType.BTC), "버린 Tick 은 저장하지 않아야 합니다.");
+        CandlePacketDTO corrected = cache.getCandlesBetween(SymbolType.BTC, ChartType.ONE_SECOND,
+                Instant.ofEpochMilli(second + 2_000), Instant.ofEpochMilli(second + 2_999)).get(0);
+        assertEquals(BigInteger.valueOf(1_300), corrected.getStartPrice(), "비어 있던 구간은 지연 Tick 하나로 캔들을 만들어야 합니다.");
+        assertTrue(corrections.contains(corrected), "수정된 캔들이 전달되어야 합니다.");
+
+        CandlePacketDTO minute = cache.getCandles(SymbolType.BTC, ChartType.ONE_MINUTE, 1).get(0);
+        assertEquals(BigInteger.valueOf(1_300), minute.getHighPrice(), "활성 상위 캔들에도 반영되어야 합니다.");
+        assertEquals(6L, minute.getQuantity());
+        assertEquals(3, minute.getTickCount());
+    }
+
+    @Test
+    public void indicatorsFollowCandleClosesAndCorrections() {
+        // Given - 1초마다 Tick 하나 (10개 구간), 이후 SMA(3) 등록
+        ChartCacheService cache = new ChartCacheService(new ChartMetrics(), 1L << 30, 0.25, TickJournal.disabled(), 2_000);
+        IndicatorSpec sma = IndicatorSpec.parse("SMA(3)");
+        long second = ChartType.ONE_SECOND.bucketStart(Instant.now().minusSeconds(600).toEpochMilli());
+        Random random = new Random(11);
+        for (int i = 0; i < 10; i++) {
+            cache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(1_000 + random.nextInt(100)), 1L, second + i * 1_000L));
+        }
+        cache.registerIndicator(SymbolType.BTC, ChartType.ONE_SECOND, sma);
+        List<IndicatorPacketDTO> updates = new ArrayList<>();
+        cache.addIndicatorListener((symbol, indicators) -> updates.addAll(indicators));
+
+        // Then - 등록 시 보관 중인 완료 캔들로 값을 채움 (완료 7개 + 활성 캔들 미리보기)
+        List<IndicatorPacketDTO> initial = cache.getIndicators(SymbolType.BTC, ChartType.ONE_SECOND, sma, 100);
+        assertEquals(8, initial.size());
+        assertFalse(initial.get(initial.size() - 1).isClosed(), "마지막 값은 활성 캔들 미리보기여야 합니다.");
+        assertSmaMatchesCandles(cache, initial, 3);
+
+        // When - 10개 구간 추가 수집
+        for (int i = 10; i < 20; i++) {
+            cache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(1_000 + random.nextInt(100)), 1L, second + i * 1_000L));
+        }
+
+        // Then - 마감된 캔들마다 마감 값이 전달되고 조회 결과도 캔들과 일치
+        assertEquals(10, updates.stream().filter(IndicatorPacketDTO::isClosed).count(), "마감된 캔들마다 지표 값이 전달되어야 합니다.");
+        assertTrue(updates.stream().allMatch(update -> update.getChartType() == ChartType.ONE_SECOND && update.getIndicatorType() == IndicatorType.SMA));
+        assertSmaMatchesCandles(cache, cache.getIndicators(SymbolType.BTC, ChartType.ONE_SECOND, sma, 100), 3);
+
+        // When - 마감된 구간에 지연 Tick (워터마크 이후)
+        updates.clear();
+        cache.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(5_000), 1L, second + 18_500));
+
+        // Then - 수정된 캔들 값을 다시 계산해 전달
+        IndicatorPacketDTO corrected = updates.stream()
+                .filter(update -> update.isClosed() && update.getCandleStartTime() == second + 18_000)
+                .findFirst().orElseThrow();
+        assertTrue(corrected.getValue() > 2_000, "지연 Tick 이 반영된 값이어야 합니다.");
+        assertSmaMatchesCandles(cache, cache.getIndicators(SymbolType.BTC, ChartType.ONE_SECOND, sma, 100), 3);
+
+        // 등록 해제 / 잘못된 등록
+        assertEquals(List.of(sma), cache.getRegisteredIndicators(SymbolType.BTC, ChartType.ONE_SECOND));
+        assertTrue(cache.unregisterIndicator(SymbolType.BTC, ChartType.ONE_SECOND, sma));
+        CustomException notRegistered = assertThrows(CustomException.class,
+                () -> cache.getIndicators(SymbolType.BTC, ChartType.ONE_SECOND, sma, 10));
+        assertEquals(ErrorCode.INDICATOR_NOT_REGISTERED, notRegistered.getErrorCode());
+        assertThrows(CustomException.class, () -> cache.registerIndicator(SymbolType.BTC, ChartType.TICK, sma),
+                "TICK 차트에는 지표를 등록할 수 없어야 합니다.");
+    }
+
+    @Test
+    public void ticksInSameMillisecondAreAllKept() {
+        // Given - 밀리초당 5건씩 몰리는 구간 (일부는 이미 마감된 1초 구간으로 늦게 도착)
+        long start = ChartType.ONE_SECOND.bucketStart(Instant.now().minusSeconds(600).toEpochMilli());
+        List<TickPacketDTO> ticks = new ArrayList<>();
+        for (int i = 0; i < 12_000; i++) {
+            ticks.add(new TickPacketDTO(BigInteger.valueOf(1_000_000L + i), 1L, start + i / 5));
+        }
+        ChartCacheService bulk = new ChartCacheService();
+        ChartCacheService single = new ChartCacheService();
+
+        // When - 묶음 추가 / 한 건씩 추가
+        for (int i = 0; i < ticks.size(); i += 1_000) {
+            bulk.addTicks(SymbolType.BTC, ticks.subList(i, i + 1_000));
+        }
+        bulk.addTicks(SymbolType.BTC, List.of(new TickPacketDTO(BigInteger.valueOf(7L), 1L, start + 10)));
+        for (TickPacketDTO tick : ticks) {
+            single.addTick(SymbolType.BTC, tick);
+        }
+        single.addTick(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(7L), 1L, start + 10));
+
+        // Then
+        assertEquals(ticks.size() + 1, bulk.getTickCount(SymbolType.BTC), "같은 밀리초의 Tick 도 모두 보관되어야 합니다.");
+        List<TickPacketDTO> sameMillis = bulk.getTicksBetween(SymbolType.BTC, Instant.ofEpochMilli(start + 10), Instant.ofEpochMilli(start + 10));
+        assertEquals(6, sameMillis.size());
+        assertEquals(BigInteger.valueOf(1_000_050L), sameMillis.get(0).getPrice(), "도착 순서대로 조회되어야 합니다.");
+        assertEquals(BigInteger.valueOf(7L), sameMillis.get(5).getPrice());
+        for (ChartType chartType : ChartType.values()) {
+            assertEquals(single.getCandles(SymbolType.BTC, chartType, 100), bulk.getCandles(SymbolType.BTC, chartType, 100),
+                    "묶음 추가와 한 건씩 추가한 캔들이 같아야 합니다: " + chartType);
+        }
+        assertEquals(ticks.size() + 1, bulk.getCandles(SymbolType.BTC, ChartType.ONE_SECOND, 100).stream().mapToInt(CandlePacketDTO::getTickCount).sum());
+    }
+
+    @Test
+    public void streamTicksBetweenReadsPageByPage() {
+        // Given
+        ChartCacheService cache = new ChartCacheService();
+        long start = Instant.now().minusSeconds(3600).toEpochMilli();
+        addTicks(cache, SymbolType.ETH, start, TickRingBuffer.CHUNK_SIZE * 6);
+        Instant from = Instant.ofEpochMilli(start + 100);
+        Instant to = Instant.ofEpochMilli(start + TickRingBuffer.CHUNK_SIZE * 5L);
+
+        // When
+        List<TickPacketDTO> streamed = cache.streamTicksBetween(SymbolType.ETH, from, to, 1_000).toList();
+        TickPage page = cache.getTicksPage(SymbolType.ETH, from, to, null, 100_000);
+
+        // Then
+        assertEquals(cache.getTicksBetween(SymbolType.ETH, from, to), streamed, "스트림 결과가 범위 조회와 같아야 합니다.");
+        assertEquals(ChartCacheService.MAX_TICK_PAGE_SIZE, page.ticks().size(), "페이지 크기는 최대 건수로 제한되어야 합니다.");
+        assertTrue(page.hasNext());
+        assertEquals(0, cache.streamTicksBetween(SymbolType.BTC, from, to, 10).count());
+        CustomException exception = assertThrows(CustomException.class,
+                () -> cache.getTicksPage(SymbolType.ETH, from, to, "not-a-cursor", 10));
+        assertEquals(ErrorCode.INVALID_PAGE_CURSOR, exception.getErrorCode());
+    }
+
+    @Test
+    public void decimatedTicksAreReducedToRequestedPoints() {
+        // Given
+        ChartCacheService cache = new ChartCacheService();
+        long start = Instant.now().minusSeconds(3600).toEpochMilli();
+        int count = TickRingBuffer.CHUNK_SIZE * 10;
+        addTicks(cache, SymbolType.ETH, start, count);
+        Instant from = Instant.ofEpochMilli(start);
+        Instant to = Instant.ofEpochMilli(start + count - 1);
+
+        // When
+        DecimationResult lttb = cache.getDecimatedTicks(SymbolType.ETH, from, to, 400, DecimationMode.LTTB);
+        DecimationResult ohlc = cache.getDecimatedTicks(SymbolType.ETH, from, to, 400, DecimationMode.OHLC);
+
+        // Then
+        assertEquals(count, lttb.sourceTicks());
+        assertTrue(lttb.points().size() <= 400, "목표 점 수를 넘으면 안 됩니다.");
+        assertEquals(start, lttb.points().get(0).getTimestamp());
+        assertEquals(start + count - 1, lttb.points().get(lttb.points().size() - 1).getTimestamp());
+        assertEquals(count, ohlc.candles().stream().mapToInt(CandlePacketDTO::getTickCount).sum());
+
+        CustomException tooMany = assertThrows(CustomException.class,
+                () -> cache.getDecimatedTicks(SymbolType.ETH, from, to, TickDecimator.MAX_POINTS + 1, DecimationMode.LTTB));
+        assertEquals(ErrorCode.INVALID_DECIMATION_POINTS, tooMany.getErrorCode());
+        CustomException reversed = assertThrows(CustomException.class,
+                () -> cache.getDecimatedTicks(SymbolType.ETH, to, from, 400, DecimationMode.MIN_MAX));
+        assertEquals(ErrorCode.CACHE_INVALID_TIME_RANGE, reversed.getErrorCode());
+    }
+
+    /**
+     * 지표 값이 (활성 캔들 포함) 캔들 종가의 단순 이동 평균과 같은지 확인
+     */
+    private static void assertSmaMatchesCandles(ChartCacheService cache, List<IndicatorPacketDTO> values, int period) {
+        List<CandlePacketDTO> candles = cache.getCandles(SymbolType.BTC, ChartType.ONE_SECOND, 1_000);
+        for (IndicatorPacketDTO value : values) {
+            int index = 0;
+            while (!candles.get(index).getCandleStartTime().equals(value.getCandleStartTime())) {
+                index++;
+            }
+            double sum = 0;
+            for (int i = index - period + 1; i <= index; i++) {
+                sum += candles.get(i).getEndPrice().doubleValue();
+            }
+            assertEquals(sum / period, value.getValue(), 1e-9, "지표 값이 캔들 종가 평균과 다릅니다: " + value.getCandleStartTime());
+        }
+    }
+
+    private static void addTicks(ChartCacheService cache, SymbolType symbol, long start, int count) {
+        List<TickPacketDTO> batch = new ArrayList<>(1024);
+        for (int i = 0; i < count; i++) {
+            batch.add(new TickPacketDTO(BigInteger.valueOf(1_000_000_000L + i), 1L, start + i));
+            if (batch.size() == 1024) {
+                cache.addTicks(symbol, batch);
+                batch = new ArrayList<>(1024);
+            }
+        }
+        if (!batch.isEmpty()) {
+            cache.addTicks(symbol, batch);
+        }
+    }
+
+    private static CandlePacketDTO candle(ChartType chartType, long startTime) {
+        return CandlePacketDTO.builder()
+                .symbolType(SymbolType.BTC)
+                .chartType(chartType)
+                .candleStartTime(startTime)
+                .candleEndTime(startTime + chartType.getIntervalInMillis())
+                .startPrice(BigInteger.valueOf(50_000_000_000_000L))
+                .endPrice(BigInteger.valueOf(50_000_000_000_001L))
+                .highPrice(BigInteger.valueOf(50_000_000_000_002L))
+                .lowPrice(BigInteger.valueOf(49_999_999_999_999L))
+                .quantity(1_000L)
+                .tickCount(10)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.theshowsoftware.ChatServer.service;
+
+import com.theshowsoftware.ChatServer.config.PacketFormatInterceptor;
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.metrics.ChartMetrics;
+import com.theshowsoftware.ChatServer.utils.PacketManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketSenderServiceTest {
+
+    private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    private final SimpleBrokerMessageHandler broker =
+            new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/sub", "/user"));
+    private final List<Message<?>> delivered = new ArrayList<>();
+    private final PacketSenderService sender =
+            new PacketSenderService(new SimpMessagingTemplate(brokerChannel), new PacketFormatInterceptor(), new ChartMetrics(), "topic");
+
+    private final CandlePacketDTO candle = CandlePacketDTO.builder()
+            .symbolType(SymbolType.BTC)
+            .chartType(ChartType.ONE_MINUTE)
+            .candleStartTime(1_700_000_040_000L)
+            .candleEndTime(1_700_000_100_000L)
+            .startPrice(BigInteger.valueOf(100L))
+            .highPrice(BigInteger.valueOf(120L))
+            .lowPrice(BigInteger.valueOf(90L))
+            .endPrice(BigInteger.valueOf(110L))
+            .quantity(10L)
+            .tickCount(3)
+            .build();
+
+    {
+        clientOutbound.subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                delivered.add(message);
+            }
+        });
+        broker.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        broker.stop();
+    }
+
+    private void subscribe(String sessionId, String destination) {
+        SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        connect.setSessionId(sessionId);
+        broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-" + sessionId);
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(Map.of());
+        broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    /**
+     * 한 번 발행한 캔들이 구독 세션마다 같은 페이로드 배열로 전달되어야 함
+     */
+    @Test
+    public void broadcastSharesSerializedPayloadAcrossSubscribers() {
+        // Given
+        String topic = PacketSenderService.chartTopic(SymbolType.BTC, ChartType.ONE_MINUTE);
+        for (int i = 0; i < 3; i++) {
+            subscribe("session-" + i, topic);
+        }
+        subscribe("other", PacketSenderService.chartTopic(SymbolType.ETH, ChartType.ONE_MINUTE));
+
+        // When
+        sender.sendCandle("BTC", candle);
+
+        // Then
+        assertEquals("/sub/chart/BTC/1m", topic);
+        assertEquals(3, delivered.size(), "해당 심볼 / 차트 타입 구독자에게만 전달되어야 합니다.");
+        Object payload = delivered.get(0).getPayload();
+        for (Message<?> message : delivered) {
+            assertSame(payload, message.getPayload(), "모든 구독 세션이 같은 페이로드를 공유해야 합니다.");
+        }
+        assertEquals(PacketManager.createCandlePacket(candle), new String((byte[]) payload, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void tickIsPublishedToSymbolTickTopic() {
+        // Given
+        subscribe("session", "/sub/chart/SOL/TICK");
+        TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(52_000L), 2L, 1_700_000_000_000L);
+
+        // When
+        sender.sendTick(SymbolType.SOL, "SOL", tick);
+
+        // Then
+        assertEquals(1, delivered.size());
+        assertEquals(PacketManager.createTickPacket(SymbolType.SOL, tick),
+                new String((byte[]) delivered.get(0).getPayload(), StandardCharsets.UTF_8));
+    }
+}
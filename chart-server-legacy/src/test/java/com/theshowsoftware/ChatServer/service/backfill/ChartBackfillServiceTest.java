@@ -0,0 +1,120 @@
+package com.theshowsoftware.ChatServer.service.backfill;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChartBackfillServiceTest {
+
+    private static final long SPACING = 250;
+
+    @Test
+    public void backfillMatchesLiveIngestOnEmptyCache() {
+        // Given - 2시간 분량 (ETH 는 순서를 섞어서 전달)
+        long base = ChartType.ONE_HOUR.bucketStart(System.currentTimeMillis() - 3 * 3_600_000L);
+        List<TickPacketDTO> btc = ticks(base, 28_800);
+        List<TickPacketDTO> eth = ticks(base, 10_000);
+        ChartCacheService reference = new ChartCacheService();
+        ingest(reference, SymbolType.BTC, btc);
+        ingest(reference, SymbolType.ETH, eth);
+        List<TickPacketDTO> shuffled = new ArrayList<>(eth);
+        Collections.shuffle(shuffled, new Random(7));
+
+        // When
+        ChartCacheService cache = new ChartCacheService();
+        BackfillResult result = new ChartBackfillService(cache, 2).backfill(Map.of(SymbolType.BTC, btc, SymbolType.ETH, shuffled));
+
+        // Then
+        assertEquals(2, result.symbols());
+        assertEquals(38_800, result.ticks());
+        assertEquals(0, result.overlappingTicks());
+        assertEquals(0, result.skippedCandles());
+        for (SymbolType symbol : List.of(SymbolType.BTC, SymbolType.ETH)) {
+            Instant from = Instant.ofEpochMilli(base);
+            Instant to = Instant.ofEpochMilli(base + 28_800 * SPACING);
+            assertEquals(reference.getTicksBetween(symbol, from, to), cache.getTicksBetween(symbol, from, to), "Tick 이 시간순으로 적재되어야 합니다: " + symbol);
+            for (ChartType chartType : ChartType.values()) {
+                assertEquals(reference.getCandles(symbol, chartType, 100_000), cache.getCandles(symbol, chartType, 100_000),
+                        "실시간 수집과 같은 캔들이 만들어져야 합니다: " + symbol + " " + chartType);
+            }
+        }
+    }
+
+    @Test
+    public void backfillDoesNotDisturbActiveCandles() {
+        // Given - 1시간 0.5초 지점부터 10분간 실시간 수집 중, 과거 데이터는 실시간 구간과 1분 겹침
+        long base = ChartType.ONE_HOUR.bucketStart(System.currentTimeMillis() - 3 * 3_600_000L);
+        long liveStart = base + 3_600_500L;
+        List<TickPacketDTO> history = ticks(base, (int) ((liveStart + 60_000 - base) / SPACING));
+        List<TickPacketDTO> live = ticks(base, (int) ((liveStart + 600_000 - base) / SPACING)).subList((int) ((liveStart - base) / SPACING), (int) ((liveStart + 600_000 - base) / SPACING));
+
+        ChartCacheService cache = new ChartCacheService();
+        ingest(cache, SymbolType.BTC, live);
+        Map<ChartType, CandlePacketDTO> activeBefore = activeCandles(cache);
+
+        ChartCacheService reference = new ChartCacheService();
+        ingest(reference, SymbolType.BTC, history.subList(0, (int) ((liveStart - base) / SPACING)));
+        ingest(reference, SymbolType.BTC, live);
+
+        // When
+        BackfillResult result = new ChartBackfillService(cache, 2).backfill(Map.of(SymbolType.BTC, history));
+
+        // Then
+        assertEquals(14_402, result.ticks());
+        assertEquals(240, result.overlappingTicks(), "실시간 구간과 겹치는 Tick 은 건너뛰어야 합니다.");
+        assertTrue(result.skippedCandles() > 0, "활성 캔들 구간의 과거 캔들은 반영하지 않아야 합니다.");
+        assertEquals(activeBefore, activeCandles(cache), "활성 캔들은 변경되지 않아야 합니다.");
+        assertEquals(reference.getTickCount(SymbolType.BTC), cache.getTickCount(SymbolType.BTC));
+
+        // 활성 캔들에 과거 구간이 포함되지 않는 ChartType 은 순서대로 수집한 것과 같아야 함 (경계 캔들 병합 포함)
+        for (ChartType chartType : List.of(ChartType.ONE_SECOND, ChartType.FIVE_SECONDS, ChartType.THIRTY_SECONDS, ChartType.ONE_MINUTE, ChartType.FIVE_MINUTES)) {
+            assertEquals(reference.getCandles(SymbolType.BTC, chartType, 100_000), cache.getCandles(SymbolType.BTC, chartType, 100_000),
+                    "과거 캔들과 실시간 캔들이 이어져야 합니다: " + chartType);
+        }
+
+        // 같은 데이터를 다시 적재해도 중복되지 않음
+        BackfillResult again = new ChartBackfillService(cache, 2).backfill(Map.of(SymbolType.BTC, history));
+        assertEquals(0, again.ticks());
+        assertEquals(reference.getCandles(SymbolType.BTC, ChartType.ONE_MINUTE, 100_000), cache.getCandles(SymbolType.BTC, ChartType.ONE_MINUTE, 100_000));
+    }
+
+    private static Map<ChartType, CandlePacketDTO> activeCandles(ChartCacheService cache) {
+        Map<ChartType, CandlePacketDTO> result = new EnumMap<>(ChartType.class);
+        for (ChartType chartType : ChartType.values()) {
+            List<CandlePacketDTO> candles = cache.getCandles(SymbolType.BTC, chartType, 1);
+            if (!candles.isEmpty()) {
+                result.put(chartType, candles.get(0));
+            }
+        }
+        return result;
+    }
+
+    private static List<TickPacketDTO> ticks(long start, int count) {
+        List<TickPacketDTO> ticks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Long quantity = i % 5 == 0 ? null : (long) (i % 50 + 1);
+            ticks.add(new TickPacketDTO(BigInteger.valueOf(50_000_000_000_000L + (i * 7_919L % 1_000) * 1_000_000L), quantity, start + i * SPACING));
+        }
+        return ticks;
+    }
+
+    private static void ingest(ChartCacheService cache, SymbolType symbol, List<TickPacketDTO> ticks) {
+        for (int from = 0; from < ticks.size(); from += 1024) {
+            cache.addTicks(symbol, ticks.subList(from, Math.min(ticks.size(), from + 1024)));
+        }
+    }
+}
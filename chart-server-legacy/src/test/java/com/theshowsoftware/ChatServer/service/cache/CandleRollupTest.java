@@ -0,0 +1,147 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CandleRollupTest {
+
+    /**
+     * 롤업 결과가 인터벌별로 Tick 을 직접 집계한 결과와 같아야 함
+     */
+    @Test
+    public void rollupMatchesDirectAggregation() {
+        // Given - 불규칙한 간격의 약 10일 분량 Tick (가끔 1시간 공백 포함)
+        Map<ChartType, List<CandlePacketDTO>> closed = new EnumMap<>(ChartType.class);
+        CandleRollup rollup = new CandleRollup(SymbolType.BTC,
+                (chartType, candle) -> closed.computeIfAbsent(chartType, k -> new ArrayList<>()).add(candle));
+
+        Random random = new Random(42);
+        long timestamp = 1_700_000_000_000L;
+        List<long[]> ticks = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            timestamp += random.nextInt(2_500) + (random.nextInt(1000) == 0 ? 3_600_000 : 0);
+            long price = 1_000_000 + random.nextInt(10_000);
+            long quantity = random.nextInt(10) + 1;
+            ticks.add(new long[]{timestamp, price, quantity});
+
+            // When
+            assertTrue(rollup.onTick(timestamp, price, quantity));
+        }
+        rollup.publish();
+
+        // Then
+        Set<ChartType> rolledUp = EnumSet.copyOf(CandleRollup.SOURCES.keySet());
+        rolledUp.add(CandleRollup.BASE);
+        for (ChartType chartType : rolledUp) {
+            List<CandlePacketDTO> expected = aggregate(ticks, chartType);
+
+            List<CandlePacketDTO> actual = new ArrayList<>(closed.getOrDefault(chartType, List.of()));
+            actual.add(rollup.snapshot().activeCandle(chartType));
+
+            assertEquals(expected.size(), actual.size(), chartType + " 캔들 개수가 다릅니다.");
+            for (int i = 0; i < expected.size(); i++) {
+                assertCandleEquals(expected.get(i), actual.get(i), chartType + " #" + i);
+            }
+        }
+    }
+
+    @Test
+    public void olderTickThanActiveCandleIsRejected() {
+        CandleRollup rollup = new CandleRollup(SymbolType.BTC, (chartType, candle) -> {});
+
+        assertTrue(rollup.onTick(10_000L, 100L, 1L));
+        assertFalse(rollup.onTick(8_500L, 90L, 1L), "활성 1초 캔들보다 과거의 Tick 은 반영하지 않아야 합니다.");
+        assertTrue(rollup.onTick(10_999L, 120L, 1L));
+
+        rollup.publish();
+        CandlePacketDTO active = rollup.snapshot().activeCandle(ChartType.ONE_MINUTE);
+        assertEquals(BigInteger.valueOf(100L), active.getLowPrice());
+        assertEquals(BigInteger.valueOf(120L), active.getHighPrice());
+        assertEquals(2, active.getTickCount());
+    }
+
+    /**
+     * 한 번에 합성한 활성 캔들은 ChartType 마다 따로 합성한 활성 캔들과 같아야 함 (마스크에 포함된 ChartType 만)
+     */
+    @Test
+    public void composeActiveMatchesActiveCandle() {
+        // Given
+        CandleRollup rollup = new CandleRollup(SymbolType.BTC, (chartType, candle) -> {});
+        CandleRollup.ActiveCandles active = new CandleRollup.ActiveCandles(SymbolType.BTC);
+        ChartType[] chartTypes = ChartType.values();
+        Random random = new Random(7);
+        long timestamp = 1_700_000_000_000L;
+
+        for (int i = 0; i < 20_000; i++) {
+            timestamp += random.nextInt(5_000) + (random.nextInt(500) == 0 ? 3_600_000 : 0);
+            rollup.onTick(timestamp, 1_000_000 + random.nextInt(10_000), random.nextInt(10) + 1);
+            rollup.publish();
+
+            // When - 무작위로 고른 ChartType 만 합성
+            long mask = 0;
+            for (ChartType chartType : chartTypes) {
+                if (random.nextInt(3) == 0) {
+                    mask |= 1L << chartType.ordinal();
+                }
+            }
+            rollup.snapshot().composeActive(mask, active);
+
+            // Then
+            for (ChartType chartType : chartTypes) {
+                if ((mask & 1L << chartType.ordinal()) == 0) {
+                    continue;
+                }
+                CandlePacketDTO expected = rollup.snapshot().activeCandle(chartType);
+                assertEquals(expected != null, active.isPresent(chartType), chartType + " 활성 캔들 여부가 다릅니다: " + i);
+                if (expected != null) {
+                    assertEquals(expected, active.toCandle(chartType), chartType + " 활성 캔들이 다릅니다: " + i);
+                }
+            }
+        }
+    }
+
+    private static List<CandlePacketDTO> aggregate(List<long[]> ticks, ChartType chartType) {
+        List<CandlePacketDTO> result = new ArrayList<>();
+        CandlePacketDTO current = null;
+        for (long[] tick : ticks) {
+            long start = chartType.bucketStart(tick[0]);
+            BigInteger price = BigInteger.valueOf(tick[1]);
+            if (current == null || current.getCandleStartTime() != start) {
+                current = CandlePacketDTO.builder()
+                        .candleStartTime(start)
+                        .candleEndTime(chartType.bucketEnd(start))
+                        .startPrice(price).highPrice(price).lowPrice(price).endPrice(price)
+                        .quantity(tick[2])
+                        .tickCount(1)
+                        .build();
+                result.add(current);
+            } else {
+                current.setHighPrice(current.getHighPrice().max(price));
+                current.setLowPrice(current.getLowPrice().min(price));
+                current.setEndPrice(price);
+                current.setQuantity(current.getQuantity() + tick[2]);
+                current.setTickCount(current.getTickCount() + 1);
+            }
+        }
+        return result;
+    }
+
+    private static void assertCandleEquals(CandlePacketDTO expected, CandlePacketDTO actual, String message) {
+        assertNotNull(actual, message);
+        assertEquals(expected.getCandleStartTime(), actual.getCandleStartTime(), message + " 시작 시간");
+        assertEquals(expected.getCandleEndTime(), actual.getCandleEndTime(), message + " 종료 시간");
+        assertEquals(expected.getStartPrice(), actual.getStartPrice(), message + " 시가");
+        assertEquals(expected.getHighPrice(), actual.getHighPrice(), message + " 고가");
+        assertEquals(expected.getLowPrice(), actual.getLowPrice(), message + " 저가");
+        assertEquals(expected.getEndPrice(), actual.getEndPrice(), message + " 종가");
+        assertEquals(expected.getQuantity(), actual.getQuantity(), message + " 거래량");
+        assertEquals(expected.getTickCount(), actual.getTickCount(), message + " Tick 개수");
+    }
+}
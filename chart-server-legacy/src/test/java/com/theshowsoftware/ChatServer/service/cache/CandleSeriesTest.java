@@ -0,0 +1,72 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CandleSeriesTest {
+
+    @Test
+    public void memoryIsAccountedPerCandle() {
+        // Given
+        AtomicLong allocated = new AtomicLong();
+        CandleSeries series = new CandleSeries(allocated::addAndGet);
+        long perCandle = CandleSeries.entryBytes(candle(60_000L, 50_000_000_000_000L));
+
+        // When
+        for (int i = 1; i <= 10; i++) {
+            series.put(candle(i * 60_000L, 50_000_000_000_000L + i));
+        }
+
+        // Then
+        assertEquals(10 * perCandle, series.memoryBytes());
+        assertEquals(series.memoryBytes(), allocated.get(), "통지된 할당량이 보관량과 같아야 합니다.");
+
+        // When - 같은 시작 시간 교체 / 개수 제한 / 가장 오래된 캔들 제거
+        series.put(candle(10 * 60_000L, 1L));
+        series.trim(5);
+        long released = series.evictOldest();
+
+        // Then
+        assertEquals(4, series.size());
+        assertEquals(perCandle, released);
+        assertEquals(7 * 60_000L, series.oldestStartTime());
+        assertEquals(series.memoryBytes(), allocated.get());
+    }
+
+    @Test
+    public void entryBytesFollowsObjectLayout() {
+        // 가격 4개가 서로 다른 인스턴스이면 공유할 때보다 커야 함
+        BigInteger shared = BigInteger.valueOf(50_000_000_000_000L);
+        CandlePacketDTO sharedPrices = CandlePacketDTO.builder()
+                .startPrice(shared).endPrice(shared).highPrice(shared).lowPrice(shared)
+                .quantity(1_000L).candleStartTime(0L).candleEndTime(60_000L).build();
+        CandlePacketDTO distinctPrices = candle(0L, 50_000_000_000_000L);
+
+        long sharedBytes = CandleSeries.entryBytes(sharedPrices);
+        long distinctBytes = CandleSeries.entryBytes(distinctPrices);
+        assertEquals(3 * 64, distinctBytes - sharedBytes, "BigInteger(40) + 2 word 크기 배열(24) 3개 차이여야 합니다.");
+        assertTrue(distinctBytes > 300 && distinctBytes < 500, "캔들 1개 크기가 예상 범위를 벗어났습니다: " + distinctBytes);
+    }
+
+    private static CandlePacketDTO candle(long startTime, long price) {
+        return CandlePacketDTO.builder()
+                .symbolType(SymbolType.BTC)
+                .chartType(ChartType.ONE_MINUTE)
+                .startPrice(BigInteger.valueOf(price))
+                .endPrice(BigInteger.valueOf(price + 1))
+                .highPrice(BigInteger.valueOf(price + 2))
+                .lowPrice(BigInteger.valueOf(price - 1))
+                .quantity(1_000L)
+                .tickCount(10)
+                .candleStartTime(startTime)
+                .candleEndTime(startTime + 60_000L)
+                .build();
+    }
+}
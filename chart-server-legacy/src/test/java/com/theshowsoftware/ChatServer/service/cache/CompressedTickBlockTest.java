@@ -0,0 +1,91 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedTickBlockTest {
+
+    @Test
+    public void roundTripIrregularTicks() {
+        // Given - 불규칙 간격, 큰 시간 점프, 가격 급변, 거래량 null 포함
+        int count = 1_000;
+        long[] timestamps = new long[count];
+        long[] prices = new long[count];
+        long[] quantities = new long[count];
+        Random random = new Random(7);
+        long timestamp = 1_700_000_000_000L;
+        long price = 50_000_000_000_000L;
+        for (int i = 0; i < count; i++) {
+            timestamp += i % 100 == 99 ? 3_600_000L : 1 + random.nextInt(i % 10 == 0 ? 5_000 : 3);
+            price += i % 250 == 0 ? -price / 2 : (random.nextInt(21) - 10) * 10_000_000L;
+            timestamps[i] = timestamp;
+            prices[i] = price;
+            quantities[i] = i % 17 == 0 ? TickRingBuffer.NO_QUANTITY : random.nextInt(1_000_000);
+        }
+
+        // When
+        CompressedTickBlock block = CompressedTickBlock.encode(timestamps, prices, quantities, 0, count);
+        long[] decodedTimestamps = new long[count + 1];
+        long[] decodedPrices = new long[count + 1];
+        long[] decodedQuantities = new long[count + 1];
+        block.decode(decodedTimestamps, decodedPrices, decodedQuantities, 1);
+
+        // Then
+        assertEquals(count, block.getCount());
+        assertEquals(timestamps[0], block.getMinTimestamp());
+        assertEquals(timestamps[count - 1], block.getMaxTimestamp());
+        for (int i = 0; i < count; i++) {
+            assertEquals(timestamps[i], decodedTimestamps[i + 1], "타임스탬프가 복원되어야 합니다: " + i);
+            assertEquals(prices[i], decodedPrices[i + 1], "가격이 복원되어야 합니다: " + i);
+            assertEquals(quantities[i], decodedQuantities[i + 1], "거래량이 복원되어야 합니다: " + i);
+        }
+    }
+
+    @Test
+    public void singleTickAndExtremeValues() {
+        long[] timestamps = {Long.MIN_VALUE + 1, 0L, Long.MAX_VALUE};
+        long[] prices = {Long.MAX_VALUE, Long.MIN_VALUE, 0L};
+        long[] quantities = {TickRingBuffer.NO_QUANTITY, Long.MAX_VALUE, TickRingBuffer.NO_QUANTITY};
+
+        CompressedTickBlock single = CompressedTickBlock.encode(timestamps, prices, quantities, 1, 1);
+        CompressedTickBlock all = CompressedTickBlock.encode(timestamps, prices, quantities, 0, 3);
+
+        long[] t = new long[3];
+        long[] p = new long[3];
+        long[] q = new long[3];
+        single.decode(t, p, q, 0);
+        assertEquals(0L, t[0]);
+        assertEquals(Long.MIN_VALUE, p[0]);
+        all.decode(t, p, q, 0);
+        assertArrayEquals(timestamps, t);
+        assertArrayEquals(prices, p);
+        assertArrayEquals(quantities, q);
+    }
+
+    @Test
+    public void randomWalkCompressesTenfold() {
+        // Given - 1ms 간격, 호가 단위(0.01) 랜덤 워크
+        int count = TickRingBuffer.CHUNK_SIZE;
+        long[] timestamps = new long[count];
+        long[] prices = new long[count];
+        long[] quantities = new long[count];
+        Random random = new Random(42);
+        long price = 50_000_000_000_000L;
+        for (int i = 0; i < count; i++) {
+            price += (random.nextInt(5) - 2) * 10_000_000L;
+            timestamps[i] = 1_700_000_000_000L + i;
+            prices[i] = price;
+            quantities[i] = 1 + random.nextInt(10);
+        }
+
+        // When
+        CompressedTickBlock block = CompressedTickBlock.encode(timestamps, prices, quantities, 0, count);
+
+        // Then
+        long raw = (long) count * Long.BYTES * 3;
+        assertTrue(block.memoryBytes() * 10 <= raw, "10배 이상 압축되어야 합니다: " + block.memoryBytes() + " / " + raw);
+    }
+}
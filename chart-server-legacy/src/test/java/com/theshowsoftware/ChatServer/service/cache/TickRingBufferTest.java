@@ -0,0 +1,602 @@
+package com.theshowsoftware.ChatServer.service.cache;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickRingBufferTest {
+
+    @Test
+    public void addAndGetLatest() {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer(100);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            buffer.add(1_000L + i, 50_000_000_000L + i, i);
+        }
+
+        // Then
+        assertEquals(10, buffer.size());
+        TickPacketDTO latest = buffer.latest();
+        assertEquals(1_009L, latest.getTimestamp());
+        assertEquals(BigInteger.valueOf(50_000_000_009L), latest.getPrice());
+        assertEquals(9L, latest.getQuantity());
+
+        List<TickPacketDTO> lastThree = buffer.latest(3);
+        assertEquals(List.of(1_007L, 1_008L, 1_009L), lastThree.stream().map(TickPacketDTO::getTimestamp).toList(), "시간순으로 반환되어야 합니다.");
+    }
+
+    @Test
+    public void sameTimestampTicksAreAllKept() {
+        TickRingBuffer buffer = new TickRingBuffer(100);
+
+        buffer.add(1_000L, 100L, 1L);
+        buffer.add(1_000L, 200L, 2L);
+        buffer.add(2_000L, 400L, 4L);
+        buffer.add(1_000L, 300L, 3L); // 지연 Tick 은 같은 타임스탬프의 기존 Tick 뒤에 삽입
+
+        assertEquals(4, buffer.size(), "동일 타임스탬프 Tick 도 모두 보관되어야 합니다.");
+        assertEquals(List.of(100L, 200L, 300L), buffer.between(1_000L, 1_000L).stream().map(t -> t.getPrice().longValue()).toList(),
+                "같은 타임스탬프는 도착 순서대로 조회되어야 합니다.");
+        assertEquals(BigInteger.valueOf(400L), buffer.latest().getPrice());
+    }
+
+    @Test
+    public void burstOfSameMillisecondSpansCompressedBlocks() {
+        // Given - 한 밀리초에 묶음 2개 반을 넘는 Tick 이 몰린 경우 (압축 블록 경계에 걸침)
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 1, bytes -> {
+        });
+        int burst = TickRingBuffer.CHUNK_SIZE * 2 + 500;
+        buffer.add(999L, 1L, 1L);
+        for (int i = 0; i < burst; i++) {
+            buffer.add(1_000L, 10_000L + i, i);
+        }
+        buffer.add(1_001L, 2L, 2L);
+
+        // When - 압축 블록 범위의 지연 Tick
+        buffer.add(1_000L, 99L, 99L);
+        buffer.add(998L, 3L, 3L);
+
+        // Then
+        assertEquals(burst + 4, buffer.size());
+        assertTrue(buffer.coldSize() > 0, "오래된 Tick 은 압축되어야 합니다.");
+        List<TickPacketDTO> same = buffer.between(1_000L, 1_000L);
+        assertEquals(burst + 1, same.size(), "같은 밀리초의 Tick 이 모두 조회되어야 합니다.");
+        for (int i = 0; i < burst; i++) {
+            assertEquals(BigInteger.valueOf(10_000L + i), same.get(i).getPrice(), "도착 순서가 유지되어야 합니다: " + i);
+        }
+        assertEquals(BigInteger.valueOf(99L), same.get(burst).getPrice(), "지연 Tick 은 같은 타임스탬프의 마지막에 위치해야 합니다.");
+        assertEquals(List.of(998L, 999L), buffer.between(0L, 999L).stream().map(TickPacketDTO::getTimestamp).toList());
+        assertEquals(1_001L, buffer.latest().getTimestamp());
+    }
+
+    @Test
+    public void addAllAppendsSortedRunsAndInsertsLateTicks() {
+        // Given
+        AtomicLong allocated = new AtomicLong();
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 2, allocated::addAndGet);
+        buffer.add(5L, 5L, 5L);
+        int length = TickRingBuffer.CHUNK_SIZE * 3 + 7;
+        long[] timestamps = new long[length + 2];
+        long[] prices = new long[length + 2];
+        long[] quantities = new long[length + 2];
+        timestamps[0] = 3L; // 마지막 Tick 이전 (한 건씩 삽입)
+        for (int i = 1; i <= length; i++) {
+            timestamps[i] = 10L + i / 3; // 밀리초당 3건
+            prices[i] = i;
+            quantities[i] = i % 5 == 0 ? TickRingBuffer.NO_QUANTITY : i;
+        }
+        timestamps[length + 1] = 7L; // 묶음 중간의 과거 Tick
+
+        // When
+        buffer.addAll(timestamps, prices, quantities, 0, length + 2);
+
+        // Then
+        assertEquals(length + 3, buffer.size());
+        assertEquals(length + 3, buffer.addedCount());
+        assertEquals(buffer.memoryBytes(), allocated.get());
+        assertTrue(buffer.coldSize() > 0, "묶음 추가 중에도 오래된 묶음은 압축되어야 합니다.");
+        List<TickPacketDTO> all = buffer.between(0L, Long.MAX_VALUE);
+        assertEquals(List.of(3L, 5L, 7L), all.subList(0, 3).stream().map(TickPacketDTO::getTimestamp).toList());
+        for (int i = 1; i <= length; i++) {
+            TickPacketDTO tick = all.get(i + 2);
+            assertEquals(10L + i / 3, tick.getTimestamp());
+            assertEquals(BigInteger.valueOf(i), tick.getPrice(), "입력 순서대로 보관되어야 합니다: " + i);
+            assertEquals(i % 5 == 0 ? null : (Long) (long) i, tick.getQuantity());
+        }
+    }
+
+    @Test
+    public void outOfOrderTickIsInsertedInOrder() {
+        TickRingBuffer buffer = new TickRingBuffer(100);
+
+        buffer.add(1_000L, 100L, 1L);
+        buffer.add(3_000L, 300L, 1L);
+        buffer.add(2_000L, 200L, 1L);
+
+        List<TickPacketDTO> ticks = buffer.between(0L, Long.MAX_VALUE);
+        assertEquals(List.of(1_000L, 2_000L, 3_000L), ticks.stream().map(TickPacketDTO::getTimestamp).toList());
+    }
+
+    @Test
+    public void oldestTickIsOverwrittenWhenFull() {
+        // Given - 초기 용량(1024)보다 큰 최대 용량으로 확장 + 순환을 함께 확인
+        int capacity = 1500;
+        TickRingBuffer buffer = new TickRingBuffer(capacity);
+
+        // When
+        for (int i = 0; i < capacity + 500; i++) {
+            buffer.add(i, i + 1, i);
+        }
+
+        // Then
+        assertEquals(capacity, buffer.size());
+        List<TickPacketDTO> all = buffer.between(0L, Long.MAX_VALUE);
+        assertEquals(500L, all.get(0).getTimestamp(), "가장 오래된 Tick 이 제거되어야 합니다.");
+        assertEquals(capacity + 499L, all.get(all.size() - 1).getTimestamp());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getTimestamp() < all.get(i).getTimestamp(), "시간순 정렬이 유지되어야 합니다.");
+        }
+    }
+
+    @Test
+    public void betweenIsInclusive() {
+        TickRingBuffer buffer = new TickRingBuffer(100);
+        for (int i = 0; i < 10; i++) {
+            buffer.add(i * 1_000L, 100L, 1L);
+        }
+
+        List<TickPacketDTO> ticks = buffer.between(2_000L, 5_000L);
+
+        assertEquals(List.of(2_000L, 3_000L, 4_000L, 5_000L), ticks.stream().map(TickPacketDTO::getTimestamp).toList());
+        assertTrue(buffer.between(10_500L, 20_000L).isEmpty());
+    }
+
+    @Test
+    public void nullQuantityIsPreserved() {
+        TickRingBuffer buffer = new TickRingBuffer(10);
+
+        buffer.add(1_000L, 100L, TickRingBuffer.NO_QUANTITY);
+
+        assertNull(buffer.latest().getQuantity());
+    }
+
+    @Test
+    public void chunksAreAccountedAndReleased() {
+        // Given
+        AtomicLong allocated = new AtomicLong();
+        TickRingBuffer buffer = new TickRingBuffer(TickRingBuffer.CHUNK_SIZE * 2, allocated::addAndGet);
+        assertEquals(0, buffer.memoryBytes(), "추가 전에는 묶음을 할당하지 않아야 합니다.");
+
+        // When - 최대 용량(묶음 2개)을 넘겨 순환
+        int total = TickRingBuffer.CHUNK_SIZE * 3 + 10;
+        for (int i = 0; i < total; i++) {
+            buffer.add(i, i + 1, i);
+        }
+
+        // Then - 가장 오래된 묶음은 비워지는 즉시 해제
+        assertEquals(TickRingBuffer.CHUNK_SIZE * 2, buffer.size());
+        assertEquals(3 * TickRingBuffer.CHUNK_BYTES, buffer.memoryBytes(), "부분적으로 찬 앞 / 뒤 묶음과 가운데 묶음만 남아야 합니다.");
+        assertEquals(buffer.memoryBytes(), allocated.get(), "통지된 할당량이 보관량과 같아야 합니다.");
+        assertEquals(total - TickRingBuffer.CHUNK_SIZE * 2, buffer.oldestTimestamp());
+
+        // When - 묶음 단위 회수
+        int removed = buffer.evictOldestChunk();
+
+        // Then
+        assertEquals(TickRingBuffer.CHUNK_SIZE - 10, removed);
+        assertEquals(TickRingBuffer.CHUNK_SIZE * 2L, buffer.oldestTimestamp());
+        assertEquals(2 * TickRingBuffer.CHUNK_BYTES, allocated.get());
+
+        while (buffer.evictOldestChunk() > 0) {
+            // 모두 회수
+        }
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, allocated.get(), "모든 묶음이 해제되어야 합니다.");
+        assertEquals(Long.MAX_VALUE, buffer.oldestTimestamp());
+    }
+
+    @Test
+    public void outOfOrderTickAcrossChunkBoundary() {
+        // Given - 묶음 경계를 넘는 Tick (짝수 타임스탬프)
+        TickRingBuffer buffer = new TickRingBuffer(TickRingBuffer.CHUNK_SIZE * 4);
+        int count = TickRingBuffer.CHUNK_SIZE + 100;
+        for (int i = 0; i < count; i++) {
+            buffer.add(i * 2L, i, i);
+        }
+
+        // When - 첫 묶음 안쪽에 지연 Tick 삽입
+        buffer.add(11L, 999L, 1L);
+
+        // Then
+        List<TickPacketDTO> all = buffer.between(0L, Long.MAX_VALUE);
+        assertEquals(count + 1, all.size());
+        assertEquals(11L, all.get(6).getTimestamp());
+        assertEquals(BigInteger.valueOf(999L), all.get(6).getPrice());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getTimestamp() < all.get(i).getTimestamp(), "시간순 정렬이 유지되어야 합니다.");
+        }
+    }
+
+    @Test
+    public void oldChunksAreSealedIntoCompressedBlocks() {
+        // Given - 최근 묶음 1개만 압축하지 않음
+        AtomicLong allocated = new AtomicLong();
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 1, allocated::addAndGet);
+        int total = TickRingBuffer.CHUNK_SIZE * 3 + 10;
+
+        // When
+        for (int i = 0; i < total; i++) {
+            buffer.add(1_000L + i, 50_000_000_000L + (i % 7) * 10_000_000L, i % 5);
+        }
+
+        // Then
+        assertEquals(total, buffer.size());
+        assertEquals(TickRingBuffer.CHUNK_SIZE * 3, buffer.coldSize(), "가득 찬 오래된 묶음은 압축되어야 합니다.");
+        assertEquals(buffer.memoryBytes(), allocated.get(), "통지된 할당량이 보관량과 같아야 합니다.");
+        assertTrue(buffer.coldMemoryBytes() * 10 < TickRingBuffer.CHUNK_BYTES * 3, "압축 블록은 원본 묶음의 1/10 미만이어야 합니다.");
+        assertEquals(1_000L, buffer.oldestTimestamp());
+
+        // 압축 블록과 hot 묶음에 걸친 범위 조회
+        long start = 1_000L + TickRingBuffer.CHUNK_SIZE * 3 - 5;
+        List<TickPacketDTO> ticks = buffer.between(start, start + 9);
+        assertEquals(10, ticks.size());
+        for (int i = 0; i < ticks.size(); i++) {
+            int seq = (int) (start - 1_000L) + i;
+            assertEquals(start + i, ticks.get(i).getTimestamp());
+            assertEquals(BigInteger.valueOf(50_000_000_000L + (seq % 7) * 10_000_000L), ticks.get(i).getPrice());
+            assertEquals(seq % 5, ticks.get(i).getQuantity());
+        }
+        assertEquals(total, buffer.between(0L, Long.MAX_VALUE).size());
+        assertEquals(List.of(1_000L + total - 2, 1_000L + total - 1),
+                buffer.latest(2).stream().map(TickPacketDTO::getTimestamp).toList());
+    }
+
+    @Test
+    public void pagesCoverRangeAcrossTiersAndBursts() {
+        // Given - 밀리초당 1~7건, 압축 블록과 hot 구간에 걸친 Tick
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 1, bytes -> {
+        });
+        int total = 0;
+        for (int ms = 0; total < TickRingBuffer.CHUNK_SIZE * 3; ms++) {
+            for (int j = 0; j <= ms % 7; j++) {
+                buffer.add(1_000L + ms, total++, j);
+            }
+        }
+        assertTrue(buffer.coldSize() > 0);
+
+        // When - 7건씩 나누어 조회 (같은 밀리초가 페이지 경계에 걸침)
+        long start = 1_003L;
+        long end = 1_000L + TickRingBuffer.CHUNK_SIZE;
+        List<TickPacketDTO> paged = new ArrayList<>();
+        TickCursor cursor = null;
+        int pages = 0;
+        do {
+            TickPage page = buffer.page(start, end, cursor, 7);
+            assertTrue(page.ticks().size() <= 7);
+            paged.addAll(page.ticks());
+            cursor = TickCursor.parse(page.nextCursor());
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        List<TickPacketDTO> expected = buffer.between(start, end);
+        assertEquals(expected, paged, "페이지를 이어 붙인 결과가 범위 조회와 같아야 합니다.");
+        assertEquals((expected.size() + 6) / 7, pages);
+    }
+
+    @Test
+    public void pageCursorSurvivesWritesAndSealing() {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 1, bytes -> {
+        });
+        for (int i = 0; i < 100; i++) {
+            buffer.add(1_000L + i / 4, i, 1L);
+        }
+        TickPage first = buffer.page(0L, Long.MAX_VALUE, null, 10);
+
+        // When - 페이지 사이에 같은 밀리초의 지연 Tick 과 압축될 만큼의 Tick 추가
+        buffer.add(1_001L, 999L, 1L);
+        buffer.add(1_000L, 998L, 1L);
+        for (int i = 100; i < TickRingBuffer.CHUNK_SIZE * 3; i++) {
+            buffer.add(1_000L + i / 4, i, 1L);
+        }
+        TickPage second = buffer.page(0L, Long.MAX_VALUE, TickCursor.parse(first.nextCursor()), 10);
+
+        // Then - 이미 읽은 위치 이후부터 이어서 조회
+        assertEquals("1002_2", first.nextCursor());
+        assertEquals(List.of(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L),
+                second.ticks().stream().map(tick -> tick.getPrice().longValue()).toList());
+        assertTrue(buffer.coldSize() > 0);
+        assertThrows(IllegalArgumentException.class, () -> buffer.page(0L, 1L, null, 0));
+        assertTrue(buffer.page(5_000_000L, 6_000_000L, null, 10).ticks().isEmpty());
+        assertNull(buffer.page(5_000_000L, 6_000_000L, null, 10).nextCursor());
+    }
+
+    @Test
+    public void lateTickIsMergedIntoCompressedBlock() {
+        // Given - 짝수 타임스탬프만 보관, 첫 묶음은 압축
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 1, bytes -> {
+        });
+        int count = TickRingBuffer.CHUNK_SIZE * 2 + 100;
+        for (int i = 0; i < count; i++) {
+            buffer.add(i * 2L, i, i);
+        }
+        assertEquals(TickRingBuffer.CHUNK_SIZE * 2, buffer.coldSize());
+
+        // When - 압축 블록 안쪽 삽입, 같은 타임스탬프 삽입, 블록 사이 삽입
+        buffer.add(11L, 999L, TickRingBuffer.NO_QUANTITY);
+        buffer.add(20L, 888L, 8L);
+        buffer.add(TickRingBuffer.CHUNK_SIZE * 2L - 1, 777L, 7L);
+
+        // Then
+        assertEquals(count + 3, buffer.size());
+        assertEquals(TickRingBuffer.CHUNK_SIZE * 2 + 3, buffer.coldSize());
+        List<TickPacketDTO> head = buffer.between(10L, 20L);
+        assertEquals(List.of(10L, 11L, 12L, 14L, 16L, 18L, 20L, 20L), head.stream().map(TickPacketDTO::getTimestamp).toList());
+        assertNull(head.get(1).getQuantity());
+        assertEquals(BigInteger.valueOf(10L), head.get(6).getPrice());
+        assertEquals(BigInteger.valueOf(888L), head.get(7).getPrice());
+        List<TickPacketDTO> between = buffer.between(TickRingBuffer.CHUNK_SIZE * 2L - 2, TickRingBuffer.CHUNK_SIZE * 2L);
+        assertEquals(List.of(TickRingBuffer.CHUNK_SIZE * 2L - 2, TickRingBuffer.CHUNK_SIZE * 2L - 1, TickRingBuffer.CHUNK_SIZE * 2L),
+                between.stream().map(TickPacketDTO::getTimestamp).toList());
+    }
+
+    /**
+     * 묶음 경계 / 압축 블록에 걸친 지연 Tick 도 (타임스탬프, 도착 순서) 순서를 지키고,
+     * 다시 압축하기 전에도 조회 / 스냅샷 / 메모리 통지가 일관되어야 함
+     */
+    @Test
+    public void lateTicksAcrossTiersMatchArrivalOrder() {
+        // Given - 묶음 3개 이후는 압축, 타임스탬프는 10 간격
+        AtomicLong allocated = new AtomicLong();
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 3, allocated::addAndGet);
+        List<long[]> expected = new ArrayList<>();
+        int count = TickRingBuffer.CHUNK_SIZE * 6;
+        for (int i = 0; i < count; i++) {
+            buffer.add(i * 10L, i, 1L);
+            expected.add(new long[]{i * 10L, i});
+        }
+        Random random = new Random(17);
+
+        // When - 한 묶음 동안 전체 구간에 지연 Tick 삽입 (같은 타임스탬프 포함)
+        for (int i = 0; i < 3_000; i++) {
+            long timestamp = random.nextInt(count) * 10L + (random.nextBoolean() ? 0 : random.nextInt(10));
+            long price = 1_000_000L + i;
+            buffer.add(timestamp, price, 2L);
+            int index = 0;
+            while (index < expected.size() && expected.get(index)[0] <= timestamp) {
+                index++;
+            }
+            expected.add(index, new long[]{timestamp, price});
+        }
+
+        // Then - 다시 압축하기 전과 후 모두 같은 결과
+        assertTicks(expected, buffer.between(0L, Long.MAX_VALUE));
+        assertEquals(buffer.memoryBytes(), allocated.get(), "복원해 둔 블록도 통지되어야 합니다.");
+        TickRingBuffer restored = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE);
+        restored.restoreBlocks(buffer.exportBlocks().blocks());
+        assertTicks(expected, restored.between(0L, Long.MAX_VALUE));
+
+        buffer.sealLateInserts();
+        assertTicks(expected, buffer.between(0L, Long.MAX_VALUE));
+        assertEquals(buffer.memoryBytes(), allocated.get(), "다시 압축한 뒤 통지량이 보관량과 같아야 합니다.");
+        for (int i = 0; i < 20; i++) {
+            int from = random.nextInt(count);
+            long start = from * 10L + 5;
+            List<long[]> range = expected.stream().filter(t -> t[0] >= start && t[0] <= start + 95).toList();
+            assertTicks(range, buffer.between(start, start + 95));
+            assertEquals(range.stream().anyMatch(t -> t[0] <= start + 5), buffer.containsBetween(start, start + 5));
+        }
+
+        // 복원해 둔 블록이 가장 오래된 블록이어도 회수 후 모두 해제
+        buffer.add(5L, 1L, 1L);
+        while (buffer.evictOldestChunk() > 0) {
+            // 모두 회수
+        }
+        assertEquals(0, allocated.get(), "모든 블록과 묶음이 해제되어야 합니다.");
+    }
+
+    @Test
+    public void readersStayConsistentDuringLateInsertsAndEviction() throws Exception {
+        // Given - 가격 = 타임스탬프로 기록해 조회 결과만으로 일관성 확인, 용량 초과로 블록 / 묶음이 계속 교체됨
+        TickRingBuffer buffer = new TickRingBuffer(TickRingBuffer.CHUNK_SIZE * 6, 2, bytes -> {
+        });
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(3);
+            for (int i = 0; i < 60_000; i++) {
+                long timestamp = i * 2L;
+                if (i % 7 == 0 && i > 0) {
+                    timestamp -= random.nextInt(Math.min(i * 2, TickRingBuffer.CHUNK_SIZE * 10)); // hot / cold 범위의 지연 Tick
+                }
+                buffer.add(timestamp, timestamp, 1L);
+                if (i % 64 == 0) {
+                    buffer.sealLateInserts();
+                }
+            }
+            writing.set(false);
+        });
+
+        // When - 쓰기와 동시에 전체 / 최근 / 페이지 단위 조회
+        writer.start();
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(readers.submit(() -> {
+            while (writing.get()) {
+                verifyConsistent(buffer.between(0L, Long.MAX_VALUE), failure);
+            }
+        }));
+        futures.add(readers.submit(() -> {
+            while (writing.get()) {
+                verifyConsistent(buffer.latest(500), failure);
+            }
+        }));
+        futures.add(readers.submit(() -> {
+            while (writing.get()) {
+                buffer.scan(0L, Long.MAX_VALUE, 1_000, (timestamps, prices, quantities, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        if (prices[i] != timestamps[i] || (i > 0 && timestamps[i] < timestamps[i - 1])) {
+                            failure.compareAndSet(null, "scan 페이지가 일관되지 않습니다: " + i);
+                        }
+                    }
+                });
+            }
+        }));
+
+        // Then - 예외 없이 항상 정렬되고 가격과 타임스탬프가 짝을 이룸
+        writer.join();
+        try {
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        assertNull(failure.get(), failure.get());
+        verifyConsistent(buffer.between(0L, Long.MAX_VALUE), failure);
+        assertNull(failure.get(), failure.get());
+    }
+
+    private static void verifyConsistent(List<TickPacketDTO> ticks, AtomicReference<String> failure) {
+        for (int i = 0; i < ticks.size(); i++) {
+            TickPacketDTO tick = ticks.get(i);
+            if (!tick.getPrice().equals(BigInteger.valueOf(tick.getTimestamp()))) {
+                failure.compareAndSet(null, "가격과 타임스탬프가 다른 Tick 입니다: " + i);
+            }
+            if (i > 0 && tick.getTimestamp() < ticks.get(i - 1).getTimestamp()) {
+                failure.compareAndSet(null, "타임스탬프 순서가 어긋났습니다: " + i);
+            }
+        }
+    }
+
+    private static void assertTicks(List<long[]> expected, List<TickPacketDTO> actual) {
+        assertEquals(expected.size(), actual.size(), "Tick 수가 다릅니다.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i)[0], actual.get(i).getTimestamp(), "타임스탬프 순서가 다릅니다: " + i);
+            assertEquals(BigInteger.valueOf(expected.get(i)[1]), actual.get(i).getPrice(), "도착 순서가 다릅니다: " + i);
+        }
+    }
+
+    @Test
+    public void compressedBlocksAreEvictedFirst() {
+        // Given
+        AtomicLong allocated = new AtomicLong();
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 1, allocated::addAndGet);
+        for (int i = 0; i < TickRingBuffer.CHUNK_SIZE * 2 + 10; i++) {
+            buffer.add(i, i, i);
+        }
+
+        // When
+        int removed = buffer.evictOldestChunk();
+
+        // Then
+        assertEquals(TickRingBuffer.CHUNK_SIZE, removed, "가장 오래된 압축 블록이 먼저 제거되어야 합니다.");
+        assertEquals(TickRingBuffer.CHUNK_SIZE, buffer.oldestTimestamp());
+        assertEquals(TickRingBuffer.CHUNK_SIZE + 10, buffer.size());
+
+        while (buffer.evictOldestChunk() > 0) {
+            // 모두 회수
+        }
+        assertEquals(0, allocated.get(), "모든 블록과 묶음이 해제되어야 합니다.");
+    }
+
+    @Test
+    public void capacityIsEnforcedAcrossTiers() {
+        // Given - 최대 용량이 묶음 3개, 압축하지 않는 묶음 1개
+        int capacity = TickRingBuffer.CHUNK_SIZE * 3;
+        TickRingBuffer buffer = new TickRingBuffer(capacity, 1, bytes -> {
+        });
+
+        // When
+        for (int i = 0; i < capacity + 10; i++) {
+            buffer.add(i, i, i);
+        }
+
+        // Then - 가장 오래된 블록 단위로 제거
+        assertTrue(buffer.size() <= capacity);
+        assertEquals(TickRingBuffer.CHUNK_SIZE, buffer.oldestTimestamp());
+        assertEquals(capacity + 9L, buffer.latest().getTimestamp());
+    }
+
+    @Test
+    public void historyIsPrependedAsCompressedBlocks() {
+        // Given - 실시간 Tick 100개 (타임스탬프 1,000,000 부터)
+        AtomicLong allocated = new AtomicLong();
+        TickRingBuffer buffer = new TickRingBuffer(Integer.MAX_VALUE - TickRingBuffer.CHUNK_SIZE, 4, allocated::addAndGet);
+        for (int i = 0; i < 100; i++) {
+            buffer.add(1_000_000L + i, 7_000L, 1L);
+        }
+        int history = TickRingBuffer.CHUNK_SIZE * 2 + 10;
+        long[] timestamps = new long[history];
+        long[] prices = new long[history];
+        long[] quantities = new long[history];
+        for (int i = 0; i < history; i++) {
+            timestamps[i] = 1_000L + i;
+            prices[i] = 5_000L + i % 13;
+            quantities[i] = i % 7 == 0 ? TickRingBuffer.NO_QUANTITY : i;
+        }
+
+        // When
+        buffer.prependHistory(timestamps, prices, quantities, history);
+
+        // Then
+        assertEquals(history + 100, buffer.size());
+        assertEquals(history, buffer.coldSize(), "과거 Tick 은 압축 블록으로 추가되어야 합니다.");
+        assertEquals(buffer.memoryBytes(), allocated.get());
+        assertEquals(1_000L, buffer.oldestTimestamp());
+        List<TickPacketDTO> range = buffer.between(1_000L + TickRingBuffer.CHUNK_SIZE - 1, 1_000L + TickRingBuffer.CHUNK_SIZE + 1);
+        assertEquals(List.of(1_000L + TickRingBuffer.CHUNK_SIZE - 1, 1_000L + TickRingBuffer.CHUNK_SIZE, 1_000L + TickRingBuffer.CHUNK_SIZE + 1),
+                range.stream().map(TickPacketDTO::getTimestamp).toList(), "블록 경계를 넘어 시간순으로 조회되어야 합니다.");
+        assertNull(buffer.between(1_000L, 1_001L).get(0).getQuantity());
+
+        // 이미 보관 중인 구간과 겹치면 한 건씩 삽입
+        buffer.prependHistory(new long[]{500L, 1_000_050L}, new long[]{1L, 2L}, new long[]{1L, 2L}, 2);
+        assertEquals(history + 102, buffer.size());
+        assertEquals(BigInteger.TWO, buffer.between(1_000_050L, 1_000_050L).get(1).getPrice());
+    }
+
+    @Test
+    public void scanVisitsRangeInPagesAcrossTiers() {
+        // Given - 압축 블록 / hot 묶음에 걸친 범위, 같은 밀리초 묶음이 페이지 경계에 걸침
+        TickRingBuffer buffer = new TickRingBuffer(TickRingBuffer.CHUNK_SIZE * 8);
+        for (int i = 0; i < TickRingBuffer.CHUNK_SIZE * 5; i++) {
+            buffer.add(1_000L + i / 3, i, i);
+        }
+        long start = 1_100L;
+        long end = 1_000L + TickRingBuffer.CHUNK_SIZE;
+
+        // When
+        List<Long> scanned = new ArrayList<>();
+        AtomicLong pages = new AtomicLong();
+        buffer.scan(start, end, 1_000, (timestamps, prices, quantities, length) -> {
+            assertTrue(length <= 1_000, "페이지 크기를 넘으면 안 됩니다.");
+            pages.incrementAndGet();
+            for (int i = 0; i < length; i++) {
+                scanned.add(prices[i]);
+            }
+        });
+
+        // Then
+        assertEquals(buffer.between(start, end).stream().map(t -> t.getPrice().longValue()).toList(), scanned,
+                "범위 조회와 같은 Tick 을 같은 순서로 전달해야 합니다.");
+        assertTrue(pages.get() > 1);
+        assertThrows(IllegalArgumentException.class, () -> buffer.scan(start, end, 0, (t, p, q, l) -> {
+        }));
+    }
+}
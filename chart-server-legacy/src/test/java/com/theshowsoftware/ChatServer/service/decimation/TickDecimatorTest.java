@@ -0,0 +1,161 @@
+package com.theshowsoftware.ChatServer.service.decimation;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.DecimationMode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.cache.TickRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickDecimatorTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final int TICK_COUNT = 200_000;
+
+    /**
+     * 1ms 간격 랜덤 워크 (spikeIndex 위치에 큰 급등 Tick)
+     */
+    private static TickRingBuffer randomWalk(int count, int spikeIndex) {
+        TickRingBuffer buffer = new TickRingBuffer(count);
+        Random random = new Random(42);
+        long price = 50_000_000_000L;
+        for (int i = 0; i < count; i++) {
+            price += random.nextInt(2_001) - 1_000;
+            long tickPrice = i == spikeIndex ? price + 10_000_000L : price;
+            buffer.add(START + i, tickPrice, 1 + random.nextInt(10));
+        }
+        return buffer;
+    }
+
+    private static void assertTimeOrdered(List<TickPacketDTO> points) {
+        for (int i = 1; i < points.size(); i++) {
+            assertTrue(points.get(i - 1).getTimestamp() <= points.get(i).getTimestamp(), "시간순으로 반환되어야 합니다.");
+        }
+    }
+
+    @Test
+    public void lttbReducesRangeAndKeepsEndpointsAndSpike() {
+        // Given
+        int spike = 123_457;
+        TickRingBuffer buffer = randomWalk(TICK_COUNT, spike);
+        long end = START + TICK_COUNT - 1;
+
+        // When
+        DecimationResult result = TickDecimator.decimate(SymbolType.BTC, buffer, START, end, 2_000, DecimationMode.LTTB);
+
+        // Then
+        List<TickPacketDTO> points = result.points();
+        assertEquals(TICK_COUNT, result.sourceTicks());
+        assertNull(result.candles());
+        assertTrue(points.size() <= 2_000, "목표 점 수를 넘으면 안 됩니다.");
+        assertTrue(points.size() * 100 >= TICK_COUNT * 0.99, "구간마다 한 점씩 선택되어야 합니다.");
+        assertEquals(START, points.get(0).getTimestamp(), "첫 Tick 은 항상 포함되어야 합니다.");
+        assertEquals(end, points.get(points.size() - 1).getTimestamp(), "마지막 Tick 은 항상 포함되어야 합니다.");
+        assertTimeOrdered(points);
+
+        Set<Long> sourceTimestamps = new HashSet<>();
+        for (TickPacketDTO point : points) {
+            assertTrue(sourceTimestamps.add(point.getTimestamp()), "같은 Tick 이 중복 선택되면 안 됩니다.");
+            TickPacketDTO source = buffer.between(point.getTimestamp(), point.getTimestamp()).get(0);
+            assertEquals(source, point, "원본 Tick 중에서만 선택되어야 합니다.");
+        }
+        assertTrue(sourceTimestamps.contains(START + spike), "급등 Tick 은 축약 후에도 남아야 합니다.");
+    }
+
+    @Test
+    public void minMaxKeepsExtremesInTimeOrder() {
+        // Given
+        TickRingBuffer buffer = randomWalk(TICK_COUNT, 77_777);
+        long end = START + TICK_COUNT - 1;
+        List<TickPacketDTO> all = buffer.between(START, end);
+        long max = all.stream().mapToLong(t -> t.getPrice().longValue()).max().orElseThrow();
+        long min = all.stream().mapToLong(t -> t.getPrice().longValue()).min().orElseThrow();
+
+        // When
+        DecimationResult result = TickDecimator.decimate(SymbolType.BTC, buffer, START, end, 2_000, DecimationMode.MIN_MAX, false);
+
+        // Then
+        List<TickPacketDTO> points = result.points();
+        assertTrue(points.size() <= 2_000, "목표 점 수를 넘으면 안 됩니다.");
+        assertTimeOrdered(points);
+        assertTrue(points.stream().anyMatch(t -> t.getPrice().longValue() == max), "범위 최고가가 남아야 합니다.");
+        assertTrue(points.stream().anyMatch(t -> t.getPrice().longValue() == min), "범위 최저가가 남아야 합니다.");
+    }
+
+    @Test
+    public void ohlcCandlesSummarizeAllTicks() {
+        // Given
+        TickRingBuffer buffer = randomWalk(TICK_COUNT, -1);
+        long end = START + TICK_COUNT - 1;
+        List<TickPacketDTO> all = buffer.between(START, end);
+
+        // When
+        DecimationResult result = TickDecimator.decimate(SymbolType.ETH, buffer, START, end, 1_000, DecimationMode.OHLC);
+
+        // Then
+        List<CandlePacketDTO> candles = result.candles();
+        assertNull(result.points());
+        assertEquals(1_000, candles.size());
+        assertEquals(200L, result.bucketMillis());
+        assertEquals(TICK_COUNT, candles.stream().mapToInt(CandlePacketDTO::getTickCount).sum(), "모든 Tick 이 캔들에 집계되어야 합니다.");
+        assertEquals(all.stream().mapToLong(TickPacketDTO::getQuantity).sum(), candles.stream().mapToLong(CandlePacketDTO::getQuantity).sum());
+
+        CandlePacketDTO first = candles.get(0);
+        List<TickPacketDTO> firstTicks = all.subList(0, 200);
+        assertEquals(SymbolType.ETH, first.getSymbolType());
+        assertEquals(START, first.getCandleStartTime());
+        assertEquals(START + 200, first.getCandleEndTime());
+        assertEquals(firstTicks.get(0).getPrice(), first.getStartPrice());
+        assertEquals(firstTicks.get(199).getPrice(), first.getEndPrice());
+        assertEquals(firstTicks.stream().map(TickPacketDTO::getPrice).max(Comparable::compareTo).orElseThrow(), first.getHighPrice());
+        assertEquals(firstTicks.stream().map(TickPacketDTO::getPrice).min(Comparable::compareTo).orElseThrow(), first.getLowPrice());
+    }
+
+    @Test
+    public void parallelMatchesSequentialForExactModes() {
+        // Given
+        TickRingBuffer buffer = randomWalk(TICK_COUNT, 10_000);
+        long end = START + TICK_COUNT - 1;
+
+        // When & Then - MIN_MAX / OHLC 는 구간 단위 집계라 병렬 결과가 순차 결과와 같아야 함
+        for (DecimationMode mode : List.of(DecimationMode.MIN_MAX, DecimationMode.OHLC)) {
+            DecimationResult sequential = TickDecimator.decimate(SymbolType.BTC, buffer, START, end, 4_000, mode, false);
+            DecimationResult parallel = TickDecimator.decimate(SymbolType.BTC, buffer, START, end, 4_000, mode, true);
+            assertEquals(sequential, parallel, mode + " 병렬 결과가 순차 결과와 달라서는 안 됩니다.");
+        }
+
+        DecimationResult parallelLttb = TickDecimator.decimate(SymbolType.BTC, buffer, START, end, 4_000, DecimationMode.LTTB, true);
+        assertTrue(parallelLttb.points().size() <= 4_000);
+        assertEquals(START, parallelLttb.points().get(0).getTimestamp());
+        assertTimeOrdered(parallelLttb.points());
+    }
+
+    @Test
+    public void sparseAndEmptyRanges() {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer(100);
+        buffer.add(1_000L, 10L, 1L);
+        buffer.add(1_000L, 20L, 2L);
+        buffer.add(5_000L, 30L, TickRingBuffer.NO_QUANTITY);
+
+        // When & Then
+        assertTrue(TickDecimator.decimate(SymbolType.BTC, buffer, 6_000L, 9_000L, 100, DecimationMode.LTTB).points().isEmpty());
+
+        List<TickPacketDTO> single = TickDecimator.decimate(SymbolType.BTC, buffer, 0L, 1_500L, 100, DecimationMode.LTTB).points();
+        assertEquals(List.of(10L, 20L), single.stream().map(t -> t.getPrice().longValue()).toList(), "한 구간뿐이면 첫 / 마지막 Tick 을 반환해야 합니다.");
+
+        List<TickPacketDTO> fewer = TickDecimator.decimate(SymbolType.BTC, buffer, 0L, 9_000L, 100, DecimationMode.LTTB).points();
+        assertEquals(3, fewer.size(), "Tick 이 목표 점 수보다 적으면 모두 반환해야 합니다.");
+        assertNull(fewer.get(2).getQuantity());
+
+        assertThrows(IllegalArgumentException.class, () -> TickDecimator.decimate(SymbolType.BTC, buffer, 0L, 1L, 1, DecimationMode.LTTB));
+        assertThrows(IllegalArgumentException.class, () -> TickDecimator.decimate(SymbolType.BTC, buffer, 2L, 1L, 10, DecimationMode.OHLC));
+    }
+}
@@ -0,0 +1,155 @@
+package com.theshowsoftware.ChatServer.service.generator;
+
+import com.theshowsoftware.ChatServer.config.PacketFormatInterceptor;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.MarketProfile;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.metrics.ChartMetrics;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.PacketSenderService;
+import com.theshowsoftware.ChatServer.service.stream.ChartStreamHub;
+import com.theshowsoftware.ChatServer.utils.PacketManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticMarketGeneratorTest {
+
+    private final ChartCacheService chartCache = new ChartCacheService();
+    private final ChartStreamHub chartStreamHub = new ChartStreamHub(chartCache, 500, 64);
+    private final PacketSenderService packetSender = new PacketSenderService(
+            new SimpMessagingTemplate(new ExecutorSubscribableChannel()), new PacketFormatInterceptor(), new ChartMetrics(), "user");
+    private SyntheticMarketGenerator generator;
+
+    @AfterEach
+    public void tearDown() {
+        if (generator != null) {
+            generator.stop();
+        }
+    }
+
+    /**
+     * 생성을 시작하면 모든 심볼에 틱이 반영되어야 함 (속도는 pacerNeverExceedsTargetCount 에서 확인)
+     */
+    @Test
+    public void randomWalkDrivesAllSymbols() throws Exception {
+        // Given
+        generator = new SyntheticMarketGenerator(chartStreamHub, packetSender, "random_walk", 2_000, 2, "", 5, 200, 5_000);
+
+        // When
+        generator.start();
+
+        // Then
+        for (SymbolType symbol : SymbolType.values()) {
+            if (symbol != SymbolType.USDT) {
+                awaitTicks(symbol);
+            }
+        }
+        assertTrue(chartStreamHub.getSequence(SymbolType.SOL, ChartType.TICK) > 0,
+                "스트림 허브를 거쳐 반영되어야 합니다.");
+        assertEquals(0, generator.getFailedCount());
+    }
+
+    /**
+     * 가짜 시계로 구동하면 누적 생성 수가 매 시점 목표 개수와 정확히 같아야 함
+     */
+    @Test
+    public void pacerNeverExceedsTargetCount() {
+        long step = TimeUnit.MICROSECONDS.toNanos(250);
+        long burstNanos = TimeUnit.MILLISECONDS.toNanos(200);
+        for (MarketProfile profile : List.of(MarketProfile.RANDOM_WALK, MarketProfile.BURSTY)) {
+            // Given
+            SyntheticMarketGenerator.Pacer pacer = new SyntheticMarketGenerator.Pacer(profile, 1_000, burstNanos, 5);
+            long total = 0;
+
+            // When / Then
+            for (long elapsed = 0; elapsed <= TimeUnit.SECONDS.toNanos(3); elapsed += step) {
+                long due = pacer.due(elapsed);
+                assertTrue(due <= pacer.maxBacklog(), "한 번에 허용된 분량보다 많이 생성합니다. (" + profile + ")");
+                total += due;
+                long target = (long) SyntheticMarketGenerator.targetCount(profile, 1_000, elapsed, burstNanos, 5);
+                assertEquals(target, total, "목표 개수와 다릅니다. (" + profile + ", " + elapsed + "ns)");
+            }
+        }
+    }
+
+    /**
+     * 시계가 한 번에 크게 밀리면 100ms 분량만 따라잡고 나머지는 버려야 함
+     */
+    @Test
+    public void pacerDropsBacklogBeyondLimit() {
+        // Given
+        SyntheticMarketGenerator.Pacer pacer = new SyntheticMarketGenerator.Pacer(MarketProfile.RANDOM_WALK, 1_000, 0, 1);
+        long second = TimeUnit.SECONDS.toNanos(1);
+
+        // When
+        long burst = pacer.due(second);
+        long idle = pacer.due(second);
+        long next = pacer.due(second + TimeUnit.MILLISECONDS.toNanos(10));
+
+        // Then
+        assertEquals(100, pacer.maxBacklog());
+        assertEquals(100, burst, "밀린 틱은 100ms 분량까지만 생성해야 합니다.");
+        assertEquals(0, idle, "같은 시점에는 추가로 생성하면 안 됩니다.");
+        assertEquals(10, next, "버린 틱을 다시 따라잡으면 안 됩니다.");
+    }
+
+    /**
+     * 재생 방식은 기록된 가격만 순서대로 반복해야 함
+     */
+    @Test
+    public void replayProfileRepeatsRecordedTicks(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = directory.resolve("ticks.txt");
+        List<Long> prices = List.of(101_000_000_000L, 102_000_000_000L, 103_000_000_000L);
+        StringBuilder lines = new StringBuilder("invalid line\n\n");
+        for (long price : prices) {
+            lines.append(PacketManager.createTickPacket(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(price), 3L, 1L))).append('\n');
+        }
+        Files.writeString(file, lines);
+        generator = new SyntheticMarketGenerator(chartStreamHub, packetSender, "replay", 650, 1, file.toString(), 5, 200, 5_000);
+
+        // When
+        generator.start();
+        awaitTicks(SymbolType.BTC);
+        Thread.sleep(300);
+
+        // Then
+        List<TickPacketDTO> ticks = chartCache.getTicks(SymbolType.BTC, 10);
+        for (TickPacketDTO tick : ticks) {
+            assertTrue(prices.contains(tick.getPrice().longValue()), "기록되지 않은 가격입니다: " + tick.getPrice());
+            assertEquals(3L, tick.getQuantity());
+        }
+    }
+
+    @Test
+    public void burstyTargetFrontLoadsEachSecond() {
+        long burstNanos = TimeUnit.MILLISECONDS.toNanos(200);
+        long second = TimeUnit.SECONDS.toNanos(1);
+
+        // 앞 200ms 는 5배 속도, 나머지 800ms 는 기본 속도 → 초당 1000 * (0.2 * 5 + 0.8) = 1800
+        assertEquals(1_000, SyntheticMarketGenerator.targetCount(MarketProfile.BURSTY, 1_000, burstNanos, burstNanos, 5), 1e-6);
+        assertEquals(1_800, SyntheticMarketGenerator.targetCount(MarketProfile.BURSTY, 1_000, second, burstNanos, 5), 1e-6);
+        assertEquals(3_600 + 500, SyntheticMarketGenerator.targetCount(MarketProfile.BURSTY, 1_000, 2 * second + second / 10, burstNanos, 5), 1e-6);
+        assertEquals(1_000, SyntheticMarketGenerator.targetCount(MarketProfile.RANDOM_WALK, 1_000, second, burstNanos, 5), 1e-6);
+    }
+
+    private void awaitTicks(SymbolType symbol) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (chartCache.getLatestTick(symbol) == null) {
+            assertTrue(System.nanoTime() < deadline, "틱이 반영되지 않았습니다. (" + symbol + ")");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.theshowsoftware.ChatServer.service.indicator;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndicatorSeriesTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final long MINUTE = 60_000L;
+    private static final int CANDLE_COUNT = 3_000;
+
+    /**
+     * 1분 캔들 랜덤 워크 (10^9 고정 소수점 가격, 일부 구간은 거래량 0)
+     */
+    private static List<CandlePacketDTO> randomCandles(int count) {
+        Random random = new Random(7);
+        List<CandlePacketDTO> candles = new ArrayList<>();
+        long close = 50_000_000_000_000L;
+        for (int i = 0; i < count; i++) {
+            long open = close;
+            close = open + (random.nextInt(2_000_001) - 1_000_000) * 1_000L;
+            long high = Math.max(open, close) + random.nextInt(500_000) * 1_000L;
+            long low = Math.min(open, close) - random.nextInt(500_000) * 1_000L;
+            candles.add(CandlePacketDTO.builder()
+                    .symbolType(SymbolType.BTC)
+                    .chartType(ChartType.ONE_MINUTE)
+                    .startPrice(BigInteger.valueOf(open))
+                    .endPrice(BigInteger.valueOf(close))
+                    .highPrice(BigInteger.valueOf(high))
+                    .lowPrice(BigInteger.valueOf(low))
+                    .quantity(i % 50 < 3 ? 0L : (long) random.nextInt(1_000))
+                    .tickCount(1)
+                    .candleStartTime(START + i * MINUTE)
+                    .candleEndTime(START + (i + 1) * MINUTE - 1)
+                    .build());
+        }
+        return candles;
+    }
+
+    private static double close(CandlePacketDTO candle) {
+        return candle.getEndPrice().doubleValue();
+    }
+
+    /**
+     * 전체 구간을 매번 다시 계산한 기대값 ([값, 상단, 하단], 값이 없으면 null)
+     */
+    private static double[] bruteForce(IndicatorSpec spec, List<CandlePacketDTO> candles, int index) {
+        int period = spec.period();
+        switch (spec.type()) {
+            case SMA, BOLLINGER -> {
+                if (index + 1 < period) {
+                    return null;
+                }
+                double sum = 0;
+                for (int i = index - period + 1; i <= index; i++) {
+                    sum += close(candles.get(i));
+                }
+                double mean = sum / period;
+                double squares = 0;
+                for (int i = index - period + 1; i <= index; i++) {
+                    squares += (close(candles.get(i)) - mean) * (close(candles.get(i)) - mean);
+                }
+                double deviation = IndicatorCalculator.BAND_WIDTH * Math.sqrt(squares / period);
+                return new double[]{mean, mean + deviation, mean - deviation};
+            }
+            case EMA -> {
+                if (index + 1 < period) {
+                    return null;
+                }
+                double ema = 0;
+                for (int i = 0; i < period; i++) {
+                    ema += close(candles.get(i));
+                }
+                ema /= period;
+                double alpha = 2.0 / (period + 1);
+                for (int i = period; i <= index; i++) {
+                    ema = alpha * close(candles.get(i)) + (1 - alpha) * ema;
+                }
+                return new double[]{ema, 0, 0};
+            }
+            case RSI -> {
+                if (index < period) {
+                    return null;
+                }
+                double gain = 0;
+                double loss = 0;
+                for (int i = 1; i <= period; i++) {
+                    double change = close(candles.get(i)) - close(candles.get(i - 1));
+                    gain += Math.max(change, 0);
+                    loss += Math.max(-change, 0);
+                }
+                gain /= period;
+                loss /= period;
+                for (int i = period + 1; i <= index; i++) {
+                    double change = close(candles.get(i)) - close(candles.get(i - 1));
+                    gain = (gain * (period - 1) + Math.max(change, 0)) / period;
+                    loss = (loss * (period - 1) + Math.max(-change, 0)) / period;
+                }
+                double rsi = loss == 0 ? (gain == 0 ? 50 : 100) : 100 - 100 / (1 + gain / loss);
+                return new double[]{rsi, 0, 0};
+            }
+            case VWAP -> {
+                if (index + 1 < period) {
+                    return null;
+                }
+                double weighted = 0;
+                double volume = 0;
+                double typicalSum = 0;
+                for (int i = index - period + 1; i <= index; i++) {
+                    CandlePacketDTO candle = candles.get(i);
+                    double typical = (candle.getHighPrice().doubleValue() + candle.getLowPrice().doubleValue() + close(candle)) / 3.0;
+                    weighted += typical * candle.getQuantity();
+                    volume += candle.getQuantity();
+                    typicalSum += typical;
+                }
+                return new double[]{volume > 0 ? weighted / volume : typicalSum / period, 0, 0};
+            }
+            default -> throw new IllegalStateException();
+        }
+    }
+
+    private static void assertClose(double expected, double actual, String message) {
+        assertEquals(expected, actual, Math.max(1e-9, Math.abs(expected) * 1e-9), message);
+    }
+
+    @Test
+    public void incrementalValuesMatchBruteForce() {
+        // Given
+        List<CandlePacketDTO> candles = randomCandles(CANDLE_COUNT);
+        List<IndicatorSpec> specs = List.of(
+                new IndicatorSpec(IndicatorType.SMA, 20), new IndicatorSpec(IndicatorType.EMA, 12),
+                new IndicatorSpec(IndicatorType.RSI, 14), new IndicatorSpec(IndicatorType.BOLLINGER, 20),
+                new IndicatorSpec(IndicatorType.VWAP, 30), new IndicatorSpec(IndicatorType.SMA, 1));
+
+        for (IndicatorSpec spec : specs) {
+            IndicatorSeries series = new IndicatorSeries(SymbolType.BTC, ChartType.ONE_MINUTE, spec, CANDLE_COUNT);
+
+            // When & Then - 캔들마다 마감 전 미리보기 값과 마감 값이 모두 기대값과 같아야 함
+            for (int i = 0; i < candles.size(); i++) {
+                double[] expected = bruteForce(spec, candles, i);
+                IndicatorPacketDTO preview = series.preview(candles.get(i));
+                IndicatorPacketDTO closed = series.close(candles.get(i));
+                if (expected == null) {
+                    assertNull(preview, spec + " 값이 준비되기 전에는 미리보기 값이 없어야 합니다: " + i);
+                    assertNull(closed, spec + " 값이 준비되기 전에는 마감 값이 없어야 합니다: " + i);
+                    continue;
+                }
+                assertNotNull(closed, spec + " 마감 값이 있어야 합니다: " + i);
+                assertTrue(closed.isClosed());
+                assertClose(expected[0], closed.getValue(), spec + " 값이 전체 재계산 결과와 다릅니다: " + i);
+                if (preview != null) {
+                    assertFalse(preview.isClosed());
+                    assertEquals(closed.getValue(), preview.getValue(), spec + " 미리보기 값과 마감 값이 달라서는 안 됩니다: " + i);
+                }
+                if (spec.type() == IndicatorType.BOLLINGER) {
+                    assertClose(expected[1], closed.getUpper(), spec + " 상단 밴드가 다릅니다: " + i);
+                    assertClose(expected[2], closed.getLower(), spec + " 하단 밴드가 다릅니다: " + i);
+                } else {
+                    assertNull(closed.getUpper(), "밴드가 없는 지표는 상단 값이 없어야 합니다.");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void previewDoesNotChangeState() {
+        // Given
+        List<CandlePacketDTO> candles = randomCandles(100);
+        IndicatorSpec spec = new IndicatorSpec(IndicatorType.RSI, 14);
+        IndicatorSeries previewed = new IndicatorSeries(SymbolType.BTC, ChartType.ONE_MINUTE, spec, 100);
+        IndicatorSeries plain = new IndicatorSeries(SymbolType.BTC, ChartType.ONE_MINUTE, spec, 100);
+
+        // When - 마감 전에 서로 다른 활성 캔들 값으로 여러 번 미리보기
+        for (CandlePacketDTO candle : candles) {
+            for (int variant = 1; variant <= 3; variant++) {
+                CandlePacketDTO active = candles.get((candles.indexOf(candle) + variant) % candles.size()).toBuilder()
+                        .candleStartTime(candle.getCandleStartTime()).build();
+                previewed.preview(active);
+            }
+            previewed.close(candle);
+            plain.close(candle);
+        }
+
+        // Then
+        assertEquals(plain.latest(100), previewed.latest(100), "미리보기는 계산 상태를 바꾸지 않아야 합니다.");
+        assertEquals(100 - 14, plain.latest(1_000).size());
+    }
+
+    @Test
+    public void historyIsBoundedAndOrdered() {
+        // Given
+        List<CandlePacketDTO> candles = randomCandles(500);
+        IndicatorSeries series = new IndicatorSeries(SymbolType.BTC, ChartType.ONE_MINUTE, new IndicatorSpec(IndicatorType.SMA, 5), 50);
+
+        // When
+        for (CandlePacketDTO candle : candles.subList(0, 499)) {
+            series.close(candle);
+        }
+        series.close(candles.get(10)); // 이미 반영한 구간은 무시
+        IndicatorPacketDTO active = series.preview(candles.get(499));
+
+        // Then
+        List<IndicatorPacketDTO> latest = series.latest(1_000);
+        assertEquals(51, latest.size(), "보관 개수 + 활성 값만 반환해야 합니다.");
+        assertEquals(active, latest.get(latest.size() - 1), "마지막은 활성 캔들 값이어야 합니다.");
+        for (int i = 1; i < latest.size(); i++) {
+            assertTrue(latest.get(i - 1).getCandleStartTime() < latest.get(i).getCandleStartTime(), "시간순으로 반환되어야 합니다.");
+        }
+        assertEquals(3, series.latest(3).size());
+        assertEquals(candles.get(498).getCandleStartTime(), series.latest(2).get(0).getCandleStartTime());
+        assertNull(series.preview(candles.get(499)), "값이 그대로면 다시 발행하지 않아야 합니다.");
+    }
+
+    @Test
+    public void rebuildMatchesIncremental() {
+        // Given
+        List<CandlePacketDTO> candles = randomCandles(400);
+        IndicatorSpec spec = new IndicatorSpec(IndicatorType.EMA, 26);
+        IndicatorSeries incremental = new IndicatorSeries(SymbolType.BTC, ChartType.ONE_MINUTE, spec, 200);
+        IndicatorSeries rebuilt = new IndicatorSeries(SymbolType.BTC, ChartType.ONE_MINUTE, spec, 200);
+
+        // When
+        candles.forEach(incremental::close);
+        rebuilt.close(candles.get(0));
+        rebuilt.rebuild(candles);
+
+        // Then
+        assertEquals(incremental.latest(200), rebuilt.latest(200), "다시 계산한 값이 증분 계산 값과 같아야 합니다.");
+        assertEquals(incremental.closedSince(candles.get(390).getCandleStartTime()), rebuilt.closedSince(candles.get(390).getCandleStartTime()));
+        assertEquals(10, rebuilt.closedSince(candles.get(390).getCandleStartTime()).size());
+    }
+
+    @Test
+    public void specParsing() {
+        // When & Then
+        assertEquals(new IndicatorSpec(IndicatorType.BOLLINGER, 20), IndicatorSpec.parse(" bollinger( 20 ) "));
+        assertEquals("RSI(14)", IndicatorSpec.parse("RSI(14)").toString());
+        assertThrows(CustomException.class, () -> IndicatorSpec.parse("SMA"));
+        assertThrows(CustomException.class, () -> IndicatorSpec.parse("MACD(12)"));
+        assertThrows(CustomException.class, () -> IndicatorSpec.parse("SMA(0)"));
+        assertThrows(CustomException.class, () -> IndicatorSpec.parse("SMA(x)"));
+        assertThrows(CustomException.class, () -> IndicatorSpec.parse("EMA(" + (IndicatorSpec.MAX_PERIOD + 1) + ")"));
+    }
+}
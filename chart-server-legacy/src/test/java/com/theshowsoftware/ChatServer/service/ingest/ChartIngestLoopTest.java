@@ -0,0 +1,122 @@
+package com.theshowsoftware.ChatServer.service.ingest;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.indicator.IndicatorSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChartIngestLoopTest {
+
+    private final ChartCacheService chartCache = new ChartCacheService();
+    private final ChartIngestLoop ingestLoop = new ChartIngestLoop(chartCache, 2, 1024, 128);
+
+    @AfterEach
+    public void tearDown() {
+        ingestLoop.stop();
+    }
+
+    @Test
+    public void submittedTicksAreAppliedBySymbolOwner() throws Exception {
+        // Given
+        ingestLoop.start();
+        List<SymbolType> symbols = List.of(SymbolType.BTC, SymbolType.ETH, SymbolType.SOL, SymbolType.DOT);
+        int ticksPerSymbol = 5_000;
+        long baseTime = Instant.now().minusSeconds(3_600).toEpochMilli();
+
+        // When - 심볼마다 별도 생산자 스레드에서 동시에 제출
+        CountDownLatch done = new CountDownLatch(symbols.size());
+        for (SymbolType symbol : symbols) {
+            new Thread(() -> {
+                for (int i = 0; i < ticksPerSymbol; i++) {
+                    ingestLoop.submit(symbol, new TickPacketDTO(BigInteger.valueOf(1_000L + i), 1L, baseTime + i));
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        // Then
+        for (SymbolType symbol : symbols) {
+            awaitTickCount(symbol, ticksPerSymbol);
+            List<TickPacketDTO> ticks = chartCache.getTicks(symbol, ticksPerSymbol + 1);
+            assertEquals(ticksPerSymbol, ticks.size(), "제출한 Tick 이 모두 반영되어야 합니다. (" + symbol + ")");
+            assertEquals(baseTime + ticksPerSymbol - 1, ticks.get(ticks.size() - 1).getTimestamp());
+
+            // 모든 Tick 은 5초 범위 안에 있으므로 최근 1시간 봉 2개의 거래량 합계가 Tick 개수와 같아야 함
+            List<CandlePacketDTO> candles = chartCache.getCandles(symbol, ChartType.ONE_HOUR, 2);
+            long quantity = candles.stream().mapToLong(CandlePacketDTO::getQuantity).sum();
+            assertEquals(ticksPerSymbol, quantity, "캔들 스냅샷에 모든 Tick 이 반영되어야 합니다. (" + symbol + ")");
+        }
+    }
+
+    /**
+     * 수집 루프가 반영하는 동안 다른 스레드의 지표 등록 / 해제가 소유 스레드와 경합하지 않아야 함
+     */
+    @Test
+    public void indicatorRegistrationIsSerializedWithOwnerThread() throws Exception {
+        // Given
+        ingestLoop.start();
+        IndicatorSpec sma = IndicatorSpec.parse("SMA(5)");
+        int tickCount = 20_000;
+        long baseTime = ChartType.ONE_SECOND.bucketStart(Instant.now().minusSeconds(3_600).toEpochMilli());
+        AtomicBoolean producing = new AtomicBoolean(true);
+        Thread producer = new Thread(() -> {
+            Random random = new Random(3);
+            for (int i = 0; i < tickCount; i++) {
+                ingestLoop.submit(SymbolType.BTC, new TickPacketDTO(BigInteger.valueOf(1_000L + random.nextInt(1_000)), 1L, baseTime + i * 10L));
+            }
+            producing.set(false);
+        });
+
+        // When - 수집 중 지표 등록 / 해제 반복
+        producer.start();
+        while (producing.get()) {
+            chartCache.registerIndicator(SymbolType.BTC, ChartType.ONE_SECOND, sma);
+            chartCache.unregisterIndicator(SymbolType.BTC, ChartType.ONE_SECOND, sma);
+        }
+        chartCache.registerIndicator(SymbolType.BTC, ChartType.ONE_SECOND, sma);
+        producer.join();
+        awaitTickCount(SymbolType.BTC, tickCount);
+
+        // Then - 등록 이후 증분 계산 값이 캔들 종가의 이동 평균과 같아야 함
+        List<CandlePacketDTO> candles = chartCache.getCandles(SymbolType.BTC, ChartType.ONE_SECOND, 1_000);
+        List<IndicatorPacketDTO> values = chartCache.getIndicators(SymbolType.BTC, ChartType.ONE_SECOND, sma, 1_000);
+        assertEquals(candles.size() - 4, values.size(), "캔들마다 지표 값이 하나씩 있어야 합니다.");
+        for (int i = 0; i < values.size(); i++) {
+            int index = i + 4;
+            assertEquals(candles.get(index).getCandleStartTime(), values.get(i).getCandleStartTime());
+            double sum = 0;
+            for (int j = index - 4; j <= index; j++) {
+                sum += candles.get(j).getEndPrice().doubleValue();
+            }
+            assertEquals(sum / 5, values.get(i).getValue(), 1e-9, "지표 값이 캔들 종가 평균과 다릅니다: " + index);
+        }
+    }
+
+    private void awaitTickCount(SymbolType symbol, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            List<CandlePacketDTO> candles = chartCache.getCandles(symbol, ChartType.ONE_HOUR, 2);
+            long quantity = candles.stream().mapToLong(CandlePacketDTO::getQuantity).sum();
+            if (quantity >= expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Tick 반영 대기 시간 초과 (" + symbol + ")");
+    }
+}
@@ -0,0 +1,198 @@
+package com.theshowsoftware.ChatServer.service.journal;
+
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickJournalTest {
+
+    // 세그먼트당 10 레코드
+    private static final String SEGMENT_SIZE = (JournalSegment.RECORD_BYTES * 10) + "B";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void appendedTicksAreReplayedAfterReopen() throws IOException {
+        // Given - 세그먼트 3개에 걸친 25개 Tick
+        TickJournal journal = open(8);
+        for (int i = 0; i < 25; i++) {
+            journal.append(SymbolType.BTC, 1_000L + i, 50_000L + i, i);
+        }
+        journal.stop();
+
+        // When
+        TickJournal reopened = open(8);
+        List<long[]> records = new ArrayList<>();
+        long replayed = reopened.replay(SymbolType.BTC, 7, (timestamp, price, quantity) -> records.add(new long[]{timestamp, price, quantity}));
+
+        // Then
+        assertEquals(3, segmentFiles(SymbolType.BTC).size(), "세그먼트가 가득 차면 다음 세그먼트로 전환해야 합니다.");
+        assertEquals(25, reopened.position(SymbolType.BTC), "다시 열면 기록된 끝에서 이어가야 합니다.");
+        assertEquals(18, replayed);
+        for (int i = 0; i < records.size(); i++) {
+            assertArrayEquals(new long[]{1_007L + i, 50_007L + i, 7 + i}, records.get(i));
+        }
+        assertEquals(0, reopened.position(SymbolType.ETH));
+        reopened.stop();
+    }
+
+    @Test
+    public void tornRecordAtTailIsIgnored() throws IOException {
+        // Given - 5개 기록 후 6번째 레코드는 가격 / 거래량만 기록된 상태로 종료
+        TickJournal journal = open(8);
+        for (int i = 0; i < 5; i++) {
+            journal.append(SymbolType.BTC, 1_000L + i, 50_000L, 1);
+        }
+        journal.stop();
+        try (FileChannel channel = FileChannel.open(segmentFiles(SymbolType.BTC).get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES * 2).putLong(50_000L).putLong(1).flip(), 5L * JournalSegment.RECORD_BYTES + Long.BYTES);
+        }
+
+        // When
+        TickJournal reopened = open(8);
+        reopened.append(SymbolType.BTC, 2_000L, 60_000L, 2);
+        List<Long> timestamps = new ArrayList<>();
+        reopened.replay(SymbolType.BTC, 0, (timestamp, price, quantity) -> timestamps.add(timestamp));
+
+        // Then
+        assertEquals(List.of(1_000L, 1_001L, 1_002L, 1_003L, 1_004L, 2_000L), timestamps, "끊긴 레코드는 기록의 끝으로 간주해야 합니다.");
+        reopened.stop();
+    }
+
+    @Test
+    public void zeroedHoleBeforeValidRecordsEndsTheJournal() throws IOException {
+        // Given - 8개 기록 후 전원 장애로 4번째 레코드 페이지만 반영되지 않은 상태
+        TickJournal journal = open(8);
+        for (int i = 0; i < 8; i++) {
+            journal.append(SymbolType.BTC, 1_000L + i, 50_000L, 1);
+        }
+        journal.stop();
+        try (FileChannel channel = FileChannel.open(segmentFiles(SymbolType.BTC).get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(JournalSegment.RECORD_BYTES), 3L * JournalSegment.RECORD_BYTES);
+        }
+
+        // When - 다시 열고 2개를 이어 쓴 뒤 한 번 더 열기
+        TickJournal reopened = open(8);
+        long position = reopened.position(SymbolType.BTC);
+        reopened.append(SymbolType.BTC, 2_000L, 60_000L, 2);
+        reopened.stop();
+        TickJournal again = open(8);
+        List<Long> timestamps = new ArrayList<>();
+        again.replay(SymbolType.BTC, 0, (timestamp, price, quantity) -> timestamps.add(timestamp));
+
+        // Then
+        assertEquals(3, position, "빈 구간 앞까지만 기록으로 인정해야 합니다.");
+        assertEquals(List.of(1_000L, 1_001L, 1_002L, 2_000L), timestamps, "빈 구간 뒤의 옛 레코드가 이어지면 안 됩니다.");
+        assertEquals(4, again.position(SymbolType.BTC));
+        again.stop();
+    }
+
+    @Test
+    public void corruptedRecordFailsChecksum() throws IOException {
+        // Given - 3번째 레코드의 가격만 다른 값으로 바뀐 상태
+        TickJournal journal = open(8);
+        for (int i = 0; i < 5; i++) {
+            journal.append(SymbolType.BTC, 1_000L + i, 50_000L, 1);
+        }
+        journal.stop();
+        try (FileChannel channel = FileChannel.open(segmentFiles(SymbolType.BTC).get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(70_000L).flip(), 2L * JournalSegment.RECORD_BYTES + Long.BYTES);
+        }
+
+        // When
+        TickJournal reopened = open(8);
+        List<Long> timestamps = new ArrayList<>();
+        reopened.replay(SymbolType.BTC, 0, (timestamp, price, quantity) -> timestamps.add(timestamp));
+
+        // Then
+        assertEquals(2, reopened.position(SymbolType.BTC));
+        assertEquals(List.of(1_000L, 1_001L), timestamps, "체크섬이 맞지 않는 레코드부터는 재생하지 않아야 합니다.");
+        reopened.stop();
+    }
+
+    @Test
+    public void positionCanSkipAheadToSnapshot() throws IOException {
+        // Given - 저널이 5개까지만 남은 상태에서 스냅샷 위치가 12
+        TickJournal journal = open(8);
+        for (int i = 0; i < 5; i++) {
+            journal.append(SymbolType.BTC, 1_000L + i, 50_000L, 1);
+        }
+
+        // When
+        journal.ensurePosition(SymbolType.BTC, 12);
+        journal.append(SymbolType.BTC, 3_000L, 50_000L, 1);
+        journal.stop();
+        TickJournal reopened = open(8);
+        List<Long> timestamps = new ArrayList<>();
+        reopened.replay(SymbolType.BTC, 12, (timestamp, price, quantity) -> timestamps.add(timestamp));
+        long all = reopened.replay(SymbolType.BTC, 0, (timestamp, price, quantity) -> { });
+
+        // Then
+        assertEquals(13, reopened.position(SymbolType.BTC));
+        assertEquals(List.of(3_000L), timestamps);
+        assertEquals(6, all, "건너뛴 구간은 재생하지 않아야 합니다.");
+        reopened.stop();
+    }
+
+    @Test
+    public void releasedAndExcessSegmentsAreDeleted() throws IOException, InterruptedException {
+        // Given - BTC 5개 세그먼트 중 3개는 스냅샷에 포함, ETH 는 보관 개수(2) 초과
+        TickJournal journal = open(2);
+        for (int i = 0; i < 45; i++) {
+            journal.append(SymbolType.BTC, 1_000L + i, 50_000L, 1);
+            journal.append(SymbolType.ETH, 1_000L + i, 3_000L, 1);
+        }
+
+        // When
+        journal.release(SymbolType.BTC, 30);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((segmentFiles(SymbolType.BTC).size() > 2 || segmentFiles(SymbolType.ETH).size() > 3) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Then
+        assertEquals(2, segmentFiles(SymbolType.BTC).size(), "스냅샷에 포함된 세그먼트는 삭제되어야 합니다.");
+        assertEquals(3, segmentFiles(SymbolType.ETH).size(), "현재 세그먼트 외에 보관 개수만큼만 남아야 합니다.");
+        List<Long> timestamps = new ArrayList<>();
+        long replayed = journal.replay(SymbolType.BTC, 10, (timestamp, price, quantity) -> timestamps.add(timestamp));
+        assertEquals(15, replayed, "삭제된 구간 이후부터 재생해야 합니다.");
+        assertEquals(1_030L, timestamps.get(0));
+        assertEquals(45, journal.position(SymbolType.BTC));
+        journal.stop();
+    }
+
+    @Test
+    public void disabledJournalIgnoresAppends() {
+        TickJournal journal = TickJournal.disabled();
+        journal.append(SymbolType.BTC, 1_000L, 50_000L, 1);
+
+        assertFalse(journal.isEnabled());
+        assertEquals(-1, journal.position(SymbolType.BTC));
+        assertEquals(0, journal.replay(SymbolType.BTC, 0, (timestamp, price, quantity) -> fail("기록하지 않아야 합니다.")));
+    }
+
+    private TickJournal open(int retentionSegments) throws IOException {
+        TickJournal journal = new TickJournal(tempDir.toString(), SEGMENT_SIZE, 1, retentionSegments);
+        journal.start();
+        return journal;
+    }
+
+    private List<Path> segmentFiles(SymbolType symbol) throws IOException {
+        try (Stream<Path> files = Files.list(tempDir.resolve(symbol.name()))) {
+            return files.filter(JournalSegment::isSegmentFile).sorted().toList();
+        }
+    }
+}
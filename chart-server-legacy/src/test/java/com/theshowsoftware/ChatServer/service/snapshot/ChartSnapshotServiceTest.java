@@ -0,0 +1,174 @@
+package com.theshowsoftware.ChatServer.service.snapshot;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.metrics.ChartMetrics;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.cache.TickRingBuffer;
+import com.theshowsoftware.ChatServer.service.journal.TickJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChartSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void restoresTicksAndCandlesFromSnapshot() throws IOException {
+        // Given - 두 심볼에 압축 블록이 생길 만큼의 Tick (100ms 간격) 과 외부 캔들
+        Path file = tempDir.resolve("chart-cache.snap");
+        ChartCacheService source = new ChartCacheService();
+        long start = Instant.now().minusSeconds(3600).toEpochMilli();
+        int count = TickRingBuffer.CHUNK_SIZE * 6;
+        addTicks(source, SymbolType.BTC, start, count);
+        addTicks(source, SymbolType.ETH, start, 1_000);
+        long day = ChartType.ONE_DAY.bucketStart(start) - 86_400_000L;
+        source.addCandle(SymbolType.BTC, ChartType.ONE_DAY, CandlePacketDTO.builder()
+                .symbolType(SymbolType.BTC).chartType(ChartType.ONE_DAY)
+                .candleStartTime(day).candleEndTime(ChartType.ONE_DAY.bucketEnd(day))
+                .startPrice(BigInteger.TEN).highPrice(BigInteger.TEN).lowPrice(BigInteger.ONE).endPrice(BigInteger.TWO)
+                .quantity(null).tickCount(3).build());
+
+        // When
+        long size = new ChartSnapshotService(source, file.toString(), 60_000).writeSnapshot();
+        ChartCacheService restored = new ChartCacheService();
+        int symbols = new ChartSnapshotService(restored, file.toString(), 60_000).restore();
+
+        // Then
+        assertEquals(Files.size(file), size);
+        assertFalse(Files.exists(tempDir.resolve("chart-cache.snap.tmp")), "임시 파일은 교체 후 남지 않아야 합니다.");
+        assertEquals(2, symbols);
+        for (SymbolType symbol : List.of(SymbolType.BTC, SymbolType.ETH)) {
+            Instant from = Instant.ofEpochMilli(start);
+            Instant to = Instant.ofEpochMilli(start + count * 100L);
+            assertEquals(source.getTicksBetween(symbol, from, to), restored.getTicksBetween(symbol, from, to), "Tick 이 복원되어야 합니다: " + symbol);
+            for (ChartType chartType : ChartType.values()) {
+                assertEquals(source.getCandles(symbol, chartType, 100_000), restored.getCandles(symbol, chartType, 100_000),
+                        "활성 캔들을 포함한 캔들이 복원되어야 합니다: " + symbol + " " + chartType);
+            }
+        }
+        assertTrue(restored.getTickCount(SymbolType.BTC) > 0);
+        assertEquals(0, restored.getTickCount(SymbolType.USDT));
+
+        // 복원 후에도 이어서 수집 (활성 캔들 마감 포함)
+        long next = start + count * 100L;
+        addTicks(restored, SymbolType.BTC, next, 20);
+        addTicks(source, SymbolType.BTC, next, 20);
+        assertEquals(source.getCandles(SymbolType.BTC, ChartType.ONE_SECOND, 50), restored.getCandles(SymbolType.BTC, ChartType.ONE_SECOND, 50));
+        assertEquals(count + 20, restored.getTickCount(SymbolType.BTC));
+    }
+
+    @Test
+    public void corruptedSectionIsSkipped() throws IOException {
+        // Given
+        Path file = tempDir.resolve("chart-cache.snap");
+        ChartCacheService source = new ChartCacheService();
+        long start = Instant.now().minusSeconds(600).toEpochMilli();
+        addTicks(source, SymbolType.BTC, start, 500);
+        addTicks(source, SymbolType.ETH, start, 500);
+        new ChartSnapshotService(source, file.toString(), 60_000).writeSnapshot();
+
+        // When - 첫 심볼 구간(BTC) 의 한 바이트 변조
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, 40);
+            one.flip();
+            one.put(0, (byte) (one.get(0) ^ 0x5A));
+            channel.write(one, 40);
+        }
+        ChartCacheService restored = new ChartCacheService();
+        int symbols = new ChartSnapshotService(restored, file.toString(), 60_000).restore();
+
+        // Then
+        assertEquals(1, symbols, "체크섬이 맞지 않는 구간만 건너뛰어야 합니다.");
+        assertEquals(0, restored.getTickCount(SymbolType.BTC));
+        assertEquals(500, restored.getTickCount(SymbolType.ETH));
+    }
+
+    @Test
+    public void journalTailRebuildsStateAfterSnapshot() throws IOException {
+        // Given - 스냅샷 이후에도 수집이 이어지다가 종료된 상태 (스냅샷 이후 Tick 은 저널에만 존재)
+        Path file = tempDir.resolve("chart-cache.snap");
+        Path journalDir = tempDir.resolve("journal");
+        TickJournal journal = openJournal(journalDir);
+        ChartCacheService source = new ChartCacheService(new ChartMetrics(), 1L << 30, 0.25, journal);
+        long start = Instant.now().minusSeconds(3600).toEpochMilli();
+        addTicks(source, SymbolType.BTC, start, 3_000);
+        addTicks(source, SymbolType.ETH, start, 700);
+        new ChartSnapshotService(source, journal, file.toString(), 60_000).writeSnapshot();
+        addTicks(source, SymbolType.BTC, start + 3_000 * 100L, 1_234);
+        addTicks(source, SymbolType.ETH, start + 700 * 100L, 10);
+        journal.stop();
+
+        // When
+        TickJournal reopened = openJournal(journalDir);
+        ChartCacheService restored = new ChartCacheService(new ChartMetrics(), 1L << 30, 0.25, reopened);
+        ChartSnapshotService snapshotService = new ChartSnapshotService(restored, reopened, file.toString(), 60_000);
+        snapshotService.restore();
+        long replayed = snapshotService.replayJournal();
+
+        // Then
+        assertEquals(1_234 + 10, replayed, "스냅샷 이후 Tick 만 재생해야 합니다.");
+        for (SymbolType symbol : List.of(SymbolType.BTC, SymbolType.ETH)) {
+            assertEquals(source.getTickCount(symbol), restored.getTickCount(symbol), "Tick 이 중복 없이 복원되어야 합니다: " + symbol);
+            for (ChartType chartType : ChartType.values()) {
+                assertEquals(source.getCandles(symbol, chartType, 100_000), restored.getCandles(symbol, chartType, 100_000),
+                        "활성 캔들을 포함한 캔들이 종료 직전과 같아야 합니다: " + symbol + " " + chartType);
+            }
+        }
+
+        // 재생 후 이어서 수집하면 저널 끝에 이어서 기록
+        addTicks(restored, SymbolType.BTC, start + 4_234 * 100L, 5);
+        assertEquals(4_239, reopened.position(SymbolType.BTC));
+        reopened.stop();
+    }
+
+    @Test
+    public void missingOrInvalidFileStartsEmpty() throws IOException {
+        Path file = tempDir.resolve("chart-cache.snap");
+        ChartCacheService cache = new ChartCacheService();
+
+        assertEquals(0, new ChartSnapshotService(cache, file.toString(), 60_000).restore(), "파일이 없으면 빈 캐시로 시작해야 합니다.");
+
+        Files.write(file, new byte[64]);
+        assertEquals(0, new ChartSnapshotService(cache, file.toString(), 60_000).restore(), "형식이 다르면 빈 캐시로 시작해야 합니다.");
+        assertFalse(new ChartSnapshotService(cache, "", 60_000).isEnabled());
+    }
+
+    private static TickJournal openJournal(Path directory) throws IOException {
+        TickJournal journal = new TickJournal(directory.toString(), "64KB", 20, 8);
+        journal.start();
+        return journal;
+    }
+
+    private static void addTicks(ChartCacheService cache, SymbolType symbol, long start, int count) {
+        List<TickPacketDTO> batch = new ArrayList<>(1024);
+        for (int i = 0; i < count; i++) {
+            Long quantity = i % 11 == 0 ? null : (long) (i % 50 + 1);
+            batch.add(new TickPacketDTO(BigInteger.valueOf(50_000_000_000_000L + (i % 97) * 10_000_000L), quantity, start + i * 100L));
+            if (batch.size() == 1024) {
+                cache.addTicks(symbol, batch);
+                batch = new ArrayList<>(1024);
+            }
+        }
+        if (!batch.isEmpty()) {
+            cache.addTicks(symbol, batch);
+        }
+    }
+}
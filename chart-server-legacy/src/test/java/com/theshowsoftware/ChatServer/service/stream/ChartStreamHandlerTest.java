@@ -0,0 +1,255 @@
+package com.theshowsoftware.ChatServer.service.stream;
+
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.utils.BinaryPacketCodec;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ChartStreamHandlerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChartStreamHandler chartStreamHandler;
+
+    @Autowired
+    private ChartStreamHub chartStreamHub;
+
+    private RawClient client;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (client != null) {
+            client.closeBlocking();
+        }
+    }
+
+    /**
+     * 구독한 (심볼, 차트타입) 의 바이너리 프레임만 수신하고 구독 해제 후에는 수신하지 않아야 함
+     */
+    @Test
+    public void subscribedClientReceivesBinaryFrames() throws Exception {
+        // Given
+        client = connect();
+        client.send(control(ChartStreamHandler.OP_SUBSCRIBE, SymbolType.ETH, ChartType.TICK));
+        await(() -> chartStreamHandler.hasSubscribers(SymbolType.ETH, ChartType.TICK));
+        TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(3_000_123_456_789L), 7L, 1_700_000_000_000L);
+
+        // When
+        chartStreamHub.applyTick(SymbolType.SOL, tick); // 구독하지 않은 심볼
+        chartStreamHub.applyTick(SymbolType.ETH, tick);
+
+        // Then
+        ByteBuffer frame = client.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame, "틱 프레임을 수신하지 못했습니다.");
+        assertEquals(SymbolType.ETH, BinaryPacketCodec.peekSymbol(frame));
+        assertEquals(tick, BinaryPacketCodec.decodeTick(frame));
+
+        // When - 구독 해제
+        client.send(control(ChartStreamHandler.OP_UNSUBSCRIBE, SymbolType.ETH, ChartType.TICK));
+        await(() -> !chartStreamHandler.hasSubscribers(SymbolType.ETH, ChartType.TICK));
+        chartStreamHub.applyTick(SymbolType.ETH, tick);
+
+        // Then
+        assertNull(client.frames.poll(200, TimeUnit.MILLISECONDS), "구독 해제 후에는 수신하지 않아야 합니다.");
+    }
+
+    /**
+     * 스냅샷의 시퀀스 번호 다음부터 실시간 프레임이 누락 / 중복 없이 이어져야 함
+     */
+    @Test
+    public void snapshotIsFollowedByContiguousSequence() throws Exception {
+        // Given - 구독 전에 반영된 틱
+        long baseTime = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            chartStreamHub.applyTick(SymbolType.ADA, new TickPacketDTO(BigInteger.valueOf(500_000_000L + i), 1L, baseTime + i));
+        }
+        long snapshotSequence = chartStreamHub.getSequence(SymbolType.ADA, ChartType.TICK);
+
+        // When
+        client = connect();
+        client.send(ByteBuffer.allocate(ChartStreamHandler.SNAPSHOT_CONTROL_SIZE)
+                .put(control(ChartStreamHandler.OP_SUBSCRIBE_SNAPSHOT, SymbolType.ADA, ChartType.TICK))
+                .putShort((short) 3)
+                .array());
+        await(() -> chartStreamHub.hasSubscribers(SymbolType.ADA, ChartType.TICK));
+        for (int i = 5; i < 8; i++) {
+            chartStreamHub.applyTick(SymbolType.ADA, new TickPacketDTO(BigInteger.valueOf(500_000_000L + i), 1L, baseTime + i));
+        }
+
+        // Then - 스냅샷
+        ByteBuffer snapshot = client.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(snapshot, "스냅샷 프레임을 수신하지 못했습니다.");
+        assertEquals(BinaryPacketCodec.TYPE_SNAPSHOT, BinaryPacketCodec.peekType(snapshot));
+        assertEquals(snapshotSequence, BinaryPacketCodec.peekSequence(snapshot));
+        List<TickPacketDTO> ticks = BinaryPacketCodec.decodeTickSnapshot(snapshot);
+        assertEquals(3, ticks.size(), "요청한 개수만큼 스냅샷에 포함되어야 합니다.");
+        assertEquals(baseTime + 4, ticks.get(2).getTimestamp());
+
+        // Then - 실시간 프레임
+        for (int i = 5; i < 8; i++) {
+            ByteBuffer frame = client.frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "실시간 프레임을 수신하지 못했습니다.");
+            assertEquals(snapshotSequence + i - 4, BinaryPacketCodec.peekSequence(frame), "시퀀스 번호가 연속이어야 합니다.");
+            assertEquals(baseTime + i, BinaryPacketCodec.decodeTick(frame).getTimestamp());
+        }
+    }
+
+    /**
+     * 재연결 시 마지막 시퀀스 이후 프레임만 재전송하고, 알 수 없는 시퀀스면 스냅샷으로 대체해야 함
+     */
+    @Test
+    public void resumeReplaysMissedFramesOrFallsBackToSnapshot() throws Exception {
+        // Given
+        long baseTime = System.currentTimeMillis();
+        for (int i = 0; i < 4; i++) {
+            chartStreamHub.applyTick(SymbolType.AAVE, new TickPacketDTO(BigInteger.valueOf(200_000_000L + i), 1L, baseTime + i));
+        }
+        long lastSequence = chartStreamHub.getSequence(SymbolType.AAVE, ChartType.TICK);
+        long epoch = chartStreamHub.getEpoch();
+
+        // When - 마지막 2 개를 놓친 클라이언트
+        client = connect();
+        client.send(resume(SymbolType.AAVE, epoch, lastSequence - 2, 10));
+
+        // Then - 놓친 프레임만 순서대로 수신
+        for (int i = 2; i < 4; i++) {
+            ByteBuffer frame = client.frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "재전송 프레임을 수신하지 못했습니다.");
+            assertEquals(BinaryPacketCodec.TYPE_TICK, BinaryPacketCodec.peekType(frame));
+            assertEquals(lastSequence - 3 + i, BinaryPacketCodec.peekSequence(frame));
+            assertEquals(epoch, BinaryPacketCodec.peekEpoch(frame), "프레임에 스트림 epoch 가 있어야 합니다.");
+            assertEquals(baseTime + i, BinaryPacketCodec.decodeTick(frame).getTimestamp());
+        }
+        assertNull(client.frames.poll(200, TimeUnit.MILLISECONDS), "이미 받은 프레임은 재전송하지 않아야 합니다.");
+
+        // When - 서버가 모르는 시퀀스 (서버 재시작 등)
+        client.send(resume(SymbolType.AAVE, epoch, lastSequence + 100, 10));
+
+        // Then - 스냅샷으로 대체
+        ByteBuffer snapshot = client.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(snapshot, "스냅샷 프레임을 수신하지 못했습니다.");
+        assertEquals(BinaryPacketCodec.TYPE_SNAPSHOT, BinaryPacketCodec.peekType(snapshot));
+        assertEquals(lastSequence, BinaryPacketCodec.peekSequence(snapshot));
+        assertEquals(4, BinaryPacketCodec.decodeTickSnapshot(snapshot).size());
+    }
+
+    @Test
+    public void resumeWithStaleEpochFallsBackToSnapshot() throws Exception {
+        // Given - 재시작 후 시퀀스가 다시 올라가 클라이언트의 마지막 시퀀스보다 커진 스트림
+        long baseTime = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            chartStreamHub.applyTick(SymbolType.COMP, new TickPacketDTO(BigInteger.valueOf(300_000_000L + i), 1L, baseTime + i));
+        }
+        long lastSequence = chartStreamHub.getSequence(SymbolType.COMP, ChartType.TICK);
+        long staleEpoch = chartStreamHub.getEpoch() + 1;
+
+        // When - 이전 프로세스 epoch 로 재전송 범위 안의 시퀀스를 보낸 클라이언트
+        client = connect();
+        client.send(resume(SymbolType.COMP, staleEpoch, lastSequence - 2, 10));
+
+        // Then - 시퀀스가 범위 안이어도 재전송 대신 스냅샷
+        ByteBuffer snapshot = client.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(snapshot, "스냅샷 프레임을 수신하지 못했습니다.");
+        assertEquals(BinaryPacketCodec.TYPE_SNAPSHOT, BinaryPacketCodec.peekType(snapshot), "epoch 가 다르면 스냅샷으로 대체해야 합니다.");
+        assertEquals(chartStreamHub.getEpoch(), BinaryPacketCodec.peekEpoch(snapshot));
+        assertEquals(lastSequence, BinaryPacketCodec.peekSequence(snapshot));
+        assertEquals(5, BinaryPacketCodec.decodeTickSnapshot(snapshot).size());
+        assertNull(client.frames.poll(200, TimeUnit.MILLISECONDS), "스냅샷 뒤에 재전송 프레임이 오지 않아야 합니다.");
+    }
+
+    @Test
+    public void invalidControlMessageClosesSession() throws Exception {
+        // Given
+        client = connect();
+
+        // When
+        client.send(new byte[]{9, 9});
+
+        // Then
+        await(client::isClosed);
+        assertEquals(1007, client.closeCode, "잘못된 제어 메시지는 BAD_DATA 로 종료되어야 합니다.");
+    }
+
+    private RawClient connect() throws Exception {
+        RawClient rawClient = new RawClient(URI.create("ws://localhost:" + port + "/udws-raw"));
+        assertTrue(rawClient.connectBlocking(5, TimeUnit.SECONDS), "바이너리 스트림 연결 실패");
+        return rawClient;
+    }
+
+    private static byte[] control(byte op, SymbolType symbolType, ChartType chartType) {
+        return ByteBuffer.allocate(ChartStreamHandler.CONTROL_SIZE)
+                .put(op)
+                .putShort((short) symbolType.getCode())
+                .put((byte) chartType.getCode())
+                .array();
+    }
+
+    private static byte[] resume(SymbolType symbolType, long epoch, long lastSequence, int snapshotCount) {
+        return ByteBuffer.allocate(ChartStreamHandler.RESUME_CONTROL_SIZE)
+                .put(control(ChartStreamHandler.OP_RESUME, symbolType, ChartType.TICK))
+                .putLong(epoch)
+                .putLong(lastSequence)
+                .putShort((short) snapshotCount)
+                .array();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "대기 시간 초과");
+            Thread.sleep(10);
+        }
+    }
+
+    private static class RawClient extends WebSocketClient {
+        private final BlockingQueue<ByteBuffer> frames = new LinkedBlockingQueue<>();
+        private volatile int closeCode;
+
+        private RawClient(URI uri) {
+            super(uri);
+        }
+
+        @Override
+        public void onOpen(ServerHandshake handshake) {
+        }
+
+        @Override
+        public void onMessage(String message) {
+        }
+
+        @Override
+        public void onMessage(ByteBuffer bytes) {
+            frames.add(bytes);
+        }
+
+        @Override
+        public void onClose(int code, String reason, boolean remote) {
+            closeCode = code;
+        }
+
+        @Override
+        public void onError(Exception ex) {
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.theshowsoftware.ChatServer.service.stream;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.service.ChartCacheService;
+import com.theshowsoftware.ChatServer.service.indicator.IndicatorSpec;
+import com.theshowsoftware.ChatServer.service.ingest.ChartIngestLoop;
+import com.theshowsoftware.ChatServer.utils.BinaryPacketCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChartStreamHubTest {
+
+    private static TickPacketDTO tick(long timestamp) {
+        return new TickPacketDTO(BigInteger.valueOf(50_000_000_000_000L + timestamp), 1L, timestamp);
+    }
+
+    /**
+     * 느린 세션에 전송하는 동안에도 다른 스레드의 발행은 스트림 잠금에서 기다리지 않아야 하고,
+     * 밀린 프레임은 전송이 풀린 뒤 시퀀스 순서대로 도착해야 함
+     */
+    @Test
+    public void slowSessionDoesNotBlockPublishers() throws Exception {
+        // Given - 첫 전송에서 멈추는 세션
+        ChartStreamHub hub = new ChartStreamHub(new ChartCacheService(), 500, 1024);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSession slow = new BlockingSession("slow", release);
+        hub.subscribe(slow, SymbolType.BTC, ChartType.TICK, -1);
+        long now = System.currentTimeMillis();
+
+        // When - 첫 발행 스레드는 세션 전송에서 멈춤
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> hub.applyTick(SymbolType.BTC, tick(now)));
+        assertTrue(slow.entered.await(5, TimeUnit.SECONDS), "첫 프레임 전송이 시작되어야 합니다.");
+        CompletableFuture<Void> others = CompletableFuture.runAsync(() -> {
+            for (int i = 1; i <= 100; i++) {
+                hub.applyTick(SymbolType.BTC, tick(now + i));
+            }
+        });
+
+        // Then - 전송이 멈춘 동안에도 나머지 발행은 끝나야 함
+        others.get(5, TimeUnit.SECONDS);
+        assertEquals(101, hub.getSequence(SymbolType.BTC, ChartType.TICK));
+        assertFalse(first.isDone(), "첫 발행 스레드는 아직 전송 중이어야 합니다.");
+
+        // When - 전송 재개
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        // Then
+        for (long sequence = 1; sequence <= 101; sequence++) {
+            ByteBuffer frame = slow.frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "밀린 프레임을 모두 받아야 합니다: " + sequence);
+            assertEquals(sequence, BinaryPacketCodec.peekSequence(frame), "시퀀스 순서대로 받아야 합니다.");
+        }
+        assertNull(slow.frames.poll(100, TimeUnit.MILLISECONDS), "중복 프레임이 없어야 합니다.");
+    }
+
+    /**
+     * 발행 중에 구독해도 스냅샷 시퀀스 다음부터 누락 / 중복 없이 이어져야 함
+     */
+    @Test
+    public void subscribeDuringPublishIsContiguous() throws Exception {
+        // Given
+        ChartStreamHub hub = new ChartStreamHub(new ChartCacheService(), 500, 1024);
+        long now = System.currentTimeMillis();
+        CompletableFuture<Void> publisher = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                hub.applyTick(SymbolType.ETH, tick(now + i));
+            }
+        });
+
+        // When
+        BlockingSession session = new BlockingSession("late", new CountDownLatch(0));
+        hub.subscribe(session, SymbolType.ETH, ChartType.TICK, 0);
+        publisher.get(10, TimeUnit.SECONDS);
+
+        // Then
+        ByteBuffer snapshot = session.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(snapshot, "스냅샷을 받아야 합니다.");
+        assertEquals(BinaryPacketCodec.TYPE_SNAPSHOT, BinaryPacketCodec.peekType(snapshot));
+        long expected = BinaryPacketCodec.peekSequence(snapshot) + 1;
+        ByteBuffer frame;
+        while ((frame = session.frames.poll(200, TimeUnit.MILLISECONDS)) != null) {
+            assertEquals(expected++, BinaryPacketCodec.peekSequence(frame), "스냅샷 이후 시퀀스가 이어져야 합니다.");
+        }
+        assertEquals(2_001, expected, "마지막 발행 프레임까지 받아야 합니다.");
+    }
+
+    /**
+     * 캔들 스트림은 스냅샷 뒤 Tick 반영으로 바뀐 활성 캔들을 시퀀스와 함께 이어서 받아야 함
+     */
+    @Test
+    public void candleStreamCarriesActiveCandleUpdates() throws Exception {
+        // Given - 이미 활성 캔들이 있는 1분 캔들 스트림에 스냅샷 후 구독
+        ChartStreamHub hub = new ChartStreamHub(new ChartCacheService(), 500, 1024);
+        long minute = ChartType.ONE_MINUTE.bucketStart(System.currentTimeMillis() - 120_000);
+        hub.applyTick(SymbolType.ADA, new TickPacketDTO(BigInteger.valueOf(100), 1L, minute));
+        BlockingSession session = new BlockingSession("candle", new CountDownLatch(0));
+        hub.subscribe(session, SymbolType.ADA, ChartType.ONE_MINUTE, 10);
+
+        // When
+        hub.applyTick(SymbolType.ADA, new TickPacketDTO(BigInteger.valueOf(120), 2L, minute + 1_000));
+        hub.applyTick(SymbolType.ADA, new TickPacketDTO(BigInteger.valueOf(90), 3L, minute + 2_000));
+
+        // Then - 스냅샷에는 첫 Tick 만 반영된 활성 캔들
+        ByteBuffer snapshot = session.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(snapshot, "스냅샷을 받아야 합니다.");
+        List<CandlePacketDTO> candles = BinaryPacketCodec.decodeCandleSnapshot(snapshot.duplicate());
+        assertEquals(1, candles.size());
+        assertEquals(BigInteger.valueOf(100), candles.get(0).getEndPrice());
+
+        // Then - 이후 Tick 마다 같은 시작 시간의 활성 캔들 갱신 프레임
+        long sequence = BinaryPacketCodec.peekSequence(snapshot);
+        long[][] expected = {{120, 100, 100, 120, 2}, {90, 100, 90, 120, 3}};
+        for (long[] values : expected) {
+            ByteBuffer frame = session.frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "활성 캔들 갱신 프레임을 받아야 합니다.");
+            assertEquals(BinaryPacketCodec.TYPE_CANDLE, BinaryPacketCodec.peekType(frame));
+            assertEquals(++sequence, BinaryPacketCodec.peekSequence(frame), "스냅샷 이후 시퀀스가 이어져야 합니다.");
+            CandlePacketDTO active = BinaryPacketCodec.decodeCandle(frame);
+            assertEquals(minute, active.getCandleStartTime(), "활성 캔들의 시작 시간이어야 합니다.");
+            assertEquals(BigInteger.valueOf(values[0]), active.getEndPrice());
+            assertEquals(BigInteger.valueOf(values[1]), active.getStartPrice());
+            assertEquals(BigInteger.valueOf(values[2]), active.getLowPrice());
+            assertEquals(BigInteger.valueOf(values[3]), active.getHighPrice());
+            assertEquals(values[4], active.getTickCount());
+        }
+        assertNull(session.frames.poll(100, TimeUnit.MILLISECONDS), "더 이상 받을 프레임이 없어야 합니다.");
+    }
+
+    /**
+     * 여러 쓰기 스레드가 같은 마감 캔들을 동시에 수정해도 캔들 수정 프레임은 쓰기 순서대로 시퀀스를 받아야 하고,
+     * 마지막 수정 프레임은 캐시에 남은 캔들과 같아야 함
+     */
+    @Test
+    public void concurrentCorrectionsFollowWriteOrder() throws Exception {
+        // Given - 다음 구간 Tick 으로 마감된 1초 캔들
+        ChartCacheService chartCache = new ChartCacheService();
+        ChartStreamHub hub = new ChartStreamHub(chartCache, 500, 1024);
+        long second = ChartType.ONE_SECOND.bucketStart(System.currentTimeMillis() - 2_000);
+        hub.applyTick(SymbolType.DOT, new TickPacketDTO(BigInteger.valueOf(10_000), 1L, second));
+        hub.applyTick(SymbolType.DOT, new TickPacketDTO(BigInteger.valueOf(10_000), 1L, second + 1_000));
+        BlockingSession session = new BlockingSession("correction", new CountDownLatch(0));
+        hub.subscribe(session, SymbolType.DOT, ChartType.ONE_SECOND, -1);
+        long expected = hub.getSequence(SymbolType.DOT, ChartType.ONE_SECOND) + 1;
+
+        // When - 여러 스레드가 마감된 구간에 지연 Tick 을 동시에 반영
+        int writerCount = 4;
+        int ticksPerWriter = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+        List<CompletableFuture<Void>> writers = IntStream.range(0, writerCount).mapToObj(writer -> CompletableFuture.runAsync(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (int i = 0; i < ticksPerWriter; i++) {
+                long price = 10_000 + (writer % 2 == 0 ? i : -i);
+                hub.applyTick(SymbolType.DOT, new TickPacketDTO(BigInteger.valueOf(price), 1L, second + 1 + (i * writerCount + writer) % 999));
+            }
+        }, executor)).toList();
+        start.countDown();
+        try {
+            for (CompletableFuture<Void> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then - 시퀀스가 이어지고 수정 프레임이 쓰기 순서대로 와서 마지막 수정 프레임이 캐시의 캔들과 같아야 함
+        CandlePacketDTO lastCorrection = null;
+        int corrections = 0;
+        ByteBuffer frame;
+        while ((frame = session.frames.poll(200, TimeUnit.MILLISECONDS)) != null) {
+            assertEquals(expected++, BinaryPacketCodec.peekSequence(frame), "시퀀스 순서대로 받아야 합니다.");
+            if (BinaryPacketCodec.peekType(frame) == BinaryPacketCodec.TYPE_CANDLE_CORRECTION) {
+                CandlePacketDTO corrected = BinaryPacketCodec.decodeCandleCorrection(frame);
+                if (corrected.getCandleStartTime() == second) {
+                    // 지연 Tick 한 건마다 Tick 개수가 하나씩 늘어난 캔들이 순서대로 와야 함
+                    assertEquals(corrections + 2, corrected.getTickCount(), "쓰기 순서와 다른 수정 프레임을 받았습니다.");
+                    lastCorrection = corrected;
+                    corrections++;
+                }
+            }
+        }
+        assertEquals(writerCount * ticksPerWriter, corrections, "지연 Tick 마다 캔들 수정 프레임을 받아야 합니다.");
+        CandlePacketDTO cached = chartCache.getCandles(SymbolType.DOT, ChartType.ONE_SECOND, 10).stream()
+                .filter(candle -> candle.getCandleStartTime() == second)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(writerCount * ticksPerWriter + 1, cached.getTickCount());
+        assertEquals(cached, lastCorrection, "마지막 수정 프레임은 캐시에 남은 캔들과 같아야 합니다.");
+    }
+
+    /**
+     * 여러 쓰기 스레드가 동시에 Tick 을 반영해도 지표 미리보기 프레임은 같은 쓰기의 활성 캔들 프레임 바로 뒤 시퀀스를 받아야 하고,
+     * 마지막 지표 프레임은 캐시에 남은 지표 값과 같아야 함
+     */
+    @Test
+    public void concurrentIndicatorPreviewsFollowWriteOrder() throws Exception {
+        // Given - 활성 캔들 종가가 곧 값인 SMA(1) 을 등록한 1초 캔들 스트림
+        ChartCacheService chartCache = new ChartCacheService();
+        ChartStreamHub hub = new ChartStreamHub(chartCache, 500, 1024);
+        IndicatorSpec spec = new IndicatorSpec(IndicatorType.SMA, 1);
+        chartCache.registerIndicator(SymbolType.LINK, ChartType.ONE_SECOND, spec);
+        long second = ChartType.ONE_SECOND.bucketStart(System.currentTimeMillis() - 2_000);
+        BlockingSession session = new BlockingSession("indicator", new CountDownLatch(0));
+        hub.subscribe(session, SymbolType.LINK, ChartType.ONE_SECOND, -1);
+
+        // When - 여러 스레드가 같은 활성 캔들 구간에 서로 다른 가격의 Tick 을 동시에 반영
+        int writerCount = 4;
+        int ticksPerWriter = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+        List<CompletableFuture<Void>> writers = IntStream.range(0, writerCount).mapToObj(writer -> CompletableFuture.runAsync(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (int i = 0; i < ticksPerWriter; i++) {
+                long price = 10_000 + i * writerCount + writer;
+                hub.applyTick(SymbolType.LINK, new TickPacketDTO(BigInteger.valueOf(price), 1L, second + (i * writerCount + writer) % 1_000));
+            }
+        }, executor)).toList();
+        start.countDown();
+        try {
+            for (CompletableFuture<Void> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then - 지표 프레임 값은 항상 바로 앞 활성 캔들 프레임의 종가
+        IndicatorPacketDTO lastIndicator = null;
+        CandlePacketDTO lastCandle = null;
+        int indicators = 0;
+        ByteBuffer frame;
+        while ((frame = session.frames.poll(200, TimeUnit.MILLISECONDS)) != null) {
+            if (BinaryPacketCodec.peekType(frame) == BinaryPacketCodec.TYPE_CANDLE) {
+                lastCandle = BinaryPacketCodec.decodeCandle(frame);
+            } else if (BinaryPacketCodec.peekType(frame) == BinaryPacketCodec.TYPE_INDICATOR) {
+                lastIndicator = BinaryPacketCodec.decodeIndicator(frame);
+                assertNotNull(lastCandle, "지표 프레임 앞에 활성 캔들 프레임이 있어야 합니다.");
+                assertEquals(lastCandle.getEndPrice().doubleValue(), lastIndicator.getValue(), "쓰기 순서와 다른 지표 프레임을 받았습니다.");
+                indicators++;
+            }
+        }
+        assertTrue(indicators > 0, "종가가 바뀐 Tick 마다 지표 프레임을 받아야 합니다.");
+        List<IndicatorPacketDTO> cached = chartCache.getIndicators(SymbolType.LINK, ChartType.ONE_SECOND, spec, 1);
+        assertEquals(cached.get(cached.size() - 1), lastIndicator, "마지막 지표 프레임은 캐시에 남은 지표 값과 같아야 합니다.");
+    }
+
+    /**
+     * 수집 루프가 있으면 틱은 루프에만 넣고, 시퀀스 / 전송은 루프 스레드의 반영 순서대로 이루어져야 함
+     */
+    @Test
+    public void loopModeRoutesTicksThroughIngestLoop() throws Exception {
+        // Given - 아직 시작하지 않은 수집 루프
+        ChartCacheService chartCache = new ChartCacheService();
+        ChartIngestLoop ingestLoop = new ChartIngestLoop(chartCache, 1, 1024, 64);
+        ChartStreamHub hub = new ChartStreamHub(chartCache, ingestLoop, 500, 1024);
+        BlockingSession session = new BlockingSession("loop", new CountDownLatch(0));
+        hub.subscribe(session, SymbolType.SOL, ChartType.TICK, -1);
+        long now = System.currentTimeMillis();
+
+        try {
+            // When
+            for (int i = 0; i < 500; i++) {
+                hub.applyTick(SymbolType.SOL, tick(now + i));
+            }
+
+            // Then - 호출 스레드에서는 캐시에 반영하지 않음
+            assertEquals(0, chartCache.getTickCount(SymbolType.SOL), "루프 모드에서는 호출 스레드가 직접 반영하지 않아야 합니다.");
+            assertEquals(0, hub.getSequence(SymbolType.SOL, ChartType.TICK));
+
+            // When - 루프 시작
+            ingestLoop.start();
+
+            // Then - 반영 순서대로 시퀀스와 함께 전송
+            for (int i = 0; i < 500; i++) {
+                ByteBuffer frame = session.frames.poll(5, TimeUnit.SECONDS);
+                assertNotNull(frame, "루프가 반영한 틱 프레임을 받아야 합니다: " + i);
+                assertEquals(i + 1, BinaryPacketCodec.peekSequence(frame), "시퀀스 순서대로 받아야 합니다.");
+                assertEquals(tick(now + i), BinaryPacketCodec.decodeTick(frame));
+            }
+            assertEquals(500, chartCache.getTickCount(SymbolType.SOL));
+        } finally {
+            ingestLoop.stop();
+        }
+    }
+
+    /**
+     * 수신 프레임을 보관하고 release 전까지 첫 전송에서 멈추는 세션
+     */
+    private static final class BlockingSession implements WebSocketSession {
+        private final String id;
+        private final CountDownLatch release;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final BlockingQueue<ByteBuffer> frames = new LinkedBlockingQueue<>();
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private volatile boolean open = true;
+
+        private BlockingSession(String id, CountDownLatch release) {
+            this.id = id;
+            this.release = release;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            frames.add(((BinaryMessage) message).getPayload());
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.theshowsoftware.ChatServer.utils;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.IndicatorPacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.IndicatorType;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryPacketCodecTest {
+
+    private static final long EPOCH = 987_654_321L;
+
+    private static CandlePacketDTO candle(BigInteger open, BigInteger high, BigInteger low, BigInteger close) {
+        return CandlePacketDTO.builder()
+                .symbolType(SymbolType.BTC)
+                .chartType(ChartType.ONE_MONTH)
+                .candleStartTime(1706745600000L)
+                .candleEndTime(1709251200000L)
+                .startPrice(open)
+                .highPrice(high)
+                .lowPrice(low)
+                .endPrice(close)
+                .quantity(123_456L)
+                .tickCount(98_765)
+                .build();
+    }
+
+    /**
+     * 틱 패킷은 timestamp 와 가격을 손실 없이 복원해야 함
+     */
+    @Test
+    public void tickRoundTripIsLossless() {
+        // Given - double 로는 표현할 수 없는 가격
+        TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(123_456_789_012_345_679L), 42L, 1_700_000_000_123L);
+
+        // When
+        byte[] packet = BinaryPacketCodec.encodeTick(SymbolType.ETH, tick);
+        ByteBuffer frame = ByteBuffer.wrap(packet);
+
+        // Then
+        assertEquals(BinaryPacketCodec.TYPE_TICK, BinaryPacketCodec.peekType(frame));
+        assertEquals(SymbolType.ETH, BinaryPacketCodec.peekSymbol(frame));
+        assertEquals(tick, BinaryPacketCodec.decodeTick(frame), "틱 패킷 복원 결과가 원본과 다릅니다.");
+        assertFalse(frame.hasRemaining(), "패킷 끝까지 읽어야 합니다.");
+    }
+
+    @Test
+    public void candleRoundTripIsLossless() {
+        // Given
+        CandlePacketDTO candle = candle(BigInteger.valueOf(50_000_000_000_000L), BigInteger.valueOf(52_000_000_000_000L),
+                BigInteger.valueOf(49_000_000_000_000L), BigInteger.valueOf(51_000_000_000_000L));
+
+        // When
+        CandlePacketDTO decoded = BinaryPacketCodec.decodeCandle(ByteBuffer.wrap(BinaryPacketCodec.encodeCandle(candle)));
+
+        // Then
+        assertEquals(candle, decoded, "캔들 패킷 복원 결과가 원본과 다릅니다.");
+    }
+
+    @Test
+    public void candleCorrectionCarriesTypeAndSequence() {
+        // Given
+        CandlePacketDTO candle = candle(BigInteger.valueOf(50_000_000_000_000L), BigInteger.valueOf(52_000_000_000_000L),
+                BigInteger.valueOf(49_000_000_000_000L), BigInteger.valueOf(51_000_000_000_000L));
+
+        // When
+        ByteBuffer frame = ByteBuffer.wrap(BinaryPacketCodec.encodeCandleCorrection(candle, EPOCH, 77L));
+
+        // Then
+        assertEquals(BinaryPacketCodec.TYPE_CANDLE_CORRECTION, BinaryPacketCodec.peekType(frame));
+        assertEquals(77L, BinaryPacketCodec.peekSequence(frame));
+        assertEquals(candle, BinaryPacketCodec.decodeCandleCorrection(frame), "캔들 수정 패킷 복원 결과가 원본과 다릅니다.");
+        assertThrows(CustomException.class, () -> BinaryPacketCodec.decodeCandle(ByteBuffer.wrap(BinaryPacketCodec.encodeCandleCorrection(candle, EPOCH, 1L))),
+                "캔들 수정 패킷은 일반 캔들 패킷으로 해석하지 않아야 합니다.");
+    }
+
+    /**
+     * 64bit 를 넘는 가격과 null 거래량도 복원해야 함
+     */
+    @Test
+    public void bigPriceAndMissingQuantityRoundTrip() {
+        // Given
+        BigInteger huge = BigInteger.TEN.pow(30);
+        CandlePacketDTO candle = candle(huge, huge.add(BigInteger.ONE), BigInteger.valueOf(Long.MIN_VALUE), BigInteger.ONE);
+        candle.setQuantity(null);
+        TickPacketDTO tick = new TickPacketDTO(huge.negate(), null, -5L);
+
+        // When & Then
+        assertEquals(candle, BinaryPacketCodec.decodeCandle(ByteBuffer.wrap(BinaryPacketCodec.encodeCandle(candle))));
+        assertEquals(tick, BinaryPacketCodec.decodeTick(ByteBuffer.wrap(BinaryPacketCodec.encodeTick(SymbolType.BTC, tick))));
+    }
+
+    @Test
+    public void indicatorRoundTripIsLossless() {
+        // Given
+        IndicatorPacketDTO sma = IndicatorPacketDTO.builder().symbolType(SymbolType.BTC).chartType(ChartType.ONE_MINUTE)
+                .indicatorType(IndicatorType.SMA).period(20).candleStartTime(1_700_000_040_000L).closed(true)
+                .value(50_123_456_789_012.25).build();
+        IndicatorPacketDTO bollinger = IndicatorPacketDTO.builder().symbolType(SymbolType.ETH).chartType(ChartType.ONE_HOUR)
+                .indicatorType(IndicatorType.BOLLINGER).period(20).candleStartTime(1_700_002_800_000L).closed(false)
+                .value(3_000.5).upper(3_100.25).lower(2_900.75).build();
+
+        // When
+        ByteBuffer frame = ByteBuffer.wrap(BinaryPacketCodec.encodeIndicator(bollinger, EPOCH, 9L));
+
+        // Then
+        assertEquals(BinaryPacketCodec.TYPE_INDICATOR, BinaryPacketCodec.peekType(frame));
+        assertEquals(9L, BinaryPacketCodec.peekSequence(frame));
+        assertEquals(bollinger, BinaryPacketCodec.decodeIndicator(frame), "밴드 지표 패킷 복원 결과가 원본과 다릅니다.");
+        assertFalse(frame.hasRemaining(), "패킷 끝까지 읽어야 합니다.");
+        assertEquals(sma, BinaryPacketCodec.decodeIndicator(ByteBuffer.wrap(BinaryPacketCodec.encodeIndicator(sma, EPOCH, 1L))),
+                "지표 패킷 복원 결과가 원본과 다릅니다.");
+        assertThrows(CustomException.class, () -> BinaryPacketCodec.decodeCandle(ByteBuffer.wrap(BinaryPacketCodec.encodeIndicator(sma, EPOCH, 1L))),
+                "지표 패킷은 캔들 패킷으로 해석하지 않아야 합니다.");
+    }
+
+    /**
+     * 바이너리 패킷은 텍스트 패킷의 절반 이하 크기여야 함
+     */
+    @Test
+    public void binaryPacketIsSmallerThanText() {
+        // Given
+        TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(105_123_456_789_000L), 37L, 1_700_000_000_123L);
+        CandlePacketDTO candle = candle(BigInteger.valueOf(105_123_456_789_000L), BigInteger.valueOf(105_223_456_789_000L),
+                BigInteger.valueOf(105_023_456_789_000L), BigInteger.valueOf(105_173_456_789_000L));
+
+        // When
+        int tickText = PacketManager.createTickPacket(SymbolType.BTC, tick).getBytes(StandardCharsets.UTF_8).length;
+        int tickBinary = BinaryPacketCodec.encodeTick(SymbolType.BTC, tick).length;
+        int candleText = PacketManager.createCandlePacket(candle).getBytes(StandardCharsets.UTF_8).length;
+        int candleBinary = BinaryPacketCodec.encodeCandle(candle).length;
+
+        // Then
+        assertTrue(tickBinary * 2 <= tickText, "틱 패킷 크기: binary " + tickBinary + " / text " + tickText);
+        assertTrue(candleBinary * 2 <= candleText, "캔들 패킷 크기: binary " + candleBinary + " / text " + candleText);
+    }
+
+    /**
+     * 시퀀스 번호는 본문과 별개로 조회되고 디코딩에 영향이 없어야 함
+     */
+    @Test
+    public void sequenceNumberRoundTrip() {
+        // Given
+        TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(3_000_000_000_000L), 5L, 1_700_000_000_000L);
+        CandlePacketDTO candle = candle(BigInteger.valueOf(100), BigInteger.valueOf(120), BigInteger.valueOf(90), BigInteger.valueOf(110));
+
+        // When
+        ByteBuffer tickFrame = ByteBuffer.wrap(BinaryPacketCodec.encodeTick(SymbolType.ETH, tick, EPOCH, 1_234_567L));
+        ByteBuffer candleFrame = ByteBuffer.wrap(BinaryPacketCodec.encodeCandle(candle, EPOCH, 42L));
+
+        // Then
+        assertEquals(1_234_567L, BinaryPacketCodec.peekSequence(tickFrame));
+        assertEquals(tick, BinaryPacketCodec.decodeTick(tickFrame));
+        assertEquals(42L, BinaryPacketCodec.peekSequence(candleFrame));
+        assertEquals(candle, BinaryPacketCodec.decodeCandle(candleFrame));
+        assertEquals(BinaryPacketCodec.NO_SEQUENCE,
+                BinaryPacketCodec.peekSequence(ByteBuffer.wrap(BinaryPacketCodec.encodeTick(SymbolType.ETH, tick))));
+    }
+
+    /**
+     * 스트림 epoch 는 시퀀스 번호와 함께 조회되고 디코딩에 영향이 없어야 함
+     */
+    @Test
+    public void streamEpochRoundTrip() {
+        // Given
+        TickPacketDTO tick = new TickPacketDTO(BigInteger.valueOf(3_000_000_000_000L), 5L, 1_700_000_000_000L);
+        CandlePacketDTO candle = candle(BigInteger.valueOf(100), BigInteger.valueOf(120), BigInteger.valueOf(90), BigInteger.valueOf(110));
+
+        // When
+        ByteBuffer tickFrame = ByteBuffer.wrap(BinaryPacketCodec.encodeTick(SymbolType.ETH, tick, EPOCH, 11L));
+        ByteBuffer correctionFrame = ByteBuffer.wrap(BinaryPacketCodec.encodeCandleCorrection(candle, EPOCH, 12L));
+        ByteBuffer snapshotFrame = ByteBuffer.wrap(BinaryPacketCodec.encodeTickSnapshot(SymbolType.ETH, EPOCH, 13L, List.of(tick)));
+
+        // Then
+        assertEquals(EPOCH, BinaryPacketCodec.peekEpoch(tickFrame));
+        assertEquals(11L, BinaryPacketCodec.peekSequence(tickFrame));
+        assertEquals(tick, BinaryPacketCodec.decodeTick(tickFrame));
+        assertFalse(tickFrame.hasRemaining(), "패킷 끝까지 읽어야 합니다.");
+        assertEquals(EPOCH, BinaryPacketCodec.peekEpoch(correctionFrame));
+        assertEquals(BinaryPacketCodec.TYPE_CANDLE_CORRECTION, BinaryPacketCodec.peekType(correctionFrame));
+        assertEquals(candle, BinaryPacketCodec.decodeCandleCorrection(correctionFrame));
+        assertEquals(EPOCH, BinaryPacketCodec.peekEpoch(snapshotFrame));
+        assertEquals(13L, BinaryPacketCodec.peekSequence(snapshotFrame));
+        assertEquals(List.of(tick), BinaryPacketCodec.decodeTickSnapshot(snapshotFrame));
+
+        assertEquals(BinaryPacketCodec.NO_EPOCH,
+                BinaryPacketCodec.peekEpoch(ByteBuffer.wrap(BinaryPacketCodec.encodeTick(SymbolType.ETH, tick, BinaryPacketCodec.NO_EPOCH, 11L))),
+                "epoch 없이 인코딩한 패킷은 NO_EPOCH 여야 합니다.");
+        assertEquals(BinaryPacketCodec.NO_EPOCH,
+                BinaryPacketCodec.peekEpoch(ByteBuffer.wrap(BinaryPacketCodec.encodeTick(SymbolType.ETH, tick, EPOCH, BinaryPacketCodec.NO_SEQUENCE))),
+                "시퀀스 번호가 없으면 epoch 도 기록하지 않아야 합니다.");
+    }
+
+    @Test
+    public void snapshotRoundTrip() {
+        // Given
+        List<TickPacketDTO> ticks = List.of(
+                new TickPacketDTO(BigInteger.valueOf(10), 1L, 1_000L),
+                new TickPacketDTO(new BigInteger("123456789012345678901234567890"), null, 2_000L));
+        List<CandlePacketDTO> candles = List.of(
+                candle(BigInteger.valueOf(100), BigInteger.valueOf(120), BigInteger.valueOf(90), BigInteger.valueOf(110)),
+                candle(BigInteger.valueOf(110), BigInteger.valueOf(130), BigInteger.valueOf(100), BigInteger.valueOf(125)));
+
+        // When
+        ByteBuffer tickSnapshot = ByteBuffer.wrap(BinaryPacketCodec.encodeTickSnapshot(SymbolType.BTC, EPOCH, 7L, ticks));
+        ByteBuffer candleSnapshot = ByteBuffer.wrap(
+                BinaryPacketCodec.encodeCandleSnapshot(SymbolType.BTC, ChartType.ONE_MONTH, EPOCH, 9L, candles));
+
+        // Then
+        assertEquals(BinaryPacketCodec.TYPE_SNAPSHOT, BinaryPacketCodec.peekType(tickSnapshot));
+        assertEquals(7L, BinaryPacketCodec.peekSequence(tickSnapshot));
+        assertEquals(ticks, BinaryPacketCodec.decodeTickSnapshot(tickSnapshot));
+        assertFalse(tickSnapshot.hasRemaining(), "패킷 끝까지 읽어야 합니다.");
+
+        assertEquals(ChartType.ONE_MONTH, BinaryPacketCodec.peekChartType(candleSnapshot));
+        assertEquals(9L, BinaryPacketCodec.peekSequence(candleSnapshot));
+        assertEquals(candles, BinaryPacketCodec.decodeCandleSnapshot(candleSnapshot));
+        assertThrows(CustomException.class, () -> BinaryPacketCodec.decodeTickSnapshot(
+                ByteBuffer.wrap(BinaryPacketCodec.encodeCandleSnapshot(SymbolType.BTC, ChartType.ONE_MONTH, EPOCH, 9L, candles))),
+                "차트타입이 다른 스냅샷은 거부해야 합니다.");
+    }
+
+    /**
+     * 인코딩 배열 크기는 실제 기록 크기와 정확히 같아야 함 (남는 byte 없이 디코딩이 끝나야 함)
+     */
+    @Test
+    public void encodedSizeIsExact() {
+        // Given - 음수 / 경계값 / 64bit 초과 가격 / null 거래량 / 큰 시퀀스를 섞은 무작위 입력
+        Random random = new Random(11);
+        long[] edges = {0L, 1L, -1L, 63L, 64L, -64L, -65L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : edges) {
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            BinaryPacketCodec.writeVarLong(buffer, value);
+            assertEquals(buffer.position(), BinaryPacketCodec.varLongSize(value), "varint 크기 계산이 다릅니다: " + value);
+        }
+
+        List<TickPacketDTO> ticks = new ArrayList<>();
+        List<CandlePacketDTO> candles = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            BigInteger price = randomPrice(random, edges);
+            Long quantity = random.nextInt(4) == 0 ? null : random.nextLong() >> random.nextInt(64);
+            long sequence = random.nextInt(4) == 0 ? BinaryPacketCodec.NO_SEQUENCE : random.nextLong() >>> random.nextInt(64);
+            long epoch = random.nextInt(3) == 0 ? BinaryPacketCodec.NO_EPOCH : random.nextLong() >> random.nextInt(64);
+            TickPacketDTO tick = new TickPacketDTO(price, quantity, random.nextLong());
+            CandlePacketDTO candle = candle(price, randomPrice(random, edges), randomPrice(random, edges), randomPrice(random, edges));
+            candle.setQuantity(quantity);
+            candle.setTickCount(random.nextInt(Integer.MAX_VALUE));
+
+            // When
+            ByteBuffer tickFrame = ByteBuffer.wrap(BinaryPacketCodec.encodeTick(SymbolType.BTC, tick, epoch, sequence));
+            ByteBuffer candleFrame = ByteBuffer.wrap(BinaryPacketCodec.encodeCandle(candle, epoch, sequence));
+
+            // Then
+            assertEquals(tick, BinaryPacketCodec.decodeTick(tickFrame), "틱 패킷 복원 결과가 원본과 다릅니다: " + i);
+            assertFalse(tickFrame.hasRemaining(), "틱 패킷 크기가 기록 크기보다 큽니다: " + i);
+            assertEquals(candle, BinaryPacketCodec.decodeCandle(candleFrame), "캔들 패킷 복원 결과가 원본과 다릅니다: " + i);
+            assertFalse(candleFrame.hasRemaining(), "캔들 패킷 크기가 기록 크기보다 큽니다: " + i);
+            ticks.add(tick);
+            candles.add(candle);
+        }
+
+        ByteBuffer tickSnapshot = ByteBuffer.wrap(BinaryPacketCodec.encodeTickSnapshot(SymbolType.BTC, Long.MIN_VALUE, Long.MAX_VALUE, ticks));
+        ByteBuffer candleSnapshot = ByteBuffer.wrap(BinaryPacketCodec.encodeCandleSnapshot(SymbolType.BTC, ChartType.ONE_MONTH, BinaryPacketCodec.NO_EPOCH, 0L, candles));
+        assertEquals(ticks, BinaryPacketCodec.decodeTickSnapshot(tickSnapshot));
+        assertFalse(tickSnapshot.hasRemaining(), "틱 스냅샷 크기가 기록 크기보다 큽니다.");
+        assertEquals(candles, BinaryPacketCodec.decodeCandleSnapshot(candleSnapshot));
+        assertFalse(candleSnapshot.hasRemaining(), "캔들 스냅샷 크기가 기록 크기보다 큽니다.");
+    }
+
+    private static BigInteger randomPrice(Random random, long[] edges) {
+        return switch (random.nextInt(3)) {
+            case 0 -> BigInteger.valueOf(edges[random.nextInt(edges.length)]);
+            case 1 -> BigInteger.valueOf(random.nextLong() >> random.nextInt(64));
+            default -> new BigInteger(64 + random.nextInt(100), random).subtract(BigInteger.TWO.pow(100));
+        };
+    }
+
+    @Test
+    public void rejectsMalformedPackets() {
+        byte[] packet = BinaryPacketCodec.encodeTick(SymbolType.BTC, new TickPacketDTO(BigInteger.TEN, 1L, 1L));
+
+        // 지원하지 않는 버전
+        byte[] unknownVersion = packet.clone();
+        unknownVersion[0] = 99;
+        CustomException version = assertThrows(CustomException.class,
+                () -> BinaryPacketCodec.decodeTick(ByteBuffer.wrap(unknownVersion)));
+        assertEquals(ErrorCode.UNSUPPORTED_PACKET_VERSION, version.getErrorCode());
+
+        // 잘린 패킷
+        CustomException truncated = assertThrows(CustomException.class,
+                () -> BinaryPacketCodec.decodeTick(ByteBuffer.wrap(packet, 0, packet.length - 1)));
+        assertEquals(ErrorCode.INVALID_BINARY_PACKET, truncated.getErrorCode());
+
+        // 패킷 유형 불일치
+        assertThrows(CustomException.class, () -> BinaryPacketCodec.decodeCandle(ByteBuffer.wrap(packet)));
+    }
+}
@@ -0,0 +1,134 @@
+package com.theshowsoftware.ChatServer.utils;
+
+import com.theshowsoftware.ChatServer.dto.CandlePacketDTO;
+import com.theshowsoftware.ChatServer.dto.TickPacketDTO;
+import com.theshowsoftware.ChatServer.enums.ChartType;
+import com.theshowsoftware.ChatServer.enums.ErrorCode;
+import com.theshowsoftware.ChatServer.enums.SymbolType;
+import com.theshowsoftware.ChatServer.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TextPacketParserTest {
+
+    private static final String CANDLE_PACKET =
+            "!0x0000;0x002E;0x08;1633018400000;1633018700000;55000000000;56000000000;57000000000;54000000000;120000;10#";
+
+    @Test
+    public void parseCandleIntoRecord() {
+        // Given
+        TextPacketParser.CandleRecord candle = new TextPacketParser.CandleRecord();
+
+        // When
+        TextPacketParser.parseCandle(CANDLE_PACKET, candle);
+
+        // Then
+        assertEquals(SymbolType.SOL, candle.getSymbolType());
+        assertEquals(ChartType.FIVE_MINUTES, candle.getChartType());
+        assertEquals(1633018400000L, candle.getCandleStartTime());
+        assertEquals(1633018700000L, candle.getCandleEndTime());
+        assertEquals(55000000000L, candle.getStartPrice());
+        assertEquals(56000000000L, candle.getEndPrice());
+        assertEquals(57000000000L, candle.getHighPrice());
+        assertEquals(54000000000L, candle.getLowPrice());
+        assertEquals(120000L, candle.getQuantity());
+        assertEquals(10, candle.getTickCount());
+    }
+
+    /**
+     * ByteBuffer 에 이어진 여러 패킷을 하나의 Record 로 순서대로 파싱
+     */
+    @Test
+    public void parseTickStreamFromByteBuffer() {
+        // Given
+        StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            feed.append(PacketManager.createTickPacket(SymbolType.ETH,
+                    new TickPacketDTO(BigInteger.valueOf(52_000_000_000L + i), 100L + i, 1_700_000_000_000L + i)));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(feed.toString().getBytes(StandardCharsets.US_ASCII));
+        TextPacketParser.TickRecord tick = new TextPacketParser.TickRecord();
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            TextPacketParser.parseTick(buffer, tick);
+            assertEquals(SymbolType.ETH, tick.getSymbolType());
+            assertEquals(ChartType.TICK, tick.getChartType());
+            assertEquals(52_000_000_000L + i, tick.getPrice());
+            assertEquals(100L + i, tick.getQuantity());
+            assertEquals(1_700_000_000_000L + i, tick.getTimestamp());
+        }
+        assertFalse(buffer.hasRemaining(), "모든 패킷을 읽어야 합니다.");
+    }
+
+    @Test
+    public void parseMatchesPacketManagerRoundTrip() {
+        // Given
+        CandlePacketDTO candle = PacketManager.parseCandlePacket(CANDLE_PACKET);
+
+        // When & Then
+        assertEquals(CANDLE_PACKET, PacketManager.createCandlePacket(candle));
+    }
+
+    @Test
+    public void rejectsMalformedPackets() {
+        TextPacketParser.CandleRecord candle = new TextPacketParser.CandleRecord();
+
+        assertErrorCode(ErrorCode.INVAILD_PACKET_STRUCTURE, () -> TextPacketParser.parseCandle(CANDLE_PACKET.substring(1), candle));
+        assertErrorCode(ErrorCode.INVAILD_PACKET_STRUCTURE, () -> TextPacketParser.parseCandle(CANDLE_PACKET + "#", candle));
+        assertErrorCode(ErrorCode.PACKET_INVALID_PARTS_COUNT, () -> TextPacketParser.parseCandle(CANDLE_PACKET.replace(";10#", "#"), candle));
+        assertErrorCode(ErrorCode.PACKET_INVALID_PARTS_COUNT, () -> TextPacketParser.parseCandle(CANDLE_PACKET.replace(";10#", ";10;1#"), candle));
+        assertErrorCode(ErrorCode.PACKET_BASE_SYMBOL_INVALID, () -> TextPacketParser.parseCandle(CANDLE_PACKET.replace("!0x0000", "!0x000A"), candle));
+        assertErrorCode(ErrorCode.UNKOWUN_CHART_TYPE, () -> TextPacketParser.parseCandle(CANDLE_PACKET.replace(";0x08;", ";0x7F;"), candle));
+        assertErrorCode(ErrorCode.FAILD_CANDLE_PARSE_ERROR, () -> TextPacketParser.parseCandle(CANDLE_PACKET.replace(";120000;", ";12a000;"), candle));
+        assertErrorCode(ErrorCode.FAILD_CANDLE_PARSE_ERROR, () -> TextPacketParser.parseCandle(CANDLE_PACKET.replace(";55000000000;", ";99999999999999999999;"), candle));
+    }
+
+    @Test
+    public void hexCodeLookupIgnoresCase() {
+        assertEquals(SymbolType.BTC, SymbolType.fromHexCode("0x000a"));
+        assertEquals(SymbolType.BTC, SymbolType.fromHexCode("0X000A"));
+        assertEquals(ChartType.FIFTEEN_MINUTES, ChartType.fromHexCode("0x0a"));
+        assertNull(ChartType.fromHexCode("0xA"), "자릿수가 다르면 찾지 않아야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> SymbolType.fromHexCode("0x0FFF"));
+    }
+
+    /**
+     * 파싱 중 객체를 만들지 않아야 함 (스레드 할당량 측정)
+     */
+    @Test
+    public void parsingDoesNotAllocate() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean, "스레드 할당량 측정을 지원하지 않는 JVM 입니다.");
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadBean;
+
+        // Given
+        TextPacketParser.CandleRecord candle = new TextPacketParser.CandleRecord();
+        for (int i = 0; i < 10_000; i++) {
+            TextPacketParser.parseCandle(CANDLE_PACKET, candle); // 워밍업
+        }
+
+        // When
+        long threadId = Thread.currentThread().threadId();
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            TextPacketParser.parseCandle(CANDLE_PACKET, candle);
+        }
+        long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+        // Then - 측정 자체의 할당을 감안해 1KB 이하
+        assertTrue(allocated < 1024, "파싱 중 할당된 메모리: " + allocated + " bytes");
+    }
+
+    private static void assertErrorCode(ErrorCode expected, Runnable parse) {
+        CustomException exception = assertThrows(CustomException.class, parse::run);
+        assertEquals(expected, exception.getErrorCode());
+    }
+}